@@ -0,0 +1,120 @@
+/* Copyright (c) The m-m-m Team, Licensed under the Apache License, Version 2.0
+ * http://www.apache.org/licenses/LICENSE-2.0 */
+package net.sf.mmm.util.benchmark;
+
+import java.io.StringReader;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import net.sf.mmm.util.scanner.api.CharStreamScanner;
+import net.sf.mmm.util.scanner.base.CharReaderScanner;
+import net.sf.mmm.util.scanner.base.CharSequenceScanner;
+
+/**
+ * JMH benchmark for {@link CharSequenceScanner} and {@link CharReaderScanner}. Both scanners tokenize the same
+ * properties-like text of the form {@code key<i>=<number>;<word>}.
+ *
+ * @author Joerg Hohwiller (hohwille at users.sourceforge.net)
+ * @since 8.7.1
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class CharStreamScannerBenchmark {
+
+  /** The number of lines of the text to scan. */
+  @Param({ "100", "10000" })
+  public int lines;
+
+  private String text;
+
+  /**
+   * Creates the text to scan.
+   */
+  @Setup
+  public void setup() {
+
+    StringBuilder sb = new StringBuilder(this.lines * 32);
+    for (int i = 0; i < this.lines; i++) {
+      sb.append("key");
+      sb.append(i);
+      sb.append('=');
+      sb.append(i * 31L);
+      sb.append(";value");
+      sb.append('\n');
+    }
+    this.text = sb.toString();
+  }
+
+  /**
+   * @param blackhole the {@link Blackhole}.
+   */
+  @Benchmark
+  public void charSequenceScannerReadLine(Blackhole blackhole) {
+
+    CharSequenceScanner scanner = new CharSequenceScanner(this.text);
+    String line = scanner.readLine();
+    while (line != null) {
+      blackhole.consume(line);
+      line = scanner.readLine();
+    }
+  }
+
+  /**
+   * @param blackhole the {@link Blackhole}.
+   */
+  @Benchmark
+  public void charSequenceScannerTokenize(Blackhole blackhole) {
+
+    tokenize(new CharSequenceScanner(this.text), blackhole);
+  }
+
+  /**
+   * @param blackhole the {@link Blackhole}.
+   */
+  @Benchmark
+  public void charReaderScannerReadLine(Blackhole blackhole) {
+
+    CharReaderScanner scanner = new CharReaderScanner(4096, new StringReader(this.text));
+    String line = scanner.readLine();
+    while (line != null) {
+      blackhole.consume(line);
+      line = scanner.readLine();
+    }
+  }
+
+  /**
+   * @param blackhole the {@link Blackhole}.
+   */
+  @Benchmark
+  public void charReaderScannerTokenize(Blackhole blackhole) {
+
+    tokenize(new CharReaderScanner(4096, new StringReader(this.text)), blackhole);
+  }
+
+  private static void tokenize(CharStreamScanner scanner, Blackhole blackhole) {
+
+    while (scanner.hasNext()) {
+      blackhole.consume(scanner.readUntil('=', false));
+      blackhole.consume(scanner.readLong(19));
+      scanner.require(';');
+      blackhole.consume(scanner.readUntil('\n', true));
+    }
+  }
+
+}
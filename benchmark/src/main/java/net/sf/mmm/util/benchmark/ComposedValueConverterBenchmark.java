@@ -0,0 +1,123 @@
+/* Copyright (c) The m-m-m Team, Licensed under the Apache License, Version 2.0
+ * http://www.apache.org/licenses/LICENSE-2.0 */
+package net.sf.mmm.util.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import net.sf.mmm.util.reflect.api.GenericType;
+import net.sf.mmm.util.reflect.api.ReflectionUtil;
+import net.sf.mmm.util.reflect.base.ReflectionUtilImpl;
+import net.sf.mmm.util.value.api.ComposedValueConverter;
+import net.sf.mmm.util.value.impl.ComposedValueConverterImpl;
+import net.sf.mmm.util.value.impl.DefaultComposedValueConverter;
+
+/**
+ * JMH benchmark for {@link ComposedValueConverterImpl#convert(Object, Object, GenericType)} with the
+ * {@link DefaultComposedValueConverter default converters}.
+ *
+ * @author Joerg Hohwiller (hohwille at users.sourceforge.net)
+ * @since 8.7.1
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ComposedValueConverterBenchmark {
+
+  private static final Object SOURCE = ComposedValueConverterBenchmark.class;
+
+  private ComposedValueConverter converter;
+
+  private GenericType<Integer> typeInteger;
+
+  private GenericType<Long> typeLong;
+
+  private GenericType<Double> typeDouble;
+
+  private GenericType<Boolean> typeBoolean;
+
+  private GenericType<int[]> typeIntArray;
+
+  /**
+   * Initializes the {@link ComposedValueConverter} and the target types.
+   */
+  @Setup
+  public void setup() {
+
+    this.converter = DefaultComposedValueConverter.getInstance();
+    ReflectionUtil reflectionUtil = ReflectionUtilImpl.getInstance();
+    this.typeInteger = reflectionUtil.createGenericType(Integer.class);
+    this.typeLong = reflectionUtil.createGenericType(Long.class);
+    this.typeDouble = reflectionUtil.createGenericType(Double.class);
+    this.typeBoolean = reflectionUtil.createGenericType(Boolean.class);
+    this.typeIntArray = reflectionUtil.createGenericType(int[].class);
+  }
+
+  /**
+   * @return the converted value.
+   */
+  @Benchmark
+  public Object stringToInteger() {
+
+    return this.converter.convert("4711", SOURCE, this.typeInteger);
+  }
+
+  /**
+   * @return the converted value.
+   */
+  @Benchmark
+  public Object stringToLong() {
+
+    return this.converter.convert("-1234567890123", SOURCE, this.typeLong);
+  }
+
+  /**
+   * @return the converted value.
+   */
+  @Benchmark
+  public Object stringToDouble() {
+
+    return this.converter.convert("42.0815", SOURCE, this.typeDouble);
+  }
+
+  /**
+   * @return the converted value.
+   */
+  @Benchmark
+  public Object stringToBoolean() {
+
+    return this.converter.convert("true", SOURCE, this.typeBoolean);
+  }
+
+  /**
+   * @return the converted value.
+   */
+  @Benchmark
+  public Object integerToLong() {
+
+    return this.converter.convert(Integer.valueOf(42), SOURCE, this.typeLong);
+  }
+
+  /**
+   * @return the converted value.
+   */
+  @Benchmark
+  public Object stringToIntArray() {
+
+    return this.converter.convert("1,2,3,4,5,6,7,8", SOURCE, this.typeIntArray);
+  }
+
+}
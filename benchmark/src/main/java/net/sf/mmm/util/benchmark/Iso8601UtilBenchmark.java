@@ -0,0 +1,94 @@
+/* Copyright (c) The m-m-m Team, Licensed under the Apache License, Version 2.0
+ * http://www.apache.org/licenses/LICENSE-2.0 */
+package net.sf.mmm.util.benchmark;
+
+import java.util.Calendar;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import net.sf.mmm.util.date.api.Iso8601Util;
+import net.sf.mmm.util.date.base.Iso8601UtilImpl;
+
+/**
+ * JMH benchmark for parsing and formatting with {@link Iso8601UtilImpl}.
+ *
+ * @author Joerg Hohwiller (hohwille at users.sourceforge.net)
+ * @since 8.7.1
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class Iso8601UtilBenchmark {
+
+  private static final String DATE_TIME = "2018-09-27T13:45:12+02:00";
+
+  private static final String DATE = "2018-09-27";
+
+  private Iso8601Util iso8601Util;
+
+  private Calendar calendar;
+
+  private Date date;
+
+  /**
+   * Initializes the {@link Iso8601Util} and the values to format.
+   */
+  @Setup
+  public void setup() {
+
+    this.iso8601Util = Iso8601UtilImpl.getInstance();
+    this.calendar = this.iso8601Util.parseCalendar(DATE_TIME);
+    this.date = this.calendar.getTime();
+  }
+
+  /**
+   * @return the parsed {@link Calendar}.
+   */
+  @Benchmark
+  public Calendar parseCalendarDateTime() {
+
+    return this.iso8601Util.parseCalendar(DATE_TIME);
+  }
+
+  /**
+   * @return the parsed {@link Date}.
+   */
+  @Benchmark
+  public Date parseDate() {
+
+    return this.iso8601Util.parseDate(DATE);
+  }
+
+  /**
+   * @return the formatted {@link Calendar}.
+   */
+  @Benchmark
+  public String formatCalendarDateTime() {
+
+    return this.iso8601Util.formatDateTime(this.calendar);
+  }
+
+  /**
+   * @return the formatted {@link Date}.
+   */
+  @Benchmark
+  public String formatDateDateTime() {
+
+    return this.iso8601Util.formatDateTime(this.date);
+  }
+
+}
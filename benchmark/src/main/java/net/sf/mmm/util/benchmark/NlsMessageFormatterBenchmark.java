@@ -0,0 +1,109 @@
+/* Copyright (c) The m-m-m Team, Licensed under the Apache License, Version 2.0
+ * http://www.apache.org/licenses/LICENSE-2.0 */
+package net.sf.mmm.util.benchmark;
+
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import net.sf.mmm.util.nls.api.NlsMessageFormatter;
+import net.sf.mmm.util.nls.api.NlsMessageFormatterFactory;
+import net.sf.mmm.util.nls.base.AbstractNlsDependencies;
+import net.sf.mmm.util.nls.impl.formatter.NlsMessageFormatterImpl;
+
+/**
+ * JMH benchmark for {@link NlsMessageFormatterImpl}. It measures the creation (parsing of the pattern) as well as
+ * the actual {@link NlsMessageFormatter#format(Object, Locale, Map, net.sf.mmm.util.nls.api.NlsTemplateResolver)
+ * formatting}.
+ *
+ * @author Joerg Hohwiller (hohwille at users.sourceforge.net)
+ * @since 8.7.1
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class NlsMessageFormatterBenchmark {
+
+  private static final String PATTERN_SIMPLE = "The value {value} is invalid for {source}!";
+
+  private static final String PATTERN_TYPED = "Hello {name}, you have {count,number,integer} new messages since "
+      + "{date,date,medium}.";
+
+  private NlsMessageFormatterFactory factory;
+
+  private NlsMessageFormatter formatterSimple;
+
+  private NlsMessageFormatter formatterTyped;
+
+  private Map<String, Object> arguments;
+
+  /**
+   * Initializes the {@link NlsMessageFormatterFactory} and the {@link NlsMessageFormatter}s.
+   */
+  @Setup
+  public void setup() {
+
+    this.factory = AbstractNlsDependencies.getInstance().getMessageFormatterFactory();
+    this.formatterSimple = this.factory.create(PATTERN_SIMPLE);
+    this.formatterTyped = this.factory.create(PATTERN_TYPED);
+    this.arguments = new HashMap<>();
+    this.arguments.put("value", "foo");
+    this.arguments.put("source", "bar");
+    this.arguments.put("name", "John");
+    this.arguments.put("count", Integer.valueOf(1234));
+    this.arguments.put("date", new Date(0));
+  }
+
+  /**
+   * @return the created {@link NlsMessageFormatter}.
+   */
+  @Benchmark
+  public NlsMessageFormatter createTyped() {
+
+    return this.factory.create(PATTERN_TYPED);
+  }
+
+  /**
+   * @return the formatted message.
+   */
+  @Benchmark
+  public String formatSimple() {
+
+    return this.formatterSimple.format(null, Locale.ENGLISH, this.arguments, null);
+  }
+
+  /**
+   * @return the formatted message.
+   */
+  @Benchmark
+  public String formatTyped() {
+
+    return this.formatterTyped.format(null, Locale.ENGLISH, this.arguments, null);
+  }
+
+  /**
+   * @return the formatted message.
+   */
+  @Benchmark
+  public String createAndFormatTyped() {
+
+    return this.factory.create(PATTERN_TYPED).format(null, Locale.ENGLISH, this.arguments, null);
+  }
+
+}
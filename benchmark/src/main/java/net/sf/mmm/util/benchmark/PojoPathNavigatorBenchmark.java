@@ -0,0 +1,191 @@
+/* Copyright (c) The m-m-m Team, Licensed under the Apache License, Version 2.0
+ * http://www.apache.org/licenses/LICENSE-2.0 */
+package net.sf.mmm.util.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import net.sf.mmm.util.pojo.path.api.PojoPathContext;
+import net.sf.mmm.util.pojo.path.api.PojoPathMode;
+import net.sf.mmm.util.pojo.path.api.PojoPathNavigator;
+import net.sf.mmm.util.pojo.path.base.DefaultPojoPathContext;
+import net.sf.mmm.util.pojo.path.impl.PojoPathNavigatorImpl;
+
+/**
+ * JMH benchmark for {@link PojoPathNavigatorImpl#get(Object, String, PojoPathMode, PojoPathContext) get} and
+ * {@link PojoPathNavigatorImpl#set(Object, String, PojoPathMode, PojoPathContext, Object) set}.
+ *
+ * @author Joerg Hohwiller (hohwille at users.sourceforge.net)
+ * @since 8.7.1
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class PojoPathNavigatorBenchmark {
+
+  private PojoPathNavigator navigator;
+
+  private Person person;
+
+  private int counter;
+
+  /**
+   * Initializes the {@link PojoPathNavigator} and the POJO to navigate.
+   */
+  @Setup
+  public void setup() {
+
+    PojoPathNavigatorImpl impl = new PojoPathNavigatorImpl();
+    impl.initialize();
+    this.navigator = impl;
+    this.person = new Person();
+    this.person.setName("John");
+    Person child = new Person();
+    child.setName("Jane");
+    Address address = new Address();
+    address.setCity("Berlin");
+    child.setAddress(address);
+    this.person.getChildren().add(child);
+  }
+
+  /**
+   * @return the value of a flat property.
+   */
+  @Benchmark
+  public Object getFlat() {
+
+    return this.navigator.get(this.person, "name", PojoPathMode.RETURN_IF_NULL, new DefaultPojoPathContext());
+  }
+
+  /**
+   * @return the value of a nested property.
+   */
+  @Benchmark
+  public Object getNested() {
+
+    return this.navigator.get(this.person, "children.0.address.city", PojoPathMode.RETURN_IF_NULL,
+        new DefaultPojoPathContext());
+  }
+
+  /**
+   * @return the previous value of a nested property.
+   */
+  @Benchmark
+  public Object setNested() {
+
+    return this.navigator.set(this.person, "children.0.address.zip", PojoPathMode.FAIL_IF_NULL,
+        new DefaultPojoPathContext(), Integer.toString(this.counter++));
+  }
+
+  /**
+   * Example POJO for this benchmark.
+   */
+  public static class Person {
+
+    private String name;
+
+    private Address address;
+
+    private final List<Person> children = new ArrayList<>();
+
+    /**
+     * @return the name.
+     */
+    public String getName() {
+
+      return this.name;
+    }
+
+    /**
+     * @param name is the name to set.
+     */
+    public void setName(String name) {
+
+      this.name = name;
+    }
+
+    /**
+     * @return the address.
+     */
+    public Address getAddress() {
+
+      return this.address;
+    }
+
+    /**
+     * @param address is the address to set.
+     */
+    public void setAddress(Address address) {
+
+      this.address = address;
+    }
+
+    /**
+     * @return the children.
+     */
+    public List<Person> getChildren() {
+
+      return this.children;
+    }
+
+  }
+
+  /**
+   * Example POJO for this benchmark.
+   */
+  public static class Address {
+
+    private String city;
+
+    private int zip;
+
+    /**
+     * @return the city.
+     */
+    public String getCity() {
+
+      return this.city;
+    }
+
+    /**
+     * @param city is the city to set.
+     */
+    public void setCity(String city) {
+
+      this.city = city;
+    }
+
+    /**
+     * @return the zip code.
+     */
+    public int getZip() {
+
+      return this.zip;
+    }
+
+    /**
+     * @param zip is the zip code to set.
+     */
+    public void setZip(int zip) {
+
+      this.zip = zip;
+    }
+
+  }
+
+}
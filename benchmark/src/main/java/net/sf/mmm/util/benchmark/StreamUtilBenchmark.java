@@ -0,0 +1,135 @@
+/* Copyright (c) The m-m-m Team, Licensed under the Apache License, Version 2.0
+ * http://www.apache.org/licenses/LICENSE-2.0 */
+package net.sf.mmm.util.benchmark;
+
+import java.io.ByteArrayInputStream;
+import java.io.OutputStream;
+import java.io.StringReader;
+import java.io.Writer;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import net.sf.mmm.util.io.api.StreamUtil;
+import net.sf.mmm.util.io.base.StreamUtilImpl;
+
+/**
+ * JMH benchmark for {@link StreamUtilImpl#transfer(java.io.InputStream, OutputStream, boolean)} and
+ * {@link StreamUtilImpl#transfer(java.io.Reader, Writer, boolean)}. The benchmarks run with multiple threads to
+ * also reveal contention on the buffer pools.
+ *
+ * @author Joerg Hohwiller (hohwille at users.sourceforge.net)
+ * @since 8.7.1
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(4)
+@State(Scope.Benchmark)
+public class StreamUtilBenchmark {
+
+  /** The number of bytes/characters to transfer. */
+  @Param({ "256", "65536" })
+  public int size;
+
+  private StreamUtil streamUtil;
+
+  private byte[] bytes;
+
+  private String chars;
+
+  /**
+   * Initializes the {@link StreamUtil} and the data to transfer.
+   */
+  @Setup
+  public void setup() {
+
+    this.streamUtil = StreamUtilImpl.getInstance();
+    this.bytes = new byte[this.size];
+    for (int i = 0; i < this.size; i++) {
+      this.bytes[i] = (byte) i;
+    }
+    char[] charArray = new char[this.size];
+    Arrays.fill(charArray, 'x');
+    this.chars = new String(charArray);
+  }
+
+  /**
+   * @return the number of transferred bytes.
+   */
+  @Benchmark
+  public long transferBytes() {
+
+    return this.streamUtil.transfer(new ByteArrayInputStream(this.bytes), NullOutputStream.INSTANCE, false);
+  }
+
+  /**
+   * @return the number of transferred characters.
+   */
+  @Benchmark
+  public long transferChars() {
+
+    return this.streamUtil.transfer(new StringReader(this.chars), NullWriter.INSTANCE, false);
+  }
+
+  /**
+   * {@link OutputStream} that discards all data.
+   */
+  private static final class NullOutputStream extends OutputStream {
+
+    private static final NullOutputStream INSTANCE = new NullOutputStream();
+
+    @Override
+    public void write(int b) {
+
+      // discard
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) {
+
+      // discard
+    }
+  }
+
+  /**
+   * {@link Writer} that discards all data.
+   */
+  private static final class NullWriter extends Writer {
+
+    private static final NullWriter INSTANCE = new NullWriter();
+
+    @Override
+    public void write(char[] cbuf, int off, int len) {
+
+      // discard
+    }
+
+    @Override
+    public void flush() {
+
+      // nothing to do
+    }
+
+    @Override
+    public void close() {
+
+      // nothing to do
+    }
+  }
+
+}
@@ -0,0 +1,12 @@
+/* Copyright (c) The m-m-m Team, Licensed under the Apache License, Version 2.0
+ * http://www.apache.org/licenses/LICENSE-2.0 */
+/**
+ * Contains the <a href="http://openjdk.java.net/projects/code-tools/jmh/">JMH</a> micro-benchmarks for
+ * {@code mmm-util}.
+ * <a name="documentation"></a>
+ * <h2>Benchmarks</h2> Each class in this package is a JMH suite for one hot spot of {@code mmm-util}. The
+ * benchmarks use the plain implementations (without any container) so the numbers are reproducible and
+ * comparable across releases. Build the module with the {@code dev} profile and run the resulting
+ * {@code target/benchmarks.jar}. Use {@code -prof gc} to also measure the allocation rate.
+ */
+package net.sf.mmm.util.benchmark;
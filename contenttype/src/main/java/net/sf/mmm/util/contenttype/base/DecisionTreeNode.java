@@ -30,6 +30,21 @@ public interface DecisionTreeNode {
    */
   ContentType getContentType();
 
+  /**
+   * This method gets the {@link ContentType} that applies if the end of the stream is reached in the state represented
+   * by this node. This may differ from {@link #getContentType()} for formats that require the stream to end at a
+   * specific position (e.g. a fixed-size file).
+   *
+   * @return the {@link ContentType} if the stream ends here.
+   */
+  ContentType getEndOfStreamContentType();
+
+  /**
+   * @return {@code true} if the {@link #getContentType() content-type} is finally decided and further data can NOT
+   *         change the result, {@code false} otherwise.
+   */
+  boolean isFinal();
+
   /**
    * This method processes the given {@code buffer} to proceed with the detection of the content-type.
    *
@@ -41,9 +56,25 @@ public interface DecisionTreeNode {
    *        {@code buffer} shall be modified to reflect this metadata value.
    * @param eos - {@code true} if the end of the stream has been reached and the given {@code buffer} contains the
    *        remaining data.
-   * @return the {@link DecisionTreeNode} representing the current state of detection or {@code null} if the stream does
-   *         NOT match any known filetype.
+   * @return the {@link DecisionTreeNode} representing the current state of detection. If the stream does NOT match
+   *         any more specific format, a {@link #isFinal() final} node with the best match (at least the root
+   *         {@link ContentType}) is returned.
    */
   DecisionTreeNode detect(DetectorStreamBuffer buffer, Map<String, Object> metadata, boolean eos);
 
+  /**
+   * This method is like {@link #detect(DetectorStreamBuffer, Map, boolean)} but operates on a
+   * {@link java.nio.ByteBuffer} slice of the data.
+   *
+   * @see net.sf.mmm.util.io.api.spi.ByteBufferDetectorStreamProcessor#process(java.nio.ByteBuffer, Map, boolean)
+   *
+   * @param data is the {@link java.nio.ByteBuffer} with the next bytes to process. Its position is moved by the
+   *        number of consumed bytes.
+   * @param metadata is the {@link Map} with metadata.
+   * @param eos - {@code true} if the end of the stream has been reached and the given {@code data} contains the
+   *        remaining data.
+   * @return the {@link DecisionTreeNode} representing the current state of detection.
+   */
+  DecisionTreeNode detect(java.nio.ByteBuffer data, Map<String, Object> metadata, boolean eos);
+
 }
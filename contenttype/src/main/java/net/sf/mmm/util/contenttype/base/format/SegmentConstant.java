@@ -81,7 +81,7 @@ public class SegmentConstant extends Segment {
   /**
    * This method parses the given {@code bytes} from {@code source} to {@code byte[]}.
    *
-   * @param bytes are the bytes encoded as {@link String} in the form {@code HH([-]HH)*} where {@code HH} is a hex
+   * @param bytes are the bytes encoded as {@link String} in the form {@code HH(-HH)*} where {@code HH} is a hex
    *        encoded byte ([0-9A-F]{2}). Example: "FE-7A-32-BB".
    * @param source describes where the given {@code bytes} origin from. This is only used in case of an error for the
    *        exception message.
@@ -91,16 +91,16 @@ public class SegmentConstant extends Segment {
 
     NlsNullPointerException.checkNotNull(source, bytes);
     int length = bytes.length();
-    if ((length == 0) || (length % 3 != 0)) {
+    if ((length == 0) || ((length + 1) % 3 != 0)) {
       throw new NlsIllegalArgumentException(bytes, source);
     }
-    length = length / 3;
+    length = (length + 1) / 3;
     byte[] result = new byte[length];
     int start = 0;
     for (int i = 0; i < length; i++) {
-      String byteString = bytes.substring(start, start + 1);
+      String byteString = bytes.substring(start, start + 2);
       result[i] = (byte) Integer.parseInt(byteString, 16);
-      if (bytes.charAt(start + 2) != '-') {
+      if ((i < length - 1) && (bytes.charAt(start + 2) != '-')) {
         throw new NlsIllegalArgumentException(bytes, source);
       }
       start = start + 3;
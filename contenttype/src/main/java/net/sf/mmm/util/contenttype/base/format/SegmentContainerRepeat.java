@@ -37,9 +37,10 @@ public class SegmentContainerRepeat extends SegmentContainerSequence {
 
   private static final String XML_ATTRIBUTE_MAXIMUM_OCCURRENCE = "max";
 
-  @XmlAttribute(name = "XML_ATTRIBUTE_MINIMUM_OCCURRENCE")
+  @XmlAttribute(name = XML_ATTRIBUTE_MINIMUM_OCCURRENCE)
   private int minimumOccurrence;
 
+  @XmlAttribute(name = XML_ATTRIBUTE_MAXIMUM_OCCURRENCE)
   private int maximumOccurrence;
 
   /**
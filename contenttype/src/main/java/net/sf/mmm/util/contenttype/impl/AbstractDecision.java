@@ -4,13 +4,11 @@ package net.sf.mmm.util.contenttype.impl;
 
 import java.util.Map;
 
-import net.sf.mmm.util.contenttype.base.ContentTypeBean;
-import net.sf.mmm.util.contenttype.base.DecisionTreeNode;
-import net.sf.mmm.util.contenttype.base.format.SegmentContainerSequence;
 import net.sf.mmm.util.io.api.spi.DetectorStreamBuffer;
 
 /**
- * TODO: this class ...
+ * This is the abstract base class for a decision of a {@link DecisionTreeNodeImpl}. It represents the transition from
+ * one state of the detection to the next one.
  *
  * @author Joerg Hohwiller (hohwille at users.sourceforge.net)
  * @since 1.0.0
@@ -26,6 +24,9 @@ public abstract class AbstractDecision {
   }
 
   /**
+   * This method consumes the next byte(s) from the given {@code buffer} and determines the next state of the
+   * detection. It is only invoked if the {@code buffer} {@link DetectorStreamBuffer#hasNext() has a next byte}.
+   *
    * @see net.sf.mmm.util.contenttype.base.DecisionTreeNode#detect(DetectorStreamBuffer, Map, boolean)
    *
    * @param buffer is the {@link DetectorStreamBuffer} containing the next bytes to process.
@@ -34,13 +35,21 @@ public abstract class AbstractDecision {
    *        {@code buffer} shall be modified to reflect this metadata value.
    * @param eos - {@code true} if the end of the stream has been reached and the given {@code buffer} contains the
    *        remaining data.
-   * @return the {@link DecisionTreeNode} representing the current state of detection or {@code null} if the stream does
-   *         NOT match any known filetype.
+   * @return the {@link DecisionTreeNodeImpl} representing the next state of detection. Will NOT be {@code null}.
    */
-  public abstract DecisionTreeNodeImpl detect(DetectorStreamBuffer buffer, Map<String, Object> metadata,
-      boolean eos);
+  public abstract DecisionTreeNodeImpl detect(DetectorStreamBuffer buffer, Map<String, Object> metadata, boolean eos);
 
-  public abstract AbstractDecision merge(ContentTypeBean contentType, SegmentContainerSequence segment,
-      int segmentIndex);
+  /**
+   * This method is like {@link #detect(DetectorStreamBuffer, Map, boolean)} but operates on a
+   * {@link java.nio.ByteBuffer}. It is only invoked if the {@code data} {@link java.nio.ByteBuffer#hasRemaining() has
+   * remaining} bytes.
+   *
+   * @param data is the {@link java.nio.ByteBuffer} with the next bytes to process.
+   * @param metadata is the {@link Map} with metadata.
+   * @param eos - {@code true} if the end of the stream has been reached and the given {@code data} contains the
+   *        remaining data.
+   * @return the {@link DecisionTreeNodeImpl} representing the next state of detection. Will NOT be {@code null}.
+   */
+  public abstract DecisionTreeNodeImpl detect(java.nio.ByteBuffer data, Map<String, Object> metadata, boolean eos);
 
 }
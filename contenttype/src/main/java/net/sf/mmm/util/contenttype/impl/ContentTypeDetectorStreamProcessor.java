@@ -3,74 +3,107 @@
 package net.sf.mmm.util.contenttype.impl;
 
 import java.io.IOException;
-import java.util.LinkedList;
-import java.util.List;
 import java.util.Map;
 
+import net.sf.mmm.util.contenttype.api.ContentType;
 import net.sf.mmm.util.contenttype.base.ContentTypeBean;
 import net.sf.mmm.util.contenttype.base.DecisionTreeNode;
-import net.sf.mmm.util.contenttype.base.format.Segment;
-import net.sf.mmm.util.contenttype.base.format.SegmentContainerSequence;
+import net.sf.mmm.util.io.api.spi.ByteBufferDetectorStreamProcessor;
 import net.sf.mmm.util.io.api.spi.DetectorStreamBuffer;
 import net.sf.mmm.util.io.api.spi.DetectorStreamProcessor;
 
 /**
  * This is an implementation of {@link DetectorStreamProcessor} that allows to detect a {@link ContentTypeBean} using
- * {@link DecisionTreeNode}. <br>
+ * {@link DecisionTreeNode}. It walks the shared decision automaton (see {@link DecisionTreeCompiler}) byte by byte as
+ * data passes through the stream. As soon as the {@link ContentType} is {@link DecisionTreeNode#isFinal() decided} it
+ * is stored in the metadata as {@link #METADATA_KEY_CONTENT_TYPE} and all further data is passed through untouched. As
+ * it never modifies the data, it also supports {@link #process(java.nio.ByteBuffer, Map, boolean) zero-copy} detection.
+ * <br>
  * <b>ATTENTION:</b><br>
  * This implementation is stateful and therefore NOT thread-safe.
  *
  * @author Joerg Hohwiller (hohwille at users.sourceforge.net)
  * @since 1.0.0
  */
-public class ContentTypeDetectorStreamProcessor implements DetectorStreamProcessor {
+public class ContentTypeDetectorStreamProcessor implements ByteBufferDetectorStreamProcessor {
 
-  private final List<ContentTypeBean> contentTypes;
+  /** The key of the {@link ContentType} in the metadata {@link Map}. */
+  public static final String METADATA_KEY_CONTENT_TYPE = "contenttype";
 
-  private List<ContentTypeDetectorStreamProcessor.DecisionState> stateList;
+  /** The current state of the detection or {@code null} if already decided. */
+  private DecisionTreeNode currentNode;
 
   /**
    * The constructor.
    *
    * @param rootNode is the the top-level {@link DecisionTreeNode}.
    */
-  public ContentTypeDetectorStreamProcessor(List<ContentTypeBean> contentTypes) {
+  public ContentTypeDetectorStreamProcessor(DecisionTreeNode rootNode) {
 
     super();
-    this.contentTypes = contentTypes;
+    this.currentNode = rootNode;
   }
 
   @Override
   public void process(DetectorStreamBuffer buffer, Map<String, Object> metadata, boolean eos) throws IOException {
 
-    if (this.stateList == null) {
-      this.stateList = new LinkedList<ContentTypeDetectorStreamProcessor.DecisionState>();
-      for (ContentTypeBean contentType : this.contentTypes) {
-        detectInitially(contentType);
+    if (this.currentNode != null) {
+      DecisionTreeNode node = this.currentNode.detect(buffer, metadata, eos);
+      if (!update(node, metadata, eos && !buffer.hasNext())) {
+        return;
       }
-    } else {
-
     }
+    buffer.skip();
   }
 
-  protected void detectInitially(ContentTypeBean contentType) {
-
-    SegmentContainerSequence sequence = contentType.getFormat();
-    int length = sequence.getSegmentCount();
-    for (int i = 0; i < length; i++) {
-      Segment child = sequence.getSegment(i);
+  @Override
+  public void process(java.nio.ByteBuffer data, Map<String, Object> metadata, boolean eos) throws IOException {
 
+    if (this.currentNode != null) {
+      DecisionTreeNode node = this.currentNode.detect(data, metadata, eos);
+      update(node, metadata, eos && !data.hasRemaining());
     }
   }
 
-  private static class DecisionState {
+  /**
+   * @param node is the current {@link DecisionTreeNode}.
+   * @param metadata is the metadata {@link Map}.
+   * @param eos - {@code true} if all data has been consumed, {@code false} otherwise.
+   * @return {@code true} if the {@link ContentType} has been decided, {@code false} otherwise.
+   */
+  private boolean update(DecisionTreeNode node, Map<String, Object> metadata, boolean eos) {
 
-    private ContentTypeBean contentType;
+    if (node.isFinal()) {
+      setContentType(metadata, node.getContentType());
+    } else if (eos) {
+      setContentType(metadata, node.getEndOfStreamContentType());
+    } else {
+      this.currentNode = node;
+      return false;
+    }
+    return true;
+  }
 
-    private Segment segment;
+  /**
+   * This method is called when the {@link ContentType} has been decided.
+   *
+   * @param metadata is the metadata {@link Map}.
+   * @param contentType is the detected {@link ContentType}.
+   */
+  protected void setContentType(Map<String, Object> metadata, ContentType contentType) {
+
+    this.currentNode = null;
+    if (!metadata.containsKey(METADATA_KEY_CONTENT_TYPE)) {
+      metadata.put(METADATA_KEY_CONTENT_TYPE, contentType);
+    }
+  }
 
-    private int segmentIndex;
+  /**
+   * @return {@code true} if the {@link ContentType} has been decided, {@code false} if more data is required.
+   */
+  public boolean isDecided() {
 
+    return (this.currentNode == null);
   }
 
 }
@@ -2,9 +2,7 @@
  * http://www.apache.org/licenses/LICENSE-2.0 */
 package net.sf.mmm.util.contenttype.impl;
 
-import java.util.List;
-
-import net.sf.mmm.util.contenttype.base.ContentTypeBean;
+import net.sf.mmm.util.contenttype.api.ContentType;
 import net.sf.mmm.util.contenttype.base.DecisionTreeNode;
 import net.sf.mmm.util.io.api.spi.DetectorStreamProcessor;
 import net.sf.mmm.util.io.base.AbstractDetectorStreamProcessorFactory;
@@ -36,6 +34,17 @@ public class ContentTypeDetectorStreamProcessorFactory extends AbstractDetectorS
     this.lookaheadCount = lookaheadCount;
   }
 
+  /**
+   * The constructor. Compiles the formats of the given {@link ContentType} tree via {@link DecisionTreeCompiler}.
+   *
+   * @param rootType is the root {@link ContentType}.
+   * @param lookaheadCount - see {@link #getLookaheadCount()}.
+   */
+  public ContentTypeDetectorStreamProcessorFactory(ContentType rootType, int lookaheadCount) {
+
+    this(new DecisionTreeCompiler().compile(rootType), lookaheadCount);
+  }
+
   @Override
   public int getLookaheadCount() {
 
@@ -45,8 +54,7 @@ public class ContentTypeDetectorStreamProcessorFactory extends AbstractDetectorS
   @Override
   public DetectorStreamProcessor createProcessor() {
 
-    List<ContentTypeBean> contentTypes = null;
-    return new ContentTypeDetectorStreamProcessor(contentTypes);
+    return new ContentTypeDetectorStreamProcessor(this.rootNode);
   }
 
 }
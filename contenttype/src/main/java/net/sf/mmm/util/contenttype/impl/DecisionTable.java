@@ -4,46 +4,61 @@ package net.sf.mmm.util.contenttype.impl;
 
 import java.util.Map;
 
-import net.sf.mmm.util.contenttype.base.ContentTypeBean;
-import net.sf.mmm.util.contenttype.base.format.Segment;
-import net.sf.mmm.util.contenttype.base.format.SegmentConstant;
-import net.sf.mmm.util.contenttype.base.format.SegmentContainerSequence;
+import net.sf.mmm.util.exception.api.NlsIllegalArgumentException;
 import net.sf.mmm.util.io.api.spi.DetectorStreamBuffer;
 
 /**
- * TODO: this class ...
+ * This is an implementation of {@link AbstractDecision} that consumes a single byte and looks up the next
+ * {@link DecisionTreeNodeImpl} in a table indexed by the unsigned value of that byte. This makes each step of the
+ * detection a single array access regardless of the number of {@link net.sf.mmm.util.contenttype.api.ContentType}s.
  *
  * @author Joerg Hohwiller (hohwille at users.sourceforge.net)
  * @since 1.0.0
  */
 public class DecisionTable extends AbstractDecision {
 
+  /** The number of entries in the {@link #detect(DetectorStreamBuffer, Map, boolean) table}. */
+  public static final int SIZE = 256;
+
   /** @see #detect(DetectorStreamBuffer, Map, boolean) */
   private final DecisionTreeNodeImpl[] table;
 
   /**
    * The constructor.
+   *
+   * @param table is the array with the {@link DecisionTreeNodeImpl}s for each possible byte value (index
+   *        {@code byte & 0xFF}). Has to have a length of {@link #SIZE} and must NOT contain {@code null} values.
    */
-  public DecisionTable() {
+  public DecisionTable(DecisionTreeNodeImpl[] table) {
 
     super();
-    this.table = new DecisionTreeNodeImpl[256];
+    if (table.length != SIZE) {
+      throw new NlsIllegalArgumentException(Integer.valueOf(table.length), "table.length");
+    }
+    this.table = table;
+  }
+
+  /**
+   * @param value is the unsigned byte value ({@code byte & 0xFF}).
+   * @return the {@link DecisionTreeNodeImpl} to continue with if the given {@code value} is read.
+   */
+  public DecisionTreeNodeImpl getNode(int value) {
+
+    return this.table[value];
   }
 
   @Override
   public DecisionTreeNodeImpl detect(DetectorStreamBuffer buffer, Map<String, Object> metadata, boolean eos) {
 
-    int next = buffer.next();
+    int next = buffer.next() & 0xFF;
     return this.table[next];
   }
 
   @Override
-  public AbstractDecision merge(ContentTypeBean contentType, SegmentContainerSequence segment, int segmentIndex) {
-
-    Segment s = segment.getSegment(segmentIndex);
-    if (s instanceof SegmentConstant) {
+  public DecisionTreeNodeImpl detect(java.nio.ByteBuffer data, Map<String, Object> metadata, boolean eos) {
 
-    }
-    return this;
+    int next = data.get() & 0xFF;
+    return this.table[next];
   }
+
 }
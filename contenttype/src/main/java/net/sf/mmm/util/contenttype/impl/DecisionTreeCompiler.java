@@ -0,0 +1,452 @@
+/* Copyright (c) The m-m-m Team, Licensed under the Apache License, Version 2.0
+ * http://www.apache.org/licenses/LICENSE-2.0 */
+package net.sf.mmm.util.contenttype.impl;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import net.sf.mmm.util.contenttype.api.ContentType;
+import net.sf.mmm.util.contenttype.base.ContentTypeBean;
+import net.sf.mmm.util.contenttype.base.format.Segment;
+import net.sf.mmm.util.contenttype.base.format.SegmentConstant;
+import net.sf.mmm.util.contenttype.base.format.SegmentContainer;
+import net.sf.mmm.util.contenttype.base.format.SegmentContainerChoice;
+import net.sf.mmm.util.contenttype.base.format.SegmentContainerRepeat;
+import net.sf.mmm.util.contenttype.base.format.SegmentContainerSequence;
+import net.sf.mmm.util.contenttype.base.format.SegmentEndOfStream;
+import net.sf.mmm.util.contenttype.base.format.SegmentRange;
+import net.sf.mmm.util.contenttype.base.format.SegmentVariableLength;
+import net.sf.mmm.util.exception.api.NlsIllegalArgumentException;
+
+/**
+ * This class compiles the {@link ContentTypeBean#getFormat() formats} of all {@link ContentType}s of a tree into a
+ * single deterministic decision automaton of {@link DecisionTreeNodeImpl}s. The automaton consumes the stream byte by
+ * byte in a single pass and becomes {@link DecisionTreeNodeImpl#isFinal() final} as soon as no other format can match
+ * anymore. <br>
+ * Each format is first reduced to a fixed-length prefix of byte-ranges:
+ * <ul>
+ * <li>{@link SegmentConstant} and {@link SegmentRange} contribute one position per byte.</li>
+ * <li>{@link SegmentVariableLength} segments of fixed length contribute wildcard positions. If the length is variable,
+ * the {@link SegmentVariableLength#getMinimumLength() minimum length} is added as wildcards and the prefix ends there,
+ * so the format matches as soon as that prefix has been read.</li>
+ * <li>{@link SegmentContainerChoice} is expanded to one prefix per alternative.</li>
+ * <li>{@link SegmentContainerRepeat} is unrolled for its {@link SegmentContainerRepeat#getMinimumOccurrence() minimum
+ * occurrence}. If the occurrence is variable the prefix ends afterwards.</li>
+ * <li>{@link SegmentEndOfStream} requires the stream to end after the prefix.</li>
+ * </ul>
+ * Prefixes are truncated at {@link #getMaximumLength() maximum length} so the detection is guaranteed to be decided
+ * after a limited number of bytes. If multiple formats match, the longest prefix wins and for equal length the most
+ * specific {@link ContentType} (deepest in the tree) is preferred. <br>
+ * The automaton is created via subset construction on these prefixes. As all prefixes start at the beginning of the
+ * stream, a state is defined by the current offset and the set of formats that still match.
+ *
+ * @author Joerg Hohwiller (hohwille at users.sourceforge.net)
+ * @since 8.7.1
+ */
+public class DecisionTreeCompiler {
+
+  /** The default for {@link #getMaximumLength()}. */
+  public static final int DEFAULT_MAXIMUM_LENGTH = 4096;
+
+  /** The default for {@link #getMaximumExpansion()}. */
+  public static final int DEFAULT_MAXIMUM_EXPANSION = 256;
+
+  private int maximumLength;
+
+  private int maximumExpansion;
+
+  /**
+   * The constructor.
+   */
+  public DecisionTreeCompiler() {
+
+    super();
+    this.maximumLength = DEFAULT_MAXIMUM_LENGTH;
+    this.maximumExpansion = DEFAULT_MAXIMUM_EXPANSION;
+  }
+
+  /**
+   * @return the maximum number of bytes inspected for a single format. Longer formats are truncated and will match
+   *         after this number of bytes.
+   */
+  public int getMaximumLength() {
+
+    return this.maximumLength;
+  }
+
+  /**
+   * @param maximumLength is the {@link #getMaximumLength() maximum length} to set.
+   */
+  public void setMaximumLength(int maximumLength) {
+
+    if (maximumLength < 0) {
+      throw new NlsIllegalArgumentException(Integer.valueOf(maximumLength), "maximumLength");
+    }
+    this.maximumLength = maximumLength;
+  }
+
+  /**
+   * @return the maximum number of prefixes a single format may be expanded to by {@link SegmentContainerChoice}s.
+   *         Further alternatives are truncated to the common prefix before the choice.
+   */
+  public int getMaximumExpansion() {
+
+    return this.maximumExpansion;
+  }
+
+  /**
+   * @param maximumExpansion is the {@link #getMaximumExpansion() maximum expansion} to set.
+   */
+  public void setMaximumExpansion(int maximumExpansion) {
+
+    if (maximumExpansion < 1) {
+      throw new NlsIllegalArgumentException(Integer.valueOf(maximumExpansion), "maximumExpansion");
+    }
+    this.maximumExpansion = maximumExpansion;
+  }
+
+  /**
+   * This method compiles the {@link ContentTypeBean#getFormat() formats} of the given {@link ContentType} and all its
+   * descendants into a decision automaton.
+   *
+   * @param rootType is the root {@link ContentType}. It is the result if no other format matches.
+   * @return the initial {@link DecisionTreeNodeImpl} of the automaton.
+   */
+  public DecisionTreeNodeImpl compile(ContentType rootType) {
+
+    List<Pattern> patterns = new ArrayList<>();
+    collectPatterns(rootType, 0, patterns);
+    return new Automaton(rootType, patterns).build();
+  }
+
+  private void collectPatterns(ContentType contentType, int depth, List<Pattern> patterns) {
+
+    if (contentType instanceof ContentTypeBean) {
+      SegmentContainerSequence format = ((ContentTypeBean) contentType).getFormat();
+      if (format != null) {
+        List<Pattern> prefixes = new ArrayList<>();
+        prefixes.add(new Pattern(contentType, depth));
+        for (Pattern pattern : append(prefixes, format)) {
+          pattern.close(false);
+          patterns.add(pattern);
+        }
+      }
+    }
+    for (ContentType child : contentType.getChildren()) {
+      collectPatterns(child, depth + 1, patterns);
+    }
+  }
+
+  /**
+   * @param prefixes are the {@link Pattern}s compiled so far. Will be modified.
+   * @param segment is the {@link Segment} to append.
+   * @return the {@link Pattern}s after appending the given {@link Segment}.
+   */
+  private List<Pattern> append(List<Pattern> prefixes, Segment segment) {
+
+    if (segment instanceof SegmentConstant) {
+      byte[] bytes = ((SegmentConstant) segment).getBytes();
+      for (Pattern pattern : prefixes) {
+        for (byte b : bytes) {
+          pattern.add(b & 0xFF, b & 0xFF);
+        }
+      }
+    } else if (segment instanceof SegmentRange) {
+      SegmentRange range = (SegmentRange) segment;
+      byte[] min = range.getBytesMinimum();
+      byte[] max = range.getBytesMaximum();
+      for (Pattern pattern : prefixes) {
+        for (int i = 0; i < min.length; i++) {
+          pattern.add(min[i] & 0xFF, max[i] & 0xFF);
+        }
+      }
+    } else if (segment instanceof SegmentVariableLength) {
+      long min = segment.getMinimumLength();
+      boolean variable = (segment.getMaximumLength() != min);
+      for (Pattern pattern : prefixes) {
+        for (long i = 0; i < min; i++) {
+          pattern.add(0, 255);
+        }
+        if (variable) {
+          pattern.close(false);
+        }
+      }
+    } else if (segment instanceof SegmentEndOfStream) {
+      for (Pattern pattern : prefixes) {
+        pattern.close(true);
+      }
+    } else if (segment instanceof SegmentContainerRepeat) {
+      SegmentContainerRepeat repeat = (SegmentContainerRepeat) segment;
+      List<Pattern> result = prefixes;
+      for (int i = 0; i < repeat.getMinimumOccurrence(); i++) {
+        result = appendSequence(result, repeat);
+      }
+      if (repeat.getMaximumOccurrence() != repeat.getMinimumOccurrence()) {
+        for (Pattern pattern : result) {
+          pattern.close(false);
+        }
+      }
+      return result;
+    } else if (segment instanceof SegmentContainerChoice) {
+      SegmentContainer choice = (SegmentContainer) segment;
+      int count = choice.getSegmentCount();
+      if (count * prefixes.size() > this.maximumExpansion) {
+        for (Pattern pattern : prefixes) {
+          pattern.close(false);
+        }
+        return prefixes;
+      }
+      List<Pattern> result = new ArrayList<>();
+      for (int i = 0; i < count; i++) {
+        List<Pattern> alternative = new ArrayList<>(prefixes.size());
+        for (Pattern pattern : prefixes) {
+          alternative.add(pattern.copy());
+        }
+        result.addAll(append(alternative, choice.getSegment(i)));
+      }
+      return result;
+    } else if (segment instanceof SegmentContainerSequence) {
+      return appendSequence(prefixes, (SegmentContainer) segment);
+    } else {
+      // unknown segment - conservatively match what we have so far
+      for (Pattern pattern : prefixes) {
+        pattern.close(false);
+      }
+    }
+    return prefixes;
+  }
+
+  private List<Pattern> appendSequence(List<Pattern> prefixes, SegmentContainer sequence) {
+
+    List<Pattern> result = prefixes;
+    int count = sequence.getSegmentCount();
+    for (int i = 0; i < count; i++) {
+      result = append(result, sequence.getSegment(i));
+    }
+    return result;
+  }
+
+  /**
+   * A {@link Pattern} is the fixed-length prefix of a format. Each position is a range of unsigned byte values.
+   */
+  private class Pattern {
+
+    private final ContentType contentType;
+
+    private final int depth;
+
+    private int[] minimum;
+
+    private int[] maximum;
+
+    private int length;
+
+    private boolean closed;
+
+    private boolean endOfStream;
+
+    private Pattern(ContentType contentType, int depth) {
+
+      super();
+      this.contentType = contentType;
+      this.depth = depth;
+      this.minimum = new int[16];
+      this.maximum = new int[16];
+    }
+
+    private Pattern copy() {
+
+      Pattern copy = new Pattern(this.contentType, this.depth);
+      copy.minimum = this.minimum.clone();
+      copy.maximum = this.maximum.clone();
+      copy.length = this.length;
+      copy.closed = this.closed;
+      copy.endOfStream = this.endOfStream;
+      return copy;
+    }
+
+    private void add(int min, int max) {
+
+      if (this.closed) {
+        return;
+      }
+      if (this.length >= DecisionTreeCompiler.this.maximumLength) {
+        this.closed = true;
+        return;
+      }
+      if (this.length == this.minimum.length) {
+        int capacity = this.length * 2;
+        int[] newMinimum = new int[capacity];
+        System.arraycopy(this.minimum, 0, newMinimum, 0, this.length);
+        this.minimum = newMinimum;
+        int[] newMaximum = new int[capacity];
+        System.arraycopy(this.maximum, 0, newMaximum, 0, this.length);
+        this.maximum = newMaximum;
+      }
+      this.minimum[this.length] = min;
+      this.maximum[this.length] = max;
+      this.length++;
+    }
+
+    private void close(boolean eos) {
+
+      if (!this.closed) {
+        this.closed = true;
+        this.endOfStream = eos;
+      }
+    }
+
+    private boolean matches(int offset, int value) {
+
+      return (value >= this.minimum[offset]) && (value <= this.maximum[offset]);
+    }
+
+    /**
+     * @param other is the {@link Pattern} to compare.
+     * @return {@code true} if this {@link Pattern} is preferred over the given {@link Pattern} matching at the same
+     *         offset.
+     */
+    private boolean isPreferred(Pattern other) {
+
+      return (other == null) || (this.depth > other.depth);
+    }
+  }
+
+  /**
+   * Builds the {@link DecisionTreeNodeImpl}s via subset construction. The states are processed iteratively via a
+   * worklist so the depth of the automaton (up to {@link DecisionTreeCompiler#getMaximumLength() maximum length}) does
+   * not affect the stack depth.
+   */
+  private static class Automaton {
+
+    private final ContentType rootType;
+
+    private final List<Pattern> patterns;
+
+    private final Map<String, DecisionTreeNodeImpl> nodeMap;
+
+    private final Deque<State> worklist;
+
+    private Automaton(ContentType rootType, List<Pattern> patterns) {
+
+      super();
+      this.rootType = rootType;
+      this.patterns = patterns;
+      this.nodeMap = new HashMap<>();
+      this.worklist = new ArrayDeque<>();
+    }
+
+    private DecisionTreeNodeImpl build() {
+
+      BitSet candidates = new BitSet(this.patterns.size());
+      candidates.set(0, this.patterns.size());
+      DecisionTreeNodeImpl root = getNode(0, candidates, this.rootType);
+      while (!this.worklist.isEmpty()) {
+        State state = this.worklist.poll();
+        state.node.setDecision(createDecision(state.offset, state.alive, state.contentType));
+      }
+      return root;
+    }
+
+    /**
+     * @param offset is the number of bytes consumed so far.
+     * @param candidates are the indexes of the {@link Pattern}s that matched all bytes consumed so far.
+     * @param inherited is the {@link ContentType} detected for fewer bytes.
+     * @return the according {@link DecisionTreeNodeImpl}. If it has been created and is not final, its decision is
+     *         created later when the {@link #worklist} is processed.
+     */
+    private DecisionTreeNodeImpl getNode(int offset, BitSet candidates, ContentType inherited) {
+
+      Pattern matched = null;
+      Pattern matchedEos = null;
+      BitSet alive = new BitSet();
+      for (int i = candidates.nextSetBit(0); i >= 0; i = candidates.nextSetBit(i + 1)) {
+        Pattern pattern = this.patterns.get(i);
+        if (pattern.length > offset) {
+          alive.set(i);
+        } else if (pattern.endOfStream) {
+          if (pattern.isPreferred(matchedEos)) {
+            matchedEos = pattern;
+          }
+        } else if (pattern.isPreferred(matched)) {
+          matched = pattern;
+        }
+      }
+      ContentType contentType = inherited;
+      if (matched != null) {
+        contentType = matched.contentType;
+      }
+      ContentType eosType = contentType;
+      if ((matchedEos != null) && ((matched == null) || matchedEos.isPreferred(matched))) {
+        eosType = matchedEos.contentType;
+      }
+      boolean isFinal = alive.isEmpty() && (eosType == contentType);
+      String key;
+      if (isFinal) {
+        key = contentType.getId();
+      } else {
+        key = offset + ":" + alive + ":" + contentType.getId() + ":" + eosType.getId();
+      }
+      DecisionTreeNodeImpl node = this.nodeMap.get(key);
+      if (node == null) {
+        node = new DecisionTreeNodeImpl(contentType, eosType);
+        this.nodeMap.put(key, node);
+        if (!isFinal) {
+          this.worklist.add(new State(node, offset, alive, contentType));
+        }
+      }
+      return node;
+    }
+
+    private DecisionTable createDecision(int offset, BitSet alive, ContentType contentType) {
+
+      DecisionTreeNodeImpl[] table = new DecisionTreeNodeImpl[DecisionTable.SIZE];
+      Map<BitSet, DecisionTreeNodeImpl> successorMap = new HashMap<>();
+      int nextOffset = offset + 1;
+      for (int value = 0; value < DecisionTable.SIZE; value++) {
+        BitSet successors = new BitSet();
+        for (int i = alive.nextSetBit(0); i >= 0; i = alive.nextSetBit(i + 1)) {
+          if (this.patterns.get(i).matches(offset, value)) {
+            successors.set(i);
+          }
+        }
+        DecisionTreeNodeImpl successor = successorMap.get(successors);
+        if (successor == null) {
+          successor = getNode(nextOffset, successors, contentType);
+          successorMap.put(successors, successor);
+        }
+        table[value] = successor;
+      }
+      return new DecisionTable(table);
+    }
+  }
+
+  /**
+   * A state of the subset construction whose {@link DecisionTable} still has to be created.
+   */
+  private static class State {
+
+    private final DecisionTreeNodeImpl node;
+
+    private final int offset;
+
+    private final BitSet alive;
+
+    private final ContentType contentType;
+
+    private State(DecisionTreeNodeImpl node, int offset, BitSet alive, ContentType contentType) {
+
+      super();
+      this.node = node;
+      this.offset = offset;
+      this.alive = alive;
+      this.contentType = contentType;
+    }
+  }
+
+}
@@ -9,23 +9,33 @@ import net.sf.mmm.util.contenttype.base.DecisionTreeNode;
 import net.sf.mmm.util.io.api.spi.DetectorStreamBuffer;
 
 /**
- * TODO: this class ...
+ * This is the implementation of {@link DecisionTreeNode}. It is a state of the decision automaton created by
+ * {@link DecisionTreeCompiler}. A node without {@link #getDecision() decision} is {@link #isFinal() final}. <br>
+ * Instances are immutable after compilation and can therefore be shared by all
+ * {@link ContentTypeDetectorStreamProcessor}s.
  *
  * @author Joerg Hohwiller (hohwille at users.sourceforge.net)
  * @since 1.0.0
  */
 public class DecisionTreeNodeImpl implements DecisionTreeNode {
 
-  private ContentType contentType;
+  private final ContentType contentType;
 
-  private Map<Byte, DecisionTreeNodeImpl> byte2childNodeMap;
+  private final ContentType endOfStreamContentType;
+
+  private AbstractDecision decision;
 
   /**
    * The constructor.
+   *
+   * @param contentType - see {@link #getContentType()}.
+   * @param endOfStreamContentType - see {@link #getEndOfStreamContentType()}.
    */
-  public DecisionTreeNodeImpl() {
+  public DecisionTreeNodeImpl(ContentType contentType, ContentType endOfStreamContentType) {
 
     super();
+    this.contentType = contentType;
+    this.endOfStreamContentType = endOfStreamContentType;
   }
 
   @Override
@@ -34,19 +44,72 @@ public class DecisionTreeNodeImpl implements DecisionTreeNode {
     return this.contentType;
   }
 
+  @Override
+  public ContentType getEndOfStreamContentType() {
+
+    return this.endOfStreamContentType;
+  }
+
+  @Override
+  public boolean isFinal() {
+
+    return (this.decision == null);
+  }
+
   /**
-   * @param contentType is the contentType to set
+   * @return the {@link AbstractDecision} leading to the next node or {@code null} if this node is {@link #isFinal()
+   *         final}.
    */
-  public void setContentType(ContentType contentType) {
+  public AbstractDecision getDecision() {
 
-    this.contentType = contentType;
+    return this.decision;
+  }
+
+  /**
+   * @param decision is the {@link #getDecision() decision} to set.
+   */
+  protected void setDecision(AbstractDecision decision) {
+
+    this.decision = decision;
+  }
+
+  @Override
+  public DecisionTreeNodeImpl detect(DetectorStreamBuffer buffer, Map<String, Object> metadata, boolean eos) {
+
+    DecisionTreeNodeImpl node = this;
+    AbstractDecision nodeDecision = node.decision;
+    while ((nodeDecision != null) && buffer.hasNext()) {
+      node = nodeDecision.detect(buffer, metadata, eos);
+      nodeDecision = node.decision;
+    }
+    return node;
+  }
+
+  @Override
+  public DecisionTreeNodeImpl detect(java.nio.ByteBuffer data, Map<String, Object> metadata, boolean eos) {
+
+    DecisionTreeNodeImpl node = this;
+    AbstractDecision nodeDecision = node.decision;
+    while ((nodeDecision != null) && data.hasRemaining()) {
+      node = nodeDecision.detect(data, metadata, eos);
+      nodeDecision = node.decision;
+    }
+    return node;
   }
 
   @Override
-  public DecisionTreeNode detect(DetectorStreamBuffer buffer, Map<String, Object> metadata, boolean eos) {
+  public String toString() {
 
-    // TODO Auto-generated method stub
-    return null;
+    StringBuilder sb = new StringBuilder();
+    sb.append(this.contentType.getId());
+    if (this.endOfStreamContentType != this.contentType) {
+      sb.append("|eos:");
+      sb.append(this.endOfStreamContentType.getId());
+    }
+    if (this.decision == null) {
+      sb.append("[final]");
+    }
+    return sb.toString();
   }
 
 }
@@ -0,0 +1,133 @@
+/* Copyright (c) The m-m-m Team, Licensed under the Apache License, Version 2.0
+ * http://www.apache.org/licenses/LICENSE-2.0 */
+package net.sf.mmm.util.contenttype.impl;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import net.sf.mmm.util.contenttype.api.ContentType;
+import net.sf.mmm.util.contenttype.base.ContentTypeListLoader;
+import net.sf.mmm.util.io.api.DetectorInputStream;
+import net.sf.mmm.util.io.api.DetectorStream;
+import net.sf.mmm.util.io.base.StreamUtilImpl;
+import net.sf.mmm.util.io.impl.DetectorStreamProviderImpl;
+
+/**
+ * This is the test-case for {@link ContentTypeDetectorStreamProcessor} and {@link DecisionTreeCompiler}.
+ *
+ * @author Joerg Hohwiller (hohwille at users.sourceforge.net)
+ */
+public class ContentTypeDetectorStreamProcessorTest {
+
+  private static final byte[] JPEG = new byte[] { (byte) 0xFF, (byte) 0xD8, (byte) 0xFF, (byte) 0xE0, 0, 0x10, 'J',
+  'F', 'I', 'F', 0 };
+
+  private static final byte[] JPEG2000 = new byte[] { 0, 0, 0, 0x0C, 0x6A, 0x50, 0x20, 0x20, 0x0D, 0x0A, (byte) 0x87,
+  0x0A };
+
+  private ContentType getRootType() {
+
+    ContentTypeListLoader loader = new ContentTypeListLoader();
+    loader.initialize();
+    return loader.loadXml("classpath:net/sf/mmm/util/contenttype/contenttypes.xml").getRoot();
+  }
+
+  private String detect(ContentTypeDetectorStreamProcessorFactory factory, byte[] data) throws Exception {
+
+    DetectorStreamProviderImpl provider = new DetectorStreamProviderImpl();
+    provider.addProcessorFactory(factory);
+    provider.initialize();
+    DetectorInputStream detectorStream = provider.wrapInputStream(new ByteArrayInputStream(data));
+    ByteArrayOutputStream outStream = new ByteArrayOutputStream();
+    StreamUtilImpl.getInstance().transfer(detectorStream.getStream(), outStream, false);
+    // detection must not modify the data
+    Assert.assertArrayEquals(data, outStream.toByteArray());
+    ContentType contentType = getContentType(detectorStream);
+    // zero-copy detection must yield the same result
+    Assert.assertSame(contentType, getContentType(provider.detect(ByteBuffer.wrap(data))));
+    return contentType.getId();
+  }
+
+  private ContentType getContentType(DetectorStream detectorStream) {
+
+    ContentType contentType = (ContentType) detectorStream.getMetadata()
+        .get(ContentTypeDetectorStreamProcessor.METADATA_KEY_CONTENT_TYPE);
+    Assert.assertNotNull(contentType);
+    return contentType;
+  }
+
+  /**
+   * Tests detection of {@link ContentType}s from the default configuration.
+   *
+   * @throws Exception on error.
+   */
+  @Test
+  public void testDetect() throws Exception {
+
+    ContentType rootType = getRootType();
+    ContentTypeDetectorStreamProcessorFactory factory = new ContentTypeDetectorStreamProcessorFactory(rootType, 0);
+    Assert.assertEquals("JPG", detect(factory, JPEG));
+    Assert.assertEquals("JPEG2000", detect(factory, JPEG2000));
+    Assert.assertEquals("DATA", detect(factory, "Hello World".getBytes()));
+    Assert.assertEquals("DATA", detect(factory, new byte[] { (byte) 0xFF, (byte) 0xD8 }));
+    Assert.assertEquals("DATA", detect(factory, new byte[0]));
+  }
+
+  /**
+   * Tests that the compiled automaton is decided as soon as no other format can match.
+   */
+  @Test
+  public void testDecidedEarly() {
+
+    DecisionTreeNodeImpl root = new DecisionTreeCompiler().compile(getRootType());
+    Assert.assertFalse(root.isFinal());
+    Assert.assertEquals("DATA", root.getContentType().getId());
+    DecisionTreeNodeImpl node = ((DecisionTable) root.getDecision()).getNode(0x42);
+    Assert.assertTrue(node.isFinal());
+    Assert.assertEquals("DATA", node.getContentType().getId());
+  }
+
+  /**
+   * Tests that a format with a constant of {@link DecisionTreeCompiler#DEFAULT_MAXIMUM_LENGTH maximum length} can be
+   * compiled and detected.
+   *
+   * @throws Exception on error.
+   */
+  @Test
+  public void testMaximumLength() throws Exception {
+
+    // given
+    int length = DecisionTreeCompiler.DEFAULT_MAXIMUM_LENGTH;
+    byte[] signature = new byte[length];
+    StringBuilder hex = new StringBuilder(length * 3);
+    for (int i = 0; i < length; i++) {
+      signature[i] = (byte) i;
+      if (i > 0) {
+        hex.append('-');
+      }
+      hex.append(String.format("%02X", Integer.valueOf(i & 0xFF)));
+    }
+    String xml = "<content-types>" //
+        + "<content-type id=\"DATA\" title=\"data\" mimetype=\"*/*\"><format><any/><eos/></format></content-type>"
+        + "<content-type id=\"LONG\" title=\"long\" parent=\"DATA\"><format><constant hex=\"" + hex
+        + "\"/><any/><eos/></format></content-type></content-types>";
+    ContentTypeListLoader loader = new ContentTypeListLoader();
+    loader.initialize();
+    ContentType rootType = loader.loadXml(new ByteArrayInputStream(xml.getBytes(StandardCharsets.UTF_8)), "test")
+        .getRoot();
+
+    // when
+    ContentTypeDetectorStreamProcessorFactory factory = new ContentTypeDetectorStreamProcessorFactory(rootType, 0);
+
+    // then
+    Assert.assertEquals("LONG", detect(factory, signature));
+    signature[length - 1] = 0;
+    Assert.assertEquals("DATA", detect(factory, signature));
+  }
+
+}
@@ -2,7 +2,6 @@
  * http://www.apache.org/licenses/LICENSE-2.0 */
 package net.sf.mmm.util.filter.base;
 
-import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 import javax.xml.bind.annotation.XmlAccessType;
@@ -11,11 +10,15 @@ import javax.xml.bind.annotation.XmlAttribute;
 import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
 
 import net.sf.mmm.util.filter.api.FilterRule;
+import net.sf.mmm.util.pattern.api.PatternMatcher;
 import net.sf.mmm.util.pattern.base.RegexInfixPatternCompiler;
+import net.sf.mmm.util.pattern.base.SimplePatternMatcher;
 import net.sf.mmm.util.xml.base.jaxb.XmlAdapterInfixPattern;
 
 /**
- * This is an implementation of the {@link FilterRule} interface that matches using a regex {@link Pattern}.
+ * This is an implementation of the {@link FilterRule} interface that matches using a regex {@link Pattern}. Simple
+ * patterns such as {@code \.xml$} or {@code /CVS/} are {@link SimplePatternMatcher matched} without a
+ * {@link java.util.regex.Matcher}.
  *
  * @author Joerg Hohwiller (hohwille at users.sourceforge.net)
  * @since 1.0.2
@@ -30,6 +33,8 @@ public class PatternFilterRule implements FilterRule<String> {
   @XmlAttribute(name = "include", required = true)
   private Boolean result;
 
+  private transient PatternMatcher matcher;
+
   /**
    * The non-arg constructor. <br>
    * <b>NOTE:</b><br>
@@ -70,8 +75,11 @@ public class PatternFilterRule implements FilterRule<String> {
   @Override
   public Boolean accept(String string) {
 
-    Matcher matcher = this.pattern.matcher(string);
-    if (matcher.matches()) {
+    if (this.matcher == null) {
+      // lazy init as pattern may be injected via JAXB
+      this.matcher = SimplePatternMatcher.of(this.pattern);
+    }
+    if (this.matcher.matches(string)) {
       return this.result;
     }
     return null;
@@ -2,9 +2,11 @@
  * http://www.apache.org/licenses/LICENSE-2.0 */
 package net.sf.mmm.util.event.base;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.Iterator;
-import java.util.LinkedList;
+import java.util.List;
 import java.util.Map;
 import java.util.Queue;
 
@@ -42,8 +44,16 @@ public abstract class AbstractEventBus extends AbstractComponent implements Even
 
   private final Queue<Object> eventQueue;
 
+  /**
+   * The copy-on-write table with the flattened {@link EventListenerContainer}s for each concrete event type. Only
+   * modified while holding the lock of {@link #eventType2dispatcherMap}.
+   */
+  private volatile Map<Class<?>, EventListenerContainer<?>[]> dispatchTable;
+
   private GlobalExceptionHandler globalExceptionHandler;
 
+  private EventBusMonitor monitor;
+
   /**
    * The constructor.
    */
@@ -65,6 +75,7 @@ public abstract class AbstractEventBus extends AbstractComponent implements Even
     this.queueFactory = queueFactory;
     this.eventType2dispatcherMap = mapFactory.createGeneric();
     this.eventQueue = queueFactory.createGeneric();
+    this.dispatchTable = new HashMap<>();
   }
 
   /**
@@ -85,12 +96,35 @@ public abstract class AbstractEventBus extends AbstractComponent implements Even
     this.globalExceptionHandler = errorHandler;
   }
 
+  /**
+   * @return the {@link EventBusMonitor} or {@code null} if not monitored.
+   * @since 8.7.1
+   */
+  public EventBusMonitor getMonitor() {
+
+    return this.monitor;
+  }
+
+  /**
+   * @param monitor is the {@link EventBusMonitor} to notify about send and dispatched events. May be {@code null}
+   *        (default) for no monitoring.
+   * @since 8.7.1
+   */
+  public void setMonitor(EventBusMonitor monitor) {
+
+    getInitializationState().requireNotInitilized();
+    this.monitor = monitor;
+  }
+
   @Override
   public <E> void sendEvent(E event) {
 
     if (event == null) {
       throw new NlsNullPointerException("event");
     }
+    if (this.monitor != null) {
+      this.monitor.eventSent(event);
+    }
     this.eventQueue.add(event);
     triggerDispatchEvents();
   }
@@ -106,16 +140,44 @@ public abstract class AbstractEventBus extends AbstractComponent implements Even
    */
   protected void dispatchEvents() {
 
+    Collection<Throwable> errors = new ArrayList<>();
     while (true) {
 
       Object event = this.eventQueue.poll();
       if (event == null) {
         return;
       }
-      Collection<Throwable> errors = new LinkedList<>();
       dispatchEvent(event, errors);
       if (!errors.isEmpty()) {
         handleErrors(errors, event);
+        errors = new ArrayList<>();
+      }
+    }
+  }
+
+  /**
+   * Dispatches the given events in the given order. A failure while dispatching or
+   * {@link #handleErrors(Collection, Object) handling the errors} of one event (e.g. a
+   * {@link GlobalExceptionHandler} that throws itself) is logged and does not prevent the remaining events from being
+   * dispatched.
+   *
+   * @param events are the {@link net.sf.mmm.util.event.api.Event}s to dispatch.
+   * @since 8.7.1
+   */
+  protected void dispatchEvents(Iterable<?> events) {
+
+    Collection<Throwable> errors = new ArrayList<>();
+    for (Object event : events) {
+      try {
+        dispatchEvent(event, errors);
+        if (!errors.isEmpty()) {
+          handleErrors(errors, event);
+        }
+      } catch (RuntimeException e) {
+        LOG.error("Failed to dispatch event {}", event, e);
+      }
+      if (!errors.isEmpty()) {
+        errors = new ArrayList<>();
       }
     }
   }
@@ -127,20 +189,111 @@ public abstract class AbstractEventBus extends AbstractComponent implements Even
    * @param event is the {@link net.sf.mmm.util.event.api.Event} to dispatch.
    * @param errors is a {@link Collection} where errors are collected.
    */
+  @SuppressWarnings({ "unchecked", "rawtypes" })
   protected <E> void dispatchEvent(E event, Collection<Throwable> errors) {
 
-    @SuppressWarnings({ "unchecked", "rawtypes" })
-    Class<E> eventType = (Class) event.getClass();
-    EventDispatcher<? super E> eventDispatcher = getEventDispatcherOptional(eventType);
-    boolean dispatched = false;
-    if (eventDispatcher != null) {
-      dispatched = eventDispatcher.handleEvent(event, errors);
+    EventListenerContainer<?>[] containers = getEventListeners(event.getClass());
+    if (this.monitor != null) {
+      dispatchEventMonitored(event, containers, errors);
+      return;
     }
-    if (!dispatched) {
+    if (containers.length == 0) {
       handleUndispatchedEvent(event);
+      return;
+    }
+    for (EventListenerContainer container : containers) {
+      try {
+        container.eventListener.handleEvent(event);
+      } catch (Throwable exception) {
+        errors.add(exception);
+      }
     }
   }
 
+  @SuppressWarnings({ "unchecked", "rawtypes" })
+  private void dispatchEventMonitored(Object event, EventListenerContainer<?>[] containers,
+      Collection<Throwable> errors) {
+
+    long start = System.nanoTime();
+    int errorCount = errors.size();
+    if (containers.length == 0) {
+      handleUndispatchedEvent(event);
+    }
+    long listenerStart = start;
+    for (EventListenerContainer container : containers) {
+      EventListener listener = container.eventListener;
+      try {
+        listener.handleEvent(event);
+      } catch (Throwable exception) {
+        errors.add(exception);
+      }
+      long listenerEnd = System.nanoTime();
+      this.monitor.listenerInvoked(event, listener, listenerEnd - listenerStart);
+      listenerStart = listenerEnd;
+    }
+    this.monitor.eventDispatched(event, containers.length, errors.size() - errorCount, System.nanoTime() - start);
+  }
+
+  /**
+   * Gets the flattened {@link EventListenerContainer}s responsible for the given {@code eventType} from the
+   * copy-on-write dispatch table. The table is only rebuilt when listeners are
+   * {@link #addListener(Class, EventListener) added} or {@link #removeListener(EventListener) removed} so dispatching
+   * is a single array iteration independent of the depth of the event hierarchy.
+   *
+   * @param eventType is the {@link Class} reflecting the {@link net.sf.mmm.util.event.api.Event event}.
+   * @return the {@link EventListenerContainer}s for the given {@code eventType} starting with the most specific ones.
+   *         Will be an empty array if no compatible listener is registered.
+   * @since 8.7.1
+   */
+  protected EventListenerContainer<?>[] getEventListeners(Class<?> eventType) {
+
+    EventListenerContainer<?>[] containers = this.dispatchTable.get(eventType);
+    if (containers == null) {
+      synchronized (this.eventType2dispatcherMap) {
+        Map<Class<?>, EventListenerContainer<?>[]> table = this.dispatchTable;
+        containers = table.get(eventType);
+        if (containers == null) {
+          containers = createEventListeners(eventType);
+          Map<Class<?>, EventListenerContainer<?>[]> newTable = new HashMap<>(table);
+          newTable.put(eventType, containers);
+          this.dispatchTable = newTable;
+        }
+      }
+    }
+    return containers;
+  }
+
+  private EventListenerContainer<?>[] createEventListeners(Class<?> eventType) {
+
+    List<EventListenerContainer<?>> containers = new ArrayList<>();
+    Class<?> type = eventType;
+    while (type != null) {
+      EventDispatcher<?> dispatcher = this.eventType2dispatcherMap.get(type);
+      if (dispatcher != null) {
+        for (EventListenerContainer<?> container : dispatcher.containerList) {
+          if (!container.isCleared()) {
+            containers.add(container);
+          }
+        }
+      }
+      type = type.getSuperclass();
+    }
+    return containers.toArray(new EventListenerContainer<?>[containers.size()]);
+  }
+
+  /**
+   * Rebuilds the dispatch table for all event types that have been dispatched before. Has to be called while holding
+   * the lock of {@link #eventType2dispatcherMap}.
+   */
+  private void rebuildDispatchTable() {
+
+    Map<Class<?>, EventListenerContainer<?>[]> table = new HashMap<>();
+    for (Class<?> eventType : this.dispatchTable.keySet()) {
+      table.put(eventType, createEventListeners(eventType));
+    }
+    this.dispatchTable = table;
+  }
+
   /**
    * Called if an {@link net.sf.mmm.util.event.api.Event} was {@link #sendEvent(Object) send} but not dispatched to any
    * {@link #addListener(Class, EventListener) registered listener}.
@@ -238,20 +391,29 @@ public abstract class AbstractEventBus extends AbstractComponent implements Even
       throw new IllegalArgumentException(eventType.getName());
     }
     EventListenerContainer<E> container = new EventListenerContainer<>(eventType, listener);
-    EventDispatcher<E> eventDispatcher = getEventDispatcherRequired(eventType);
-    // concurrent collection used in real environments...
-    eventDispatcher.containerList.add(container);
+    synchronized (this.eventType2dispatcherMap) {
+      EventDispatcher<E> eventDispatcher = getEventDispatcherRequired(eventType);
+      // concurrent collection used in real environments...
+      eventDispatcher.containerList.add(container);
+      rebuildDispatchTable();
+    }
   }
 
   @Override
   public boolean removeListener(EventListener<?> listener) {
 
-    for (EventDispatcher<?> dispatcher : this.eventType2dispatcherMap.values()) {
-      for (EventListenerContainer<?> container : dispatcher.containerList) {
-        if (container.eventListener == listener) {
-          // prevent concurrent modification...
-          container.clear();
-          return true;
+    synchronized (this.eventType2dispatcherMap) {
+      for (EventDispatcher<?> dispatcher : this.eventType2dispatcherMap.values()) {
+        Iterator<? extends EventListenerContainer<?>> iterator = dispatcher.containerList.iterator();
+        while (iterator.hasNext()) {
+          EventListenerContainer<?> container = iterator.next();
+          if (container.eventListener == listener) {
+            // events currently dispatched with the old table will be ignored...
+            container.clear();
+            iterator.remove();
+            rebuildDispatchTable();
+            return true;
+          }
         }
       }
     }
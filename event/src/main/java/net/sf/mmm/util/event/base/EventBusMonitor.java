@@ -0,0 +1,46 @@
+/* Copyright (c) The m-m-m Team, Licensed under the Apache License, Version 2.0
+ * http://www.apache.org/licenses/LICENSE-2.0 */
+package net.sf.mmm.util.event.base;
+
+import net.sf.mmm.util.event.api.EventListener;
+
+/**
+ * This is the SPI to monitor the runtime behavior of an {@link AbstractEventBus}. If a {@link EventBusMonitor} is
+ * {@link AbstractEventBus#setMonitor(EventBusMonitor) set}, it is notified about every event that is send, dropped or
+ * dispatched and about the time each {@link EventListener} took to handle it. Implementations have to be thread-safe
+ * and fast as they are called from within the dispatching.
+ *
+ * @see net.sf.mmm.util.event.impl.EventBusMetrics
+ *
+ * @author Joerg Hohwiller (hohwille at users.sourceforge.net)
+ * @since 8.7.1
+ */
+public interface EventBusMonitor {
+
+  /**
+   * @param event is the event that has been {@link net.sf.mmm.util.event.api.EventBus#sendEvent(Object) send}.
+   */
+  void eventSent(Object event);
+
+  /**
+   * @param event is the event that has been dropped without dispatching it (e.g. because the queue was full).
+   */
+  void eventDropped(Object event);
+
+  /**
+   * @param event is the event that has been dispatched to the given {@code listener}.
+   * @param listener is the {@link EventListener} that has been invoked.
+   * @param nanos is the duration of {@link EventListener#handleEvent(Object)} in nanoseconds.
+   */
+  void listenerInvoked(Object event, EventListener<?> listener, long nanos);
+
+  /**
+   * @param event is the event that has been dispatched.
+   * @param listenerCount is the number of {@link EventListener}s that have been invoked. If {@code 0} the event was
+   *        un-dispatched.
+   * @param errorCount is the number of {@link EventListener}s that failed with an exception.
+   * @param nanos is the total duration of the dispatching in nanoseconds.
+   */
+  void eventDispatched(Object event, int listenerCount, int errorCount, long nanos);
+
+}
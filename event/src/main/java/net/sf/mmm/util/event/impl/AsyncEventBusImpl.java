@@ -0,0 +1,442 @@
+/* Copyright (c) The m-m-m Team, Licensed under the Apache License, Version 2.0
+ * http://www.apache.org/licenses/LICENSE-2.0 */
+package net.sf.mmm.util.event.impl;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import net.sf.mmm.util.collection.api.MapFactory;
+import net.sf.mmm.util.collection.api.QueueFactory;
+import net.sf.mmm.util.concurrent.base.CachedThreadPoolExecutor;
+import net.sf.mmm.util.event.base.AbstractEventBus;
+import net.sf.mmm.util.event.base.EventBusMonitor;
+import net.sf.mmm.util.exception.api.NlsNullPointerException;
+
+/**
+ * This is an implementation of {@link net.sf.mmm.util.event.api.EventBus} that dispatches events asynchronously via
+ * an {@link Executor}. Unlike {@link EventBusImpl} the {@link #sendEvent(Object) sender} does not have to wait until
+ * all listeners have been invoked. <br>
+ * Events are distributed to a configurable number of {@link #setParallelism(int) lanes} by their type. Each lane has
+ * a bounded queue of the configured {@link #setCapacity(int) capacity} and is drained by at most one {@link Thread}
+ * at a time in batches of up to {@link #setBatchSize(int) batch size} events. Hence events of the same type are
+ * dispatched in the order they have been send while events of different types may be dispatched in parallel. If
+ * the queue of a lane is full, the configured {@link EventBusBackPressurePolicy} applies. If the sending
+ * {@link Thread} has to dispatch the event itself, it first dispatches the events already queued in the lane so the
+ * order is preserved.
+ *
+ * @author Joerg Hohwiller (hohwille at users.sourceforge.net)
+ * @since 8.7.1
+ */
+public class AsyncEventBusImpl extends AbstractEventBus {
+
+  private static final Logger LOG = LoggerFactory.getLogger(AsyncEventBusImpl.class);
+
+  /** The default value of {@link #getParallelism()}. */
+  public static final int DEFAULT_PARALLELISM = Math.min(4, Runtime.getRuntime().availableProcessors());
+
+  /** The default value of {@link #getCapacity()}. */
+  public static final int DEFAULT_CAPACITY = 1024;
+
+  /** The default value of {@link #getBatchSize()}. */
+  public static final int DEFAULT_BATCH_SIZE = 64;
+
+  private Executor executor;
+
+  private int parallelism;
+
+  private int capacity;
+
+  private int batchSize;
+
+  private EventBusBackPressurePolicy backPressurePolicy;
+
+  private EventLane[] lanes;
+
+  /**
+   * The constructor.
+   */
+  public AsyncEventBusImpl() {
+
+    super();
+    init();
+  }
+
+  /**
+   * The constructor. See parent constructor for parameter details.
+   *
+   * @param queueFactory is the {@link QueueFactory} to use.
+   * @param mapFactory is {@link MapFactory} to use.
+   */
+  public AsyncEventBusImpl(QueueFactory queueFactory, MapFactory<?> mapFactory) {
+
+    super(queueFactory, mapFactory);
+    init();
+  }
+
+  private void init() {
+
+    this.parallelism = DEFAULT_PARALLELISM;
+    this.capacity = DEFAULT_CAPACITY;
+    this.batchSize = DEFAULT_BATCH_SIZE;
+    this.backPressurePolicy = EventBusBackPressurePolicy.BLOCK;
+  }
+
+  /**
+   * @return the {@link Executor} used to dispatch the events.
+   */
+  public Executor getExecutor() {
+
+    return this.executor;
+  }
+
+  /**
+   * @param executor is the {@link Executor} used to dispatch the events. If not set, a thread-pool with daemon
+   *        {@link Thread}s will be created on {@link #initialize() initialization}.
+   */
+  public void setExecutor(Executor executor) {
+
+    getInitializationState().requireNotInitilized();
+    this.executor = executor;
+  }
+
+  /**
+   * @return the number of lanes and therefore the maximum number of {@link Thread}s dispatching events in parallel.
+   */
+  public int getParallelism() {
+
+    return this.parallelism;
+  }
+
+  /**
+   * @param parallelism is the {@link #getParallelism() parallelism} to set.
+   */
+  public void setParallelism(int parallelism) {
+
+    getInitializationState().requireNotInitilized();
+    if (parallelism < 1) {
+      throw new IllegalArgumentException(Integer.toString(parallelism));
+    }
+    this.parallelism = parallelism;
+  }
+
+  /**
+   * @return the maximum number of events that can be queued per lane before the {@link #getBackPressurePolicy()
+   *         back-pressure policy} applies.
+   */
+  public int getCapacity() {
+
+    return this.capacity;
+  }
+
+  /**
+   * @param capacity is the {@link #getCapacity() capacity} to set.
+   */
+  public void setCapacity(int capacity) {
+
+    getInitializationState().requireNotInitilized();
+    if (capacity < 1) {
+      throw new IllegalArgumentException(Integer.toString(capacity));
+    }
+    this.capacity = capacity;
+  }
+
+  /**
+   * @return the maximum number of events dispatched by a single task of the {@link #getExecutor() executor} before
+   *         the task is rescheduled to give other lanes a chance.
+   */
+  public int getBatchSize() {
+
+    return this.batchSize;
+  }
+
+  /**
+   * @param batchSize is the {@link #getBatchSize() batch size} to set.
+   */
+  public void setBatchSize(int batchSize) {
+
+    getInitializationState().requireNotInitilized();
+    if (batchSize < 1) {
+      throw new IllegalArgumentException(Integer.toString(batchSize));
+    }
+    this.batchSize = batchSize;
+  }
+
+  /**
+   * @return the {@link EventBusBackPressurePolicy} that applies if an event is send while the queue is full.
+   */
+  public EventBusBackPressurePolicy getBackPressurePolicy() {
+
+    return this.backPressurePolicy;
+  }
+
+  /**
+   * @param backPressurePolicy is the {@link #getBackPressurePolicy() back-pressure policy} to set.
+   */
+  public void setBackPressurePolicy(EventBusBackPressurePolicy backPressurePolicy) {
+
+    getInitializationState().requireNotInitilized();
+    NlsNullPointerException.checkNotNull(EventBusBackPressurePolicy.class, backPressurePolicy);
+    this.backPressurePolicy = backPressurePolicy;
+  }
+
+  @Override
+  protected void doInitialize() {
+
+    super.doInitialize();
+    if (this.executor == null) {
+      this.executor = new CachedThreadPoolExecutor(new EventThreadFactory());
+    }
+    this.lanes = new EventLane[this.parallelism];
+    for (int i = 0; i < this.lanes.length; i++) {
+      this.lanes[i] = new EventLane();
+    }
+  }
+
+  @Override
+  public <E> void sendEvent(E event) {
+
+    if (event == null) {
+      throw new NlsNullPointerException("event");
+    }
+    EventBusMonitor monitor = getMonitor();
+    if (monitor != null) {
+      monitor.eventSent(event);
+    }
+    EventLane lane = getLane(event);
+    if (!lane.queue.offer(event)) {
+      switch (this.backPressurePolicy) {
+        case BLOCK:
+          if (isDraining()) {
+            // blocking could dead-lock if the lane is drained by a thread waiting for a lane drained by this thread
+            dispatchOverflow(lane, event);
+          } else {
+            try {
+              lane.queue.put(event);
+            } catch (InterruptedException e) {
+              Thread.currentThread().interrupt();
+              dropEvent(event);
+            }
+          }
+          break;
+        case DROP:
+          dropEvent(event);
+          break;
+        case CALLER_RUNS:
+          dispatchOverflow(lane, event);
+          break;
+        default :
+          throw new IllegalStateException(this.backPressurePolicy.name());
+      }
+    }
+    lane.schedule();
+  }
+
+  /**
+   * @return {@code true} if the current {@link Thread} is currently draining any {@link EventLane}, {@code false}
+   *         otherwise.
+   */
+  private boolean isDraining() {
+
+    for (EventLane lane : this.lanes) {
+      if (lane.lock.isHeldByCurrentThread()) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Dispatches an event that did not fit into the queue of its {@link EventLane} in the calling {@link Thread}. To
+   * preserve the order of the events, all events that are already queued in the {@link EventLane} are dispatched
+   * before. If the {@link EventLane} is currently drained by another {@link Thread}, the calling {@link Thread} waits
+   * until that has finished or the event fits into the queue. While waiting the {@link EventLane}s drained by the
+   * calling {@link Thread} are drained further to avoid a dead-lock.
+   *
+   * @param lane is the full {@link EventLane}.
+   * @param event is the event to dispatch.
+   */
+  private void dispatchOverflow(EventLane lane, Object event) {
+
+    if (isDraining()) {
+      while (!lane.lock.tryLock()) {
+        for (EventLane currentLane : this.lanes) {
+          if (currentLane.lock.isHeldByCurrentThread()) {
+            currentLane.drain(Integer.MAX_VALUE);
+          }
+        }
+        try {
+          if (lane.queue.offer(event, 1, TimeUnit.MILLISECONDS)) {
+            return;
+          }
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+          dropEvent(event);
+          return;
+        }
+      }
+    } else {
+      lane.lock.lock();
+    }
+    try {
+      lane.drain(lane.getPendingCount());
+      dispatchEvents(Collections.singletonList(event));
+    } finally {
+      lane.lock.unlock();
+    }
+  }
+
+  private EventLane getLane(Object event) {
+
+    int hash = event.getClass().hashCode();
+    hash = hash ^ (hash >>> 16);
+    return this.lanes[(hash & Integer.MAX_VALUE) % this.lanes.length];
+  }
+
+  private void dropEvent(Object event) {
+
+    EventBusMonitor monitor = getMonitor();
+    if (monitor != null) {
+      monitor.eventDropped(event);
+    }
+    handleDroppedEvent(event);
+  }
+
+  /**
+   * Called if an event has been dropped because the queue was full.
+   *
+   * @see EventBusBackPressurePolicy#DROP
+   *
+   * @param event is the dropped event.
+   */
+  protected void handleDroppedEvent(Object event) {
+
+    LOG.warn("Event dropped because event queue is full: {}", event);
+  }
+
+  @Override
+  protected void triggerDispatchEvents() {
+
+    // events are queued per lane and never added to the queue of the super-class
+    dispatchEvents();
+  }
+
+  /**
+   * A lane with a bounded queue of events that is drained by at most one {@link Thread} at a time.
+   */
+  private class EventLane implements Runnable {
+
+    private final BlockingQueue<Object> queue;
+
+    private final AtomicBoolean scheduled;
+
+    /** The {@link ReentrantLock} held by the {@link Thread} draining this lane. */
+    private final ReentrantLock lock;
+
+    /** The events taken from the {@link #queue} that are dispatched from {@link #batchIndex} on. */
+    private final List<Object> batch;
+
+    private int batchIndex;
+
+    /**
+     * The constructor.
+     */
+    private EventLane() {
+
+      super();
+      this.queue = new ArrayBlockingQueue<>(AsyncEventBusImpl.this.capacity);
+      this.scheduled = new AtomicBoolean(false);
+      this.lock = new ReentrantLock();
+      this.batch = new ArrayList<>(AsyncEventBusImpl.this.batchSize);
+    }
+
+    /**
+     * @return the number of events that are queued or taken from the queue but not yet dispatched. Only call while
+     *         holding the {@link #lock}.
+     */
+    private int getPendingCount() {
+
+      return this.batch.size() - this.batchIndex + this.queue.size();
+    }
+
+    /**
+     * Dispatches the next events of this lane in the order they have been queued. A nested invocation (e.g. from a
+     * listener sending an event to this full lane) continues with the next event so the order is preserved. Only
+     * call while holding the {@link #lock}.
+     *
+     * @param max is the maximum number of events to dispatch.
+     */
+    private void drain(int max) {
+
+      for (int i = 0; i < max; i++) {
+        if (this.batchIndex >= this.batch.size()) {
+          this.batch.clear();
+          this.batchIndex = 0;
+          if (this.queue.drainTo(this.batch, AsyncEventBusImpl.this.batchSize) == 0) {
+            return;
+          }
+        }
+        Object event = this.batch.get(this.batchIndex++);
+        dispatchEvents(Collections.singletonList(event));
+      }
+    }
+
+    private void schedule() {
+
+      if (this.scheduled.compareAndSet(false, true)) {
+        try {
+          AsyncEventBusImpl.this.executor.execute(this);
+        } catch (RejectedExecutionException e) {
+          this.scheduled.set(false);
+          throw e;
+        }
+      }
+    }
+
+    @Override
+    public void run() {
+
+      boolean pending;
+      this.lock.lock();
+      try {
+        drain(AsyncEventBusImpl.this.batchSize);
+      } finally {
+        pending = (getPendingCount() > 0);
+        this.lock.unlock();
+        this.scheduled.set(false);
+        if (pending || !this.queue.isEmpty()) {
+          schedule();
+        }
+      }
+    }
+  }
+
+  /**
+   * {@link ThreadFactory} for the default {@link #getExecutor() executor}.
+   */
+  private static class EventThreadFactory implements ThreadFactory {
+
+    private static final AtomicInteger COUNTER = new AtomicInteger();
+
+    @Override
+    public Thread newThread(Runnable runnable) {
+
+      Thread thread = new Thread(runnable, "EventBus-" + COUNTER.incrementAndGet());
+      thread.setDaemon(true);
+      return thread;
+    }
+  }
+
+}
@@ -0,0 +1,36 @@
+/* Copyright (c) The m-m-m Team, Licensed under the Apache License, Version 2.0
+ * http://www.apache.org/licenses/LICENSE-2.0 */
+package net.sf.mmm.util.event.impl;
+
+/**
+ * This enum contains the available policies of {@link AsyncEventBusImpl} how to deal with an
+ * {@link net.sf.mmm.util.event.api.EventBus#sendEvent(Object) event that is send} while the according event queue is
+ * full.
+ *
+ * @see AsyncEventBusImpl#setBackPressurePolicy(EventBusBackPressurePolicy)
+ *
+ * @author Joerg Hohwiller (hohwille at users.sourceforge.net)
+ * @since 8.7.1
+ */
+public enum EventBusBackPressurePolicy {
+
+  /**
+   * The sending {@link Thread} is blocked until there is space in the event queue. This is the default. If the event
+   * is send from a listener that is currently dispatching events (of any queue), the event is dispatched as for
+   * {@link #CALLER_RUNS} to avoid a dead-lock.
+   */
+  BLOCK,
+
+  /**
+   * The event is dropped and NOT dispatched at all. Use this only for events that are purely informative (e.g. to
+   * refresh a view) and may get lost.
+   */
+  DROP,
+
+  /**
+   * The event is dispatched by the sending {@link Thread}. This throttles the sender. To preserve the order of events
+   * of the same type, the sending {@link Thread} first dispatches the events that are still queued before.
+   */
+  CALLER_RUNS
+
+}
@@ -0,0 +1,305 @@
+/* Copyright (c) The m-m-m Team, Licensed under the Apache License, Version 2.0
+ * http://www.apache.org/licenses/LICENSE-2.0 */
+package net.sf.mmm.util.event.impl;
+
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.ToLongFunction;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import net.sf.mmm.util.event.api.EventListener;
+import net.sf.mmm.util.event.base.EventBusMonitor;
+
+/**
+ * This is the default implementation of {@link EventBusMonitor} that collects metrics of an
+ * {@link net.sf.mmm.util.event.base.AbstractEventBus} such as counters per event type, the queue depth and histograms
+ * of the dispatch latency. Further, it detects {@link EventListener}s exceeding the
+ * {@link #setSlowListenerThresholdMillis(long) time budget} and logs a warning for them. The metrics can be exported
+ * via {@link #registerMBean(String) JMX}. <br>
+ * Usage:
+ *
+ * <pre>
+ * {@link EventBusMetrics} metrics = new {@link EventBusMetrics}();
+ * eventBus.{@link net.sf.mmm.util.event.base.AbstractEventBus#setMonitor(EventBusMonitor) setMonitor}(metrics);
+ * eventBus.initialize();
+ * metrics.{@link #registerMBean(String) registerMBean}("main");
+ * </pre>
+ *
+ * @author Joerg Hohwiller (hohwille at users.sourceforge.net)
+ * @since 8.7.1
+ */
+public class EventBusMetrics implements EventBusMonitor, EventBusMetricsMXBean {
+
+  private static final Logger LOG = LoggerFactory.getLogger(EventBusMetrics.class);
+
+  /** The number of buckets of the {@link #getDispatchLatencyHistogram() histogram}. */
+  public static final int HISTOGRAM_SIZE = 32;
+
+  /** The default value of {@link #getSlowListenerThresholdMillis()}. */
+  public static final long DEFAULT_SLOW_LISTENER_THRESHOLD_MILLIS = 100;
+
+  private final Map<Class<?>, EventTypeMetrics> eventType2metricsMap;
+
+  private final Map<String, LongAdder> slowListenerMap;
+
+  private final LongAdder droppedCount;
+
+  private volatile long slowListenerThresholdNanos;
+
+  /**
+   * The constructor.
+   */
+  public EventBusMetrics() {
+
+    super();
+    this.eventType2metricsMap = new ConcurrentHashMap<>();
+    this.slowListenerMap = new ConcurrentHashMap<>();
+    this.droppedCount = new LongAdder();
+    this.slowListenerThresholdNanos = TimeUnit.MILLISECONDS.toNanos(DEFAULT_SLOW_LISTENER_THRESHOLD_MILLIS);
+  }
+
+  private EventTypeMetrics getMetrics(Object event) {
+
+    return this.eventType2metricsMap.computeIfAbsent(event.getClass(), x -> new EventTypeMetrics());
+  }
+
+  @Override
+  public void eventSent(Object event) {
+
+    getMetrics(event).sent.increment();
+  }
+
+  @Override
+  public void eventDropped(Object event) {
+
+    this.droppedCount.increment();
+  }
+
+  @Override
+  public void listenerInvoked(Object event, EventListener<?> listener, long nanos) {
+
+    if (nanos > this.slowListenerThresholdNanos) {
+      String listenerName = listener.getClass().getName();
+      this.slowListenerMap.computeIfAbsent(listenerName, x -> new LongAdder()).increment();
+      LOG.warn("Slow listener {} took {}ms to handle event {}", listenerName,
+          Long.valueOf(TimeUnit.NANOSECONDS.toMillis(nanos)), event);
+    }
+  }
+
+  @Override
+  public void eventDispatched(Object event, int listenerCount, int errorCount, long nanos) {
+
+    EventTypeMetrics metrics = getMetrics(event);
+    metrics.dispatched.increment();
+    if (listenerCount == 0) {
+      metrics.undispatched.increment();
+    }
+    if (errorCount > 0) {
+      metrics.errors.add(errorCount);
+    }
+    metrics.totalNanos.add(nanos);
+    metrics.maxNanos.accumulate(nanos);
+    metrics.histogram.incrementAndGet(getHistogramIndex(nanos));
+  }
+
+  private static int getHistogramIndex(long nanos) {
+
+    long micros = nanos / 1000;
+    int index = 64 - Long.numberOfLeadingZeros(micros);
+    if (index >= HISTOGRAM_SIZE) {
+      return HISTOGRAM_SIZE - 1;
+    }
+    return index;
+  }
+
+  private long sum(ToLongFunction<EventTypeMetrics> function) {
+
+    long sum = 0;
+    for (EventTypeMetrics metrics : this.eventType2metricsMap.values()) {
+      sum = sum + function.applyAsLong(metrics);
+    }
+    return sum;
+  }
+
+  private Map<String, Long> map(ToLongFunction<EventTypeMetrics> function) {
+
+    Map<String, Long> map = new TreeMap<>();
+    for (Map.Entry<Class<?>, EventTypeMetrics> entry : this.eventType2metricsMap.entrySet()) {
+      map.put(entry.getKey().getName(), Long.valueOf(function.applyAsLong(entry.getValue())));
+    }
+    return map;
+  }
+
+  @Override
+  public long getSentCount() {
+
+    return sum(m -> m.sent.sum());
+  }
+
+  @Override
+  public long getDispatchedCount() {
+
+    return sum(m -> m.dispatched.sum());
+  }
+
+  @Override
+  public long getDroppedCount() {
+
+    return this.droppedCount.sum();
+  }
+
+  @Override
+  public long getUndispatchedCount() {
+
+    return sum(m -> m.undispatched.sum());
+  }
+
+  @Override
+  public long getErrorCount() {
+
+    return sum(m -> m.errors.sum());
+  }
+
+  @Override
+  public long getQueueDepth() {
+
+    long depth = getSentCount() - getDispatchedCount() - getDroppedCount();
+    if (depth < 0) {
+      // metrics are collected without locking...
+      return 0;
+    }
+    return depth;
+  }
+
+  /**
+   * @param eventType is the {@link Class} reflecting the event type.
+   * @return the number of send events of exactly the given type.
+   */
+  public long getSentCount(Class<?> eventType) {
+
+    EventTypeMetrics metrics = this.eventType2metricsMap.get(eventType);
+    if (metrics == null) {
+      return 0;
+    }
+    return metrics.sent.sum();
+  }
+
+  @Override
+  public Map<String, Long> getSentCountPerEventType() {
+
+    return map(m -> m.sent.sum());
+  }
+
+  @Override
+  public Map<String, Long> getMeanDispatchMicrosPerEventType() {
+
+    return map(m -> {
+      long count = m.dispatched.sum();
+      if (count == 0) {
+        return 0;
+      }
+      return TimeUnit.NANOSECONDS.toMicros(m.totalNanos.sum() / count);
+    });
+  }
+
+  @Override
+  public Map<String, Long> getMaxDispatchMicrosPerEventType() {
+
+    return map(m -> TimeUnit.NANOSECONDS.toMicros(m.maxNanos.get()));
+  }
+
+  @Override
+  public long[] getDispatchLatencyHistogram() {
+
+    long[] histogram = new long[HISTOGRAM_SIZE];
+    for (EventTypeMetrics metrics : this.eventType2metricsMap.values()) {
+      for (int i = 0; i < HISTOGRAM_SIZE; i++) {
+        histogram[i] = histogram[i] + metrics.histogram.get(i);
+      }
+    }
+    return histogram;
+  }
+
+  @Override
+  public long getSlowListenerThresholdMillis() {
+
+    return TimeUnit.NANOSECONDS.toMillis(this.slowListenerThresholdNanos);
+  }
+
+  @Override
+  public void setSlowListenerThresholdMillis(long thresholdMillis) {
+
+    this.slowListenerThresholdNanos = TimeUnit.MILLISECONDS.toNanos(thresholdMillis);
+  }
+
+  @Override
+  public Map<String, Long> getSlowListeners() {
+
+    Map<String, Long> map = new TreeMap<>();
+    for (Map.Entry<String, LongAdder> entry : this.slowListenerMap.entrySet()) {
+      map.put(entry.getKey(), Long.valueOf(entry.getValue().sum()));
+    }
+    return map;
+  }
+
+  @Override
+  public void reset() {
+
+    this.eventType2metricsMap.clear();
+    this.slowListenerMap.clear();
+    this.droppedCount.reset();
+  }
+
+  /**
+   * Registers this {@link EventBusMetrics} as MBean at the {@link ManagementFactory#getPlatformMBeanServer() platform
+   * MBean server}.
+   *
+   * @param name is the name of the {@link net.sf.mmm.util.event.api.EventBus} to distinguish multiple instances.
+   * @return the {@link ObjectName} of the registered MBean.
+   */
+  public ObjectName registerMBean(String name) {
+
+    try {
+      ObjectName objectName = new ObjectName("net.sf.mmm.util.event:type=EventBus,name=" + ObjectName.quote(name));
+      MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+      server.registerMBean(this, objectName);
+      return objectName;
+    } catch (JMException e) {
+      throw new IllegalStateException("Failed to register MBean for event bus " + name, e);
+    }
+  }
+
+  /**
+   * Container for the metrics of a single event type.
+   */
+  private static class EventTypeMetrics {
+
+    private final LongAdder sent = new LongAdder();
+
+    private final LongAdder dispatched = new LongAdder();
+
+    private final LongAdder undispatched = new LongAdder();
+
+    private final LongAdder errors = new LongAdder();
+
+    private final LongAdder totalNanos = new LongAdder();
+
+    private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+
+    private final AtomicLongArray histogram = new AtomicLongArray(HISTOGRAM_SIZE);
+
+  }
+
+}
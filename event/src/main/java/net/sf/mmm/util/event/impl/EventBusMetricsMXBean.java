@@ -0,0 +1,95 @@
+/* Copyright (c) The m-m-m Team, Licensed under the Apache License, Version 2.0
+ * http://www.apache.org/licenses/LICENSE-2.0 */
+package net.sf.mmm.util.event.impl;
+
+import java.util.Map;
+
+/**
+ * This is the JMX management interface of {@link EventBusMetrics}.
+ *
+ * @see EventBusMetrics#registerMBean(String)
+ *
+ * @author Joerg Hohwiller (hohwille at users.sourceforge.net)
+ * @since 8.7.1
+ */
+public interface EventBusMetricsMXBean {
+
+  /**
+   * @return the total number of events that have been {@link net.sf.mmm.util.event.api.EventBus#sendEvent(Object)
+   *         send}.
+   */
+  long getSentCount();
+
+  /**
+   * @return the total number of events that have been dispatched.
+   */
+  long getDispatchedCount();
+
+  /**
+   * @return the total number of events that have been dropped.
+   */
+  long getDroppedCount();
+
+  /**
+   * @return the total number of events that have been dispatched without any responsible listener.
+   */
+  long getUndispatchedCount();
+
+  /**
+   * @return the total number of errors thrown by listeners.
+   */
+  long getErrorCount();
+
+  /**
+   * @return the number of events that have been send but not yet dispatched or dropped.
+   */
+  long getQueueDepth();
+
+  /**
+   * @return the {@link Map} with the {@link Class#getName() name} of the event type as key and the number of send
+   *         events of that type as value.
+   */
+  Map<String, Long> getSentCountPerEventType();
+
+  /**
+   * @return the {@link Map} with the {@link Class#getName() name} of the event type as key and the average duration
+   *         to dispatch an event of that type in microseconds as value.
+   */
+  Map<String, Long> getMeanDispatchMicrosPerEventType();
+
+  /**
+   * @return the {@link Map} with the {@link Class#getName() name} of the event type as key and the maximum duration
+   *         to dispatch an event of that type in microseconds as value.
+   */
+  Map<String, Long> getMaxDispatchMicrosPerEventType();
+
+  /**
+   * @return the histogram of the dispatch durations. The value at index {@code i} is the number of events that took
+   *         less than <code>2<sup>i</sup></code> microseconds but at least <code>2<sup>i-1</sup></code> microseconds
+   *         to dispatch. The last bucket also counts all longer durations.
+   */
+  long[] getDispatchLatencyHistogram();
+
+  /**
+   * @return the time budget for a single listener in milliseconds. A listener taking longer to handle an event is
+   *         considered as slow.
+   */
+  long getSlowListenerThresholdMillis();
+
+  /**
+   * @param thresholdMillis is the new value of {@link #getSlowListenerThresholdMillis()}.
+   */
+  void setSlowListenerThresholdMillis(long thresholdMillis);
+
+  /**
+   * @return the {@link Map} with the {@link Class#getName() name} of the slow listeners as key and the number of
+   *         times it exceeded the {@link #getSlowListenerThresholdMillis() threshold} as value.
+   */
+  Map<String, Long> getSlowListeners();
+
+  /**
+   * Resets all metrics.
+   */
+  void reset();
+
+}
@@ -5,5 +5,7 @@
  * <h2>Util Event Impl</h2> Contains ready to use implementations of the {@link net.sf.mmm.util.event.api event API}.
  * The default implementation of {@link net.sf.mmm.util.event.api.EventBus} is
  * {@link net.sf.mmm.util.event.impl.EventBusImpl}. However, you may also use
+ * {@link net.sf.mmm.util.event.impl.AsyncEventBusImpl} to dispatch events asynchronously with bounded queues and
+ * configurable {@link net.sf.mmm.util.event.impl.EventBusBackPressurePolicy back-pressure}.
  */
 package net.sf.mmm.util.event.impl;
@@ -0,0 +1,260 @@
+/* Copyright (c) The m-m-m Team, Licensed under the Apache License, Version 2.0
+ * http://www.apache.org/licenses/LICENSE-2.0 */
+package net.sf.mmm.util.event.impl;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+import net.sf.mmm.util.event.api.EventBus;
+
+/**
+ * This is the test-case for {@link AsyncEventBusImpl}.
+ *
+ * @author Joerg Hohwiller (hohwille at users.sourceforge.net)
+ */
+public class AsyncEventBusImplTest extends EventBusTest {
+
+  /**
+   * @return the {@link EventBus} instance to test. Uses an executor that runs in the calling {@link Thread} so the
+   *         generic tests can check the results synchronously.
+   */
+  @Override
+  protected EventBus getEventBus() {
+
+    AsyncEventBusImpl eventBus = new AsyncEventBusImpl();
+    eventBus.setExecutor(Runnable::run);
+    eventBus.initialize();
+    return eventBus;
+  }
+
+  /**
+   * Tests that events of the same type are dispatched asynchronously in the order they have been sent.
+   *
+   * @throws Exception on error.
+   */
+  @Test
+  public void testOrderPerEventType() throws Exception {
+
+    // given
+    int count = 10000;
+    AsyncEventBusImpl eventBus = new AsyncEventBusImpl();
+    eventBus.setParallelism(2);
+    eventBus.setCapacity(16);
+    eventBus.setBatchSize(4);
+    eventBus.initialize();
+    List<Integer> integers = Collections.synchronizedList(new ArrayList<>());
+    List<Long> longs = Collections.synchronizedList(new ArrayList<>());
+    CountDownLatch latch = new CountDownLatch(2 * count);
+    eventBus.addListener(Integer.class, e -> {
+      integers.add(e);
+      latch.countDown();
+    });
+    eventBus.addListener(Long.class, e -> {
+      longs.add(e);
+      latch.countDown();
+    });
+
+    // when
+    for (int i = 0; i < count; i++) {
+      eventBus.sendEvent(Integer.valueOf(i));
+      eventBus.sendEvent(Long.valueOf(i));
+    }
+
+    // then
+    assertTrue(latch.await(10, TimeUnit.SECONDS));
+    for (int i = 0; i < count; i++) {
+      assertEquals(i, integers.get(i).intValue());
+      assertEquals(i, longs.get(i).longValue());
+    }
+  }
+
+  /**
+   * Tests {@link EventBusBackPressurePolicy#DROP}.
+   */
+  @Test
+  public void testBackPressureDrop() {
+
+    // given
+    List<Runnable> tasks = new LinkedList<>();
+    List<Object> dropped = new ArrayList<>();
+    AsyncEventBusImpl eventBus = new AsyncEventBusImpl() {
+
+      @Override
+      protected void handleDroppedEvent(Object event) {
+
+        dropped.add(event);
+      }
+    };
+    eventBus.setExecutor(tasks::add);
+    eventBus.setParallelism(1);
+    eventBus.setCapacity(2);
+    eventBus.setBackPressurePolicy(EventBusBackPressurePolicy.DROP);
+    eventBus.initialize();
+    List<String> events = new ArrayList<>();
+    eventBus.addListener(String.class, events::add);
+
+    // when
+    for (String event : new String[] { "a", "b", "c", "d" }) {
+      eventBus.sendEvent(event);
+    }
+
+    // then
+    assertEquals(1, tasks.size());
+    assertEquals(0, events.size());
+    assertEquals(2, dropped.size());
+    assertEquals("c", dropped.get(0));
+    tasks.remove(0).run();
+    assertEquals(2, events.size());
+    assertEquals("a", events.get(0));
+    assertEquals("b", events.get(1));
+    assertEquals(0, tasks.size());
+  }
+
+  /**
+   * Tests {@link EventBusBackPressurePolicy#CALLER_RUNS}.
+   */
+  @Test
+  public void testBackPressureCallerRuns() {
+
+    // given
+    List<Runnable> tasks = new LinkedList<>();
+    AsyncEventBusImpl eventBus = new AsyncEventBusImpl();
+    eventBus.setExecutor(tasks::add);
+    eventBus.setParallelism(1);
+    eventBus.setCapacity(1);
+    eventBus.setBackPressurePolicy(EventBusBackPressurePolicy.CALLER_RUNS);
+    eventBus.initialize();
+    List<String> events = new ArrayList<>();
+    eventBus.addListener(String.class, events::add);
+
+    // when
+    eventBus.sendEvent("a");
+    eventBus.sendEvent("b");
+
+    // then
+    assertEquals(2, events.size());
+    assertEquals("a", events.get(0));
+    assertEquals("b", events.get(1));
+    tasks.remove(0).run();
+    assertEquals(2, events.size());
+  }
+
+  /**
+   * Tests that {@link EventBusBackPressurePolicy#CALLER_RUNS} preserves the order of the events when a lane is full.
+   */
+  @Test
+  public void testBackPressureCallerRunsOrder() {
+
+    // given
+    List<Runnable> tasks = new LinkedList<>();
+    AsyncEventBusImpl eventBus = new AsyncEventBusImpl();
+    eventBus.setExecutor(tasks::add);
+    eventBus.setParallelism(1);
+    eventBus.setCapacity(2);
+    eventBus.setBatchSize(2);
+    eventBus.setBackPressurePolicy(EventBusBackPressurePolicy.CALLER_RUNS);
+    eventBus.initialize();
+    List<Integer> events = new ArrayList<>();
+    eventBus.addListener(Integer.class, events::add);
+
+    // when
+    for (int i = 1; i <= 5; i++) {
+      eventBus.sendEvent(Integer.valueOf(i));
+    }
+    while (!tasks.isEmpty()) {
+      tasks.remove(0).run();
+    }
+
+    // then
+    assertEquals(Arrays.asList(1, 2, 3, 4, 5), events);
+  }
+
+  /**
+   * Tests that {@link EventBusBackPressurePolicy#BLOCK} neither dead-locks nor breaks the order if a listener sends
+   * events to its own full lane.
+   */
+  @Test
+  public void testBackPressureBlockFromListener() {
+
+    // given
+    List<Runnable> tasks = new LinkedList<>();
+    AsyncEventBusImpl eventBus = new AsyncEventBusImpl();
+    eventBus.setExecutor(tasks::add);
+    eventBus.setParallelism(1);
+    eventBus.setCapacity(1);
+    eventBus.setBatchSize(1);
+    eventBus.setBackPressurePolicy(EventBusBackPressurePolicy.BLOCK);
+    eventBus.initialize();
+    List<String> events = new ArrayList<>();
+    eventBus.addListener(String.class, event -> {
+      events.add(event);
+      if (event.length() == 1) {
+        eventBus.sendEvent(event + "1");
+        eventBus.sendEvent(event + "2");
+      }
+    });
+
+    // when
+    eventBus.sendEvent("a");
+    while (!tasks.isEmpty()) {
+      tasks.remove(0).run();
+    }
+
+    // then
+    assertEquals(Arrays.asList("a", "a1", "a2"), events);
+  }
+
+  /**
+   * Tests that a {@link net.sf.mmm.util.exception.api.GlobalExceptionHandler} that throws an exception neither drops
+   * the rest of the batch nor prevents the lane from being rescheduled.
+   */
+  @Test
+  public void testThrowingGlobalExceptionHandler() {
+
+    // given
+    List<Runnable> tasks = new LinkedList<>();
+    List<Object> errorEvents = new ArrayList<>();
+    AsyncEventBusImpl eventBus = new AsyncEventBusImpl();
+    eventBus.setExecutor(tasks::add);
+    eventBus.setParallelism(1);
+    eventBus.setCapacity(8);
+    eventBus.setBatchSize(2);
+    eventBus.setGlobalExceptionHandler((context, errors) -> {
+      errorEvents.add(context);
+      throw new IllegalStateException("handler failed");
+    });
+    eventBus.initialize();
+    List<String> events = new ArrayList<>();
+    eventBus.addListener(String.class, e -> {
+      if (e.startsWith("error")) {
+        throw new IllegalArgumentException(e);
+      }
+      events.add(e);
+    });
+
+    // when
+    for (String event : new String[] { "error1", "b", "error2", "d", "e" }) {
+      eventBus.sendEvent(event);
+    }
+    while (!tasks.isEmpty()) {
+      tasks.remove(0).run();
+    }
+
+    // then
+    assertEquals(3, events.size());
+    assertEquals("b", events.get(0));
+    assertEquals("d", events.get(1));
+    assertEquals("e", events.get(2));
+    assertEquals(2, errorEvents.size());
+    assertEquals("error1", errorEvents.get(0));
+    assertEquals("error2", errorEvents.get(1));
+  }
+
+}
@@ -0,0 +1,131 @@
+/* Copyright (c) The m-m-m Team, Licensed under the Apache License, Version 2.0
+ * http://www.apache.org/licenses/LICENSE-2.0 */
+package net.sf.mmm.util.event.impl;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import net.sf.mmm.util.event.api.EventListener;
+
+/**
+ * This is the test-case for {@link EventBusMetrics}.
+ *
+ * @author Joerg Hohwiller (hohwille at users.sourceforge.net)
+ */
+public class EventBusMetricsTest extends Assert {
+
+  /**
+   * Tests {@link EventBusMetrics} with {@link EventBusImpl}.
+   *
+   * @throws Exception on error.
+   */
+  @Test
+  public void testMetrics() throws Exception {
+
+    // given
+    EventBusMetrics metrics = new EventBusMetrics();
+    metrics.setSlowListenerThresholdMillis(5);
+    EventBusImpl eventBus = new EventBusImpl();
+    eventBus.setMonitor(metrics);
+    eventBus.setGlobalExceptionHandler((context, errors) -> {
+      // ignore
+    });
+    eventBus.initialize();
+    EventListener<String> slowListener = new SlowListener();
+    eventBus.addListener(String.class, slowListener);
+    eventBus.addListener(Integer.class, e -> {
+      if (e.intValue() < 0) {
+        throw new IllegalArgumentException(e.toString());
+      }
+    });
+
+    // when
+    eventBus.sendEvent("fast");
+    eventBus.sendEvent("slow");
+    eventBus.sendEvent(Integer.valueOf(1));
+    eventBus.sendEvent(Integer.valueOf(-1));
+    eventBus.sendEvent(Long.valueOf(1));
+
+    // then
+    assertEquals(5, metrics.getSentCount());
+    assertEquals(5, metrics.getDispatchedCount());
+    assertEquals(0, metrics.getQueueDepth());
+    assertEquals(1, metrics.getUndispatchedCount());
+    assertEquals(1, metrics.getErrorCount());
+    assertEquals(2, metrics.getSentCount(String.class));
+    assertEquals(Long.valueOf(2), metrics.getSentCountPerEventType().get(Integer.class.getName()));
+    assertTrue(metrics.getMaxDispatchMicrosPerEventType().get(String.class.getName()).longValue() >= 10000);
+    assertEquals(Long.valueOf(1), metrics.getSlowListeners().get(SlowListener.class.getName()));
+    long histogramSum = 0;
+    for (long count : metrics.getDispatchLatencyHistogram()) {
+      histogramSum = histogramSum + count;
+    }
+    assertEquals(5, histogramSum);
+
+    // and when
+    MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+    ObjectName objectName = metrics.registerMBean("test");
+    try {
+      // then
+      assertEquals(Long.valueOf(5), server.getAttribute(objectName, "SentCount"));
+    } finally {
+      server.unregisterMBean(objectName);
+    }
+  }
+
+  /**
+   * Tests {@link EventBusMetrics} with {@link AsyncEventBusImpl} dropping events.
+   */
+  @Test
+  public void testDropped() {
+
+    // given
+    EventBusMetrics metrics = new EventBusMetrics();
+    List<Runnable> tasks = new ArrayList<>();
+    AsyncEventBusImpl eventBus = new AsyncEventBusImpl();
+    eventBus.setMonitor(metrics);
+    eventBus.setExecutor(tasks::add);
+    eventBus.setParallelism(1);
+    eventBus.setCapacity(1);
+    eventBus.setBackPressurePolicy(EventBusBackPressurePolicy.DROP);
+    eventBus.initialize();
+    eventBus.addListener(String.class, e -> {
+      // nothing to do
+    });
+
+    // when
+    eventBus.sendEvent("a");
+    eventBus.sendEvent("b");
+    eventBus.sendEvent("c");
+
+    // then
+    assertEquals(3, metrics.getSentCount());
+    assertEquals(2, metrics.getDroppedCount());
+    assertEquals(1, metrics.getQueueDepth());
+    tasks.remove(0).run();
+    assertEquals(0, metrics.getQueueDepth());
+  }
+
+  private static class SlowListener implements EventListener<String> {
+
+    @Override
+    public void handleEvent(String event) {
+
+      if ("slow".equals(event)) {
+        try {
+          Thread.sleep(10);
+        } catch (InterruptedException e) {
+          throw new IllegalStateException(e);
+        }
+      }
+    }
+  }
+
+}
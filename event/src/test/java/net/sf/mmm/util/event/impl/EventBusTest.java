@@ -83,6 +83,36 @@ public abstract class EventBusTest extends Assert {
     assertFalse(removed);
   }
 
+  /**
+   * Tests the {@link #getEventBus() event bus} with listeners for an event hierarchy that are added and removed after
+   * events have already been dispatched.
+   */
+  @Test
+  public void testHierarchy() {
+
+    // given
+    EventBus eventBus = getEventBus();
+    List<String> calls = new LinkedList<>();
+    EventListener<Object> objectListener = e -> calls.add("Object");
+    EventListener<Number> numberListener = e -> calls.add("Number");
+    EventListener<Integer> integerListener = e -> calls.add("Integer");
+    eventBus.addListener(Object.class, objectListener);
+    eventBus.addListener(Number.class, numberListener);
+
+    // when + then
+    eventBus.sendEvent(Integer.valueOf(1));
+    assertEquals("[Number, Object]", calls.toString());
+    calls.clear();
+    eventBus.addListener(Integer.class, integerListener);
+    eventBus.sendEvent(Integer.valueOf(2));
+    assertEquals("[Integer, Number, Object]", calls.toString());
+    calls.clear();
+    assertTrue(eventBus.removeListener(numberListener));
+    eventBus.sendEvent(Integer.valueOf(3));
+    eventBus.sendEvent(Long.valueOf(4));
+    assertEquals("[Integer, Object, Object]", calls.toString());
+  }
+
   /**
    * Tests the event bus in a real concurrent usage scenario.
    *
@@ -3,11 +3,14 @@
 package net.sf.mmm.util.exception.api;
 
 import java.io.IOException;
+import java.io.ObjectOutputStream;
 import java.io.PrintStream;
 import java.io.PrintWriter;
 import java.io.StringWriter;
 import java.util.Locale;
+import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 
 import net.sf.mmm.util.lang.api.BasicHelper;
 import net.sf.mmm.util.nls.api.NlsAccess;
@@ -20,6 +23,11 @@ import net.sf.mmm.util.uuid.api.UuidAccess;
  * further details see {@link NlsThrowable}. For an example read the {@link net.sf.mmm.util.exception.api
  * package javadoc} or see the source code of the derived exceptions.
  *
+ * The {@link #getUuid() UUID} is created lazily when it is requested for the first time (typically when the
+ * exception is logged). Further, the capture of the {@link #getStackTrace() stack trace} can be
+ * {@link #setStackTraceEnabled(Class, boolean) disabled} for exceptions that are expected in regular flows (e.g.
+ * {@link NlsParseException} for invalid input).
+ *
  * @see NlsThrowable
  *
  * @author Joerg Hohwiller (hohwille at users.sourceforge.net)
@@ -29,11 +37,20 @@ public abstract class NlsRuntimeException extends RuntimeException implements Nl
 
   private static final long serialVersionUID = 1L;
 
+  /** The explicit configuration of {@link #setStackTraceEnabled(Class, boolean)}. */
+  private static final Map<Class<?>, Boolean> STACK_TRACE_CONFIG_MAP = new ConcurrentHashMap<>();
+
+  /** The resolved configuration of {@link #isStackTraceEnabled(Class)} per concrete type. */
+  private static final Map<Class<?>, Boolean> STACK_TRACE_CACHE_MAP = new ConcurrentHashMap<>();
+
   /** the internationalized message */
   private NlsMessage nlsMessage;
 
   private UUID uuid;
 
+  /** {@code true} if {@link #uuid} has not yet been initialized, {@code false} otherwise. */
+  private transient volatile boolean uuidPending;
+
   /**
    * The constructor for de-serialization in GWT.
    */
@@ -51,7 +68,7 @@ public abstract class NlsRuntimeException extends RuntimeException implements Nl
 
     super();
     this.nlsMessage = message;
-    this.uuid = createUuid();
+    this.uuidPending = true;
   }
 
   /**
@@ -110,11 +127,7 @@ public abstract class NlsRuntimeException extends RuntimeException implements Nl
     super(cause);
     this.nlsMessage = message;
     if (uuid == null) {
-      if ((cause != null) && (cause instanceof NlsThrowable)) {
-        this.uuid = ((NlsThrowable) cause).getUuid();
-      } else {
-        this.uuid = createUuid();
-      }
+      this.uuidPending = true;
     } else {
       this.uuid = uuid;
     }
@@ -135,7 +148,7 @@ public abstract class NlsRuntimeException extends RuntimeException implements Nl
     // !truncation.isRemoveStacktrace());
     super(null, truncation.isRemoveCause() ? null : copySource.getCause());
     this.nlsMessage = copySource.nlsMessage;
-    this.uuid = copySource.uuid;
+    this.uuid = copySource.getUuid();
     if (!truncation.isRemoveStacktrace()) {
       setStackTrace(copySource.getStackTrace());
     }
@@ -156,12 +169,102 @@ public abstract class NlsRuntimeException extends RuntimeException implements Nl
     return UuidAccess.getFactory().createUuid();
   }
 
+  /**
+   * {@inheritDoc}
+   *
+   * The {@link UUID} is initialized lazily on the first call from the {@link #getCause() cause} if that is a
+   * {@link NlsThrowable} or via {@link #createUuid()} otherwise.
+   */
   @Override
   public final UUID getUuid() {
 
+    if (this.uuidPending) {
+      synchronized (this) {
+        if (this.uuidPending) {
+          Throwable cause = getCause();
+          if (cause instanceof NlsThrowable) {
+            this.uuid = ((NlsThrowable) cause).getUuid();
+          } else {
+            this.uuid = createUuid();
+          }
+          this.uuidPending = false;
+        }
+      }
+    }
     return this.uuid;
   }
 
+  /**
+   * {@inheritDoc}
+   *
+   * Does nothing if the {@link #getStackTrace() stack trace} is {@link #isStackTraceEnabled() disabled}.
+   */
+  @Override
+  public synchronized Throwable fillInStackTrace() {
+
+    if (!isStackTraceEnabled()) {
+      return this;
+    }
+    return super.fillInStackTrace();
+  }
+
+  /**
+   * Determines if the {@link #getStackTrace() stack trace} shall be captured for this exception. Capturing the stack
+   * trace is the major cost of creating an exception. <br>
+   * <b>ATTENTION:</b><br>
+   * This method is called from the constructor of {@link Throwable}. Overriding methods must not access any fields of
+   * the exception. Override and return {@code false} for exceptions that are thrown and caught frequently in regular
+   * flows where the stack trace is useless.
+   *
+   * @return {@code true} if the stack trace shall be captured (default), {@code false} otherwise.
+   * @since 8.7.1
+   */
+  protected boolean isStackTraceEnabled() {
+
+    return isStackTraceEnabled(getClass());
+  }
+
+  /**
+   * @see #setStackTraceEnabled(Class, boolean)
+   *
+   * @param type is the {@link Class} reflecting the exception.
+   * @return {@code true} if the {@link #getStackTrace() stack trace} is captured for the given {@code type},
+   *         {@code false} otherwise.
+   * @since 8.7.1
+   */
+  public static boolean isStackTraceEnabled(Class<? extends NlsRuntimeException> type) {
+
+    Boolean enabled = STACK_TRACE_CACHE_MAP.get(type);
+    if (enabled == null) {
+      Class<?> superType = type;
+      while ((enabled == null) && (superType != null)) {
+        enabled = STACK_TRACE_CONFIG_MAP.get(superType);
+        superType = superType.getSuperclass();
+      }
+      if (enabled == null) {
+        enabled = Boolean.TRUE;
+      }
+      STACK_TRACE_CACHE_MAP.put(type, enabled);
+    }
+    return enabled.booleanValue();
+  }
+
+  /**
+   * Enables or disables the capture of the {@link #getStackTrace() stack trace} for the given {@code type} of
+   * exception and all its sub-types (unless configured explicitly). This allows to make exceptions lightweight that
+   * are created frequently for control flow such as {@link NlsParseException} for invalid input. Should only be
+   * invoked in the initialization phase of your application.
+   *
+   * @param type is the {@link Class} reflecting the exception.
+   * @param enabled - {@code true} to capture stack traces (default), {@code false} to skip them.
+   * @since 8.7.1
+   */
+  public static void setStackTraceEnabled(Class<? extends NlsRuntimeException> type, boolean enabled) {
+
+    STACK_TRACE_CONFIG_MAP.put(type, Boolean.valueOf(enabled));
+    STACK_TRACE_CACHE_MAP.clear();
+  }
+
   @Override
   public final NlsMessage getNlsMessage() {
 
@@ -250,7 +353,7 @@ public abstract class NlsRuntimeException extends RuntimeException implements Nl
 
     StringBuilder buffer = new StringBuilder(getNlsMessage().getMessage());
     buffer.append(BasicHelper.LINE_SEPARATOR);
-    buffer.append(this.uuid);
+    buffer.append(getUuid());
     String code = getCode();
     if (!getClass().getSimpleName().equals(code)) {
       buffer.append(":");
@@ -324,6 +427,8 @@ public abstract class NlsRuntimeException extends RuntimeException implements Nl
   @Deprecated
   protected NlsRuntimeException createCopyViaClone(ExceptionTruncation truncation) {
 
+    // ensure the copy has the same UUID...
+    getUuid();
     try {
       NlsRuntimeException copy = (NlsRuntimeException) clone();
       ThrowableHelper.removeDetails(copy, truncation);
@@ -349,6 +454,13 @@ public abstract class NlsRuntimeException extends RuntimeException implements Nl
     return createCopyViaClone(truncation);
   }
 
+  private void writeObject(ObjectOutputStream out) throws IOException {
+
+    // ensure the UUID is preserved...
+    getUuid();
+    out.defaultWriteObject();
+  }
+
   @Override
   public String toString() {
 
@@ -379,9 +491,10 @@ public abstract class NlsRuntimeException extends RuntimeException implements Nl
         buffer.append(": ");
       }
       buffer.append(getLocalizedMessage(locale));
-      if (this.uuid != null) {
+      UUID id = getUuid();
+      if (id != null) {
         buffer.append(BasicHelper.LINE_SEPARATOR);
-        buffer.append(this.uuid.toString());
+        buffer.append(id.toString());
       }
       return buffer;
     } catch (IOException e) {
@@ -146,4 +146,40 @@ public class NlsThrowableTest extends Assertions {
     checkException(e.getLocalizedMessage(), e, null);
   }
 
+  /**
+   * Test the lazy {@link NlsRuntimeException#getUuid() UUID} of {@link NlsRuntimeException}.
+   */
+  @Test
+  public void testNlsRuntimeExceptionLazyUuid() {
+
+    NlsNullPointerException cause = new NlsNullPointerException("cause");
+    NlsParseException e = new NlsParseException(cause, "value", String.class, "source");
+    UUID uuid = e.getUuid();
+    assertThat(uuid).isNotNull().isSameAs(e.getUuid()).isSameAs(cause.getUuid());
+    assertThat(e.getMessage()).contains(uuid.toString());
+    NlsNullPointerException original = new NlsNullPointerException("source");
+    assertThat(SerializationHelper.reserialize(original).getUuid()).isEqualTo(original.getUuid());
+  }
+
+  /**
+   * Test {@link NlsRuntimeException#setStackTraceEnabled(Class, boolean)}.
+   */
+  @Test
+  public void testNlsRuntimeExceptionStackTraceDisabled() {
+
+    assertThat(new NlsParseException("value", String.class).getStackTrace()).isNotEmpty();
+    NlsRuntimeException.setStackTraceEnabled(NlsParseException.class, false);
+    try {
+      assertThat(NlsRuntimeException.isStackTraceEnabled(NlsParseException.class)).isFalse();
+      assertThat(NlsRuntimeException.isStackTraceEnabled(NlsNullPointerException.class)).isTrue();
+      NlsParseException e = new NlsParseException("value", String.class);
+      assertThat(e.getStackTrace()).isEmpty();
+      assertThat(e.getUuid()).isNotNull();
+      assertThat(new NlsNullPointerException("source").getStackTrace()).isNotEmpty();
+    } finally {
+      NlsRuntimeException.setStackTraceEnabled(NlsParseException.class, true);
+    }
+    assertThat(new NlsParseException("value", String.class).getStackTrace()).isNotEmpty();
+  }
+
 }
@@ -3,6 +3,8 @@
 package net.sf.mmm.util.file.api;
 
 import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
 
 /**
  * This enum contains the available types of a {@link java.io.File file}.
@@ -36,4 +38,24 @@ public enum FileType {
     }
   }
 
+  /**
+   * This method determines the type of a file.
+   *
+   * @param path is the {@link Path} of the file to check.
+   * @return {@link #DIRECTORY} if the given {@code path} is a
+   *         {@link Files#isDirectory(Path, java.nio.file.LinkOption...) directory}, {@link #FILE} for a
+   *         {@link Files#isRegularFile(Path, java.nio.file.LinkOption...) plain file} and {@code null} otherwise.
+   * @since 8.7.1
+   */
+  public static FileType getType(Path path) {
+
+    if (Files.isDirectory(path)) {
+      return DIRECTORY;
+    } else if (Files.isRegularFile(path)) {
+      return FILE;
+    } else {
+      return null;
+    }
+  }
+
 }
@@ -4,7 +4,11 @@ package net.sf.mmm.util.file.api;
 
 import java.io.File;
 import java.io.FileFilter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.stream.Stream;
 
 import net.sf.mmm.util.file.base.FileAccessPermissions;
 import net.sf.mmm.util.io.api.RuntimeIoException;
@@ -178,6 +182,34 @@ public interface FileUtil extends FileUtilLimited {
    */
   void copyRecursive(File source, File destination, boolean allowOverwrite, FileFilter filter) throws RuntimeIoException;
 
+  /**
+   * This method copies the file or directory given by {@code source} into the given {@code destination} like
+   * {@link #copyRecursive(File, File, boolean, FileFilter)}. The files of the tree may be copied in parallel. <br>
+   * The default implementation falls back to the sequential {@link #copyRecursive(File, File, boolean, FileFilter)}
+   * and does not preserve the attributes.
+   *
+   * @param source is the file or directory to copy.
+   * @param destination is the final place where the copy should appear.
+   * @param allowOverwrite - if {@code false} and the {@code destination} already exists, a
+   *        {@link RuntimeIoException} is thrown, else if {@code true} the {@code destination} will be
+   *        overwritten.
+   * @param filter is a {@link FileFilter} that {@link FileFilter#accept(File) decides} which files should be
+   *        copied or {@code null} to copy all files.
+   * @param keepFlags - {@code true} if the attributes such as the modification date and permissions (as far as
+   *        supported by the file system) of files and directories shall be preserved, {@code false} otherwise.
+   * @throws RuntimeIoException if the operation fails.
+   * @since 8.7.1
+   */
+  default void copyRecursive(File source, File destination, boolean allowOverwrite, FileFilter filter,
+      boolean keepFlags) throws RuntimeIoException {
+
+    if (filter == null) {
+      copyRecursive(source, destination, allowOverwrite);
+    } else {
+      copyRecursive(source, destination, allowOverwrite, filter);
+    }
+  }
+
   /**
    * This method {@link File#delete() deletes} the given {@code path}. If the {@code path} denotes a
    * {@link File#isDirectory() directory} then it will be deleted recursively.
@@ -298,4 +330,29 @@ public interface FileUtil extends FileUtilLimited {
    */
   boolean collectMatchingFiles(File cwd, String path, FileType fileType, Collection<File> list);
 
+  /**
+   * This method finds all files matching the given {@code path} and {@code fileType}. Unlike
+   * {@link #getMatchingFiles(File, String, FileType)} the directory tree is traversed lazily while the returned
+   * {@link Stream} is consumed and directories that can not contain matches are skipped. The {@code path} may contain
+   * {@link net.sf.mmm.util.pattern.base.GlobPatternCompiler wildcards} per segment and the segment {@code '**'} to
+   * match any number of directories. <br>
+   * The default implementation falls back to {@link #getMatchingFiles(File, String, FileType)} and therefore
+   * traverses eagerly.
+   *
+   * @see net.sf.mmm.util.file.base.PathGlobMatcher
+   *
+   * @param cwd is the current working directory and should therefore point to an existing
+   *        {@link Files#isDirectory(Path, java.nio.file.LinkOption...) directory}. If the given {@code path} is NOT
+   *        absolute it is interpreted relative to this directory.
+   * @param path is the path the requested files must match.
+   * @param fileType is the type of the requested files or {@code null} if files of any type are acceptable.
+   * @return the {@link Stream} of the matching {@link Path}s. Should be {@link Stream#close() closed} if not consumed
+   *         entirely.
+   * @since 8.7.1
+   */
+  default Stream<Path> streamMatchingFiles(Path cwd, String path, FileType fileType) {
+
+    return Arrays.stream(getMatchingFiles(cwd.toFile(), path, fileType)).map(File::toPath);
+  }
+
 }
@@ -8,10 +8,22 @@ import java.io.FileInputStream;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.nio.channels.FileChannel;
+import java.nio.file.CopyOption;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.PosixFileAttributeView;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
-import java.util.regex.Pattern;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.RecursiveTask;
+import java.util.stream.Stream;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -27,10 +39,11 @@ import net.sf.mmm.util.file.api.FileUtil;
 import net.sf.mmm.util.io.api.IoMode;
 import net.sf.mmm.util.io.api.RuntimeIoException;
 import net.sf.mmm.util.lang.api.BasicHelper;
-import net.sf.mmm.util.resource.api.ResourcePathNode;
 
 /**
- * This class is a collection of utility functions for {@link File} handling and manipulation.
+ * This class is a collection of utility functions for {@link File} handling and manipulation. Recursive operations on
+ * directory trees such as {@link #copyRecursive(File, File, boolean) copy} or {@link #deleteRecursive(File) delete} are
+ * performed with NIO in parallel using the configured {@link #setForkJoinPool(ForkJoinPool) fork-join pool}.
  *
  * @see #getInstance()
  *
@@ -41,6 +54,9 @@ public class FileUtilImpl extends FileUtilLimitedImpl implements FileUtil {
 
   private static final Logger LOG = LoggerFactory.getLogger(FileUtilImpl.class);
 
+  /** The maximum number of files processed by a single task of a parallel tree operation. */
+  private static final int FILE_BATCH_SIZE = 64;
+
   private static FileUtil instance;
 
   private File userHomeDirectory;
@@ -49,6 +65,8 @@ public class FileUtilImpl extends FileUtilLimitedImpl implements FileUtil {
 
   private File temporaryDirectory;
 
+  private ForkJoinPool forkJoinPool;
+
   /**
    * The constructor.
    */
@@ -92,6 +110,9 @@ public class FileUtilImpl extends FileUtilLimitedImpl implements FileUtil {
     if (this.userHomeDirectory == null) {
       this.userHomeDirectory = new File(BasicHelper.getUserHomePath());
     }
+    if (this.forkJoinPool == null) {
+      this.forkJoinPool = ForkJoinPool.commonPool();
+    }
   }
 
   @Override
@@ -117,6 +138,27 @@ public class FileUtilImpl extends FileUtilLimitedImpl implements FileUtil {
     this.temporaryDirectoryPath = tmpDir;
   }
 
+  /**
+   * @return the {@link ForkJoinPool} used for recursive operations on directory trees.
+   * @since 8.7.1
+   */
+  public ForkJoinPool getForkJoinPool() {
+
+    return this.forkJoinPool;
+  }
+
+  /**
+   * @param forkJoinPool is the {@link ForkJoinPool} used for recursive operations on directory trees. As these
+   *        operations are IO-latency bound, a pool with a higher parallelism than the number of CPU cores may be
+   *        beneficial. Defaults to {@link ForkJoinPool#commonPool()}.
+   * @since 8.7.1
+   */
+  public void setForkJoinPool(ForkJoinPool forkJoinPool) {
+
+    getInitializationState().requireNotInitilized();
+    this.forkJoinPool = forkJoinPool;
+  }
+
   @Override
   public boolean mkdirs(File directory) {
 
@@ -215,51 +257,188 @@ public class FileUtilImpl extends FileUtilLimitedImpl implements FileUtil {
   @Override
   public void copyRecursive(File source, File destination, boolean allowOverwrite, FileFilter filter) {
 
+    copyRecursive(source, destination, allowOverwrite, filter, false);
+  }
+
+  @Override
+  public void copyRecursive(File source, File destination, boolean allowOverwrite, FileFilter filter,
+      boolean keepFlags) {
+
     if (!allowOverwrite && (destination.exists())) {
       throw new FileAlreadyExistsException(destination);
     }
-    copyRecursive(source, destination, filter);
+    this.forkJoinPool.invoke(new CopyTask(source.toPath(), destination.toPath(), filter, allowOverwrite, keepFlags));
   }
 
   /**
-   * This method copies the file or directory given by {@code source} into the given {@code destination}. <br>
-   * <b>ATTENTION:</b><br>
-   * In order to allow giving the copy of {@code source} a new {@link File#getName() name}, the {@code destination} has
-   * to point to the final place where the copy should appear rather than the directory where the copy will be located
-   * in. <br>
-   * <br>
-   * E.g. the following code copies the folder "foo" located in "/usr/local" recursively to the directory "/tmp". The
-   * copy will have the same name "foo".
-   *
-   * <pre>
-   * {@link File} source = new {@link File}("/usr/local/foo");
-   * {@link File} destination = new {@link File}("/tmp", source.getName()); // file: "/tmp/foo"
-   * {@link FileUtilImpl}.copyRecursive(source, destination, true);
-   * </pre>
+   * Copies a regular file for {@link #copyRecursive(File, File, boolean, FileFilter, boolean)}.
    *
-   * @param source is the file or directory to copy.
+   * @param source is the file to copy.
    * @param destination is the final place where the copy should appear.
-   * @param filter is a {@link FileFilter} that {@link FileFilter#accept(File) decides} which files should be copied.
-   *        Only {@link FileFilter#accept(File) accepted} files and directories are copied, others will be ignored.
+   * @param allowOverwrite - {@code true} to overwrite an existing {@code destination}, {@code false} otherwise.
+   * @param keepFlags - {@code true} to preserve the attributes, {@code false} otherwise.
+   */
+  private static void copyFile(Path source, Path destination, boolean allowOverwrite, boolean keepFlags) {
+
+    try {
+      if (keepFlags) {
+        // copies all attributes in bulk
+        CopyOption[] options;
+        if (allowOverwrite) {
+          options = new CopyOption[] { StandardCopyOption.COPY_ATTRIBUTES, StandardCopyOption.REPLACE_EXISTING };
+        } else {
+          options = new CopyOption[] { StandardCopyOption.COPY_ATTRIBUTES };
+        }
+        Files.copy(source, destination, options);
+      } else {
+        StandardOpenOption createOption;
+        if (allowOverwrite) {
+          createOption = StandardOpenOption.CREATE;
+        } else {
+          createOption = StandardOpenOption.CREATE_NEW;
+        }
+        try (FileChannel sourceChannel = FileChannel.open(source, StandardOpenOption.READ);
+            FileChannel destinationChannel = FileChannel.open(destination, StandardOpenOption.WRITE, createOption,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+          long size = sourceChannel.size();
+          long position = 0;
+          while (position < size) {
+            position = position + sourceChannel.transferTo(position, size - position, destinationChannel);
+          }
+        }
+      }
+    } catch (IOException e) {
+      throw new RuntimeIoException(e, IoMode.COPY);
+    }
+  }
+
+  /**
+   * {@link RecursiveAction} to copy a file or directory tree.
    */
-  private void copyRecursive(File source, File destination, FileFilter filter) {
+  private static class CopyTask extends RecursiveAction {
+
+    private static final long serialVersionUID = 1L;
+
+    private final Path source;
+
+    private final Path destination;
+
+    private final FileFilter filter;
+
+    private final boolean allowOverwrite;
 
-    if (source.isDirectory()) {
-      boolean okay = destination.mkdir();
-      if (!okay) {
-        throw new FileCreationFailedException(destination.getAbsolutePath(), true);
+    private final boolean keepFlags;
+
+    /**
+     * The constructor.
+     *
+     * @param source is the file or directory to copy.
+     * @param destination is the final place where the copy should appear.
+     * @param filter is the optional {@link FileFilter}.
+     * @param allowOverwrite - {@code true} to overwrite existing files, {@code false} otherwise.
+     * @param keepFlags - {@code true} to preserve the attributes, {@code false} otherwise.
+     */
+    private CopyTask(Path source, Path destination, FileFilter filter, boolean allowOverwrite, boolean keepFlags) {
+
+      super();
+      this.source = source;
+      this.destination = destination;
+      this.filter = filter;
+      this.allowOverwrite = allowOverwrite;
+      this.keepFlags = keepFlags;
+    }
+
+    @Override
+    protected void compute() {
+
+      if (!Files.isDirectory(this.source)) {
+        copyFile(this.source, this.destination, this.allowOverwrite, this.keepFlags);
+        return;
       }
-      File[] children;
-      if (filter == null) {
-        children = source.listFiles();
-      } else {
-        children = source.listFiles(filter);
+      try {
+        Files.createDirectory(this.destination);
+      } catch (java.nio.file.FileAlreadyExistsException e) {
+        if (!this.allowOverwrite || !Files.isDirectory(this.destination)) {
+          throw new FileCreationFailedException(e, this.destination.toFile(), true);
+        }
+      } catch (IOException e) {
+        throw new FileCreationFailedException(e, this.destination.toFile(), true);
+      }
+      List<ForkJoinTask<?>> tasks = new ArrayList<>();
+      List<Path> files = new ArrayList<>();
+      try (DirectoryStream<Path> children = Files.newDirectoryStream(this.source)) {
+        for (Path child : children) {
+          if ((this.filter == null) || this.filter.accept(child.toFile())) {
+            if (Files.isDirectory(child)) {
+              Path childDestination = this.destination.resolve(child.getFileName());
+              tasks.add(new CopyTask(child, childDestination, this.filter, this.allowOverwrite, this.keepFlags));
+            } else {
+              files.add(child);
+              if (files.size() == FILE_BATCH_SIZE) {
+                tasks.add(new CopyFilesTask(files, this));
+                files = new ArrayList<>();
+              }
+            }
+          }
+        }
+      } catch (IOException e) {
+        throw new RuntimeIoException(e, IoMode.READ);
       }
-      for (File file : children) {
-        copyRecursive(file, new File(destination, file.getName()), filter);
+      for (ForkJoinTask<?> task : tasks) {
+        task.fork();
+      }
+      new CopyFilesTask(files, this).compute();
+      for (ForkJoinTask<?> task : tasks) {
+        task.join();
+      }
+      if (this.keepFlags) {
+        try {
+          // after the children have been created...
+          PosixFileAttributeView sourceView = Files.getFileAttributeView(this.source, PosixFileAttributeView.class);
+          PosixFileAttributeView destinationView = Files.getFileAttributeView(this.destination,
+              PosixFileAttributeView.class);
+          if ((sourceView != null) && (destinationView != null)) {
+            destinationView.setPermissions(sourceView.readAttributes().permissions());
+          }
+          Files.setLastModifiedTime(this.destination, Files.getLastModifiedTime(this.source));
+        } catch (IOException e) {
+          throw new RuntimeIoException(e, IoMode.WRITE);
+        }
+      }
+    }
+  }
+
+  /**
+   * {@link RecursiveAction} to copy a batch of regular files of the same directory.
+   */
+  private static class CopyFilesTask extends RecursiveAction {
+
+    private static final long serialVersionUID = 1L;
+
+    private final List<Path> files;
+
+    private final CopyTask parent;
+
+    /**
+     * The constructor.
+     *
+     * @param files are the regular files to copy.
+     * @param parent is the {@link CopyTask} of the directory containing the {@code files}.
+     */
+    private CopyFilesTask(List<Path> files, CopyTask parent) {
+
+      super();
+      this.files = files;
+      this.parent = parent;
+    }
+
+    @Override
+    protected void compute() {
+
+      for (Path file : this.files) {
+        copyFile(file, this.parent.destination.resolve(file.getFileName()), this.parent.allowOverwrite,
+            this.parent.keepFlags);
       }
-    } else {
-      copyFile(source, destination);
     }
   }
 
@@ -356,27 +535,110 @@ public class FileUtilImpl extends FileUtilLimitedImpl implements FileUtil {
   @Override
   public int deleteChildren(File directory, FileFilter filter) throws FileDeletionFailedException {
 
-    int deleteCount = 0;
-    File[] children = directory.listFiles();
-    if (children != null) {
-      for (File file : children) {
-        if (file.isDirectory()) {
-          deleteCount += deleteChildren(file, filter);
-          if (filter == null) {
-            delete(file);
+    if (!directory.isDirectory()) {
+      return 0;
+    }
+    return this.forkJoinPool.invoke(new DeleteChildrenTask(directory.toPath(), filter)).intValue();
+  }
+
+  /**
+   * {@link RecursiveTask} to delete the children of a directory. Symbolic links are deleted but NOT followed.
+   */
+  private class DeleteChildrenTask extends RecursiveTask<Integer> {
+
+    private static final long serialVersionUID = 1L;
+
+    private final Path directory;
+
+    private final FileFilter filter;
+
+    /**
+     * The constructor.
+     *
+     * @param directory is the directory where to delete the children.
+     * @param filter is the optional {@link FileFilter}.
+     */
+    private DeleteChildrenTask(Path directory, FileFilter filter) {
+
+      super();
+      this.directory = directory;
+      this.filter = filter;
+    }
+
+    @Override
+    protected Integer compute() {
+
+      List<DeleteChildrenTask> directoryTasks = new ArrayList<>();
+      List<DeleteFilesTask> fileTasks = new ArrayList<>();
+      List<File> files = new ArrayList<>();
+      try (DirectoryStream<Path> children = Files.newDirectoryStream(this.directory)) {
+        for (Path child : children) {
+          if (Files.isDirectory(child, LinkOption.NOFOLLOW_LINKS)) {
+            directoryTasks.add(new DeleteChildrenTask(child, this.filter));
           } else {
-            boolean deleted = file.delete();
-            if (!deleted) {
-              LOG.trace("Directory {} was not deleted.", file);
+            File file = child.toFile();
+            if ((this.filter == null) || this.filter.accept(file)) {
+              files.add(file);
+              if (files.size() == FILE_BATCH_SIZE) {
+                fileTasks.add(new DeleteFilesTask(files));
+                files = new ArrayList<>();
+              }
             }
           }
-        } else if ((filter == null) || (filter.accept(file))) {
-          delete(file);
-          deleteCount++;
+        }
+      } catch (IOException e) {
+        throw new RuntimeIoException(e, IoMode.READ);
+      }
+      invokeAll(directoryTasks);
+      invokeAll(fileTasks);
+      int deleteCount = new DeleteFilesTask(files).compute().intValue();
+      for (DeleteFilesTask task : fileTasks) {
+        deleteCount = deleteCount + task.join().intValue();
+      }
+      for (DeleteChildrenTask task : directoryTasks) {
+        deleteCount = deleteCount + task.join().intValue();
+        File subdirectory = task.directory.toFile();
+        if (this.filter == null) {
+          delete(subdirectory);
+        } else {
+          boolean deleted = subdirectory.delete();
+          if (!deleted) {
+            LOG.trace("Directory {} was not deleted.", subdirectory);
+          }
         }
       }
+      return Integer.valueOf(deleteCount);
+    }
+  }
+
+  /**
+   * {@link RecursiveTask} to delete a batch of files.
+   */
+  private class DeleteFilesTask extends RecursiveTask<Integer> {
+
+    private static final long serialVersionUID = 1L;
+
+    private final List<File> files;
+
+    /**
+     * The constructor.
+     *
+     * @param files are the files to delete.
+     */
+    private DeleteFilesTask(List<File> files) {
+
+      super();
+      this.files = files;
+    }
+
+    @Override
+    protected Integer compute() {
+
+      for (File file : this.files) {
+        delete(file);
+      }
+      return Integer.valueOf(this.files.size());
     }
-    return deleteCount;
   }
 
   @Override
@@ -390,78 +652,17 @@ public class FileUtilImpl extends FileUtilLimitedImpl implements FileUtil {
   @Override
   public boolean collectMatchingFiles(File cwd, String path, FileType fileType, Collection<File> list) {
 
-    if ((path == null) || (path.length() == 0)) {
-      throw new IllegalArgumentException("Path must not be empty");
+    PathGlobMatcher matcher = new PathGlobMatcher(path);
+    try (Stream<Path> matches = matcher.find(cwd.toPath(), fileType)) {
+      matches.forEach(match -> list.add(match.toFile()));
     }
-    ResourcePathNode<Pattern> patternPath = ResourcePathNode.createPattern(path);
-    List<ResourcePathNode<Pattern>> segments = patternPath.asList();
-    collectMatchingFiles(cwd, segments, 1, fileType, list);
-    boolean hasPattern = false;
-    for (ResourcePathNode<Pattern> segment : segments) {
-      if (segment.getData() != null) {
-        hasPattern = true;
-        break;
-      }
-    }
-    return hasPattern;
+    return matcher.hasWildcard();
   }
 
-  /**
-   * This method adds all files matching with the given {@code path} and {@code fileType} to the {@code list}.
-   *
-   * @param cwd is the current working directory and should therefore point to an existing {@link File#isDirectory()
-   *        directory}. If the given {@code path} is NOT {@link File#isAbsolute() absolute} it is interpreted relative
-   *        to this directory.
-   * @param segments is the path the files to collect must match. If this path is NOT {@link File#isAbsolute() absolute}
-   *        it is interpreted relative to the {@link File#isDirectory() directory} given by {@code cwd}.
-   * @param segmentIndex is the current index in {@code pathChars} for the collection process.
-   * @param fileType is the type of the files to collect or {@code null} if files of any type are acceptable.
-   * @param list is the {@link Collection} where to {@link Collection#add(Object) add} the collected files.
-   */
-  private void collectMatchingFiles(File cwd, List<ResourcePathNode<Pattern>> segments, int segmentIndex, FileType fileType, Collection<File> list) {
+  @Override
+  public Stream<Path> streamMatchingFiles(Path cwd, String path, FileType fileType) {
 
-    boolean lastSegment;
-    if ((segmentIndex + 1) < segments.size()) {
-      lastSegment = false;
-    } else {
-      lastSegment = true;
-    }
-    ResourcePathNode<Pattern> currentSegment = segments.get(segmentIndex);
-    Pattern pattern = currentSegment.getData();
-    if (pattern == null) {
-      File newCwd = new File(cwd, currentSegment.getName());
-      if (newCwd.exists()) {
-        if (lastSegment) {
-          if ((fileType == null) || (FileType.getType(newCwd) == fileType)) {
-            list.add(newCwd);
-          }
-        } else if (newCwd.isDirectory()) {
-          collectMatchingFiles(newCwd, segments, segmentIndex + 1, fileType, list);
-        }
-      }
-    } else if ("**".equals(currentSegment.getName())) {
-      collectMatchingFiles(cwd, segments, segmentIndex + 1, fileType, list);
-      File[] children = cwd.listFiles(DirectoryFilter.getInstance());
-      for (File file : children) {
-        collectMatchingFiles(file, segments, segmentIndex, fileType, list);
-      }
-    } else {
-      FileType filterType = fileType;
-      if (!lastSegment) {
-        filterType = FileType.DIRECTORY;
-      }
-      FileFilter filter = new PatternFileFilter(pattern, filterType);
-      File[] children = cwd.listFiles(filter);
-      if (lastSegment) {
-        for (File file : children) {
-          list.add(file);
-        }
-      } else {
-        for (File file : children) {
-          collectMatchingFiles(file, segments, segmentIndex + 1, fileType, list);
-        }
-      }
-    }
+    return new PathGlobMatcher(path).find(cwd, fileType);
   }
 
 }
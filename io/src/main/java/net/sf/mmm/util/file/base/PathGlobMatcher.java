@@ -0,0 +1,315 @@
+/* Copyright (c) The m-m-m Team, Licensed under the Apache License, Version 2.0
+ * http://www.apache.org/licenses/LICENSE-2.0 */
+package net.sf.mmm.util.file.base;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.PathMatcher;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import net.sf.mmm.util.file.api.FileType;
+import net.sf.mmm.util.io.api.IoMode;
+import net.sf.mmm.util.io.api.RuntimeIoException;
+import net.sf.mmm.util.pattern.api.PatternMatcher;
+import net.sf.mmm.util.pattern.base.GlobPatternCompiler;
+
+/**
+ * This is a compiled <em>path-glob-pattern</em> like {@code src/**&#47;*.xml} that can {@link #matches(Path) match}
+ * {@link Path}s and {@link #find(Path, FileType) find} matching files in a directory tree. The pattern is split into
+ * segments by slashes ({@code '/'} or {@code '\\'}). Each segment is a {@link GlobPatternCompiler glob-pattern} for a
+ * single file name except for the segment {@code '**'} that matches any number of directories (including none). <br>
+ * Unlike {@link java.util.regex.Pattern regular expressions} on the entire path, the segments are evaluated
+ * separately:
+ * <ul>
+ * <li>Segments without wildcards are resolved directly without listing the directory.</li>
+ * <li>Segments with wildcards are compiled via {@link GlobPatternCompiler#compileMatcher(String)} so simple forms
+ * like {@code foo*}, {@code *.xml} or {@code *foo*} are matched without regular expressions.</li>
+ * <li>Directories that do not match the segment of their level are never traversed.</li>
+ * </ul>
+ *
+ * @see net.sf.mmm.util.pattern.base.PathPatternCompiler
+ *
+ * @author Joerg Hohwiller (hohwille at users.sourceforge.net)
+ * @since 8.7.1
+ */
+public class PathGlobMatcher implements PathMatcher {
+
+  private static final String ANY_DIRECTORIES = "**";
+
+  private final String pattern;
+
+  private final boolean absolute;
+
+  private final Segment[] segments;
+
+  private final boolean wildcard;
+
+  /**
+   * The constructor.
+   *
+   * @param pattern is the path-glob-pattern to compile.
+   */
+  public PathGlobMatcher(String pattern) {
+
+    super();
+    if ((pattern == null) || pattern.isEmpty()) {
+      throw new IllegalArgumentException("Path must not be empty");
+    }
+    this.pattern = pattern;
+    char first = pattern.charAt(0);
+    this.absolute = (first == '/') || (first == '\\');
+    List<Segment> segmentList = new ArrayList<>();
+    boolean hasWildcard = false;
+    Segment last = null;
+    for (String name : pattern.split("[/\\\\]")) {
+      if (name.isEmpty() || ".".equals(name)) {
+        continue;
+      }
+      Segment segment = Segment.of(name);
+      if (segment.isWildcard()) {
+        hasWildcard = true;
+      }
+      if ((segment == Segment.ANY_DIRECTORIES) && (last == Segment.ANY_DIRECTORIES)) {
+        // '**/**' is redundant
+        continue;
+      }
+      segmentList.add(segment);
+      last = segment;
+    }
+    this.segments = segmentList.toArray(new Segment[segmentList.size()]);
+    this.wildcard = hasWildcard;
+  }
+
+  /**
+   * @return {@code true} if the pattern contains at least one wildcard ({@code '*'} or {@code '?'}), {@code false} if
+   *         it is a plain path.
+   */
+  public boolean hasWildcard() {
+
+    return this.wildcard;
+  }
+
+  /**
+   * @param path is the {@link Path} to match. Should be relative to the directory the pattern is relative to.
+   * @return {@code true} if the given {@link Path} matches this pattern, {@code false} otherwise.
+   */
+  @Override
+  public boolean matches(Path path) {
+
+    int count = path.getNameCount();
+    String[] names = new String[count];
+    for (int i = 0; i < count; i++) {
+      names[i] = path.getName(i).toString();
+    }
+    return matches(names, 0, 0);
+  }
+
+  private boolean matches(String[] names, int nameIndex, int segmentIndex) {
+
+    int n = nameIndex;
+    for (int s = segmentIndex; s < this.segments.length; s++) {
+      Segment segment = this.segments[s];
+      if (segment == Segment.ANY_DIRECTORIES) {
+        if ((s + 1) == this.segments.length) {
+          // trailing '**' matches the entire subtree but not the directory itself
+          return (n < names.length);
+        }
+        for (int i = n; i < names.length; i++) {
+          if (matches(names, i, s + 1)) {
+            return true;
+          }
+        }
+        return false;
+      }
+      if ((n >= names.length) || !segment.matches(names[n])) {
+        return false;
+      }
+      n++;
+    }
+    return (n == names.length);
+  }
+
+  /**
+   * Finds all files matching this pattern. The directory tree is traversed lazily while the {@link Stream} is
+   * consumed and only directories that can contain matches are visited. The returned {@link Stream} should be
+   * {@link Stream#close() closed} if it is not consumed entirely.
+   *
+   * @param cwd is the current working directory. If this pattern is NOT absolute it is interpreted relative to this
+   *        directory.
+   * @param fileType is the type of the files to find or {@code null} if files of any type are acceptable.
+   * @return the {@link Stream} of the matching {@link Path}s.
+   */
+  public Stream<Path> find(Path cwd, FileType fileType) {
+
+    Path start = cwd;
+    if (this.absolute) {
+      start = cwd.toAbsolutePath().getRoot();
+    }
+    return find(start, 0, fileType);
+  }
+
+  private Stream<Path> find(Path directory, int segmentIndex, FileType fileType) {
+
+    if (segmentIndex >= this.segments.length) {
+      return filter(Stream.of(directory), fileType);
+    }
+    boolean lastSegment = ((segmentIndex + 1) == this.segments.length);
+    Segment segment = this.segments[segmentIndex];
+    if (segment == Segment.ANY_DIRECTORIES) {
+      if (lastSegment) {
+        // trailing '**' matches the entire subtree
+        Stream<Path> children = list(directory);
+        return children.flatMap(child -> {
+          Stream<Path> self = filter(Stream.of(child), fileType);
+          if (Files.isDirectory(child)) {
+            return Stream.concat(self, find(child, segmentIndex, fileType));
+          }
+          return self;
+        });
+      }
+      Stream<Path> subdirectories = list(directory).filter(Files::isDirectory);
+      return Stream.concat(find(directory, segmentIndex + 1, fileType),
+          subdirectories.flatMap(child -> find(child, segmentIndex, fileType)));
+    } else if (segment.isWildcard()) {
+      Stream<Path> children = list(directory).filter(child -> segment.matches(child.getFileName().toString()));
+      if (lastSegment) {
+        return filter(children, fileType);
+      }
+      return children.filter(Files::isDirectory).flatMap(child -> find(child, segmentIndex + 1, fileType));
+    } else {
+      Path child = directory.resolve(segment.toString());
+      if (lastSegment) {
+        if (Files.exists(child)) {
+          return filter(Stream.of(child), fileType);
+        }
+      } else if (Files.isDirectory(child)) {
+        return find(child, segmentIndex + 1, fileType);
+      }
+      return Stream.empty();
+    }
+  }
+
+  private static Stream<Path> filter(Stream<Path> paths, FileType fileType) {
+
+    if (fileType == null) {
+      return paths;
+    }
+    return paths.filter(path -> FileType.getType(path) == fileType);
+  }
+
+  /**
+   * @param directory is the directory to list.
+   * @return the lazy {@link Stream} of the children. The directory is only opened when the {@link Stream} is
+   *         consumed.
+   */
+  private static Stream<Path> list(Path directory) {
+
+    return Stream.of(directory).flatMap(dir -> {
+      try {
+        return Files.list(dir);
+      } catch (IOException e) {
+        throw new RuntimeIoException(e, IoMode.READ);
+      }
+    });
+  }
+
+  @Override
+  public String toString() {
+
+    return this.pattern;
+  }
+
+  /**
+   * A single segment of the pattern that matches a file name.
+   */
+  private abstract static class Segment {
+
+    private static final Segment ANY_DIRECTORIES = new Segment(PathGlobMatcher.ANY_DIRECTORIES) {
+
+      @Override
+      boolean matches(String name) {
+
+        return true;
+      }
+    };
+
+    private final String glob;
+
+    private Segment(String glob) {
+
+      super();
+      this.glob = glob;
+    }
+
+    abstract boolean matches(String name);
+
+    boolean isWildcard() {
+
+      return true;
+    }
+
+    @Override
+    public String toString() {
+
+      return this.glob;
+    }
+
+    static Segment of(String glob) {
+
+      if (PathGlobMatcher.ANY_DIRECTORIES.equals(glob)) {
+        return ANY_DIRECTORIES;
+      }
+      if ((glob.indexOf('*') < 0) && (glob.indexOf('?') < 0)) {
+        return new LiteralSegment(glob);
+      }
+      return new WildcardSegment(glob);
+    }
+  }
+
+  /**
+   * {@link Segment} without wildcards.
+   */
+  private static class LiteralSegment extends Segment {
+
+    private LiteralSegment(String glob) {
+
+      super(glob);
+    }
+
+    @Override
+    boolean matches(String name) {
+
+      return toString().equals(name);
+    }
+
+    @Override
+    boolean isWildcard() {
+
+      return false;
+    }
+  }
+
+  /**
+   * {@link Segment} with wildcards.
+   */
+  private static class WildcardSegment extends Segment {
+
+    private final PatternMatcher matcher;
+
+    private WildcardSegment(String glob) {
+
+      super(glob);
+      this.matcher = GlobPatternCompiler.INSTANCE.compileMatcher(glob);
+    }
+
+    @Override
+    boolean matches(String name) {
+
+      return this.matcher.matches(name);
+    }
+  }
+
+}
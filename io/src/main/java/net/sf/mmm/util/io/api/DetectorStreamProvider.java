@@ -4,6 +4,7 @@ package net.sf.mmm.util.io.api;
 
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.file.Path;
 import java.util.Map;
 
 /**
@@ -85,4 +86,55 @@ public interface DetectorStreamProvider {
    */
   DetectorOutputStream wrapOutputStream(OutputStream stream, Map<String, Object> metadata);
 
+  /**
+   * This method detects the metadata of the given {@code data}. In this mode the data is NOT streamed to a consumer. It
+   * is only inspected. {@link net.sf.mmm.util.io.api.spi.ByteBufferDetectorStreamProcessor}s get read-only views of the
+   * given {@code data} without any copying. Only if other {@link net.sf.mmm.util.io.api.spi.DetectorStreamProcessor}s
+   * are configured, the data is routed through the regular processor chain starting with the first of them. For heap
+   * buffers this happens without copying as well.
+   *
+   * @param data is the {@link java.nio.ByteBuffer} with the data from its {@link java.nio.ByteBuffer#position()
+   *        position} to its {@link java.nio.ByteBuffer#limit() limit}. May be a heap, direct or
+   *        {@link java.nio.MappedByteBuffer mapped} buffer. Its position will NOT be modified.
+   * @return the {@link DetectorStream} providing the detected {@link DetectorStream#getMetadata() metadata}.
+   * @since 8.7.1
+   */
+  DetectorStream detect(java.nio.ByteBuffer data);
+
+  /**
+   * This method detects the metadata of the given {@code data}.
+   *
+   * @see #detect(java.nio.ByteBuffer)
+   *
+   * @param data is the {@link java.nio.ByteBuffer} with the data.
+   * @param metadata is the existing metadata.
+   * @return the {@link DetectorStream} providing the detected {@link DetectorStream#getMetadata() metadata}.
+   * @since 8.7.1
+   */
+  DetectorStream detect(java.nio.ByteBuffer data, Map<String, Object> metadata);
+
+  /**
+   * This method detects the metadata of the given {@code file}. The file is {@link java.nio.MappedByteBuffer
+   * memory-mapped} and {@link #detect(java.nio.ByteBuffer) processed} without reading it into heap buffers.
+   *
+   * @param file is the {@link Path} pointing to the file to inspect.
+   * @return the {@link DetectorStream} providing the detected {@link DetectorStream#getMetadata() metadata}.
+   * @throws RuntimeIoException if the file could not be read.
+   * @since 8.7.1
+   */
+  DetectorStream detect(Path file) throws RuntimeIoException;
+
+  /**
+   * This method detects the metadata of the given {@code file}.
+   *
+   * @see #detect(Path)
+   *
+   * @param file is the {@link Path} pointing to the file to inspect.
+   * @param metadata is the existing metadata.
+   * @return the {@link DetectorStream} providing the detected {@link DetectorStream#getMetadata() metadata}.
+   * @throws RuntimeIoException if the file could not be read.
+   * @since 8.7.1
+   */
+  DetectorStream detect(Path file, Map<String, Object> metadata) throws RuntimeIoException;
+
 }
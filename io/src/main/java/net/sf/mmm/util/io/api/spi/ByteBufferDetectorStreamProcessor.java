@@ -0,0 +1,41 @@
+/* Copyright (c) The m-m-m Team, Licensed under the Apache License, Version 2.0
+ * http://www.apache.org/licenses/LICENSE-2.0 */
+package net.sf.mmm.util.io.api.spi;
+
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * This is the interface for a {@link DetectorStreamProcessor} that only inspects the streamed data (e.g. to compute
+ * the size, a digest or the content-type) and never manipulates it. Such processor can be fed with read-only
+ * {@link java.nio.ByteBuffer} slices of the data instead of a {@link DetectorStreamBuffer}. This allows to process
+ * heap, direct or {@link java.nio.MappedByteBuffer memory-mapped} data without copying it into intermediate buffers
+ * (see {@link net.sf.mmm.util.io.api.DetectorStreamProvider#detect(java.nio.ByteBuffer)}). <br>
+ * If such processor is used in a regular {@link net.sf.mmm.util.io.api.DetectorStream} it will still receive the data
+ * via {@link #process(DetectorStreamBuffer, Map, boolean)}. Extend
+ * {@link net.sf.mmm.util.io.base.AbstractByteBufferDetectorStreamProcessor} to only implement
+ * {@link #process(java.nio.ByteBuffer, Map, boolean)}.
+ *
+ * @see net.sf.mmm.util.io.api.DetectorStreamProvider#detect(java.nio.ByteBuffer, Map)
+ *
+ * @author Joerg Hohwiller (hohwille at users.sourceforge.net)
+ * @since 8.7.1
+ */
+public interface ByteBufferDetectorStreamProcessor extends DetectorStreamProcessor {
+
+  /**
+   * This method performs the detection on the next slice of the data. The slice is a read-only view of the original
+   * data from its {@link java.nio.ByteBuffer#position() position} to its {@link java.nio.ByteBuffer#limit() limit}.
+   * The implementation may move the position of the given {@code data} but must NOT keep a reference to it after this
+   * method returned as the underlying memory may be reused or unmapped.
+   *
+   * @param data is the read-only {@link java.nio.ByteBuffer} with the next slice of the data. May be empty if
+   *        {@code eos} is {@code true}.
+   * @param metadata is the {@link Map} with the metadata to update.
+   * @param eos - {@code true} if the end of the stream has been reached and the given {@code data} is the last slice,
+   *        {@code false} otherwise.
+   * @throws IOException in case of an Input/Output error. Should only be used internally.
+   */
+  void process(java.nio.ByteBuffer data, Map<String, Object> metadata, boolean eos) throws IOException;
+
+}
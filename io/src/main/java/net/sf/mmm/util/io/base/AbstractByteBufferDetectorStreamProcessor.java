@@ -0,0 +1,54 @@
+/* Copyright (c) The m-m-m Team, Licensed under the Apache License, Version 2.0
+ * http://www.apache.org/licenses/LICENSE-2.0 */
+package net.sf.mmm.util.io.base;
+
+import java.io.IOException;
+import java.util.Map;
+
+import net.sf.mmm.util.io.api.ByteArray;
+import net.sf.mmm.util.io.api.spi.ByteBufferDetectorStreamProcessor;
+import net.sf.mmm.util.io.api.spi.DetectorStreamBuffer;
+
+/**
+ * This is the abstract base implementation of {@link ByteBufferDetectorStreamProcessor}. It implements
+ * {@link #process(DetectorStreamBuffer, Map, boolean)} by wrapping the {@link DetectorStreamBuffer#getByteArray(int)
+ * byte-arrays} of the {@link DetectorStreamBuffer} as read-only {@link java.nio.ByteBuffer}s (without copying) and
+ * delegating to {@link #process(java.nio.ByteBuffer, Map, boolean)}. Afterwards all data is
+ * {@link DetectorStreamBuffer#skip() passed} to the next processor untouched.
+ *
+ * @author Joerg Hohwiller (hohwille at users.sourceforge.net)
+ * @since 8.7.1
+ */
+public abstract class AbstractByteBufferDetectorStreamProcessor implements ByteBufferDetectorStreamProcessor {
+
+  private static final java.nio.ByteBuffer EMPTY = java.nio.ByteBuffer.allocate(0).asReadOnlyBuffer();
+
+  /**
+   * The constructor.
+   */
+  public AbstractByteBufferDetectorStreamProcessor() {
+
+    super();
+  }
+
+  @Override
+  public void process(DetectorStreamBuffer buffer, Map<String, Object> metadata, boolean eos) throws IOException {
+
+    if (buffer.hasNext()) {
+      int count = buffer.getByteArrayCount();
+      for (int i = 0; i < count; i++) {
+        ByteArray array = buffer.getByteArray(i);
+        int length = array.getBytesAvailable();
+        if (length > 0) {
+          java.nio.ByteBuffer slice = java.nio.ByteBuffer.wrap(array.getBytes(), array.getCurrentIndex(), length);
+          process(slice.slice().asReadOnlyBuffer(), metadata, false);
+        }
+      }
+      buffer.skip();
+    }
+    if (eos) {
+      process(EMPTY.duplicate(), metadata, true);
+    }
+  }
+
+}
@@ -4,6 +4,7 @@ package net.sf.mmm.util.io.base;
 
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -13,6 +14,7 @@ import javax.inject.Inject;
 import net.sf.mmm.util.component.base.AbstractComponent;
 import net.sf.mmm.util.io.api.DetectorInputStream;
 import net.sf.mmm.util.io.api.DetectorOutputStream;
+import net.sf.mmm.util.io.api.DetectorStream;
 import net.sf.mmm.util.io.api.DetectorStreamProvider;
 import net.sf.mmm.util.io.api.spi.DetectorStreamProcessorFactory;
 import net.sf.mmm.util.pool.api.ByteArrayPool;
@@ -122,4 +124,16 @@ public abstract class AbstractDetectorStreamProvider extends AbstractComponent i
     return wrapOutputStream(stream, new HashMap<String, Object>());
   }
 
+  @Override
+  public DetectorStream detect(java.nio.ByteBuffer data) {
+
+    return detect(data, new HashMap<String, Object>());
+  }
+
+  @Override
+  public DetectorStream detect(Path file) {
+
+    return detect(file, new HashMap<String, Object>());
+  }
+
 }
@@ -127,7 +127,8 @@ public class StreamUtilImpl extends AbstractComponent implements StreamUtil {
   }
 
   /**
-   * This method sets the {@link #getByteArrayPool() byte-array-pool}.
+   * This method sets the {@link #getByteArrayPool() byte-array-pool}. For heavy concurrent usage consider
+   * {@link net.sf.mmm.util.pool.impl.ConcurrentByteArrayPool}.
    *
    * @param byteArrayPool the byteArrayPool to set
    */
@@ -151,7 +152,8 @@ public class StreamUtilImpl extends AbstractComponent implements StreamUtil {
   }
 
   /**
-   * This method sets the {@link #getCharArrayPool() char-array-pool}.
+   * This method sets the {@link #getCharArrayPool() char-array-pool}. For heavy concurrent usage consider
+   * {@link net.sf.mmm.util.pool.impl.ConcurrentCharArrayPool}.
    *
    * @param charArrayPool the charArrayPool to set
    */
@@ -102,7 +102,7 @@ public class DetectorStreamBufferImpl implements DetectorStreamBuffer {
     int bytesAvailable = this.currentArrayMax - this.currentArrayIndex + 1;
     if (this.chainSuccessor != null) {
       this.chainSuccessor
-          .append(this.currentByteArray.createSubArray(this.currentArrayIndex, this.currentArrayMax));
+          .append(this.currentByteArray.createSubArray(this.currentArrayMin, this.currentArrayMax));
     }
     release(this.currentByteArray);
     this.currentArray = null;
@@ -188,7 +188,7 @@ public class DetectorStreamBufferImpl implements DetectorStreamBuffer {
   private boolean nextArray() {
 
     if (this.currentArray != null) {
-      if ((this.currentArrayMin < this.currentArrayMax) && (this.chainSuccessor != null)
+      if ((this.currentArrayMin <= this.currentArrayMax) && (this.chainSuccessor != null)
           && (this.seekMode != SeekMode.REMOVE)) {
         ByteArray subArray = this.currentByteArray.createSubArray(this.currentArrayMin, this.currentArrayMax);
         this.chainSuccessor.append(subArray);
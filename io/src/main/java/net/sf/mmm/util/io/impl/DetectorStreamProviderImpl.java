@@ -2,12 +2,21 @@
  * http://www.apache.org/licenses/LICENSE-2.0 */
 package net.sf.mmm.util.io.impl;
 
+import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.util.Map;
 
 import net.sf.mmm.util.io.api.DetectorInputStream;
 import net.sf.mmm.util.io.api.DetectorOutputStream;
+import net.sf.mmm.util.io.api.DetectorStream;
+import net.sf.mmm.util.io.api.IoMode;
+import net.sf.mmm.util.io.api.RuntimeIoException;
 import net.sf.mmm.util.io.base.AbstractDetectorStreamProvider;
 
 /**
@@ -18,6 +27,9 @@ import net.sf.mmm.util.io.base.AbstractDetectorStreamProvider;
  */
 public class DetectorStreamProviderImpl extends AbstractDetectorStreamProvider {
 
+  /** The maximum size of a region of a file to {@link FileChannel#map(MapMode, long, long) map} at once. */
+  private static final long MAPPED_REGION_SIZE = 256L * 1024L * 1024L;
+
   /**
    * The constructor.
    */
@@ -38,4 +50,35 @@ public class DetectorStreamProviderImpl extends AbstractDetectorStreamProvider {
     return new ProcessableDetectorOutputStream(stream, metadata, this);
   }
 
+  @Override
+  public DetectorStream detect(java.nio.ByteBuffer data, Map<String, Object> metadata) {
+
+    ProcessableDetectorByteBuffer detector = new ProcessableDetectorByteBuffer(metadata, this);
+    try {
+      detector.process(data, true);
+    } catch (IOException e) {
+      throw new RuntimeIoException(e, IoMode.READ);
+    }
+    return detector;
+  }
+
+  @Override
+  public DetectorStream detect(Path file, Map<String, Object> metadata) {
+
+    ProcessableDetectorByteBuffer detector = new ProcessableDetectorByteBuffer(metadata, this);
+    try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+      long size = channel.size();
+      long position = 0;
+      do {
+        long length = Math.min(size - position, MAPPED_REGION_SIZE);
+        MappedByteBuffer region = channel.map(MapMode.READ_ONLY, position, length);
+        position = position + length;
+        detector.process(region, (position >= size));
+      } while (position < size);
+    } catch (IOException e) {
+      throw new RuntimeIoException(e, IoMode.READ);
+    }
+    return detector;
+  }
+
 }
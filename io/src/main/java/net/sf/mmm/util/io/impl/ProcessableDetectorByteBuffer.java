@@ -0,0 +1,119 @@
+/* Copyright (c) The m-m-m Team, Licensed under the Apache License, Version 2.0
+ * http://www.apache.org/licenses/LICENSE-2.0 */
+package net.sf.mmm.util.io.impl;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import net.sf.mmm.util.io.api.spi.ByteBufferDetectorStreamProcessor;
+import net.sf.mmm.util.io.api.spi.DetectorStreamBuffer;
+import net.sf.mmm.util.io.api.spi.DetectorStreamProcessor;
+import net.sf.mmm.util.io.api.spi.DetectorStreamProcessorFactory;
+import net.sf.mmm.util.io.base.AbstractDetectorStreamProvider;
+import net.sf.mmm.util.io.base.ByteArrayImpl;
+import net.sf.mmm.util.pool.api.ByteArrayPool;
+
+/**
+ * This is the implementation of {@link net.sf.mmm.util.io.api.DetectorStream} for
+ * {@link net.sf.mmm.util.io.api.DetectorStreamProvider#detect(java.nio.ByteBuffer) detection} on
+ * {@link java.nio.ByteBuffer}s. The leading {@link ByteBufferDetectorStreamProcessor}s of the chain receive read-only
+ * views of the data without any copying. Starting with the first processor that is no
+ * {@link ByteBufferDetectorStreamProcessor} the data is routed through the regular chain of
+ * {@link DetectorStreamBuffer}s. For heap buffers the backing array is wrapped, otherwise the data is copied in chunks
+ * into arrays from the {@link #getByteArrayPool() pool}.
+ *
+ * @author Joerg Hohwiller (hohwille at users.sourceforge.net)
+ * @since 8.7.1
+ */
+public class ProcessableDetectorByteBuffer extends ProcessableDetectorStream {
+
+  private final List<ByteBufferDetectorStreamProcessor> byteBufferProcessorList;
+
+  private final boolean chained;
+
+  /**
+   * The constructor.
+   *
+   * @param mutableMetadata is the initial {@link #getMutableMetadata() mutable metadata}.
+   * @param provider is the {@link net.sf.mmm.util.io.api.DetectorStreamProvider} creating this instance.
+   */
+  public ProcessableDetectorByteBuffer(Map<String, Object> mutableMetadata, AbstractDetectorStreamProvider provider) {
+
+    super(mutableMetadata, provider.getByteArrayPool());
+    this.byteBufferProcessorList = new ArrayList<>();
+    List<DetectorStreamProcessor> processorList = new ArrayList<>();
+    for (DetectorStreamProcessorFactory factory : provider.getProcessorFactoryList()) {
+      DetectorStreamProcessor processor = factory.createProcessor();
+      if (processorList.isEmpty() && (processor instanceof ByteBufferDetectorStreamProcessor)) {
+        this.byteBufferProcessorList.add((ByteBufferDetectorStreamProcessor) processor);
+      } else {
+        processorList.add(processor);
+      }
+    }
+    this.chained = !processorList.isEmpty();
+    if (this.chained) {
+      initialize(processorList, new DiscardingProcessor());
+    }
+  }
+
+  /**
+   * This method processes the next slice of the data.
+   *
+   * @param data is the next slice of the data from its {@link java.nio.ByteBuffer#position() position} to its
+   *        {@link java.nio.ByteBuffer#limit() limit}. Its position will NOT be modified.
+   * @param eos - {@code true} if the end of the stream has been reached and the given {@code data} is the last slice.
+   * @throws IOException in case of an Input/Output error. Should only be used internally.
+   */
+  public void process(java.nio.ByteBuffer data, boolean eos) throws IOException {
+
+    Map<String, Object> metadata = getMutableMetadata();
+    for (ByteBufferDetectorStreamProcessor processor : this.byteBufferProcessorList) {
+      processor.process(data.asReadOnlyBuffer(), metadata, eos);
+    }
+    if (this.chained) {
+      processChained(data, eos);
+    } else if (eos) {
+      setDone();
+    }
+  }
+
+  private void processChained(java.nio.ByteBuffer data, boolean eos) throws IOException {
+
+    int length = data.remaining();
+    if (data.hasArray()) {
+      if (length > 0) {
+        int offset = data.arrayOffset() + data.position();
+        processInternal(new ByteArrayImpl(data.array(), offset, offset + length - 1), eos);
+      } else {
+        processInternal(null, eos);
+      }
+    } else {
+      java.nio.ByteBuffer source = data.duplicate();
+      ByteArrayPool pool = getByteArrayPool();
+      while (source.hasRemaining()) {
+        byte[] bytes = pool.borrow();
+        int chunkLength = Math.min(bytes.length, source.remaining());
+        source.get(bytes, 0, chunkLength);
+        processInternal(new PooledByteArray(bytes, 0, chunkLength - 1), false);
+      }
+      if (eos) {
+        processInternal(null, true);
+      }
+    }
+  }
+
+  /**
+   * The last {@link DetectorStreamProcessor} of the chain that discards the data as there is no consumer.
+   */
+  private static class DiscardingProcessor implements DetectorStreamProcessor {
+
+    @Override
+    public void process(DetectorStreamBuffer buffer, Map<String, Object> metadata, boolean eos) {
+
+      buffer.skip();
+    }
+  }
+
+}
@@ -3,6 +3,7 @@
 package net.sf.mmm.util.io.impl;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 
@@ -53,12 +54,24 @@ public abstract class ProcessableDetectorStream extends AbstractDetectorStream {
   public void initialize(AbstractDetectorStreamProvider provider, DetectorStreamProcessor lastProcessor) {
 
     List<DetectorStreamProcessorFactory> factoryList = provider.getProcessorFactoryList();
-    int factoryCount = factoryList.size();
+    List<DetectorStreamProcessor> processorList = new ArrayList<>(factoryList.size());
+    for (DetectorStreamProcessorFactory factory : factoryList) {
+      processorList.add(factory.createProcessor());
+    }
+    initialize(processorList, lastProcessor);
+  }
+
+  /**
+   * This method initializes this class with the given {@link DetectorStreamProcessor}s.
+   *
+   * @param processorList is the {@link List} of {@link DetectorStreamProcessor}s in the order of the chain.
+   * @param lastProcessor is the last {@link DetectorStreamProcessor} of the chain (the data-receiver).
+   */
+  protected void initialize(List<DetectorStreamProcessor> processorList, DetectorStreamProcessor lastProcessor) {
+
     DetectorStreamBufferImpl buffer = new DetectorStreamBufferImpl(lastProcessor, null, this.byteArrayPool);
-    for (int factoryIndex = factoryCount - 1; factoryIndex >= 0; factoryIndex--) {
-      DetectorStreamProcessorFactory factory = factoryList.get(factoryIndex);
-      DetectorStreamProcessor processor = factory.createProcessor();
-      buffer = new DetectorStreamBufferImpl(processor, buffer, this.byteArrayPool);
+    for (int i = processorList.size() - 1; i >= 0; i--) {
+      buffer = new DetectorStreamBufferImpl(processorList.get(i), buffer, this.byteArrayPool);
     }
     this.firstBuffer = buffer;
   }
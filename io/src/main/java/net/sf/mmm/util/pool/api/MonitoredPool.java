@@ -0,0 +1,20 @@
+/* Copyright (c) The m-m-m Team, Licensed under the Apache License, Version 2.0
+ * http://www.apache.org/licenses/LICENSE-2.0 */
+package net.sf.mmm.util.pool.api;
+
+/**
+ * This is the interface for a {@link Pool} that collects {@link PoolStatistics}.
+ *
+ * @param <E> is the templated type of the elements in the pool.
+ *
+ * @author Joerg Hohwiller (hohwille at users.sourceforge.net)
+ * @since 8.7.1
+ */
+public interface MonitoredPool<E> extends Pool<E> {
+
+  /**
+   * @return the {@link PoolStatistics} of this pool.
+   */
+  PoolStatistics getStatistics();
+
+}
@@ -0,0 +1,69 @@
+/* Copyright (c) The m-m-m Team, Licensed under the Apache License, Version 2.0
+ * http://www.apache.org/licenses/LICENSE-2.0 */
+package net.sf.mmm.util.pool.api;
+
+/**
+ * This is the interface for the runtime statistics of a {@link Pool}. It allows to observe how effective a
+ * {@link Pool} actually is so it can be sized properly for production. All methods follow the getter convention so
+ * an instance can directly be exposed via JMX.
+ *
+ * @see MonitoredPool#getStatistics()
+ *
+ * @author Joerg Hohwiller (hohwille at users.sourceforge.net)
+ * @since 8.7.1
+ */
+public interface PoolStatistics {
+
+  /**
+   * @return the total number of {@link Pool#borrow() borrow} requests.
+   */
+  long getBorrowCount();
+
+  /**
+   * @return the number of {@link Pool#borrow() borrow} requests that have been served from the pool.
+   */
+  long getHitCount();
+
+  /**
+   * @return the number of {@link Pool#borrow() borrow} requests that required to create a new element because the
+   *         pool had no suitable element available.
+   */
+  long getMissCount();
+
+  /**
+   * @return the ratio of {@link #getHitCount() hits} to {@link #getBorrowCount() borrows} in the range from
+   *         {@code 0.0} to {@code 1.0}.
+   */
+  double getHitRate();
+
+  /**
+   * @return the total number of {@link Pool#release(Object) releases}.
+   */
+  long getReleaseCount();
+
+  /**
+   * @return the number of {@link Pool#release(Object) released} elements that have been discarded (e.g. because the
+   *         pool was full or the element did not fit) rather than being stored in the pool.
+   */
+  long getDiscardCount();
+
+  /**
+   * @return the number of elements that are currently {@link Pool#borrow() borrowed} and NOT yet
+   *         {@link Pool#release(Object) released}.
+   */
+  long getOutstandingCount();
+
+  /**
+   * @return the number of borrowed elements that have been garbage collected without being
+   *         {@link Pool#release(Object) released}. Only detected if {@link #isLeakDetection() leak detection} is
+   *         enabled.
+   */
+  long getLeakCount();
+
+  /**
+   * @return {@code true} if leak detection is enabled, {@code false} otherwise. Leak detection records the stack trace
+   *         of each {@link Pool#borrow() borrow} and is therefore only intended for debugging.
+   */
+  boolean isLeakDetection();
+
+}
@@ -0,0 +1,26 @@
+/* Copyright (c) The m-m-m Team, Licensed under the Apache License, Version 2.0
+ * http://www.apache.org/licenses/LICENSE-2.0 */
+package net.sf.mmm.util.pool.api;
+
+/**
+ * This is the interface for a {@link Pool} of arrays that manages multiple sizes. Besides the plain {@link #borrow()}
+ * it allows to {@link #borrow(int) borrow} an array with a given minimum length. Implementations typically organize
+ * their buffers in size-classes so small payloads do not waste large buffers.
+ *
+ * @param <E> is the templated type of the elements in the pool (e.g. {@code byte[]}).
+ *
+ * @author Joerg Hohwiller (hohwille at users.sourceforge.net)
+ * @since 8.7.1
+ */
+public interface SizedPool<E> extends Pool<E> {
+
+  /**
+   * This method borrows an element with at least the given length from this pool. Like for {@link #borrow()} you
+   * should {@link #release(Object) release} it when it is NOT needed anymore.
+   *
+   * @param minimumLength is the minimum length of the requested array.
+   * @return an element with a length greater or equal to {@code minimumLength}.
+   */
+  E borrow(int minimumLength);
+
+}
@@ -0,0 +1,351 @@
+/* Copyright (c) The m-m-m Team, Licensed under the Apache License, Version 2.0
+ * http://www.apache.org/licenses/LICENSE-2.0 */
+package net.sf.mmm.util.pool.base;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import net.sf.mmm.util.pool.api.MonitoredPool;
+import net.sf.mmm.util.pool.api.SizedPool;
+
+/**
+ * This is the abstract base implementation of a lock-free {@link SizedPool} for arrays. It is designed for heavy
+ * concurrent access (e.g. many {@link Thread}s transferring streams in parallel):
+ * <ul>
+ * <li>Arrays are organized in size-classes with power-of-two lengths from {@link #getMinimumLength() minimum} to
+ * {@link #getMaximumLength() maximum} length.</li>
+ * <li>Each size-class is split into stripes. A {@link Thread} first looks into its own stripe (derived from its
+ * {@link Thread#getId() ID}) so concurrent {@link Thread}s typically do NOT compete for the same slots. There are no
+ * locks, all slots are accessed via atomic operations.</li>
+ * <li>The total memory retained by the pool is bounded by {@link #getMaximumRetainedBytes() maximum retained bytes}.
+ * If that limit is reached, {@link #release(Object) released} arrays are simply discarded.</li>
+ * </ul>
+ * Requests for arrays larger than the {@link #getMaximumLength() maximum length} are served with fresh arrays that will
+ * never be pooled.
+ *
+ * @param <E> is the generic type of the pooled arrays.
+ *
+ * @author Joerg Hohwiller (hohwille at users.sourceforge.net)
+ * @since 8.7.1
+ */
+public abstract class AbstractConcurrentArrayPool<E> implements SizedPool<E>, MonitoredPool<E> {
+
+  /** The default {@link #getMinimumLength() minimum length}. */
+  public static final int DEFAULT_MINIMUM_LENGTH = 256;
+
+  /** The default {@link #getMaximumLength() maximum length}. */
+  public static final int DEFAULT_MAXIMUM_LENGTH = 65536;
+
+  /** The default number of slots per stripe and size-class. */
+  public static final int DEFAULT_SLOTS_PER_STRIPE = 4;
+
+  /** The default {@link #getMaximumRetainedBytes() maximum retained bytes} (4 MB). */
+  public static final long DEFAULT_MAXIMUM_RETAINED_BYTES = 4 * 1024 * 1024;
+
+  private final int minimumLength;
+
+  private final int maximumLength;
+
+  private final int minimumShift;
+
+  private final int defaultLength;
+
+  private final int stripeMask;
+
+  private final int slotsPerStripe;
+
+  private final long maximumRetainedBytes;
+
+  /** The slots for each size-class. */
+  private final AtomicReferenceArray<E>[] sizeClasses;
+
+  private final AtomicLong retainedBytes;
+
+  private final PoolStatisticsCollector statistics;
+
+  /**
+   * The constructor.
+   *
+   * @param defaultLength is the length of the arrays returned by {@link #borrow()}.
+   */
+  public AbstractConcurrentArrayPool(int defaultLength) {
+
+    this(DEFAULT_MINIMUM_LENGTH, DEFAULT_MAXIMUM_LENGTH, defaultLength, getDefaultStripes(), DEFAULT_SLOTS_PER_STRIPE,
+        DEFAULT_MAXIMUM_RETAINED_BYTES);
+  }
+
+  /**
+   * The constructor.
+   *
+   * @param minimumLength is the {@link #getMinimumLength() minimum length}. Will be rounded up to a power of two.
+   * @param maximumLength is the {@link #getMaximumLength() maximum length}. Will be rounded up to a power of two.
+   * @param defaultLength is the length of the arrays returned by {@link #borrow()}. Will be rounded up to the next
+   *        size-class.
+   * @param stripes is the number of stripes per size-class. Should be about the number of CPU cores. Will be rounded
+   *        up to a power of two.
+   * @param slotsPerStripe is the number of arrays that can be pooled per stripe and size-class.
+   * @param maximumRetainedBytes is the {@link #getMaximumRetainedBytes() maximum retained bytes}.
+   */
+  @SuppressWarnings({ "unchecked", "rawtypes" })
+  public AbstractConcurrentArrayPool(int minimumLength, int maximumLength, int defaultLength, int stripes,
+      int slotsPerStripe, long maximumRetainedBytes) {
+
+    super();
+    if ((minimumLength <= 0) || (maximumLength < minimumLength)) {
+      throw new IllegalArgumentException("length: " + minimumLength + "-" + maximumLength);
+    }
+    if ((stripes <= 0) || (slotsPerStripe <= 0)) {
+      throw new IllegalArgumentException("stripes: " + stripes + "*" + slotsPerStripe);
+    }
+    this.minimumLength = ceilPowerOfTwo(minimumLength);
+    this.maximumLength = ceilPowerOfTwo(maximumLength);
+    this.minimumShift = Integer.numberOfTrailingZeros(this.minimumLength);
+    this.defaultLength = Math.min(Math.max(ceilPowerOfTwo(defaultLength), this.minimumLength), this.maximumLength);
+    int stripeCount = ceilPowerOfTwo(stripes);
+    this.stripeMask = stripeCount - 1;
+    this.slotsPerStripe = slotsPerStripe;
+    this.maximumRetainedBytes = maximumRetainedBytes;
+    int classCount = Integer.numberOfTrailingZeros(this.maximumLength) - this.minimumShift + 1;
+    this.sizeClasses = new AtomicReferenceArray[classCount];
+    for (int i = 0; i < classCount; i++) {
+      this.sizeClasses[i] = new AtomicReferenceArray<>(stripeCount * slotsPerStripe);
+    }
+    this.retainedBytes = new AtomicLong();
+    this.statistics = new PoolStatisticsCollector();
+  }
+
+  private static int getDefaultStripes() {
+
+    return Runtime.getRuntime().availableProcessors();
+  }
+
+  private static int ceilPowerOfTwo(int value) {
+
+    if (value <= 1) {
+      return 1;
+    }
+    int highest = Integer.highestOneBit(value - 1) << 1;
+    if (highest <= 0) {
+      throw new IllegalArgumentException(Integer.toString(value));
+    }
+    return highest;
+  }
+
+  /**
+   * @return the minimum length of pooled arrays. Smaller requests are served with arrays of this length.
+   */
+  public int getMinimumLength() {
+
+    return this.minimumLength;
+  }
+
+  /**
+   * @return the maximum length of pooled arrays. Larger arrays are neither pooled nor retained.
+   */
+  public int getMaximumLength() {
+
+    return this.maximumLength;
+  }
+
+  /**
+   * @return the maximum number of bytes retained by the arrays in this pool.
+   */
+  public long getMaximumRetainedBytes() {
+
+    return this.maximumRetainedBytes;
+  }
+
+  /**
+   * @return the number of bytes currently retained by the arrays in this pool.
+   */
+  public long getRetainedBytes() {
+
+    return this.retainedBytes.get();
+  }
+
+  /**
+   * This method creates a new array. It is used if there is no instance left in the pool.
+   *
+   * @param length is the length of the array to create.
+   * @return the new array.
+   */
+  protected abstract E create(int length);
+
+  /**
+   * @param element is the array.
+   * @return the length of the given array.
+   */
+  protected abstract int getLength(E element);
+
+  /**
+   * @return the number of bytes used per array element (e.g. {@code 1} for {@code byte[]} or {@code 2} for
+   *         {@code char[]}).
+   */
+  protected abstract int getBytesPerElement();
+
+  /**
+   * This method resets the given {@code element} so it can be reused.
+   *
+   * @see AbstractPool#reset(Object)
+   *
+   * @param element the element to reset.
+   * @return {@code true} if the given {@code element} can be reused and should be added to the pool, {@code false}
+   *         otherwise.
+   */
+  protected boolean reset(E element) {
+
+    return true;
+  }
+
+  /**
+   * @param length is the array length.
+   * @return the index of the size-class for the given {@code length} (rounded up) or {@code -1} if larger than
+   *         {@link #getMaximumLength() maximum length}.
+   */
+  private int getSizeClass(int length) {
+
+    if (length <= this.minimumLength) {
+      return 0;
+    } else if (length > this.maximumLength) {
+      return -1;
+    }
+    return (32 - Integer.numberOfLeadingZeros(length - 1)) - this.minimumShift;
+  }
+
+  private int getStripeOffset() {
+
+    return ((int) Thread.currentThread().getId() & this.stripeMask) * this.slotsPerStripe;
+  }
+
+  @Override
+  public E borrow() {
+
+    return borrow(this.defaultLength);
+  }
+
+  @Override
+  public E borrow(int length) {
+
+    int sizeClass = getSizeClass(length);
+    if (sizeClass < 0) {
+      E element = create(length);
+      this.statistics.recordBorrow(element, false);
+      return element;
+    }
+    AtomicReferenceArray<E> slots = this.sizeClasses[sizeClass];
+    int slotCount = slots.length();
+    int offset = getStripeOffset();
+    for (int i = 0; i < slotCount; i++) {
+      int index = (offset + i) % slotCount;
+      if (slots.get(index) != null) {
+        E element = slots.getAndSet(index, null);
+        if (element != null) {
+          this.retainedBytes.addAndGet(-getBytes(element));
+          this.statistics.recordBorrow(element, true);
+          return element;
+        }
+      }
+    }
+    E element = create(this.minimumLength << sizeClass);
+    this.statistics.recordBorrow(element, false);
+    return element;
+  }
+
+  private long getBytes(E element) {
+
+    return ((long) getLength(element)) * getBytesPerElement();
+  }
+
+  @Override
+  public void release(E element) {
+
+    if (element == null) {
+      return;
+    }
+    boolean pooled = releaseInternal(element);
+    this.statistics.recordRelease(element, pooled);
+  }
+
+  /**
+   * @see #release(Object)
+   *
+   * @param element the element to release.
+   * @return {@code true} if the element has been added to the pool, {@code false} if it was discarded.
+   */
+  private boolean releaseInternal(E element) {
+
+    int length = getLength(element);
+    if ((length < this.minimumLength) || (length > this.maximumLength) || (Integer.bitCount(length) != 1)) {
+      return false;
+    }
+    long bytes = getBytes(element);
+    if (!reserve(bytes)) {
+      return false;
+    }
+    if (!reset(element)) {
+      this.retainedBytes.addAndGet(-bytes);
+      return false;
+    }
+    AtomicReferenceArray<E> slots = this.sizeClasses[getSizeClass(length)];
+    int slotCount = slots.length();
+    int offset = getStripeOffset();
+    for (int i = 0; i < slotCount; i++) {
+      int index = (offset + i) % slotCount;
+      if ((slots.get(index) == null) && slots.compareAndSet(index, null, element)) {
+        return true;
+      }
+    }
+    // all slots occupied - discard
+    this.retainedBytes.addAndGet(-bytes);
+    return false;
+  }
+
+  private boolean reserve(long bytes) {
+
+    while (true) {
+      long current = this.retainedBytes.get();
+      long next = current + bytes;
+      if (next > this.maximumRetainedBytes) {
+        return false;
+      }
+      if (this.retainedBytes.compareAndSet(current, next)) {
+        return true;
+      }
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @return the {@link PoolStatisticsCollector} that also allows to enable
+   *         {@link PoolStatisticsCollector#setLeakDetection(boolean) leak detection}.
+   */
+  @Override
+  public PoolStatisticsCollector getStatistics() {
+
+    return this.statistics;
+  }
+
+  @Override
+  public boolean isEmpty() {
+
+    return (this.retainedBytes.get() == 0);
+  }
+
+  /**
+   * This method clears the complete pool. After the call of this method, the pool will be {@link #isEmpty() empty}
+   * unless other {@link Thread}s concurrently {@link #release(Object) release} arrays.
+   */
+  public void clear() {
+
+    for (AtomicReferenceArray<E> slots : this.sizeClasses) {
+      for (int i = 0; i < slots.length(); i++) {
+        E element = slots.getAndSet(i, null);
+        if (element != null) {
+          this.retainedBytes.addAndGet(-getBytes(element));
+        }
+      }
+    }
+  }
+
+}
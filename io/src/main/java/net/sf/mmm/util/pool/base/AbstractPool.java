@@ -2,6 +2,7 @@
  * http://www.apache.org/licenses/LICENSE-2.0 */
 package net.sf.mmm.util.pool.base;
 
+import net.sf.mmm.util.pool.api.MonitoredPool;
 import net.sf.mmm.util.pool.api.Pool;
 
 /**
@@ -12,7 +13,7 @@ import net.sf.mmm.util.pool.api.Pool;
  * @author Joerg Hohwiller (hohwille at users.sourceforge.net)
  * @since 1.0.0
  */
-public abstract class AbstractPool<E> implements Pool<E> {
+public abstract class AbstractPool<E> implements MonitoredPool<E> {
 
   /** The default capacity used. */
   public static final int DEFAULT_CAPACITY = 16;
@@ -26,6 +27,9 @@ public abstract class AbstractPool<E> implements Pool<E> {
   /** The actual size (number of elements in {@link #pool}). */
   private int size;
 
+  /** @see #getStatistics() */
+  private final PoolStatisticsCollector statistics;
+
   /**
    * The constructor.
    *
@@ -47,7 +51,7 @@ public abstract class AbstractPool<E> implements Pool<E> {
    */
   public AbstractPool(int capacity, boolean threadsafe) {
 
-    this(threadsafe, DEFAULT_CAPACITY, null);
+    this(threadsafe, capacity, null);
   }
 
   /**
@@ -58,7 +62,7 @@ public abstract class AbstractPool<E> implements Pool<E> {
    */
   public AbstractPool(int capacity, Object lock) {
 
-    this(true, DEFAULT_CAPACITY, lock);
+    this(true, capacity, lock);
     assert (lock != null);
   }
 
@@ -85,6 +89,7 @@ public abstract class AbstractPool<E> implements Pool<E> {
       this.lock = null;
     }
     this.pool = new Object[capacity];
+    this.statistics = new PoolStatisticsCollector();
   }
 
   @Override
@@ -108,11 +113,15 @@ public abstract class AbstractPool<E> implements Pool<E> {
   private E borrowInternal() {
 
     if (this.size > 0) {
+      this.size--;
       E element = (E) this.pool[this.size];
-      this.pool[this.size--] = null;
+      this.pool[this.size] = null;
+      this.statistics.recordBorrow(element, true);
       return element;
     } else {
-      return create();
+      E element = create();
+      this.statistics.recordBorrow(element, false);
+      return element;
     }
   }
 
@@ -177,18 +186,46 @@ public abstract class AbstractPool<E> implements Pool<E> {
     if (this.size < this.pool.length) {
       boolean reuse = reset(element);
       if (!reuse) {
+        this.statistics.recordRelease(element, false);
         return;
       }
     }
+    boolean pooled;
     if (this.lock == null) {
-      this.pool[this.size++] = element;
+      pooled = releaseInternal(element);
     } else {
       synchronized (this.lock) {
-        if (this.size < this.pool.length) {
-          this.pool[this.size++] = element;
-        }
+        pooled = releaseInternal(element);
       }
     }
+    this.statistics.recordRelease(element, pooled);
+  }
+
+  /**
+   * @see #release(Object)
+   *
+   * @param element the element to release.
+   * @return {@code true} if the element has been added to the pool, {@code false} if the pool is full.
+   */
+  private boolean releaseInternal(E element) {
+
+    if (this.size < this.pool.length) {
+      this.pool[this.size++] = element;
+      return true;
+    }
+    return false;
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @return the {@link PoolStatisticsCollector} that also allows to enable
+   *         {@link PoolStatisticsCollector#setLeakDetection(boolean) leak detection}.
+   */
+  @Override
+  public PoolStatisticsCollector getStatistics() {
+
+    return this.statistics;
   }
 
   /**
@@ -0,0 +1,285 @@
+/* Copyright (c) The m-m-m Team, Licensed under the Apache License, Version 2.0
+ * http://www.apache.org/licenses/LICENSE-2.0 */
+package net.sf.mmm.util.pool.base;
+
+import java.lang.management.ManagementFactory;
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import javax.management.StandardMBean;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import net.sf.mmm.util.pool.api.Pool;
+import net.sf.mmm.util.pool.api.PoolStatistics;
+
+/**
+ * This is the implementation of {@link PoolStatistics} used by the {@link Pool} implementations to collect their
+ * statistics. The counters are based on {@link LongAdder} so they add very little overhead even under heavy
+ * concurrency. <br>
+ * Optionally {@link #setLeakDetection(boolean) leak detection} can be enabled for debugging. Then the stack trace of
+ * each {@link Pool#borrow() borrow} is recorded. Elements that are garbage collected without being
+ * {@link Pool#release(Object) released} are logged as warning together with that stack trace. Further
+ * {@link #reportLeaks()} logs all elements that are currently outstanding.
+ *
+ * @author Joerg Hohwiller (hohwille at users.sourceforge.net)
+ * @since 8.7.1
+ */
+public class PoolStatisticsCollector implements PoolStatistics {
+
+  private static final Logger LOG = LoggerFactory.getLogger(PoolStatisticsCollector.class);
+
+  /** The JMX domain used by {@link #registerMBean(String)}. */
+  public static final String JMX_DOMAIN = "net.sf.mmm.util.pool";
+
+  private final LongAdder hits;
+
+  private final LongAdder misses;
+
+  private final LongAdder releases;
+
+  private final LongAdder discards;
+
+  private final LongAdder leaks;
+
+  private volatile boolean leakDetection;
+
+  private final Map<BorrowReference, BorrowReference> borrowMap;
+
+  private final ReferenceQueue<Object> referenceQueue;
+
+  /**
+   * The constructor.
+   */
+  public PoolStatisticsCollector() {
+
+    super();
+    this.hits = new LongAdder();
+    this.misses = new LongAdder();
+    this.releases = new LongAdder();
+    this.discards = new LongAdder();
+    this.leaks = new LongAdder();
+    this.borrowMap = new ConcurrentHashMap<>();
+    this.referenceQueue = new ReferenceQueue<>();
+  }
+
+  @Override
+  public long getBorrowCount() {
+
+    return this.hits.sum() + this.misses.sum();
+  }
+
+  @Override
+  public long getHitCount() {
+
+    return this.hits.sum();
+  }
+
+  @Override
+  public long getMissCount() {
+
+    return this.misses.sum();
+  }
+
+  @Override
+  public double getHitRate() {
+
+    long hitCount = this.hits.sum();
+    long borrowCount = hitCount + this.misses.sum();
+    if (borrowCount == 0) {
+      return 0;
+    }
+    return ((double) hitCount) / borrowCount;
+  }
+
+  @Override
+  public long getReleaseCount() {
+
+    return this.releases.sum();
+  }
+
+  @Override
+  public long getDiscardCount() {
+
+    return this.discards.sum();
+  }
+
+  @Override
+  public long getOutstandingCount() {
+
+    return getBorrowCount() - this.releases.sum();
+  }
+
+  @Override
+  public long getLeakCount() {
+
+    pollLeaks();
+    return this.leaks.sum();
+  }
+
+  @Override
+  public boolean isLeakDetection() {
+
+    return this.leakDetection;
+  }
+
+  /**
+   * @param leakDetection is the {@link #isLeakDetection() leak detection} flag. Only intended for debugging as
+   *        recording stack traces is expensive.
+   */
+  public void setLeakDetection(boolean leakDetection) {
+
+    this.leakDetection = leakDetection;
+    if (!leakDetection) {
+      this.borrowMap.clear();
+    }
+  }
+
+  /**
+   * This method records a {@link Pool#borrow() borrow}.
+   *
+   * @param element is the borrowed element.
+   * @param hit - {@code true} if the element was taken from the pool, {@code false} if it was created (miss).
+   */
+  public void recordBorrow(Object element, boolean hit) {
+
+    if (hit) {
+      this.hits.increment();
+    } else {
+      this.misses.increment();
+    }
+    if (this.leakDetection && (element != null)) {
+      pollLeaks();
+      BorrowReference reference = new BorrowReference(element, this.referenceQueue);
+      this.borrowMap.put(reference, reference);
+    }
+  }
+
+  /**
+   * This method records a {@link Pool#release(Object) release}.
+   *
+   * @param element is the released element.
+   * @param pooled - {@code true} if the element was stored in the pool, {@code false} if it was discarded.
+   */
+  public void recordRelease(Object element, boolean pooled) {
+
+    this.releases.increment();
+    if (!pooled) {
+      this.discards.increment();
+    }
+    if (this.leakDetection && (element != null)) {
+      this.borrowMap.remove(new BorrowReference(element, null));
+      pollLeaks();
+    }
+  }
+
+  private void pollLeaks() {
+
+    Reference<?> reference = this.referenceQueue.poll();
+    while (reference != null) {
+      BorrowReference leak = (BorrowReference) reference;
+      if (this.borrowMap.remove(leak) != null) {
+        this.leaks.increment();
+        LOG.warn("Pooled element was garbage collected without being released. It was borrowed here:", leak.trace);
+      }
+      reference = this.referenceQueue.poll();
+    }
+  }
+
+  /**
+   * This method logs the borrow stack traces of all elements that are currently outstanding. It is only supported if
+   * {@link #isLeakDetection() leak detection} is enabled. Call it e.g. when the application is shutting down or the
+   * pool is NOT used anymore.
+   *
+   * @return the {@link Throwable}s with the stack traces of the outstanding borrows.
+   */
+  public List<Throwable> reportLeaks() {
+
+    pollLeaks();
+    List<Throwable> result = new ArrayList<>();
+    for (BorrowReference reference : this.borrowMap.keySet()) {
+      if (reference.get() != null) {
+        result.add(reference.trace);
+        LOG.warn("Pooled element has not been released. It was borrowed here:", reference.trace);
+      }
+    }
+    return result;
+  }
+
+  /**
+   * This method registers this {@link PoolStatistics} as MBean in the {@link ManagementFactory#getPlatformMBeanServer()
+   * platform MBean server}.
+   *
+   * @param poolName is the name of the pool used to build the {@link ObjectName}.
+   * @return the {@link ObjectName} of the registered MBean.
+   */
+  public ObjectName registerMBean(String poolName) {
+
+    try {
+      ObjectName objectName = new ObjectName(JMX_DOMAIN + ":type=Pool,name=" + ObjectName.quote(poolName));
+      MBeanServer mBeanServer = ManagementFactory.getPlatformMBeanServer();
+      mBeanServer.registerMBean(new StandardMBean(this, PoolStatistics.class), objectName);
+      return objectName;
+    } catch (JMException e) {
+      throw new IllegalStateException("Failed to register MBean for pool " + poolName, e);
+    }
+  }
+
+  @Override
+  public String toString() {
+
+    return "borrows=" + getBorrowCount() + ", hits=" + getHitCount() + ", misses=" + getMissCount() + ", releases="
+        + getReleaseCount() + ", discards=" + getDiscardCount() + ", outstanding=" + getOutstandingCount();
+  }
+
+  /**
+   * {@link WeakReference} to a borrowed element with identity semantics that also holds the borrow stack trace.
+   */
+  private static final class BorrowReference extends WeakReference<Object> {
+
+    private final int hash;
+
+    private final Throwable trace;
+
+    private BorrowReference(Object element, ReferenceQueue<Object> queue) {
+
+      super(element, queue);
+      this.hash = System.identityHashCode(element);
+      if (queue == null) {
+        this.trace = null;
+      } else {
+        this.trace = new Throwable("Borrowed in thread " + Thread.currentThread().getName());
+      }
+    }
+
+    @Override
+    public int hashCode() {
+
+      return this.hash;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+
+      if (obj == this) {
+        return true;
+      }
+      if (!(obj instanceof BorrowReference)) {
+        return false;
+      }
+      Object element = get();
+      return (element != null) && (element == ((BorrowReference) obj).get());
+    }
+  }
+
+}
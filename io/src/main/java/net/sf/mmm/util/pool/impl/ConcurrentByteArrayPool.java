@@ -0,0 +1,62 @@
+/* Copyright (c) The m-m-m Team, Licensed under the Apache License, Version 2.0
+ * http://www.apache.org/licenses/LICENSE-2.0 */
+package net.sf.mmm.util.pool.impl;
+
+import net.sf.mmm.util.pool.api.ByteArrayPool;
+import net.sf.mmm.util.pool.base.AbstractConcurrentArrayPool;
+
+/**
+ * This is a lock-free implementation of {@link ByteArrayPool} with multiple size-classes for high concurrency. Use it
+ * instead of {@link ByteArrayPoolImpl} if many {@link Thread}s borrow buffers in parallel (e.g. via
+ * {@link net.sf.mmm.util.io.base.StreamUtilImpl#setByteArrayPool(net.sf.mmm.util.pool.api.Pool)}).
+ *
+ * @see AbstractConcurrentArrayPool
+ *
+ * @author Joerg Hohwiller (hohwille at users.sourceforge.net)
+ * @since 8.7.1
+ */
+public class ConcurrentByteArrayPool extends AbstractConcurrentArrayPool<byte[]> implements ByteArrayPool {
+
+  /**
+   * The constructor.
+   */
+  public ConcurrentByteArrayPool() {
+
+    super(ByteArrayPoolImpl.DEFAULT_ARRAY_LENGTH);
+  }
+
+  /**
+   * The constructor.
+   *
+   * @param minimumLength is the {@link #getMinimumLength() minimum length}.
+   * @param maximumLength is the {@link #getMaximumLength() maximum length}.
+   * @param defaultLength is the length of the arrays returned by {@link #borrow()}.
+   * @param stripes is the number of stripes per size-class.
+   * @param slotsPerStripe is the number of arrays that can be pooled per stripe and size-class.
+   * @param maximumRetainedBytes is the {@link #getMaximumRetainedBytes() maximum retained bytes}.
+   */
+  public ConcurrentByteArrayPool(int minimumLength, int maximumLength, int defaultLength, int stripes,
+      int slotsPerStripe, long maximumRetainedBytes) {
+
+    super(minimumLength, maximumLength, defaultLength, stripes, slotsPerStripe, maximumRetainedBytes);
+  }
+
+  @Override
+  protected byte[] create(int length) {
+
+    return new byte[length];
+  }
+
+  @Override
+  protected int getLength(byte[] element) {
+
+    return element.length;
+  }
+
+  @Override
+  protected int getBytesPerElement() {
+
+    return 1;
+  }
+
+}
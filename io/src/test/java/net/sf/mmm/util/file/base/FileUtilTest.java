@@ -6,9 +6,15 @@ import java.io.File;
 import java.io.FileFilter;
 import java.io.FileInputStream;
 import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFileAttributeView;
+import java.nio.file.attribute.PosixFilePermission;
+import java.nio.file.attribute.PosixFilePermissions;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Properties;
+import java.util.Set;
 import java.util.UUID;
 
 import org.junit.Test;
@@ -134,6 +140,56 @@ public class FileUtilTest extends FileUtilLimitedTest {
     assertThat(deleteCount).isEqualTo(3);
   }
 
+  /**
+   * Tests {@link FileUtil#copyRecursive(File, File, boolean, FileFilter, boolean)} and
+   * {@link FileUtil#deleteRecursive(File)} with a tree having more files than processed by a single task.
+   *
+   * @throws IOException on error.
+   */
+  @Test
+  public void testLargeDirectoryTree() throws IOException {
+
+    // given
+    FileUtil util = getFileUtil();
+    File tempDir = util.getTemporaryDirectory();
+    String uidName = "mmm-" + UUID.randomUUID();
+    File subdir = new File(tempDir, uidName);
+    int fileCount = 0;
+    for (int i = 0; i < 3; i++) {
+      File folder = new File(subdir, "folder" + i);
+      assertThat(folder.mkdirs()).isTrue();
+      for (int j = 0; j < 100; j++) {
+        assertThat(new File(folder, "file" + j + ".txt").createNewFile()).isTrue();
+        fileCount++;
+      }
+    }
+    long lastModified = 1000000000000L;
+    assertThat(new File(subdir, "folder1/file42.txt").setLastModified(lastModified)).isTrue();
+    assertThat(new File(subdir, "folder2").setLastModified(lastModified)).isTrue();
+    Path folder0 = new File(subdir, "folder0").toPath();
+    boolean posix = (Files.getFileAttributeView(folder0, PosixFileAttributeView.class) != null);
+    Set<PosixFilePermission> permissions = PosixFilePermissions.fromString("rwxr-x---");
+    if (posix) {
+      Files.setPosixFilePermissions(folder0, permissions);
+    }
+    File copyDir = new File(tempDir, uidName + "-copy");
+
+    // when
+    util.copyRecursive(subdir, copyDir, false, null, true);
+
+    // then
+    assertThat(new File(copyDir, "folder0").list()).hasSize(100);
+    assertThat(new File(copyDir, "folder1/file42.txt").lastModified()).isEqualTo(lastModified);
+    assertThat(new File(copyDir, "folder2").lastModified()).isEqualTo(lastModified);
+    if (posix) {
+      assertThat(Files.getPosixFilePermissions(new File(copyDir, "folder0").toPath())).isEqualTo(permissions);
+    }
+    assertThat(util.deleteRecursive(subdir)).isEqualTo(fileCount);
+    assertThat(util.deleteRecursive(copyDir)).isEqualTo(fileCount);
+    assertThat(subdir.exists()).isFalse();
+    assertThat(copyDir.exists()).isFalse();
+  }
+
   /** Test of {@link FileUtil#touch(File)}. */
   @Test
   public void testTouch() throws Exception {
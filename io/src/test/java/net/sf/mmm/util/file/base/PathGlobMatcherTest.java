@@ -0,0 +1,48 @@
+/* Copyright (c) The m-m-m Team, Licensed under the Apache License, Version 2.0
+ * http://www.apache.org/licenses/LICENSE-2.0 */
+package net.sf.mmm.util.file.base;
+
+import java.nio.file.Paths;
+
+import org.assertj.core.api.Assertions;
+import org.junit.Test;
+
+/**
+ * This is the test-case for {@link PathGlobMatcher}.
+ *
+ * @author Joerg Hohwiller (hohwille at users.sourceforge.net)
+ */
+public class PathGlobMatcherTest extends Assertions {
+
+  /**
+   * Tests {@link PathGlobMatcher#matches(java.nio.file.Path)}.
+   */
+  @Test
+  public void testMatches() {
+
+    PathGlobMatcher matcher = new PathGlobMatcher("src/**/*.java");
+    assertThat(matcher.hasWildcard()).isTrue();
+    assertThat(matcher.matches(Paths.get("src/Foo.java"))).isTrue();
+    assertThat(matcher.matches(Paths.get("src/main/java/Foo.java"))).isTrue();
+    assertThat(matcher.matches(Paths.get("src/main/java/Foo.xml"))).isFalse();
+    assertThat(matcher.matches(Paths.get("test/Foo.java"))).isFalse();
+
+    matcher = new PathGlobMatcher("*foo*/b?r/x*y.txt");
+    assertThat(matcher.matches(Paths.get("afoob/bar/xy.txt"))).isTrue();
+    assertThat(matcher.matches(Paths.get("foo/bor/x123y.txt"))).isTrue();
+    assertThat(matcher.matches(Paths.get("fo/bar/xy.txt"))).isFalse();
+    assertThat(matcher.matches(Paths.get("foo/baar/xy.txt"))).isFalse();
+    assertThat(matcher.matches(Paths.get("foo/bar/x.txt"))).isFalse();
+
+    matcher = new PathGlobMatcher("lib/**");
+    assertThat(matcher.matches(Paths.get("lib"))).isFalse();
+    assertThat(matcher.matches(Paths.get("lib/a.jar"))).isTrue();
+    assertThat(matcher.matches(Paths.get("lib/ext/b.jar"))).isTrue();
+
+    matcher = new PathGlobMatcher("lib/a.jar");
+    assertThat(matcher.hasWildcard()).isFalse();
+    assertThat(matcher.matches(Paths.get("lib/a.jar"))).isTrue();
+    assertThat(matcher.matches(Paths.get("lib/b.jar"))).isFalse();
+  }
+
+}
@@ -0,0 +1,32 @@
+/* Copyright (c) The m-m-m Team, Licensed under the Apache License, Version 2.0
+ * http://www.apache.org/licenses/LICENSE-2.0 */
+package net.sf.mmm.util.io.base;
+
+import net.sf.mmm.util.io.api.StreamUtil;
+import net.sf.mmm.util.pool.impl.ConcurrentByteArrayPool;
+import net.sf.mmm.util.pool.impl.ConcurrentCharArrayPool;
+
+/**
+ * This is the test-case for {@link StreamUtilImpl} using {@link ConcurrentByteArrayPool} and
+ * {@link ConcurrentCharArrayPool}.
+ *
+ * @author Joerg Hohwiller (hohwille at users.sourceforge.net)
+ */
+public class StreamUtilConcurrentPoolTest extends StreamUtilTest {
+
+  private StreamUtil streamUtil;
+
+  @Override
+  protected StreamUtil getStreamUtil() {
+
+    if (this.streamUtil == null) {
+      StreamUtilImpl impl = new StreamUtilImpl();
+      impl.setByteArrayPool(new ConcurrentByteArrayPool());
+      impl.setCharArrayPool(new ConcurrentCharArrayPool());
+      impl.initialize();
+      this.streamUtil = impl;
+    }
+    return this.streamUtil;
+  }
+
+}
@@ -0,0 +1,129 @@
+/* Copyright (c) The m-m-m Team, Licensed under the Apache License, Version 2.0
+ * http://www.apache.org/licenses/LICENSE-2.0 */
+package net.sf.mmm.util.io.impl;
+
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import net.sf.mmm.util.io.api.DetectorStream;
+import net.sf.mmm.util.io.api.DetectorStreamProvider;
+import net.sf.mmm.util.io.base.SimpleDetectorStreamProcessorFactory;
+import net.sf.mmm.util.io.base.StreamUtilImpl;
+import net.sf.mmm.util.io.impl.DetectorStreamTest.DummyByteArrayPool;
+import net.sf.mmm.util.resource.api.DataResource;
+import net.sf.mmm.util.resource.base.ClasspathResource;
+
+/**
+ * This is the test-case for {@link DetectorStreamProvider#detect(ByteBuffer)} and
+ * {@link DetectorStreamProvider#detect(Path)}.
+ *
+ * @author Joerg Hohwiller (hohwille at users.sourceforge.net)
+ * @since 8.7.1
+ */
+public class DetectorStreamByteBufferTest {
+
+  private static final Integer X_COUNT = Integer.valueOf(12);
+
+  private byte[] getData() throws Exception {
+
+    DataResource resource = new ClasspathResource(DetectorStreamTest.class, ".txt", true);
+    ByteArrayOutputStream outStream = new ByteArrayOutputStream();
+    try (InputStream inStream = resource.openStream()) {
+      StreamUtilImpl.getInstance().transfer(inStream, outStream, false);
+    }
+    return outStream.toByteArray();
+  }
+
+  private DetectorStreamProvider getProvider(boolean chained, DummyByteArrayPool pool) {
+
+    DetectorStreamProviderImpl provider = new DetectorStreamProviderImpl();
+    provider.setByteArrayPool(pool);
+    provider.addProcessorFactory(new SimpleDetectorStreamProcessorFactory(DetectorStreamProcessorCountSize.class));
+    if (chained) {
+      provider.addProcessorFactory(new SimpleDetectorStreamProcessorFactory(DetectorStreamProcessorCountX.class));
+    }
+    provider.initialize();
+    return provider;
+  }
+
+  private void check(DetectorStream detectorStream, byte[] data, boolean chained) {
+
+    Assert.assertTrue(detectorStream.isDone());
+    Map<String, Object> metadata = detectorStream.getMetadata();
+    Assert.assertEquals(Long.valueOf(data.length), metadata.get(DetectorStreamProcessorCountSize.KEY_SIZE));
+    Assert.assertEquals(X_COUNT, metadata.get(DetectorStreamProcessorCountSize.KEY_X_COUNT));
+    if (chained) {
+      Assert.assertEquals(X_COUNT, metadata.get(DetectorStreamProcessorCountX.KEY_X_COUNT));
+    }
+  }
+
+  /**
+   * Tests {@link DetectorStreamProvider#detect(ByteBuffer)} with heap, read-only and direct buffers.
+   *
+   * @throws Exception on error.
+   */
+  @Test
+  public void testDetectByteBuffer() throws Exception {
+
+    byte[] data = getData();
+    ByteBuffer direct = ByteBuffer.allocateDirect(data.length);
+    direct.put(data);
+    direct.flip();
+    for (boolean chained : new boolean[] { false, true }) {
+      DummyByteArrayPool pool = new DummyByteArrayPool(16);
+      DetectorStreamProvider provider = getProvider(chained, pool);
+      check(provider.detect(ByteBuffer.wrap(data)), data, chained);
+      check(provider.detect(ByteBuffer.wrap(data).asReadOnlyBuffer()), data, chained);
+      check(provider.detect(direct), data, chained);
+      Assert.assertEquals(0, direct.position());
+      Assert.assertEquals(0, pool.getBorrowedCount());
+    }
+  }
+
+  /**
+   * Tests {@link DetectorStreamProvider#detect(Path)}.
+   *
+   * @throws Exception on error.
+   */
+  @Test
+  public void testDetectFile() throws Exception {
+
+    byte[] data = getData();
+    Path file = Files.createTempFile("mmm-detector", ".txt");
+    try {
+      Files.write(file, data);
+      DummyByteArrayPool pool = new DummyByteArrayPool(16);
+      check(getProvider(true, pool).detect(file), data, true);
+      Assert.assertEquals(0, pool.getBorrowedCount());
+    } finally {
+      Files.delete(file);
+    }
+  }
+
+  /**
+   * Tests that a {@link net.sf.mmm.util.io.api.spi.ByteBufferDetectorStreamProcessor} also works in a regular
+   * {@link net.sf.mmm.util.io.api.DetectorInputStream}.
+   *
+   * @throws Exception on error.
+   */
+  @Test
+  public void testByteBufferProcessorInStream() throws Exception {
+
+    byte[] data = getData();
+    DetectorStreamProvider provider = getProvider(true, new DummyByteArrayPool(16));
+    net.sf.mmm.util.io.api.DetectorInputStream detectorStream = provider
+        .wrapInputStream(new java.io.ByteArrayInputStream(data));
+    ByteArrayOutputStream outStream = new ByteArrayOutputStream();
+    StreamUtilImpl.getInstance().transfer(detectorStream.getStream(), outStream, false);
+    Assert.assertArrayEquals(data, outStream.toByteArray());
+    check(detectorStream, data, true);
+  }
+
+}
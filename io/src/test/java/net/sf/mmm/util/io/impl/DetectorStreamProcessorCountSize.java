@@ -0,0 +1,44 @@
+/* Copyright (c) The m-m-m Team, Licensed under the Apache License, Version 2.0
+ * http://www.apache.org/licenses/LICENSE-2.0 */
+package net.sf.mmm.util.io.impl;
+
+import java.util.Map;
+
+import net.sf.mmm.util.io.api.spi.ByteBufferDetectorStreamProcessor;
+import net.sf.mmm.util.io.base.AbstractByteBufferDetectorStreamProcessor;
+
+/**
+ * This is an implementation of {@link ByteBufferDetectorStreamProcessor} that counts the total number of bytes and
+ * the number of bytes that are equal to the ASCII-char 'x'.
+ *
+ * @author Joerg Hohwiller (hohwille at users.sourceforge.net)
+ * @since 8.7.1
+ */
+public class DetectorStreamProcessorCountSize extends AbstractByteBufferDetectorStreamProcessor {
+
+  /** metadata-key for the total number of bytes. */
+  public static final String KEY_SIZE = "size";
+
+  /** metadata-key for the number of 'x' bytes. */
+  public static final String KEY_X_COUNT = "size-x-count";
+
+  private long size;
+
+  private int countX;
+
+  @Override
+  public void process(java.nio.ByteBuffer data, Map<String, Object> metadata, boolean eos) {
+
+    this.size = this.size + data.remaining();
+    while (data.hasRemaining()) {
+      if (data.get() == 'x') {
+        this.countX++;
+      }
+    }
+    if (eos) {
+      metadata.put(KEY_SIZE, Long.valueOf(this.size));
+      metadata.put(KEY_X_COUNT, Integer.valueOf(this.countX));
+    }
+  }
+
+}
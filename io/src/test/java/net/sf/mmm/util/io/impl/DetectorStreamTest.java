@@ -206,6 +206,15 @@ public class DetectorStreamTest {
       this.arraySize = arraySize;
     }
 
+    /**
+     * @return the number of byte-arrays that have been {@link #borrow() borrowed} but NOT {@link #release(byte[])
+     *         released}.
+     */
+    public int getBorrowedCount() {
+
+      return this.bufferSet.size();
+    }
+
     @Override
     public byte[] borrow() {
 
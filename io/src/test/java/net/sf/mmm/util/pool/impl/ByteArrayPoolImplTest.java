@@ -0,0 +1,43 @@
+/* Copyright (c) The m-m-m Team, Licensed under the Apache License, Version 2.0
+ * http://www.apache.org/licenses/LICENSE-2.0 */
+package net.sf.mmm.util.pool.impl;
+
+import org.assertj.core.api.Assertions;
+import org.junit.Test;
+
+import net.sf.mmm.util.pool.api.PoolStatistics;
+
+/**
+ * This is the test-case for {@link ByteArrayPoolImpl}.
+ *
+ * @author Joerg Hohwiller (hohwille at users.sourceforge.net)
+ */
+public class ByteArrayPoolImplTest extends Assertions {
+
+  /** Test of {@link ByteArrayPoolImpl#borrow()} and {@link ByteArrayPoolImpl#release(Object)}. */
+  @Test
+  public void testBorrowAndRelease() {
+
+    ByteArrayPoolImpl pool = new ByteArrayPoolImpl(2, 128);
+    assertThat(pool.getCapacity()).isEqualTo(2);
+    byte[] buffer1 = pool.borrow();
+    byte[] buffer2 = pool.borrow();
+    byte[] buffer3 = pool.borrow();
+    assertThat(buffer1).hasSize(128);
+    pool.release(buffer1);
+    pool.release(buffer2);
+    pool.release(buffer3);
+    assertThat(pool.getSize()).isEqualTo(2);
+    assertThat(pool.borrow()).isSameAs(buffer2);
+    assertThat(pool.borrow()).isSameAs(buffer1);
+    assertThat(pool.isEmpty()).isTrue();
+    PoolStatistics statistics = pool.getStatistics();
+    assertThat(statistics.getBorrowCount()).isEqualTo(5);
+    assertThat(statistics.getMissCount()).isEqualTo(3);
+    assertThat(statistics.getHitCount()).isEqualTo(2);
+    assertThat(statistics.getReleaseCount()).isEqualTo(3);
+    assertThat(statistics.getDiscardCount()).isEqualTo(1);
+    assertThat(statistics.getOutstandingCount()).isEqualTo(2);
+  }
+
+}
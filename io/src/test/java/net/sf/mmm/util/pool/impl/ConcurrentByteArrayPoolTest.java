@@ -0,0 +1,134 @@
+/* Copyright (c) The m-m-m Team, Licensed under the Apache License, Version 2.0
+ * http://www.apache.org/licenses/LICENSE-2.0 */
+package net.sf.mmm.util.pool.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.assertj.core.api.Assertions;
+import org.junit.Test;
+
+import net.sf.mmm.util.pool.base.PoolStatisticsCollector;
+
+/**
+ * This is the test-case for {@link ConcurrentByteArrayPool}.
+ *
+ * @author Joerg Hohwiller (hohwille at users.sourceforge.net)
+ */
+public class ConcurrentByteArrayPoolTest extends Assertions {
+
+  /** Test of {@link ConcurrentByteArrayPool#borrow()} and {@link ConcurrentByteArrayPool#release(byte[])}. */
+  @Test
+  public void testBorrowAndRelease() {
+
+    ConcurrentByteArrayPool pool = new ConcurrentByteArrayPool();
+    assertThat(pool.isEmpty()).isTrue();
+    byte[] buffer = pool.borrow();
+    assertThat(buffer).hasSize(ByteArrayPoolImpl.DEFAULT_ARRAY_LENGTH);
+    pool.release(buffer);
+    assertThat(pool.isEmpty()).isFalse();
+    assertThat(pool.getRetainedBytes()).isEqualTo(buffer.length);
+    assertThat(pool.borrow()).isSameAs(buffer);
+    assertThat(pool.isEmpty()).isTrue();
+  }
+
+  /** Test of {@link ConcurrentByteArrayPool#borrow(int)} with size-classes. */
+  @Test
+  public void testSizeClasses() {
+
+    ConcurrentByteArrayPool pool = new ConcurrentByteArrayPool(256, 4096, 1024, 2, 2, 1024 * 1024);
+    assertThat(pool.borrow(1)).hasSize(256);
+    assertThat(pool.borrow(257)).hasSize(512);
+    assertThat(pool.borrow(4096)).hasSize(4096);
+    // too large: not pooled
+    byte[] large = pool.borrow(5000);
+    assertThat(large).hasSize(5000);
+    pool.release(large);
+    assertThat(pool.isEmpty()).isTrue();
+    // foreign length that does not match a size-class: not pooled
+    pool.release(new byte[1000]);
+    assertThat(pool.isEmpty()).isTrue();
+    byte[] small = pool.borrow(300);
+    pool.release(small);
+    assertThat(pool.borrow(1024)).isNotSameAs(small).hasSize(1024);
+    assertThat(pool.borrow(400)).isSameAs(small);
+  }
+
+  /** Test of {@link ConcurrentByteArrayPool#getStatistics()}. */
+  @Test
+  public void testStatistics() {
+
+    ConcurrentByteArrayPool pool = new ConcurrentByteArrayPool(1024, 1024, 1024, 1, 1, 1024 * 1024);
+    PoolStatisticsCollector statistics = pool.getStatistics();
+    statistics.setLeakDetection(true);
+    byte[] buffer1 = pool.borrow();
+    byte[] buffer2 = pool.borrow();
+    assertThat(statistics.getMissCount()).isEqualTo(2);
+    assertThat(statistics.getOutstandingCount()).isEqualTo(2);
+    assertThat(statistics.reportLeaks()).hasSize(2);
+    pool.release(buffer1);
+    // only one slot available
+    pool.release(buffer2);
+    assertThat(statistics.getReleaseCount()).isEqualTo(2);
+    assertThat(statistics.getDiscardCount()).isEqualTo(1);
+    assertThat(statistics.getOutstandingCount()).isEqualTo(0);
+    assertThat(statistics.reportLeaks()).isEmpty();
+    assertThat(pool.borrow()).isSameAs(buffer1);
+    assertThat(statistics.getHitCount()).isEqualTo(1);
+    assertThat(statistics.getBorrowCount()).isEqualTo(3);
+    assertThat(statistics.getHitRate()).isEqualTo(1.0 / 3);
+  }
+
+  /** Test that the retained memory is bounded. */
+  @Test
+  public void testMaximumRetainedBytes() {
+
+    ConcurrentByteArrayPool pool = new ConcurrentByteArrayPool(1024, 1024, 1024, 4, 4, 2048);
+    List<byte[]> buffers = new ArrayList<>();
+    for (int i = 0; i < 5; i++) {
+      buffers.add(pool.borrow());
+    }
+    for (byte[] buffer : buffers) {
+      pool.release(buffer);
+    }
+    assertThat(pool.getRetainedBytes()).isEqualTo(2048);
+    pool.clear();
+    assertThat(pool.getRetainedBytes()).isEqualTo(0);
+    assertThat(pool.isEmpty()).isTrue();
+  }
+
+  /**
+   * Test of {@link ConcurrentByteArrayPool} with concurrent access.
+   *
+   * @throws Exception on error.
+   */
+  @Test
+  public void testConcurrent() throws Exception {
+
+    ConcurrentByteArrayPool pool = new ConcurrentByteArrayPool();
+    int threads = 8;
+    ExecutorService executor = Executors.newFixedThreadPool(threads);
+    try {
+      List<Future<?>> futures = new ArrayList<>();
+      for (int t = 0; t < threads; t++) {
+        futures.add(executor.submit(() -> {
+          for (int i = 0; i < 10000; i++) {
+            byte[] buffer = pool.borrow(i % 8192);
+            assertThat(buffer.length).isGreaterThanOrEqualTo(i % 8192);
+            pool.release(buffer);
+          }
+        }));
+      }
+      for (Future<?> future : futures) {
+        future.get();
+      }
+    } finally {
+      executor.shutdown();
+    }
+    assertThat(pool.getRetainedBytes()).isBetween(0L, pool.getMaximumRetainedBytes());
+  }
+
+}
@@ -2,18 +2,52 @@
  * http://www.apache.org/licenses/LICENSE-2.0 */
 package net.sf.mmm.util.uuid.api;
 
+import net.sf.mmm.util.lang.api.BasicHelper;
+import net.sf.mmm.util.uuid.base.FastRandomUuidFactory;
 import net.sf.mmm.util.uuid.base.RandomUuidFactory;
+import net.sf.mmm.util.uuid.base.TimeOrderedUuidFactory;
 
 /**
  * This is an ugly static accessor for the {@link UuidFactory} used to create instances of {@link java.util.UUID} and
- * allowing to exchange the default implementation.
+ * allowing to exchange the default implementation. The default can also be configured via the
+ * {@link System#getProperty(String) system property} {@value #PROPERTY_UUID_FACTORY}.
  *
  * @author Joerg Hohwiller (hohwille at users.sourceforge.net)
  * @since 1.0.1
  */
 public final class UuidAccess {
 
-  private static UuidFactory factory = new RandomUuidFactory();
+  /**
+   * The name of the {@link System#getProperty(String) system property} to configure the default {@link UuidFactory}.
+   * Supported values are {@value #FACTORY_RANDOM} (default), {@value #FACTORY_FAST_RANDOM},
+   * {@value #FACTORY_TIME_ORDERED} or the fully qualified name of a {@link UuidFactory} implementation.
+   *
+   * @since 8.7.1
+   */
+  public static final String PROPERTY_UUID_FACTORY = "net.sf.mmm.util.uuid.factory";
+
+  /**
+   * Value of {@link #PROPERTY_UUID_FACTORY} for {@link RandomUuidFactory}.
+   *
+   * @since 8.7.1
+   */
+  public static final String FACTORY_RANDOM = "random";
+
+  /**
+   * Value of {@link #PROPERTY_UUID_FACTORY} for {@link FastRandomUuidFactory}.
+   *
+   * @since 8.7.1
+   */
+  public static final String FACTORY_FAST_RANDOM = "fastRandom";
+
+  /**
+   * Value of {@link #PROPERTY_UUID_FACTORY} for {@link TimeOrderedUuidFactory}.
+   *
+   * @since 8.7.1
+   */
+  public static final String FACTORY_TIME_ORDERED = "timeOrdered";
+
+  private static UuidFactory factory = createFactory(BasicHelper.getSystemProperty(PROPERTY_UUID_FACTORY));
 
   /**
    * The constructor.
@@ -23,6 +57,28 @@ public final class UuidAccess {
     super();
   }
 
+  /**
+   * @param name is the name of the {@link UuidFactory} (see {@link #PROPERTY_UUID_FACTORY}) or {@code null} for the
+   *        default.
+   * @return the according {@link UuidFactory}.
+   * @since 8.7.1
+   */
+  public static UuidFactory createFactory(String name) {
+
+    if ((name == null) || name.isEmpty() || FACTORY_RANDOM.equals(name)) {
+      return new RandomUuidFactory();
+    } else if (FACTORY_FAST_RANDOM.equals(name)) {
+      return new FastRandomUuidFactory();
+    } else if (FACTORY_TIME_ORDERED.equals(name)) {
+      return new TimeOrderedUuidFactory();
+    }
+    try {
+      return (UuidFactory) Class.forName(name).newInstance();
+    } catch (Exception e) {
+      throw new IllegalArgumentException(name, e);
+    }
+  }
+
   /**
    * This method gets the {@link UuidFactory} used to create {@link java.util.UUID}s.
    *
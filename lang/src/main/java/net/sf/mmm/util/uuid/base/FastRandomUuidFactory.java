@@ -0,0 +1,40 @@
+/* Copyright (c) The m-m-m Team, Licensed under the Apache License, Version 2.0
+ * http://www.apache.org/licenses/LICENSE-2.0 */
+package net.sf.mmm.util.uuid.base;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+import net.sf.mmm.util.uuid.api.UuidFactory;
+
+/**
+ * This is an implementation of the {@link UuidFactory} interface that creates random {@link UUID}s of
+ * {@link UUID#version() version} 4 like {@link RandomUuidFactory}. However, it uses {@link ThreadLocalRandom} instead
+ * of {@link java.security.SecureRandom} so it never blocks on entropy and has no contention between
+ * {@link Thread}s. <br>
+ * <b>ATTENTION:</b><br>
+ * The created {@link UUID}s are NOT cryptographically secure and shall not be used as secret tokens.
+ *
+ * @author Joerg Hohwiller (hohwille at users.sourceforge.net)
+ * @since 8.7.1
+ */
+public class FastRandomUuidFactory implements UuidFactory {
+
+  /**
+   * The constructor.
+   */
+  public FastRandomUuidFactory() {
+
+    super();
+  }
+
+  @Override
+  public UUID createUuid() {
+
+    ThreadLocalRandom random = ThreadLocalRandom.current();
+    long mostSigBits = (random.nextLong() & 0xFFFFFFFFFFFF0FFFL) | 0x4000L;
+    long leastSigBits = (random.nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+    return new UUID(mostSigBits, leastSigBits);
+  }
+
+}
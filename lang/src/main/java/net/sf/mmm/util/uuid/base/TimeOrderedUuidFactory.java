@@ -0,0 +1,82 @@
+/* Copyright (c) The m-m-m Team, Licensed under the Apache License, Version 2.0
+ * http://www.apache.org/licenses/LICENSE-2.0 */
+package net.sf.mmm.util.uuid.base;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+import net.sf.mmm.util.uuid.api.UuidFactory;
+
+/**
+ * This is an implementation of the {@link UuidFactory} interface that creates time-ordered {@link UUID}s of
+ * {@link UUID#version() version} 7 (see RFC 9562). The first 48 bits contain the current time in milliseconds since
+ * the epoch followed by a 12 bit counter and 62 random bits. All {@link UUID}s created by the same instance are
+ * strictly monotonic increasing (even if multiple {@link UUID}s are created within the same millisecond or the clock
+ * goes backwards). Such {@link UUID}s are well suited as primary keys as they are inserted at the end of B-tree
+ * indexes. <br>
+ * <b>ATTENTION:</b><br>
+ * The random bits are created by {@link ThreadLocalRandom} that never blocks but is NOT cryptographically secure.
+ * Also the {@link UUID}s reveal the time of their creation. Therefore they shall not be used as secret tokens.
+ *
+ * @author Joerg Hohwiller (hohwille at users.sourceforge.net)
+ * @since 8.7.1
+ */
+public class TimeOrderedUuidFactory implements UuidFactory {
+
+  private static final int COUNTER_BITS = 12;
+
+  private static final long COUNTER_MASK = (1L << COUNTER_BITS) - 1;
+
+  private static final long VERSION = 0x7000L;
+
+  private static final long VARIANT = 0x8000000000000000L;
+
+  private static final long RANDOM_MASK = 0x3FFFFFFFFFFFFFFFL;
+
+  /** The timestamp in milliseconds shifted by {@link #COUNTER_BITS} plus the counter. */
+  private final AtomicLong state;
+
+  /**
+   * The constructor.
+   */
+  public TimeOrderedUuidFactory() {
+
+    super();
+    this.state = new AtomicLong();
+  }
+
+  @Override
+  public UUID createUuid() {
+
+    long now = System.currentTimeMillis() << COUNTER_BITS;
+    long last;
+    long next;
+    do {
+      last = this.state.get();
+      if (now > last) {
+        next = now;
+      } else {
+        // same millisecond or clock went backwards: increment counter - overflow will increment the timestamp
+        next = last + 1;
+      }
+    } while (!this.state.compareAndSet(last, next));
+    long mostSigBits = ((next >>> COUNTER_BITS) << 16) | VERSION | (next & COUNTER_MASK);
+    long leastSigBits = (ThreadLocalRandom.current().nextLong() & RANDOM_MASK) | VARIANT;
+    return new UUID(mostSigBits, leastSigBits);
+  }
+
+  /**
+   * @param uuid is a {@link UUID} {@link #createUuid() created} by {@link TimeOrderedUuidFactory} (or any other
+   *        {@link UUID} of {@link UUID#version() version} 7).
+   * @return the timestamp of the given {@link UUID} in milliseconds since the epoch.
+   */
+  public static long getEpochMillis(UUID uuid) {
+
+    if (uuid.version() != 7) {
+      throw new IllegalArgumentException(uuid.toString());
+    }
+    return uuid.getMostSignificantBits() >>> 16;
+  }
+
+}
@@ -0,0 +1,77 @@
+/* Copyright (c) The m-m-m Team, Licensed under the Apache License, Version 2.0
+ * http://www.apache.org/licenses/LICENSE-2.0 */
+package net.sf.mmm.util.uuid.base;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+
+import org.assertj.core.api.Assertions;
+import org.junit.Test;
+
+import net.sf.mmm.util.uuid.api.UuidAccess;
+import net.sf.mmm.util.uuid.api.UuidFactory;
+
+/**
+ * Test of {@link UuidFactory} implementations.
+ */
+public class UuidFactoryTest extends Assertions {
+
+  private static final int COUNT = 10000;
+
+  /**
+   * Test of {@link TimeOrderedUuidFactory}.
+   */
+  @Test
+  public void testTimeOrdered() {
+
+    TimeOrderedUuidFactory factory = new TimeOrderedUuidFactory();
+    long start = System.currentTimeMillis();
+    UUID last = factory.createUuid();
+    for (int i = 0; i < COUNT; i++) {
+      UUID uuid = factory.createUuid();
+      assertThat(uuid.version()).isEqualTo(7);
+      assertThat(uuid.variant()).isEqualTo(2);
+      // UUID.compareTo uses signed comparison, hence compare the string representation
+      assertThat(uuid.toString().compareTo(last.toString())).isPositive();
+      last = uuid;
+    }
+    long end = System.currentTimeMillis() + COUNT / 4096 + 1;
+    assertThat(TimeOrderedUuidFactory.getEpochMillis(last)).isBetween(start, end);
+  }
+
+  /**
+   * Test of {@link FastRandomUuidFactory}.
+   */
+  @Test
+  public void testFastRandom() {
+
+    checkUnique(new FastRandomUuidFactory(), 4);
+  }
+
+  /**
+   * Test of {@link UuidAccess#createFactory(String)}.
+   */
+  @Test
+  public void testCreateFactory() {
+
+    assertThat(UuidAccess.createFactory(null)).isInstanceOf(RandomUuidFactory.class);
+    assertThat(UuidAccess.createFactory(UuidAccess.FACTORY_FAST_RANDOM)).isInstanceOf(FastRandomUuidFactory.class);
+    assertThat(UuidAccess.createFactory(UuidAccess.FACTORY_TIME_ORDERED)).isInstanceOf(TimeOrderedUuidFactory.class);
+    assertThat(UuidAccess.createFactory(TimeOrderedUuidFactory.class.getName()))
+        .isInstanceOf(TimeOrderedUuidFactory.class);
+    checkUnique(UuidAccess.createFactory(UuidAccess.FACTORY_TIME_ORDERED), 7);
+  }
+
+  private void checkUnique(UuidFactory factory, int version) {
+
+    Set<UUID> uuids = new HashSet<>();
+    for (int i = 0; i < COUNT; i++) {
+      UUID uuid = factory.createUuid();
+      assertThat(uuid.version()).isEqualTo(version);
+      assertThat(uuid.variant()).isEqualTo(2);
+      assertThat(uuids.add(uuid)).isTrue();
+    }
+  }
+
+}
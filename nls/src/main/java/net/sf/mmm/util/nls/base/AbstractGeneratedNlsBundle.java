@@ -0,0 +1,129 @@
+/* Copyright (c) The m-m-m Team, Licensed under the Apache License, Version 2.0
+ * http://www.apache.org/licenses/LICENSE-2.0 */
+package net.sf.mmm.util.nls.base;
+
+import java.util.Map;
+
+import net.sf.mmm.util.nls.api.NlsBundle;
+import net.sf.mmm.util.nls.api.NlsMessage;
+import net.sf.mmm.util.nls.api.NlsMessageFactory;
+import net.sf.mmm.util.nls.api.NlsTemplate;
+
+/**
+ * This is the abstract base class for the implementations of {@link NlsBundle} interfaces generated at compile-time by
+ * the {@link net.sf.mmm.util.nls.impl.processor.GenerateNlsBundleProcessor}. The generated methods create their
+ * {@link NlsMessage}s from {@link NlsTemplate}s and argument names resolved once when the bundle is created so
+ * neither reflection nor a {@link java.util.HashMap} is required per invocation. <br>
+ * The generated class resides in the same package as the {@link NlsBundle} interface and is named after the
+ * {@link Class#getName() binary name} of the interface without the package where {@code $} is replaced with
+ * {@code _} followed by {@link #CLASS_SUFFIX}. If no such class is available, {@link AbstractNlsBundleFactory} falls
+ * back to a {@link java.lang.reflect.Proxy}.
+ *
+ * @author Joerg Hohwiller (hohwille at users.sourceforge.net)
+ * @since 8.7.1
+ */
+public abstract class AbstractGeneratedNlsBundle implements NlsBundle {
+
+  /** The suffix appended to the name of the {@link NlsBundle} interface to get the name of the generated class. */
+  public static final String CLASS_SUFFIX = "_Impl";
+
+  private final NlsMessageFactory messageFactory;
+
+  private final String bundleName;
+
+  /**
+   * The constructor.
+   *
+   * @param messageFactory is the {@link NlsMessageFactory} used to create the {@link NlsMessage}s.
+   * @param bundleName is the {@link NlsBundleHelper#getQualifiedLocation(Class) qualified name} of the
+   *        {@link java.util.ResourceBundle}.
+   */
+  public AbstractGeneratedNlsBundle(NlsMessageFactory messageFactory, String bundleName) {
+
+    super();
+    this.messageFactory = messageFactory;
+    this.bundleName = bundleName;
+  }
+
+  /**
+   * @param key is the {@link net.sf.mmm.util.nls.api.NlsBundleKey key} of the message.
+   * @param message is the {@link net.sf.mmm.util.nls.api.NlsBundleMessage message} or {@code null} if not present.
+   * @return the {@link NlsTemplate} for the given {@code key} and {@code message}.
+   */
+  protected NlsTemplate createTemplate(String key, String message) {
+
+    if (message == null) {
+      return new NlsTemplateImpl(this.bundleName, key);
+    }
+    return new NlsTemplateImplWithMessage(this.bundleName, key, message);
+  }
+
+  /**
+   * @param template is the {@link NlsTemplate} of the invoked {@link NlsBundle}-method.
+   * @return the new {@link NlsMessage} without {@link NlsMessage#getArgument(String) arguments}.
+   */
+  protected NlsMessage createMessage(NlsTemplate template) {
+
+    return this.messageFactory.create(template);
+  }
+
+  /**
+   * @param template is the {@link NlsTemplate} of the invoked {@link NlsBundle}-method.
+   * @param argumentNames are the unique names of the {@link NlsMessage#getArgument(String) arguments}.
+   * @param arguments are the arguments of the invocation in the order of the {@code argumentNames}.
+   * @return the new {@link NlsMessage}.
+   */
+  protected NlsMessage createMessage(NlsTemplate template, String[] argumentNames, Object[] arguments) {
+
+    return this.messageFactory.create(template, new NlsBundleArgumentMap(argumentNames, arguments));
+  }
+
+  /**
+   * Implementation of {@link net.sf.mmm.util.nls.api.NlsBundleWithLookup#getMessage(String, Map)} for a resolved
+   * {@link NlsBundle}-method.
+   *
+   * @param template is the {@link NlsTemplate} of the {@link NlsBundle}-method or {@code null} if undefined.
+   * @param arguments are the {@link NlsMessage#getArgument(String) arguments} or {@code null}.
+   * @return the new {@link NlsMessage} or {@code null} if {@code template} is {@code null}.
+   */
+  protected NlsMessage lookupMessage(NlsTemplate template, Map<String, Object> arguments) {
+
+    if (template == null) {
+      return null;
+    } else if ((arguments == null) || arguments.isEmpty()) {
+      return this.messageFactory.create(template);
+    }
+    return this.messageFactory.create(template, arguments);
+  }
+
+  @Override
+  public int hashCode() {
+
+    return this.bundleName.hashCode();
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+
+    return (obj == this);
+  }
+
+  @Override
+  public String toString() {
+
+    return this.bundleName;
+  }
+
+  /**
+   * @param bundleInterfaceName is the {@link Class#getName() binary name} of the {@link NlsBundle} interface.
+   * @return the {@link Class#getName() qualified name} of the generated implementation for the given
+   *         {@code bundleInterfaceName}.
+   */
+  public static String getGeneratedClassName(String bundleInterfaceName) {
+
+    int lastDot = bundleInterfaceName.lastIndexOf('.');
+    String simpleName = bundleInterfaceName.substring(lastDot + 1).replace('$', '_');
+    return bundleInterfaceName.substring(0, lastDot + 1) + simpleName + CLASS_SUFFIX;
+  }
+
+}
@@ -10,7 +10,6 @@ import java.lang.reflect.Proxy;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
@@ -20,6 +19,9 @@ import javax.inject.Inject;
 import javax.inject.Named;
 import javax.inject.Provider;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
 import net.sf.mmm.util.component.base.AbstractComponent;
 import net.sf.mmm.util.nls.api.NlsAccess;
 import net.sf.mmm.util.nls.api.NlsBundle;
@@ -32,7 +34,8 @@ import net.sf.mmm.util.nls.api.NlsMessageFactory;
 import net.sf.mmm.util.nls.api.NlsTemplate;
 
 /**
- * This is the abstract base implementation of {@link NlsBundleFactory}.
+ * This is the abstract base implementation of {@link NlsBundleFactory}. It uses the {@link AbstractGeneratedNlsBundle
+ * implementations} generated at compile-time if available and falls back to a {@link Proxy} otherwise.
  *
  * @author Joerg Hohwiller (hohwille at users.sourceforge.net)
  * @since 3.0.0
@@ -40,6 +43,8 @@ import net.sf.mmm.util.nls.api.NlsTemplate;
 @NlsBundleOptions // annotation here is used to get a default as fallback
 public abstract class AbstractNlsBundleFactory extends AbstractComponent implements NlsBundleFactory {
 
+  private static final Logger LOG = LoggerFactory.getLogger(AbstractNlsBundleFactory.class);
+
   /** The name of the method {@link net.sf.mmm.util.nls.api.NlsBundleWithLookup#getMessage(String, Map)}. */
   public static final String METHOD_NAME_LOOKUP = "getMessage";
 
@@ -155,11 +160,45 @@ public abstract class AbstractNlsBundleFactory extends AbstractComponent impleme
     if (!bundleInterface.isInterface()) {
       throw new IllegalArgumentException(bundleInterface.getName());
     }
-    InvocationHandler handler = createHandler(bundleInterface);
-    BUNDLE result = (BUNDLE) Proxy.newProxyInstance(this.classLoader, new Class<?>[] { bundleInterface }, handler);
+    BUNDLE result = createGeneratedBundle(bundleInterface);
+    if (result == null) {
+      InvocationHandler handler = createHandler(bundleInterface);
+      result = (BUNDLE) Proxy.newProxyInstance(this.classLoader, new Class<?>[] { bundleInterface }, handler);
+    }
     return result;
   }
 
+  /**
+   * This method creates an instance of the {@link AbstractGeneratedNlsBundle implementation} generated at
+   * compile-time for the given {@code bundleInterface}.
+   *
+   * @param <BUNDLE> is the generic type of the {@link NlsBundle}.
+   * @param bundleInterface is the {@link Class} reflecting the {@link NlsBundle} interface.
+   * @return the generated {@link NlsBundle} or {@code null} if not available so a {@link Proxy} has to be used.
+   */
+  protected <BUNDLE extends NlsBundle> BUNDLE createGeneratedBundle(Class<BUNDLE> bundleInterface) {
+
+    ClassLoader bundleClassLoader = bundleInterface.getClassLoader();
+    if ((bundleClassLoader == null) || (this.messageFactory == null)) {
+      return null;
+    }
+    String generatedClassName = AbstractGeneratedNlsBundle.getGeneratedClassName(bundleInterface.getName());
+    try {
+      Class<?> generatedClass = Class.forName(generatedClassName, true, bundleClassLoader);
+      if (AbstractGeneratedNlsBundle.class.isAssignableFrom(generatedClass)
+          && bundleInterface.isAssignableFrom(generatedClass)) {
+        Object bundle = generatedClass.getConstructor(NlsMessageFactory.class).newInstance(this.messageFactory);
+        return bundleInterface.cast(bundle);
+      }
+      LOG.warn("Ignoring {} that does not implement {}", generatedClassName, bundleInterface.getName());
+    } catch (ClassNotFoundException e) {
+      LOG.trace("No generated implementation for {}", bundleInterface);
+    } catch (ReflectiveOperationException | RuntimeException | LinkageError e) {
+      LOG.warn("Failed to create generated implementation {}", generatedClassName, e);
+    }
+    return null;
+  }
+
   /**
    * This method gets the {@link NlsBundleOptions} for the given {@code bundleInterface}. If NOT present a default
    * instance is returned.
@@ -214,7 +253,13 @@ public abstract class AbstractNlsBundleFactory extends AbstractComponent impleme
     Iterable<Class<? extends NlsBundle>> classes = this.bundleLocator.findBundles();
     for (Class<? extends NlsBundle> bundleInterface : classes) {
       NlsBundle bundle = createBundle(bundleInterface);
-      NlsBundleInvocationHandler invocationHandler = (NlsBundleInvocationHandler) Proxy.getInvocationHandler(bundle);
+      NlsBundleInvocationHandler invocationHandler;
+      if (Proxy.isProxyClass(bundle.getClass())) {
+        invocationHandler = (NlsBundleInvocationHandler) Proxy.getInvocationHandler(bundle);
+      } else {
+        // generated bundle - the handler is only used to describe the templates
+        invocationHandler = (NlsBundleInvocationHandler) createHandler(bundleInterface);
+      }
       invocationHandler.populate();
       descriptors.add(invocationHandler);
     }
@@ -279,15 +324,8 @@ public abstract class AbstractNlsBundleFactory extends AbstractComponent impleme
      */
     protected Map<String, Object> createArgumentMap(Method method, NlsBundleMethodInfo methodInfo, Object[] arguments) {
 
-      Map<String, Object> map = new HashMap<>();
-      String[] argumentNames = methodInfo.argumentNames;
-      for (int i = 0; i < arguments.length; i++) {
-        Object old = map.put(argumentNames[i], arguments[i]);
-        if (old != null) {
-          throw new IllegalStateException("Duplicate argument name '" + argumentNames[i] + "' in '" + method.getName() + "'.");
-        }
-      }
-      return map;
+      // argument names have already been verified to be unique in createMethodInfo
+      return new NlsBundleArgumentMap(methodInfo.argumentNames, arguments);
     }
 
     /**
@@ -430,6 +468,14 @@ public abstract class AbstractNlsBundleFactory extends AbstractComponent impleme
         argumentNames = EMPTY_STRING_ARRAY;
       } else {
         argumentNames = getArgumentNames(identifiedMethod);
+        for (int i = 1; i < argumentNames.length; i++) {
+          for (int j = 0; j < i; j++) {
+            if (argumentNames[i].equals(argumentNames[j])) {
+              throw new IllegalStateException(
+                  "Duplicate argument name '" + argumentNames[i] + "' in '" + methodName + "'.");
+            }
+          }
+        }
       }
       return new NlsBundleMethodInfo(template, argumentNames);
     }
@@ -0,0 +1,122 @@
+/* Copyright (c) The m-m-m Team, Licensed under the Apache License, Version 2.0
+ * http://www.apache.org/licenses/LICENSE-2.0 */
+package net.sf.mmm.util.nls.base;
+
+import java.io.Serializable;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * An immutable {@link java.util.Map} view on the arguments of an {@link net.sf.mmm.util.nls.api.NlsBundle}-method
+ * invocation. It shares the names of the arguments resolved once for the method and the argument array of the
+ * invocation so no hash table has to be built per call. As {@link net.sf.mmm.util.nls.api.NlsBundle} methods only
+ * have a few parameters, a linear scan is faster than hashing.
+ *
+ * @see AbstractNlsBundleFactory
+ * @see AbstractGeneratedNlsBundle
+ *
+ * @author Joerg Hohwiller (hohwille at users.sourceforge.net)
+ * @since 8.7.1
+ */
+final class NlsBundleArgumentMap extends AbstractMap<String, Object> implements Serializable {
+
+  private static final long serialVersionUID = 1L;
+
+  private final String[] names;
+
+  private final Object[] values;
+
+  /**
+   * The constructor.
+   *
+   * @param names are the unique names of the arguments.
+   * @param values are the values of the arguments in the order of the {@code names}.
+   */
+  NlsBundleArgumentMap(String[] names, Object[] values) {
+
+    super();
+    this.names = names;
+    this.values = values;
+  }
+
+  private int indexOf(Object key) {
+
+    for (int i = 0; i < this.values.length; i++) {
+      if (this.names[i].equals(key)) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  @Override
+  public Object get(Object key) {
+
+    int index = indexOf(key);
+    if (index < 0) {
+      return null;
+    }
+    return this.values[index];
+  }
+
+  @Override
+  public boolean containsKey(Object key) {
+
+    return (indexOf(key) >= 0);
+  }
+
+  @Override
+  public int size() {
+
+    return this.values.length;
+  }
+
+  @Override
+  public boolean isEmpty() {
+
+    return (this.values.length == 0);
+  }
+
+  @Override
+  public Set<Entry<String, Object>> entrySet() {
+
+    return new AbstractSet<Entry<String, Object>>() {
+
+      @Override
+      public Iterator<Entry<String, Object>> iterator() {
+
+        return new Iterator<Entry<String, Object>>() {
+
+          private int index;
+
+          @Override
+          public boolean hasNext() {
+
+            return (this.index < NlsBundleArgumentMap.this.values.length);
+          }
+
+          @Override
+          public Entry<String, Object> next() {
+
+            if (this.index >= NlsBundleArgumentMap.this.values.length) {
+              throw new NoSuchElementException();
+            }
+            int i = this.index++;
+            return new SimpleImmutableEntry<>(NlsBundleArgumentMap.this.names[i], NlsBundleArgumentMap.this.values[i]);
+          }
+        };
+      }
+
+      @Override
+      public int size() {
+
+        return NlsBundleArgumentMap.this.values.length;
+      }
+    };
+  }
+
+}
+
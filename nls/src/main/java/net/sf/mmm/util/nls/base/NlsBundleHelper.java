@@ -31,6 +31,8 @@ public class NlsBundleHelper {
   /** @see #getInstance() */
   public static final NlsBundleHelper INSTANCE = new NlsBundleHelper();
 
+  private volatile NlsResourceBundleStore resourceBundleStore;
+
   /**
    * The constructor.
    */
@@ -93,6 +95,27 @@ public class NlsBundleHelper {
     return ResourceBundle.getBundle(qualifiedBundleName, locale, ResourceBundleControlUtf8WithNlsBundleSupport.INSTANCE);
   }
 
+  /**
+   * @return the {@link NlsResourceBundleStore} with the precompiled messages or {@code null} if not
+   *         {@link #setResourceBundleStore(NlsResourceBundleStore) set}.
+   * @since 8.7.1
+   */
+  public NlsResourceBundleStore getResourceBundleStore() {
+
+    return this.resourceBundleStore;
+  }
+
+  /**
+   * @param resourceBundleStore is the {@link NlsResourceBundleStore} with the precompiled messages to use for
+   *        {@link NlsTemplateImpl#translate(Locale) translation} before falling back to
+   *        {@link #getResourceBundle(String, Locale) resource bundles}. May be {@code null} to disable.
+   * @since 8.7.1
+   */
+  public void setResourceBundleStore(NlsResourceBundleStore resourceBundleStore) {
+
+    this.resourceBundleStore = resourceBundleStore;
+  }
+
   /**
    * @param method the {@link NlsBundle} {@link Method}.
    * @return the {@link NlsBundleMessage#value() bundle message} or {@code null} if not present.
@@ -164,7 +187,10 @@ public class NlsBundleHelper {
       if (isNlsBundleMethod(method, false)) {
         String key = getKey(method);
         String message = getMessage(method);
-        bundleProperties.put(key, message);
+        if (message != null) {
+          // e.g. NlsBundleWithLookup.getMessage(String, Map) has no message
+          bundleProperties.put(key, message);
+        }
       }
     }
     GenericResourceBundle bundle = new GenericResourceBundle(bundleProperties);
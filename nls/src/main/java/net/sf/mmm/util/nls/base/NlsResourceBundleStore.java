@@ -0,0 +1,309 @@
+/* Copyright (c) The m-m-m Team, Licensed under the Apache License, Version 2.0
+ * http://www.apache.org/licenses/LICENSE-2.0 */
+package net.sf.mmm.util.nls.base;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.ResourceBundle;
+import java.util.Set;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import net.sf.mmm.util.nls.api.NlsBundle;
+
+/**
+ * This is an immutable store with the messages of many {@link ResourceBundle}s precompiled for a fixed set of
+ * {@link Locale}s. For each {@link Locale} the messages are flattened with all their fallbacks (parent bundles) so
+ * {@link #getMessage(String, String, Locale) looking up} a message is a plain hash access without
+ * {@link ResourceBundle#getBundle(String, Locale, java.util.ResourceBundle.Control) resolving} bundles and their
+ * candidate {@link Locale}s. <br>
+ * A store is {@link #create(NlsBundleLocator, Collection) created} from the {@link NlsBundle}s found by a
+ * {@link NlsBundleLocator} (e.g. {@link NlsBundleLocatorClasspathScanner}) typically at build time and
+ * {@link #write(OutputStream) written} to a compact binary file that is {@link #read(InputStream) read} at startup
+ * instead of parsing all the {@code .properties} files. To use it for the translation of
+ * {@link NlsTemplateImpl templates} register it via
+ * {@link NlsBundleHelper#setResourceBundleStore(NlsResourceBundleStore)}. Messages for {@link Locale}s or bundles not
+ * contained in the store are still resolved via {@link ResourceBundle}.
+ *
+ * @author Joerg Hohwiller (hohwille at users.sourceforge.net)
+ * @since 8.7.1
+ */
+public class NlsResourceBundleStore {
+
+  private static final Logger LOG = LoggerFactory.getLogger(NlsResourceBundleStore.class);
+
+  /** The magic number at the start of the binary format ("NLSB"). */
+  private static final int MAGIC = 0x4E4C5342;
+
+  /** The version of the binary format. */
+  private static final int VERSION = 1;
+
+  private final Map<Locale, Map<String, Map<String, String>>> locale2bundlesMap;
+
+  /**
+   * The constructor.
+   *
+   * @param locale2bundlesMap maps from {@link Locale} to bundle name to key to message.
+   */
+  NlsResourceBundleStore(Map<Locale, Map<String, Map<String, String>>> locale2bundlesMap) {
+
+    super();
+    this.locale2bundlesMap = locale2bundlesMap;
+  }
+
+  /**
+   * @param bundleName is the {@link NlsTemplateImpl#getName() qualified name} of the {@link ResourceBundle}.
+   * @param key is the {@link NlsTemplateImpl#getKey() key} of the message.
+   * @param locale is the {@link Locale} to translate to.
+   * @return the message or {@code null} if NOT contained in this store.
+   */
+  public String getMessage(String bundleName, String key, Locale locale) {
+
+    Map<String, Map<String, String>> bundles = this.locale2bundlesMap.get(locale);
+    if (bundles == null) {
+      return null;
+    }
+    Map<String, String> messages = bundles.get(bundleName);
+    if (messages == null) {
+      return null;
+    }
+    return messages.get(key);
+  }
+
+  /**
+   * @return the {@link Set} of {@link Locale}s contained in this store.
+   */
+  public Set<Locale> getLocales() {
+
+    return Collections.unmodifiableSet(this.locale2bundlesMap.keySet());
+  }
+
+  /**
+   * Precompiles the {@link ResourceBundle}s of all {@link NlsBundle}s {@link NlsBundleLocator#findBundles() found} by
+   * the given {@link NlsBundleLocator}. The messages are resolved like
+   * {@link NlsBundleHelper#getResourceBundle(String, Locale)} does but without the fallback to the
+   * {@link Locale#getDefault() default locale} so the store does not depend on the machine it is created on.
+   *
+   * @param bundleLocator is the {@link NlsBundleLocator} (e.g. {@link NlsBundleLocatorClasspathScanner}).
+   * @param locales are the {@link Locale}s to precompile. {@link AbstractNlsMessage#LOCALE_ROOT} is always included.
+   * @return the new {@link NlsResourceBundleStore}.
+   */
+  public static NlsResourceBundleStore create(NlsBundleLocator bundleLocator, Collection<Locale> locales) {
+
+    NlsBundleHelper bundleHelper = NlsBundleHelper.getInstance();
+    List<String> bundleNames = new ArrayList<>();
+    for (Class<? extends NlsBundle> bundleInterface : bundleLocator.findBundles()) {
+      bundleNames.add(bundleHelper.getQualifiedLocation(bundleInterface));
+    }
+    List<Locale> allLocales = new ArrayList<>(locales);
+    if (!allLocales.contains(AbstractNlsMessage.LOCALE_ROOT)) {
+      allLocales.add(AbstractNlsMessage.LOCALE_ROOT);
+    }
+    Map<String, String> stringCache = new HashMap<>();
+    Map<Locale, Map<String, Map<String, String>>> locale2bundlesMap = new HashMap<>(allLocales.size());
+    for (Locale locale : allLocales) {
+      Map<String, Map<String, String>> bundles = new HashMap<>(bundleNames.size());
+      for (String bundleName : bundleNames) {
+        ResourceBundle bundle;
+        try {
+          bundle = ResourceBundle.getBundle(bundleName, locale, NoFallbackControl.INSTANCE);
+        } catch (RuntimeException e) {
+          LOG.warn("Failed to load bundle {} for locale {}: {}", bundleName, locale, e.toString());
+          continue;
+        }
+        Map<String, String> messages = new HashMap<>();
+        // keys include those of the parent bundles (fallbacks)
+        Enumeration<String> keys = bundle.getKeys();
+        while (keys.hasMoreElements()) {
+          String key = keys.nextElement();
+          Object message = bundle.getObject(key);
+          if (message instanceof String) {
+            messages.put(intern(stringCache, key), intern(stringCache, (String) message));
+          }
+        }
+        bundles.put(bundleName, messages);
+      }
+      locale2bundlesMap.put(locale, bundles);
+    }
+    return new NlsResourceBundleStore(locale2bundlesMap);
+  }
+
+  private static String intern(Map<String, String> stringCache, String string) {
+
+    String cached = stringCache.putIfAbsent(string, string);
+    if (cached == null) {
+      return string;
+    }
+    return cached;
+  }
+
+  /**
+   * Writes this store in a compact binary format. Every distinct {@link String} is written only once so messages
+   * inherited from fallbacks do not increase the size.
+   *
+   * @see #read(InputStream)
+   *
+   * @param outputStream is the {@link OutputStream} to write to. It will NOT be closed.
+   * @throws IOException if an I/O error occurred.
+   */
+  public void write(OutputStream outputStream) throws IOException {
+
+    Map<String, Integer> stringIndexes = new HashMap<>();
+    List<String> strings = new ArrayList<>();
+    for (Map.Entry<Locale, Map<String, Map<String, String>>> localeEntry : this.locale2bundlesMap.entrySet()) {
+      index(localeEntry.getKey().toLanguageTag(), stringIndexes, strings);
+      for (Map.Entry<String, Map<String, String>> bundleEntry : localeEntry.getValue().entrySet()) {
+        index(bundleEntry.getKey(), stringIndexes, strings);
+        for (Map.Entry<String, String> messageEntry : bundleEntry.getValue().entrySet()) {
+          index(messageEntry.getKey(), stringIndexes, strings);
+          index(messageEntry.getValue(), stringIndexes, strings);
+        }
+      }
+    }
+    DataOutputStream out = new DataOutputStream(outputStream);
+    out.writeInt(MAGIC);
+    writeInt(out, VERSION);
+    writeInt(out, strings.size());
+    for (String string : strings) {
+      byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+      writeInt(out, bytes.length);
+      out.write(bytes);
+    }
+    writeInt(out, this.locale2bundlesMap.size());
+    for (Map.Entry<Locale, Map<String, Map<String, String>>> localeEntry : this.locale2bundlesMap.entrySet()) {
+      writeInt(out, stringIndexes.get(localeEntry.getKey().toLanguageTag()).intValue());
+      Map<String, Map<String, String>> bundles = localeEntry.getValue();
+      writeInt(out, bundles.size());
+      for (Map.Entry<String, Map<String, String>> bundleEntry : bundles.entrySet()) {
+        writeInt(out, stringIndexes.get(bundleEntry.getKey()).intValue());
+        Map<String, String> messages = bundleEntry.getValue();
+        writeInt(out, messages.size());
+        for (Map.Entry<String, String> messageEntry : messages.entrySet()) {
+          writeInt(out, stringIndexes.get(messageEntry.getKey()).intValue());
+          writeInt(out, stringIndexes.get(messageEntry.getValue()).intValue());
+        }
+      }
+    }
+    out.flush();
+  }
+
+  private static void index(String string, Map<String, Integer> stringIndexes, List<String> strings) {
+
+    if (!stringIndexes.containsKey(string)) {
+      stringIndexes.put(string, Integer.valueOf(strings.size()));
+      strings.add(string);
+    }
+  }
+
+  /**
+   * Writes a non-negative {@code int} using 7 bits per byte so small values only need a single byte.
+   *
+   * @param out is the {@link DataOutputStream} to write to.
+   * @param value is the value to write.
+   * @throws IOException if an I/O error occurred.
+   */
+  private static void writeInt(DataOutputStream out, int value) throws IOException {
+
+    int rest = value;
+    while ((rest & ~0x7F) != 0) {
+      out.writeByte((rest & 0x7F) | 0x80);
+      rest = rest >>> 7;
+    }
+    out.writeByte(rest);
+  }
+
+  private static int readInt(DataInputStream in) throws IOException {
+
+    int value = 0;
+    for (int shift = 0; shift < 32; shift = shift + 7) {
+      int b = in.readUnsignedByte();
+      value = value | ((b & 0x7F) << shift);
+      if ((b & 0x80) == 0) {
+        return value;
+      }
+    }
+    throw new IOException("Malformed integer");
+  }
+
+  /**
+   * Reads a store {@link #write(OutputStream) written} before.
+   *
+   * @param inputStream is the {@link InputStream} to read from. It will NOT be closed.
+   * @return the {@link NlsResourceBundleStore} that has been read.
+   * @throws IOException if an I/O error occurred or the data is not in the expected format.
+   */
+  public static NlsResourceBundleStore read(InputStream inputStream) throws IOException {
+
+    DataInputStream in = new DataInputStream(inputStream);
+    if (in.readInt() != MAGIC) {
+      throw new IOException("Not a resource bundle store");
+    }
+    int version = readInt(in);
+    if (version != VERSION) {
+      throw new IOException("Unsupported resource bundle store version " + version);
+    }
+    String[] strings = new String[readInt(in)];
+    for (int i = 0; i < strings.length; i++) {
+      byte[] bytes = new byte[readInt(in)];
+      in.readFully(bytes);
+      strings[i] = new String(bytes, StandardCharsets.UTF_8);
+    }
+    int localeCount = readInt(in);
+    Map<Locale, Map<String, Map<String, String>>> locale2bundlesMap = new HashMap<>(localeCount);
+    for (int l = 0; l < localeCount; l++) {
+      Locale locale = Locale.forLanguageTag(readString(in, strings));
+      int bundleCount = readInt(in);
+      Map<String, Map<String, String>> bundles = new HashMap<>(bundleCount);
+      for (int b = 0; b < bundleCount; b++) {
+        String bundleName = readString(in, strings);
+        int messageCount = readInt(in);
+        Map<String, String> messages = new HashMap<>(messageCount);
+        for (int m = 0; m < messageCount; m++) {
+          String key = readString(in, strings);
+          messages.put(key, readString(in, strings));
+        }
+        bundles.put(bundleName, messages);
+      }
+      locale2bundlesMap.put(locale, bundles);
+    }
+    return new NlsResourceBundleStore(locale2bundlesMap);
+  }
+
+  private static String readString(DataInputStream in, String[] strings) throws IOException {
+
+    int index = readInt(in);
+    if ((index < 0) || (index >= strings.length)) {
+      throw new IOException("Invalid string index " + index);
+    }
+    return strings[index];
+  }
+
+  /**
+   * {@link ResourceBundleControlUtf8WithNlsBundleSupport} that does not fall back to the
+   * {@link Locale#getDefault() default locale}.
+   */
+  private static final class NoFallbackControl extends ResourceBundleControlUtf8WithNlsBundleSupport {
+
+    private static final NoFallbackControl INSTANCE = new NoFallbackControl();
+
+    @Override
+    public Locale getFallbackLocale(String baseName, Locale locale) {
+
+      return null;
+    }
+  }
+
+}
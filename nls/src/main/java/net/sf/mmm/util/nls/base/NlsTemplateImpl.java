@@ -71,8 +71,16 @@ public class NlsTemplateImpl extends AbstractNlsTemplate {
   @Override
   public String translate(Locale locale) {
 
+    NlsBundleHelper bundleHelper = NlsBundleHelper.getInstance();
+    NlsResourceBundleStore store = bundleHelper.getResourceBundleStore();
+    if (store != null) {
+      String message = store.getMessage(this.name, this.key, locale);
+      if (message != null) {
+        return message;
+      }
+    }
     try {
-      ResourceBundle bundle = NlsBundleHelper.getInstance().getResourceBundle(this.name, locale);
+      ResourceBundle bundle = bundleHelper.getResourceBundle(this.name, locale);
       return bundle.getString(this.key);
     } catch (Exception e) {
       return translateFallback(e);
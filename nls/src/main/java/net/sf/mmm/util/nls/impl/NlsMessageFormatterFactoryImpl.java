@@ -2,6 +2,12 @@
  * http://www.apache.org/licenses/LICENSE-2.0 */
 package net.sf.mmm.util.nls.impl;
 
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
 import javax.inject.Inject;
 
 import net.sf.mmm.util.component.base.AbstractComponent;
@@ -11,13 +17,31 @@ import net.sf.mmm.util.nls.base.NlsDependencies;
 import net.sf.mmm.util.nls.impl.formatter.NlsMessageFormatterImpl;
 
 /**
- * This is the implementation of the {@link NlsMessageFormatterFactory}.
+ * This is the implementation of the {@link NlsMessageFormatterFactory}. As parsing a message template is expensive
+ * and the same templates are formatted over and over again, the {@link NlsMessageFormatter}s are cached. The cache is
+ * bounded by the {@link #setCacheSize(int) cache size}. If it is exceeded, entries that have not been used recently are
+ * evicted. {@link #getCacheHitCount() Statistics} are available to tune the size.
  *
  * @author Joerg Hohwiller (hohwille at users.sourceforge.net)
  * @since 2.0.0
  */
 public class NlsMessageFormatterFactoryImpl extends AbstractComponent implements NlsMessageFormatterFactory {
 
+  /** The default {@link #setCacheSize(int) cache size}. */
+  public static final int DEFAULT_CACHE_SIZE = 1024;
+
+  private final Map<String, CacheEntry> cache;
+
+  private final ReentrantLock evictionLock;
+
+  private final LongAdder hitCount;
+
+  private final LongAdder missCount;
+
+  private final LongAdder evictionCount;
+
+  private int cacheSize;
+
   private NlsDependencies dependencies;
 
   /**
@@ -26,14 +50,148 @@ public class NlsMessageFormatterFactoryImpl extends AbstractComponent implements
   public NlsMessageFormatterFactoryImpl() {
 
     super();
+    this.cache = new ConcurrentHashMap<>();
+    this.evictionLock = new ReentrantLock();
+    this.hitCount = new LongAdder();
+    this.missCount = new LongAdder();
+    this.evictionCount = new LongAdder();
+    this.cacheSize = DEFAULT_CACHE_SIZE;
   }
 
   @Override
   public NlsMessageFormatter create(String message) {
 
+    if (this.cacheSize <= 0) {
+      return createFormatter(message);
+    }
+    CacheEntry entry = this.cache.get(message);
+    if (entry != null) {
+      entry.used = true;
+      this.hitCount.increment();
+      return entry.formatter;
+    }
+    this.missCount.increment();
+    // not using computeIfAbsent as parsing may recursively create nested formatters
+    NlsMessageFormatter formatter = createFormatter(message);
+    CacheEntry existing = this.cache.putIfAbsent(message, new CacheEntry(formatter));
+    if (existing != null) {
+      return existing.formatter;
+    }
+    if (this.cache.size() > this.cacheSize) {
+      evict();
+    }
+    return formatter;
+  }
+
+  /**
+   * @param message is the template for the message.
+   * @return the new {@link NlsMessageFormatter} for the given {@code message}.
+   * @see #create(String)
+   */
+  protected NlsMessageFormatter createFormatter(String message) {
+
     return new NlsMessageFormatterImpl(message, this.dependencies);
   }
 
+  /**
+   * Evicts entries from the cache until the {@link #getCacheSize() cache size} is not exceeded anymore. Entries that
+   * have been used since the last eviction get a second chance (CLOCK algorithm approximating LRU).
+   */
+  private void evict() {
+
+    if (!this.evictionLock.tryLock()) {
+      // another thread is already evicting
+      return;
+    }
+    try {
+      int excess = this.cache.size() - this.cacheSize;
+      while (excess > 0) {
+        Iterator<CacheEntry> iterator = this.cache.values().iterator();
+        while ((excess > 0) && iterator.hasNext()) {
+          CacheEntry entry = iterator.next();
+          if (entry.used) {
+            entry.used = false;
+          } else {
+            iterator.remove();
+            this.evictionCount.increment();
+            excess--;
+          }
+        }
+        // other threads may have added entries concurrently
+        excess = this.cache.size() - this.cacheSize;
+      }
+    } finally {
+      this.evictionLock.unlock();
+    }
+  }
+
+  /**
+   * @return the maximum number of {@link NlsMessageFormatter}s to cache. A value less or equal to {@code 0} disables
+   *         caching.
+   * @since 8.7.1
+   */
+  public int getCacheSize() {
+
+    return this.cacheSize;
+  }
+
+  /**
+   * @param cacheSize is the maximum number of {@link NlsMessageFormatter}s to cache. Use {@code 0} to disable caching.
+   *        The default is {@link #DEFAULT_CACHE_SIZE}.
+   * @since 8.7.1
+   */
+  public void setCacheSize(int cacheSize) {
+
+    getInitializationState().requireNotInitilized();
+    this.cacheSize = cacheSize;
+  }
+
+  /**
+   * @return the number of {@link #create(String) requests} served from the cache.
+   * @since 8.7.1
+   */
+  public long getCacheHitCount() {
+
+    return this.hitCount.sum();
+  }
+
+  /**
+   * @return the number of {@link #create(String) requests} that had to parse the message template.
+   * @since 8.7.1
+   */
+  public long getCacheMissCount() {
+
+    return this.missCount.sum();
+  }
+
+  /**
+   * @return the number of {@link NlsMessageFormatter}s evicted from the cache because the {@link #getCacheSize() cache
+   *         size} was exceeded.
+   * @since 8.7.1
+   */
+  public long getCacheEvictionCount() {
+
+    return this.evictionCount.sum();
+  }
+
+  /**
+   * Removes all cached {@link NlsMessageFormatter}s and resets the statistics.
+   *
+   * @since 8.7.1
+   */
+  public void clearCache() {
+
+    this.evictionLock.lock();
+    try {
+      this.cache.clear();
+      this.hitCount.reset();
+      this.missCount.reset();
+      this.evictionCount.reset();
+    } finally {
+      this.evictionLock.unlock();
+    }
+  }
+
   /**
    * @return the {@link NlsDependencies}.
    */
@@ -64,4 +222,21 @@ public class NlsMessageFormatterFactoryImpl extends AbstractComponent implements
     }
   }
 
+  /**
+   * An entry of the cache.
+   */
+  private static class CacheEntry {
+
+    private final NlsMessageFormatter formatter;
+
+    /** Flag for the CLOCK eviction if this entry has been used since the last eviction. */
+    private volatile boolean used;
+
+    private CacheEntry(NlsMessageFormatter formatter) {
+
+      super();
+      this.formatter = formatter;
+    }
+  }
+
 }
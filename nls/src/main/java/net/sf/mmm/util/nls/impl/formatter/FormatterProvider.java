@@ -9,9 +9,25 @@ import java.text.DecimalFormatSymbols;
 import java.text.Format;
 import java.text.NumberFormat;
 import java.text.SimpleDateFormat;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DecimalStyle;
+import java.time.temporal.ChronoField;
+import java.time.temporal.TemporalAccessor;
+import java.time.temporal.TemporalQueries;
 import java.util.Calendar;
 import java.util.Date;
 import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TimeZone;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
 
 import net.sf.mmm.util.date.api.Iso8601Util;
 import net.sf.mmm.util.lang.api.Formatter;
@@ -21,13 +37,31 @@ import net.sf.mmm.util.nls.api.NlsFormatterManager;
 /**
  * This class provides {@link Formatter}s for various types. It contains the formatting logic for various
  * implementations of {@link net.sf.mmm.util.nls.base.SimpleNlsFormatter}. This way it is easier to maintain
- * GWT compatibility by replacing this class.
+ * GWT compatibility by replacing this class. <br>
+ * The {@link Formatter}s are cached per {@link Locale} and style and are thread-safe. Date formatters use an immutable
+ * {@link DateTimeFormatter} whenever the pattern is compatible with {@link SimpleDateFormat} and therefore also support
+ * {@link TemporalAccessor} values (e.g. {@link java.time.LocalDate}). Otherwise they fall back to {@link DateFormat}
+ * and convert {@link TemporalAccessor} and {@link Calendar} values to {@link Date} (using the
+ * {@link ZoneId#systemDefault() default time-zone} for local types). Formatters based on {@link Format} (e.g. for
+ * numbers) reuse one instance per {@link Thread}.
  *
  * @author Joerg Hohwiller (hohwille at users.sourceforge.net)
  * @since 3.0.0
  */
 public final class FormatterProvider {
 
+  /** The maximum number of cached {@link Formatter}s before the cache is cleared. */
+  private static final int MAX_CACHE_SIZE = 1024;
+
+  /** The pattern letters that have the same meaning for {@link SimpleDateFormat} and {@link DateTimeFormatter}. */
+  private static final String COMPATIBLE_DATE_LETTERS = "yMdEaHhkKmszZX";
+
+  /** The maximum number of repetitions for the {@link #COMPATIBLE_DATE_LETTERS} to be compatible. */
+  private static final int[] COMPATIBLE_DATE_LETTER_COUNTS = { Integer.MAX_VALUE, 4, 2, 4, 1, 2, 2, 2, 2, 2, 2, 4, 3,
+  3 };
+
+  private static final Map<FormatKey, Formatter<Object>> CACHE = new ConcurrentHashMap<>();
+
   /**
    * Construction prohibited.
    */
@@ -36,6 +70,22 @@ public final class FormatterProvider {
     super();
   }
 
+  private static Formatter<Object> getCached(Locale locale, String type, String style,
+      Supplier<Formatter<Object>> factory) {
+
+    FormatKey key = new FormatKey(locale, type, style);
+    Formatter<Object> formatter = CACHE.get(key);
+    if (formatter == null) {
+      formatter = factory.get();
+      if (CACHE.size() >= MAX_CACHE_SIZE) {
+        // simple protection against memory leaks from dynamic patterns
+        CACHE.clear();
+      }
+      CACHE.put(key, formatter);
+    }
+    return formatter;
+  }
+
   /**
    * This method converts the given {@link net.sf.mmm.util.nls.api.NlsFormatterPlugin#getStyle() style} to the
    * according {@link DateFormat}-style constant.
@@ -68,6 +118,11 @@ public final class FormatterProvider {
    */
   public static Formatter<Object> getDateFormatter(Locale locale, String type, String style) {
 
+    return getCached(locale, type, style, () -> createDateFormatter(locale, type, style));
+  }
+
+  private static Formatter<Object> createDateFormatter(Locale locale, String type, String style) {
+
     DateFormat format;
     int dateStyle = convertStyle(style);
     if (NlsFormatterManager.TYPE_DATE.equals(type)) {
@@ -79,7 +134,91 @@ public final class FormatterProvider {
     } else {
       throw new IllegalArgumentException(type);
     }
-    return new FormatFormatter(format);
+    return createDateFormatter(format, locale);
+  }
+
+  private static Formatter<Object> createDateFormatter(DateFormat format, Locale locale) {
+
+    FormatFormatter legacyFormatter = new FormatFormatter(format);
+    if ((format instanceof SimpleDateFormat) && "gregory".equals(format.getCalendar().getCalendarType())) {
+      DateTimeFormatter formatter = createDateTimeFormatter(((SimpleDateFormat) format).toPattern(), locale);
+      if ((formatter != null) && isEquivalent(format, formatter)) {
+        return new DateTimeFormatterFormatter(formatter, legacyFormatter);
+      }
+    }
+    return legacyFormatter;
+  }
+
+  /**
+   * @param format is the legacy {@link DateFormat}.
+   * @param formatter is the {@link DateTimeFormatter} with the same pattern.
+   * @return {@code true} if both produce the same output for sample dates (covering all months, week days and AM/PM),
+   *         {@code false} otherwise (e.g. if the locale data of {@link java.text.DateFormatSymbols} differs).
+   */
+  private static boolean isEquivalent(DateFormat format, DateTimeFormatter formatter) {
+
+    ZoneId zone = format.getTimeZone().toZoneId();
+    // 2001-01-01 is a monday, so the first 7 samples cover all week days
+    ZonedDateTime start = ZonedDateTime.of(2001, 1, 1, 9, 7, 42, 0, zone);
+    for (int i = 0; i < 19; i++) {
+      ZonedDateTime sample;
+      if (i < 7) {
+        sample = start.plusDays(i);
+      } else {
+        sample = start.plusMonths(i - 6);
+      }
+      for (int hour = 0; hour < 2; hour++) {
+        if (!format.format(Date.from(sample.toInstant())).equals(formatter.format(sample))) {
+          return false;
+        }
+        sample = sample.plusHours(12);
+      }
+    }
+    return true;
+  }
+
+  /**
+   * @param pattern is the {@link SimpleDateFormat} pattern.
+   * @param locale is the {@link Locale}.
+   * @return the {@link DateTimeFormatter} producing the same output as {@link SimpleDateFormat} or {@code null} if
+   *         the given {@code pattern} is not compatible.
+   */
+  private static DateTimeFormatter createDateTimeFormatter(String pattern, Locale locale) {
+
+    int length = pattern.length();
+    int i = 0;
+    while (i < length) {
+      char c = pattern.charAt(i);
+      if (c == '\'') {
+        int end = pattern.indexOf('\'', i + 1);
+        if (end < 0) {
+          return null;
+        }
+        i = end + 1;
+      } else if (((c >= 'a') && (c <= 'z')) || ((c >= 'A') && (c <= 'Z'))) {
+        int letterIndex = COMPATIBLE_DATE_LETTERS.indexOf(c);
+        if (letterIndex < 0) {
+          return null;
+        }
+        int start = i;
+        while ((i < length) && (pattern.charAt(i) == c)) {
+          i++;
+        }
+        if ((i - start) > COMPATIBLE_DATE_LETTER_COUNTS[letterIndex]) {
+          return null;
+        }
+      } else if ("[]{}#".indexOf(c) >= 0) {
+        // reserved by DateTimeFormatter
+        return null;
+      } else {
+        i++;
+      }
+    }
+    try {
+      return DateTimeFormatter.ofPattern(pattern, locale).withDecimalStyle(DecimalStyle.of(locale));
+    } catch (IllegalArgumentException | DateTimeException e) {
+      return null;
+    }
   }
 
   /**
@@ -89,7 +228,9 @@ public final class FormatterProvider {
    */
   public static Formatter<Object> getDateFormatter(Locale locale, String pattern) {
 
-    return new FormatFormatter(new SimpleDateFormat(pattern, locale));
+    // prefix to distinguish patterns from styles
+    return getCached(locale, NlsFormatterManager.TYPE_DATE, "#" + pattern,
+        () -> createDateFormatter(new SimpleDateFormat(pattern, locale), locale));
   }
 
   /**
@@ -111,7 +252,8 @@ public final class FormatterProvider {
    */
   public static Formatter<Object> getIntegerFormatter(Locale locale) {
 
-    return new FormatFormatter(NumberFormat.getIntegerInstance(locale));
+    return getCached(locale, NlsFormatterManager.TYPE_NUMBER, NlsFormatterManager.STYLE_INTEGER,
+        () -> new FormatFormatter(NumberFormat.getIntegerInstance(locale)));
   }
 
   /**
@@ -120,7 +262,8 @@ public final class FormatterProvider {
    */
   public static Formatter<Object> getNumberFormatter(Locale locale) {
 
-    return new FormatFormatter(NumberFormat.getInstance(locale));
+    return getCached(locale, NlsFormatterManager.TYPE_NUMBER, null,
+        () -> new FormatFormatter(NumberFormat.getInstance(locale)));
   }
 
   /**
@@ -130,10 +273,9 @@ public final class FormatterProvider {
    */
   public static Formatter<Object> getNumberFormatter(Locale locale, String pattern) {
 
-    // only available since java 6
-    // DecimalFormatSymbols symbols = DecimalFormatSymbols.getInstance(locale)
-    DecimalFormatSymbols symbols = new DecimalFormatSymbols(locale);
-    return new FormatFormatter(new DecimalFormat(pattern, symbols));
+    // prefix to distinguish patterns from styles
+    return getCached(locale, NlsFormatterManager.TYPE_NUMBER, "#" + pattern,
+        () -> new FormatFormatter(new DecimalFormat(pattern, DecimalFormatSymbols.getInstance(locale))));
   }
 
   /**
@@ -142,7 +284,8 @@ public final class FormatterProvider {
    */
   public static Formatter<Object> getCurrencyFormatter(Locale locale) {
 
-    return new FormatFormatter(NumberFormat.getCurrencyInstance(locale));
+    return getCached(locale, NlsFormatterManager.TYPE_NUMBER, NlsFormatterManager.STYLE_CURRENCY,
+        () -> new FormatFormatter(NumberFormat.getCurrencyInstance(locale)));
   }
 
   /**
@@ -151,7 +294,8 @@ public final class FormatterProvider {
    */
   public static Formatter<Object> getPercentFormatter(Locale locale) {
 
-    return new FormatFormatter(NumberFormat.getPercentInstance(locale));
+    return getCached(locale, NlsFormatterManager.TYPE_NUMBER, NlsFormatterManager.STYLE_PERCENT,
+        () -> new FormatFormatter(NumberFormat.getPercentInstance(locale)));
   }
 
   /**
@@ -229,11 +373,76 @@ public final class FormatterProvider {
   }
 
   /**
-   * {@link Formatter} using {@link Format}.
+   * {@link Formatter} using {@link DateTimeFormatter}.
+   */
+  private static class DateTimeFormatterFormatter extends AbstractFormatter<Object> {
+
+    /** {@link java.util.GregorianCalendar#getGregorianChange() Start} of the gregorian calendar in epoch millis. */
+    private static final long GREGORIAN_CUTOVER = -12219292800000L;
+
+    private final DateTimeFormatter formatter;
+
+    private final Formatter<Object> legacyFormatter;
+
+    /**
+     * The constructor.
+     *
+     * @param formatter is the {@link DateTimeFormatter} to adapt.
+     * @param legacyFormatter is the {@link Formatter} for {@link Date}s before the {@link #GREGORIAN_CUTOVER} where
+     *        the {@link java.time.chrono.IsoChronology ISO calendar} differs from {@link java.util.GregorianCalendar}.
+     */
+    public DateTimeFormatterFormatter(DateTimeFormatter formatter, Formatter<Object> legacyFormatter) {
+
+      super();
+      this.formatter = formatter;
+      this.legacyFormatter = legacyFormatter;
+    }
+
+    @Override
+    protected void doFormat(Object value, Appendable buffer) throws IOException {
+
+      TemporalAccessor temporal;
+      if ((value instanceof Date) || (value instanceof Number)) {
+        long millis;
+        if (value instanceof Date) {
+          millis = ((Date) value).getTime();
+        } else {
+          millis = ((Number) value).longValue();
+        }
+        if (millis < GREGORIAN_CUTOVER) {
+          this.legacyFormatter.format(value, buffer);
+          return;
+        }
+        temporal = Instant.ofEpochMilli(millis).atZone(ZoneId.systemDefault());
+      } else if (value instanceof Calendar) {
+        Calendar calendar = (Calendar) value;
+        temporal = ZonedDateTime.ofInstant(calendar.toInstant(), calendar.getTimeZone().toZoneId());
+      } else if (value instanceof Instant) {
+        temporal = ((Instant) value).atZone(ZoneId.systemDefault());
+      } else if (value instanceof TemporalAccessor) {
+        temporal = (TemporalAccessor) value;
+      } else {
+        throw new IllegalArgumentException("Cannot format given Object as a Date");
+      }
+      String formatted;
+      try {
+        formatted = this.formatter.format(temporal);
+      } catch (DateTimeException e) {
+        // e.g. time of a LocalDate or zone of a LocalDateTime required by the style - normalize as FormatFormatter
+        formatted = this.formatter.format(FormatFormatter.toZonedDateTime(temporal));
+      }
+      buffer.append(formatted);
+    }
+
+  }
+
+  /**
+   * {@link Formatter} using {@link Format}. As {@link Format} is not thread-safe, each {@link Thread} uses its own
+   * {@link Format#clone() clone}.
    */
   private static class FormatFormatter extends AbstractFormatter<Object> {
 
-    private final Format format;
+    private final ThreadLocal<Format> format;
 
     /**
      * The constructor.
@@ -243,15 +452,99 @@ public final class FormatterProvider {
     public FormatFormatter(Format format) {
 
       super();
-      this.format = format;
+      this.format = ThreadLocal.withInitial(() -> (Format) format.clone());
     }
 
     @Override
     protected void doFormat(Object value, Appendable buffer) throws IOException {
 
-      buffer.append(this.format.format(value));
+      Format instance = this.format.get();
+      Object formatValue = value;
+      if (instance instanceof DateFormat) {
+        // behave as if created on demand
+        TimeZone timeZone = TimeZone.getDefault();
+        if (value instanceof Calendar) {
+          Calendar calendar = (Calendar) value;
+          timeZone = calendar.getTimeZone();
+          formatValue = calendar.getTime();
+        } else if (value instanceof TemporalAccessor) {
+          ZonedDateTime dateTime = toZonedDateTime((TemporalAccessor) value);
+          timeZone = TimeZone.getTimeZone(dateTime.getZone());
+          formatValue = Date.from(dateTime.toInstant());
+        }
+        ((DateFormat) instance).setTimeZone(timeZone);
+      }
+      buffer.append(instance.format(formatValue));
     }
 
+    /**
+     * @param temporal is the {@link TemporalAccessor} to convert.
+     * @return the according {@link ZonedDateTime}. If {@code temporal} has no zone (e.g. {@link Instant} or
+     *         {@link java.time.LocalDateTime}) the {@link ZoneId#systemDefault() default time-zone} is used. A missing
+     *         date is set to 1970-01-01 and a missing time to {@link LocalTime#MIDNIGHT midnight}.
+     */
+    private static ZonedDateTime toZonedDateTime(TemporalAccessor temporal) {
+
+      ZoneId zone = temporal.query(TemporalQueries.zone());
+      if (zone == null) {
+        zone = ZoneId.systemDefault();
+      }
+      if (temporal.isSupported(ChronoField.INSTANT_SECONDS)) {
+        return ZonedDateTime.ofInstant(Instant.from(temporal), zone);
+      }
+      LocalDate date = temporal.query(TemporalQueries.localDate());
+      LocalTime time = temporal.query(TemporalQueries.localTime());
+      if ((date == null) && (time == null)) {
+        throw new IllegalArgumentException("Cannot format given Object as a Date");
+      }
+      if (date == null) {
+        date = LocalDate.ofEpochDay(0);
+      }
+      if (time == null) {
+        time = LocalTime.MIDNIGHT;
+      }
+      return ZonedDateTime.of(date, time, zone);
+    }
+
+  }
+
+  /**
+   * The key of a cached {@link Formatter}.
+   */
+  private static final class FormatKey {
+
+    private final Locale locale;
+
+    private final String type;
+
+    private final String style;
+
+    private FormatKey(Locale locale, String type, String style) {
+
+      super();
+      this.locale = locale;
+      this.type = type;
+      this.style = style;
+    }
+
+    @Override
+    public int hashCode() {
+
+      return Objects.hash(this.locale, this.type, this.style);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+
+      if (obj == this) {
+        return true;
+      } else if (!(obj instanceof FormatKey)) {
+        return false;
+      }
+      FormatKey other = (FormatKey) obj;
+      return Objects.equals(this.locale, other.locale) && Objects.equals(this.type, other.type)
+          && Objects.equals(this.style, other.style);
+    }
   }
 
 }
@@ -0,0 +1,438 @@
+/* Copyright (c) The m-m-m Team, Licensed under the Apache License, Version 2.0
+ * http://www.apache.org/licenses/LICENSE-2.0 */
+package net.sf.mmm.util.nls.impl.processor;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.inject.Named;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.ExecutableType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic.Kind;
+import javax.tools.JavaFileObject;
+
+import net.sf.mmm.util.nls.api.NlsBundle;
+import net.sf.mmm.util.nls.api.NlsBundleKey;
+import net.sf.mmm.util.nls.api.NlsBundleMessage;
+import net.sf.mmm.util.nls.api.NlsBundleOptions;
+import net.sf.mmm.util.nls.api.NlsMessage;
+import net.sf.mmm.util.nls.api.NlsMessageFactory;
+import net.sf.mmm.util.nls.api.NlsTemplate;
+import net.sf.mmm.util.nls.base.AbstractGeneratedNlsBundle;
+import net.sf.mmm.util.nls.base.AbstractNlsBundleFactory;
+
+/**
+ * This is the annotation {@link javax.annotation.processing.Processor} that generates an
+ * {@link AbstractGeneratedNlsBundle implementation} for each {@link NlsBundle} interface following the naming
+ * convention {@code NlsBundle*Root}. The keys, messages and argument names of the methods are resolved at compile-time
+ * exactly like the {@link java.lang.reflect.Proxy} of the {@link AbstractNlsBundleFactory} does at runtime. Bundles
+ * that can not be implemented equivalently (e.g. overloaded methods, duplicate argument names or missing messages if
+ * {@link NlsBundleOptions#requireMessages() required}) are skipped with a note so they still use the
+ * {@link java.lang.reflect.Proxy}.
+ *
+ * @author Joerg Hohwiller (hohwille at users.sourceforge.net)
+ * @since 8.7.1
+ */
+@SupportedAnnotationTypes("*")
+public class GenerateNlsBundleProcessor extends AbstractProcessor {
+
+  /** The {@code @Generated} annotations in the order of preference (it moved with Java 9). */
+  private static final String[] GENERATED_ANNOTATIONS = { "javax.annotation.processing.Generated",
+  "javax.annotation.Generated" };
+
+  private static final String PREFIX_ARGUMENTS = "ARGUMENTS_";
+
+  /**
+   * The constructor.
+   */
+  public GenerateNlsBundleProcessor() {
+
+    super();
+  }
+
+  @Override
+  public SourceVersion getSupportedSourceVersion() {
+
+    return SourceVersion.latestSupported();
+  }
+
+  @Override
+  public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+
+    TypeElement bundleType = this.processingEnv.getElementUtils().getTypeElement(NlsBundle.class.getName());
+    if (bundleType == null) {
+      return false;
+    }
+    for (TypeElement type : ElementFilter.typesIn(roundEnv.getRootElements())) {
+      process(type, bundleType.asType());
+    }
+    // other processors may also process all types
+    return false;
+  }
+
+  private void process(TypeElement type, TypeMirror bundleType) {
+
+    if ((type.getKind() == ElementKind.INTERFACE)
+        && this.processingEnv.getTypeUtils().isAssignable(type.asType(), bundleType)) {
+      String interfaceName = this.processingEnv.getElementUtils().getBinaryName(type).toString();
+      if (interfaceName.endsWith(NlsBundle.INTERFACE_NAME_SUFFIX) && isSupported(type)) {
+        generate(type, interfaceName);
+      }
+    }
+    for (TypeElement nestedType : ElementFilter.typesIn(type.getEnclosedElements())) {
+      process(nestedType, bundleType);
+    }
+  }
+
+  private boolean isSupported(TypeElement type) {
+
+    if (!type.getTypeParameters().isEmpty()) {
+      skip("generic interfaces are not supported", type);
+      return false;
+    }
+    Element current = type;
+    while (current instanceof TypeElement) {
+      if (current.getModifiers().contains(Modifier.PRIVATE)) {
+        skip("private types are not supported", type);
+        return false;
+      }
+      current = current.getEnclosingElement();
+    }
+    return true;
+  }
+
+  private void skip(String message, Element element) {
+
+    this.processingEnv.getMessager().printMessage(Kind.NOTE,
+        "No implementation generated (using proxy at runtime): " + message, element);
+  }
+
+  private void generate(TypeElement type, String interfaceName) {
+
+    NlsBundleOptions options = type.getAnnotation(NlsBundleOptions.class);
+    boolean requireMessages = (options != null) && options.requireMessages();
+    List<ExecutableElement> methods = new ArrayList<>();
+    ExecutableElement lookupMethod = null;
+    Set<String> methodNames = new HashSet<>();
+    for (ExecutableElement method : ElementFilter.methodsIn(this.processingEnv.getElementUtils().getAllMembers(type))) {
+      if ((method.getEnclosingElement().getKind() != ElementKind.INTERFACE)
+          || !method.getModifiers().contains(Modifier.ABSTRACT)) {
+        // methods of Object, default and static methods
+        continue;
+      }
+      String methodName = method.getSimpleName().toString();
+      if (!isNlsMessage(method.getReturnType())) {
+        if (!isObjectMethod(method)) {
+          skip("method " + methodName + " does not return " + NlsMessage.class.getSimpleName(), method);
+          return;
+        }
+      } else if (methodName.equals(AbstractNlsBundleFactory.METHOD_NAME_LOOKUP)) {
+        if (method.getParameters().size() != 2) {
+          skip("illegal lookup method", method);
+          return;
+        }
+        lookupMethod = method;
+      } else if (!method.getTypeParameters().isEmpty()) {
+        skip("generic method " + methodName + " is not supported", method);
+        return;
+      } else if (!methodNames.add(methodName)) {
+        skip("overloaded method " + methodName + " is not supported", method);
+        return;
+      } else if (requireMessages && (method.getAnnotation(NlsBundleMessage.class) == null)) {
+        skip("missing @" + NlsBundleMessage.class.getSimpleName() + " for " + methodName, method);
+        return;
+      } else if (!hasUniqueArgumentNames(method)) {
+        skip("duplicate argument name in " + methodName, method);
+        return;
+      } else {
+        methods.add(method);
+      }
+    }
+    String bundleName = interfaceName.substring(0,
+        interfaceName.length() - NlsBundle.INTERFACE_NAME_SUFFIX.length());
+    write(type, interfaceName, generateCode(type, interfaceName, bundleName, methods, lookupMethod));
+  }
+
+  private String generateCode(TypeElement type, String interfaceName, String bundleName,
+      List<ExecutableElement> methods, ExecutableElement lookupMethod) {
+
+    PackageElement packageElement = this.processingEnv.getElementUtils().getPackageOf(type);
+    String generatedClassName = AbstractGeneratedNlsBundle.getGeneratedClassName(interfaceName);
+    String generatedSimpleName = generatedClassName.substring(generatedClassName.lastIndexOf('.') + 1);
+    String bundleInterface = type.getQualifiedName().toString();
+    String templateType = NlsTemplate.class.getName();
+    StringBuilder code = new StringBuilder(2048);
+    if (!packageElement.isUnnamed()) {
+      code.append("package ").append(packageElement.getQualifiedName()).append(";\n\n");
+    }
+    code.append("/**\n");
+    code.append(" * Generated implementation of {@link ").append(bundleInterface).append("}.\n");
+    code.append(" */\n");
+    String generatedAnnotation = getGeneratedAnnotation();
+    if (generatedAnnotation != null) {
+      code.append("@").append(generatedAnnotation).append("(\"").append(getClass().getName()).append("\")\n");
+    }
+    code.append("public final class ").append(generatedSimpleName).append(" extends ")
+        .append(AbstractGeneratedNlsBundle.class.getName()).append("\n    implements ").append(bundleInterface)
+        .append(" {\n\n");
+    for (ExecutableElement method : methods) {
+      String[] argumentNames = getArgumentNames(method);
+      if (argumentNames.length > 0) {
+        code.append("  private static final String[] ").append(PREFIX_ARGUMENTS).append(method.getSimpleName())
+            .append(" = {");
+        for (int i = 0; i < argumentNames.length; i++) {
+          if (i > 0) {
+            code.append(",");
+          }
+          code.append(" ").append(literal(argumentNames[i]));
+        }
+        code.append(" };\n\n");
+      }
+    }
+    for (ExecutableElement method : methods) {
+      code.append("  private final ").append(templateType).append(" ").append(method.getSimpleName()).append(";\n\n");
+    }
+    code.append("  /**\n");
+    code.append("   * The constructor.\n");
+    code.append("   *\n");
+    code.append("   * @param messageFactory is the {@link ").append(NlsMessageFactory.class.getName()).append("}.\n");
+    code.append("   */\n");
+    code.append("  public ").append(generatedSimpleName).append("(").append(NlsMessageFactory.class.getName())
+        .append(" messageFactory) {\n\n");
+    code.append("    super(messageFactory, ").append(literal(bundleName)).append(");\n");
+    for (ExecutableElement method : methods) {
+      NlsBundleMessage message = method.getAnnotation(NlsBundleMessage.class);
+      code.append("    this.").append(method.getSimpleName()).append(" = createTemplate(")
+          .append(literal(getKey(method))).append(", ");
+      if (message == null) {
+        code.append("null");
+      } else {
+        code.append(literal(message.value()));
+      }
+      code.append(");\n");
+    }
+    code.append("  }\n\n");
+    for (ExecutableElement method : methods) {
+      String methodName = method.getSimpleName().toString();
+      int parameterCount = appendMethodDeclaration(type, method, null, code);
+      code.append("    return createMessage(this.").append(methodName);
+      if (parameterCount > 0) {
+        code.append(", ").append(PREFIX_ARGUMENTS).append(methodName).append(", new Object[] {");
+        for (int i = 0; i < parameterCount; i++) {
+          if (i > 0) {
+            code.append(",");
+          }
+          code.append(" argument").append(i);
+        }
+        code.append(" }");
+      }
+      code.append(");\n");
+      code.append("  }\n\n");
+    }
+    if (lookupMethod != null) {
+      appendMethodDeclaration(type, lookupMethod, new String[] { "methodName", "nlsArguments" }, code);
+      code.append("    ").append(templateType).append(" template;\n");
+      code.append("    switch (methodName) {\n");
+      for (ExecutableElement method : methods) {
+        code.append("      case ").append(literal(method.getSimpleName().toString())).append(":\n");
+        code.append("        template = this.").append(method.getSimpleName()).append(";\n");
+        code.append("        break;\n");
+      }
+      code.append("      default:\n");
+      code.append("        template = null;\n");
+      code.append("    }\n");
+      code.append("    return lookupMessage(template, nlsArguments);\n");
+      code.append("  }\n\n");
+    }
+    code.append("}\n");
+    return code.toString();
+  }
+
+  private void write(TypeElement type, String interfaceName, String code) {
+
+    String generatedClassName = AbstractGeneratedNlsBundle.getGeneratedClassName(interfaceName);
+    try {
+      JavaFileObject file = this.processingEnv.getFiler().createSourceFile(generatedClassName, type);
+      try (Writer writer = file.openWriter()) {
+        writer.write(code);
+      }
+    } catch (IOException e) {
+      this.processingEnv.getMessager().printMessage(Kind.ERROR, "Failed to generate " + generatedClassName + ": " + e,
+          type);
+    }
+  }
+
+  /**
+   * Appends the declaration of the given {@code method} to the generated code.
+   *
+   * @param type is the {@link TypeElement} of the {@link NlsBundle} interface.
+   * @param method is the {@link ExecutableElement} of the method to implement.
+   * @param parameterNames are the names of the parameters or {@code null} for {@code argument0}, {@code argument1},
+   *        etc.
+   * @param code is where to append the generated code.
+   * @return the number of parameters.
+   */
+  private int appendMethodDeclaration(TypeElement type, ExecutableElement method, String[] parameterNames,
+      StringBuilder code) {
+
+    // resolve type variables bound by the bundle interface (e.g. inherited from a generic super-interface)
+    ExecutableType methodType = (ExecutableType) this.processingEnv.getTypeUtils()
+        .asMemberOf((DeclaredType) type.asType(), method);
+    List<? extends TypeMirror> parameterTypes = methodType.getParameterTypes();
+    code.append("  @Override\n");
+    code.append("  public ").append(methodType.getReturnType()).append(" ").append(method.getSimpleName())
+        .append("(");
+    for (int i = 0; i < parameterTypes.size(); i++) {
+      if (i > 0) {
+        code.append(", ");
+      }
+      TypeMirror parameterType = parameterTypes.get(i);
+      if (method.isVarArgs() && (i == parameterTypes.size() - 1) && (parameterType.getKind() == TypeKind.ARRAY)) {
+        code.append(((ArrayType) parameterType).getComponentType()).append("...");
+      } else {
+        code.append(parameterType);
+      }
+      code.append(" ");
+      if (parameterNames == null) {
+        code.append("argument").append(i);
+      } else {
+        code.append(parameterNames[i]);
+      }
+    }
+    code.append(") {\n\n");
+    return parameterTypes.size();
+  }
+
+  /**
+   * @return the qualified name of the {@code @Generated} annotation available in the current compilation or
+   *         {@code null} if none is available.
+   */
+  private String getGeneratedAnnotation() {
+
+    for (String annotation : GENERATED_ANNOTATIONS) {
+      if (this.processingEnv.getElementUtils().getTypeElement(annotation) != null) {
+        return annotation;
+      }
+    }
+    return null;
+  }
+
+  /**
+   * @see net.sf.mmm.util.nls.base.NlsBundleHelper#getKey(java.lang.reflect.Method)
+   *
+   * @param method is the {@link NlsBundle}-method.
+   * @return the {@link NlsBundleKey#value() key} of the method.
+   */
+  private static String getKey(ExecutableElement method) {
+
+    NlsBundleKey keyAnnotation = method.getAnnotation(NlsBundleKey.class);
+    if (keyAnnotation == null) {
+      return method.getSimpleName().toString();
+    }
+    return keyAnnotation.value();
+  }
+
+  /**
+   * Determines the argument names exactly like the {@link java.lang.reflect.Proxy} of the
+   * {@link AbstractNlsBundleFactory} does at runtime.
+   *
+   * @param method is the {@link NlsBundle}-method.
+   * @return the names of the {@link NlsMessage#getArgument(String) arguments}.
+   */
+  private static String[] getArgumentNames(ExecutableElement method) {
+
+    List<? extends VariableElement> parameters = method.getParameters();
+    String[] names = new String[parameters.size()];
+    for (int i = 0; i < names.length; i++) {
+      Named namedAnnotation = parameters.get(i).getAnnotation(Named.class);
+      if (namedAnnotation == null) {
+        names[i] = Integer.toString(i);
+      } else {
+        names[i] = namedAnnotation.value();
+      }
+    }
+    return names;
+  }
+
+  private static boolean hasUniqueArgumentNames(ExecutableElement method) {
+
+    String[] argumentNames = getArgumentNames(method);
+    Set<String> names = new HashSet<>();
+    for (String name : argumentNames) {
+      if (!names.add(name)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static boolean isNlsMessage(TypeMirror type) {
+
+    if (type.getKind() != TypeKind.DECLARED) {
+      return false;
+    }
+    TypeElement typeElement = (TypeElement) ((DeclaredType) type).asElement();
+    return typeElement.getQualifiedName().contentEquals(NlsMessage.class.getName());
+  }
+
+  private static boolean isObjectMethod(ExecutableElement method) {
+
+    String methodName = method.getSimpleName().toString();
+    int parameterCount = method.getParameters().size();
+    if ("equals".equals(methodName)) {
+      return (parameterCount == 1);
+    }
+    return (parameterCount == 0) && ("hashCode".equals(methodName) || "toString".equals(methodName));
+  }
+
+  /**
+   * @param value is the {@link String} value.
+   * @return the source code of a {@link String} literal for the given {@code value}.
+   */
+  private static String literal(String value) {
+
+    StringBuilder buffer = new StringBuilder(value.length() + 2);
+    buffer.append('"');
+    for (int i = 0; i < value.length(); i++) {
+      char c = value.charAt(i);
+      if ((c == '"') || (c == '\\')) {
+        buffer.append('\\').append(c);
+      } else if (c == '\n') {
+        buffer.append("\\n");
+      } else if (c == '\r') {
+        buffer.append("\\r");
+      } else if (c == '\t') {
+        buffer.append("\\t");
+      } else if (c < ' ') {
+        // unicode escapes would be resolved before the literal is parsed
+        buffer.append(String.format("\\%03o", Integer.valueOf(c)));
+      } else if (c > '~') {
+        buffer.append(String.format("\\u%04x", Integer.valueOf(c)));
+      } else {
+        buffer.append(c);
+      }
+    }
+    buffer.append('"');
+    return buffer.toString();
+  }
+
+}
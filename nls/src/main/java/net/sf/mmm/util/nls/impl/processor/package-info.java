@@ -0,0 +1,12 @@
+/* Copyright (c) The m-m-m Team, Licensed under the Apache License, Version 2.0
+ * http://www.apache.org/licenses/LICENSE-2.0 */
+/**
+ * Contains the annotation processor for {@link net.sf.mmm.util.nls.api.NlsBundle}s.
+ * <a name="documentation"></a>
+ * <h2>NLS Bundles - Annotation Processor</h2> This package provides the
+ * {@link net.sf.mmm.util.nls.impl.processor.GenerateNlsBundleProcessor} that generates an
+ * {@link net.sf.mmm.util.nls.base.AbstractGeneratedNlsBundle implementation} at compile-time for each
+ * {@link net.sf.mmm.util.nls.api.NlsBundle} interface. The {@link net.sf.mmm.util.nls.base.AbstractNlsBundleFactory}
+ * uses these generated implementations instead of a {@link java.lang.reflect.Proxy}.
+ */
+package net.sf.mmm.util.nls.impl.processor;
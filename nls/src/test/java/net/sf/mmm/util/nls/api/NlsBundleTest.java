@@ -2,15 +2,19 @@
  * http://www.apache.org/licenses/LICENSE-2.0 */
 package net.sf.mmm.util.nls.api;
 
+import java.lang.reflect.Proxy;
 import java.util.HashMap;
 import java.util.Locale;
 import java.util.Map;
 
+import javax.inject.Named;
+
 import org.assertj.core.api.Assertions;
 import org.junit.Assert;
 import org.junit.Test;
 
 import net.sf.mmm.util.nls.NlsBundleUtilCoreTestRoot;
+import net.sf.mmm.util.nls.base.AbstractGeneratedNlsBundle;
 import net.sf.mmm.util.nls.base.AbstractNlsMessage;
 
 /**
@@ -93,6 +97,70 @@ public class NlsBundleTest extends Assertions {
     verifyErrorObjectNotFound(object, key, errorObjectNotFound);
   }
 
+  /**
+   * This method tests the {@link NlsMessage#getArgument(String) arguments} of a message created by an
+   * {@link NlsBundle}.
+   */
+  @Test
+  public void testNlsBundleArguments() {
+
+    // given
+    NlsBundleTestRoot bundle = getBundleFactory().createBundle(NlsBundleTestRoot.class);
+
+    // when
+    NlsMessage message = bundle.errorIllegalValue(">", Integer.valueOf(42));
+
+    // then
+    assertThat(message.getArgument("comparator")).isEqualTo(">");
+    assertThat(message.getArgument("value")).isEqualTo(Integer.valueOf(42));
+    assertThat(message.getArgument("undefined")).isNull();
+    assertThat(message.getLocalizedMessage(AbstractNlsMessage.LOCALE_ROOT)).isEqualTo("The value has to be > '42'!");
+  }
+
+  /**
+   * This method tests that {@link NlsBundleFactory#createBundle(Class)} uses the implementation generated by the
+   * {@link net.sf.mmm.util.nls.impl.processor.GenerateNlsBundleProcessor}.
+   */
+  @Test
+  public void testNlsBundleGenerated() {
+
+    // given
+    Class<NlsBundleUtilCoreTestRoot> bundleInterface = NlsBundleUtilCoreTestRoot.class;
+
+    // when
+    NlsBundleUtilCoreTestRoot bundle = getBundleFactory().createBundle(bundleInterface);
+
+    // then
+    assertThat(Proxy.isProxyClass(bundle.getClass())).isFalse();
+    assertThat(bundle.getClass().getName())
+        .isEqualTo(AbstractGeneratedNlsBundle.getGeneratedClassName(bundleInterface.getName()));
+    assertThat(getBundleFactory().createBundle(bundleInterface)).isSameAs(bundle);
+    assertThat(bundle.getMessage("undefined", null)).isNull();
+  }
+
+  /**
+   * This method tests that {@link NlsBundleFactory#createBundle(Class)} falls back to a {@link Proxy} for an
+   * {@link NlsBundle} that can not be generated.
+   */
+  @Test
+  public void testNlsBundleProxyFallback() {
+
+    // given
+    Class<NlsBundleDuplicateArgumentTestRoot> bundleInterface = NlsBundleDuplicateArgumentTestRoot.class;
+
+    // when
+    NlsBundleDuplicateArgumentTestRoot bundle = getBundleFactory().createBundle(bundleInterface);
+
+    // then
+    assertThat(Proxy.isProxyClass(bundle.getClass())).isTrue();
+    try {
+      bundle.errorDuplicate("a", "b");
+      fail("Exception expected");
+    } catch (IllegalStateException e) {
+      assertThat(e.getMessage()).isEqualTo("Duplicate argument name 'value' in 'errorDuplicate'.");
+    }
+  }
+
   private void verifyErrorObjectNotFound(String object, String key, NlsMessage errorObjectNotFound) {
 
     Assert.assertNotNull(errorObjectNotFound);
@@ -108,4 +176,14 @@ public class NlsBundleTest extends Assertions {
     Assert.assertEquals("and", infoAnd.getLocalizedMessage(AbstractNlsMessage.LOCALE_ROOT));
     Assert.assertEquals("und", infoAnd.getLocalizedMessage(Locale.GERMAN));
   }
+
+  /**
+   * {@link NlsBundle} with duplicate argument names that can only be implemented by a {@link Proxy}.
+   */
+  public static interface NlsBundleDuplicateArgumentTestRoot extends NlsBundle {
+
+    @NlsBundleMessage("{value} {value}")
+    NlsMessage errorDuplicate(@Named("value") Object value1, @Named("value") Object value2);
+
+  }
 }
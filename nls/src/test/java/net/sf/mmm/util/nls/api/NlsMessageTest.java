@@ -7,6 +7,10 @@ import java.lang.reflect.Type;
 import java.text.DateFormat;
 import java.text.MessageFormat;
 import java.text.SimpleDateFormat;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.util.Calendar;
 import java.util.Date;
 import java.util.List;
@@ -229,6 +233,84 @@ public class NlsMessageTest extends Assertions {
     }
   }
 
+  /**
+   * Tests {@link NlsFormatterManager#TYPE_DATE date format} with {@link java.time} values.
+   */
+  @Test
+  public void testMessageTypeDateJavaTime() {
+
+    NlsMessageFactory factory = getMessageFactory();
+    LocalDateTime dateTime = LocalDateTime.of(1999, 12, 31, 23, 59, 59);
+    NlsMessage msg = factory.create("{date,date,yyyyMMdd} {date,time,HH:mm}", "date", dateTime);
+    assertThat(msg.getMessage()).isEqualTo("19991231 23:59");
+    msg = factory.create("{0,date,long}", LocalDate.of(2024, 2, 29));
+    assertThat(msg.getLocalizedMessage(Locale.GERMANY)).isEqualTo("29. Februar 2024");
+  }
+
+  /**
+   * Tests {@link NlsFormatterManager#TYPE_DATE date} and {@link NlsFormatterManager#TYPE_DATETIME datetime} styles
+   * with {@link java.time} values that lack fields required by the style (time of {@link LocalDate}, zone of
+   * {@link LocalDateTime}).
+   */
+  @Test
+  public void testMessageTypeDateStyleJavaTime() {
+
+    NlsMessageFactory factory = getMessageFactory();
+    LocalDateTime dateTime = LocalDateTime.of(1999, 12, 31, 23, 59, 59);
+    LocalDate localDate = dateTime.toLocalDate();
+    Date date = Date.from(dateTime.atZone(ZoneId.systemDefault()).toInstant());
+    Date startOfDay = Date.from(localDate.atStartOfDay(ZoneId.systemDefault()).toInstant());
+    for (Locale locale : new Locale[] { Locale.US, Locale.GERMANY }) {
+      DateFormat shortFormat = DateFormat.getDateTimeInstance(DateFormat.SHORT, DateFormat.SHORT, locale);
+      assertThat(factory.create("{0,datetime,short}", localDate).getLocalizedMessage(locale))
+          .isEqualTo(shortFormat.format(startOfDay));
+      assertThat(factory.create("{0,datetime,short}", dateTime).getLocalizedMessage(locale))
+          .isEqualTo(shortFormat.format(date));
+      DateFormat fullFormat = DateFormat.getDateInstance(DateFormat.FULL, locale);
+      assertThat(factory.create("{0,date,full}", localDate).getLocalizedMessage(locale))
+          .isEqualTo(fullFormat.format(startOfDay));
+      assertThat(factory.create("{0,date,full}", dateTime).getLocalizedMessage(locale))
+          .isEqualTo(fullFormat.format(date));
+      fullFormat = DateFormat.getDateTimeInstance(DateFormat.FULL, DateFormat.FULL, locale);
+      assertThat(factory.create("{0,datetime,full}", dateTime).getLocalizedMessage(locale))
+          .isEqualTo(fullFormat.format(date));
+    }
+  }
+
+  /**
+   * Tests {@link NlsFormatterManager#TYPE_DATE date format} with {@link java.time} values for patterns and
+   * {@link Locale}s that can not be handled by {@link java.time.format.DateTimeFormatter} so {@link DateFormat} is
+   * used.
+   */
+  @Test
+  public void testMessageTypeDateJavaTimeLegacy() {
+
+    NlsMessageFactory factory = getMessageFactory();
+    LocalDateTime dateTime = LocalDateTime.of(1999, 12, 31, 23, 59, 59, 123000000);
+    Instant instant = dateTime.atZone(ZoneId.systemDefault()).toInstant();
+    Date date = Date.from(instant);
+    for (String pattern : new String[] { "HH:mm:ss.SSS", "G yyyy", "ww yyyy" }) {
+      String arg = "{0,date," + pattern + "}";
+      String expected = new SimpleDateFormat(pattern, Locale.US).format(date);
+      assertThat(factory.create(arg, dateTime).getLocalizedMessage(Locale.US)).as(arg).isEqualTo(expected);
+      assertThat(factory.create(arg, instant).getLocalizedMessage(Locale.US)).as(arg).isEqualTo(expected);
+    }
+    LocalDate localDate = dateTime.toLocalDate();
+    Date startOfDay = Date.from(localDate.atStartOfDay(ZoneId.systemDefault()).toInstant());
+    for (Locale locale : new Locale[] { new Locale("th", "TH"), new Locale("ja", "JP", "JP") }) {
+      String expected = DateFormat.getDateInstance(DateFormat.LONG, locale).format(startOfDay);
+      assertThat(factory.create("{0,date,long}", localDate).getLocalizedMessage(locale)).as(locale.toString())
+          .isEqualTo(expected);
+    }
+    TimeZone timeZone = TimeZone.getTimeZone("GMT+05:00");
+    Calendar calendar = Calendar.getInstance(timeZone);
+    calendar.setTime(date);
+    SimpleDateFormat format = new SimpleDateFormat("HH:mm:ss.SSS", Locale.US);
+    format.setTimeZone(timeZone);
+    String expected = format.format(date);
+    assertThat(factory.create("{0,date,HH:mm:ss.SSS}", calendar).getLocalizedMessage(Locale.US)).isEqualTo(expected);
+  }
+
   private String formatDate(Date date, Locale locale) {
 
     return DateFormat.getDateTimeInstance(DateFormat.SHORT, DateFormat.LONG, locale).format(date);
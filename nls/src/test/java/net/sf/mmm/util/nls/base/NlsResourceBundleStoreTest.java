@@ -0,0 +1,117 @@
+/* Copyright (c) The m-m-m Team, Licensed under the Apache License, Version 2.0
+ * http://www.apache.org/licenses/LICENSE-2.0 */
+package net.sf.mmm.util.nls.base;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+import org.assertj.core.api.Assertions;
+import org.junit.Test;
+
+import net.sf.mmm.util.nls.NlsBundleUtilCoreTestRoot;
+import net.sf.mmm.util.nls.api.NlsBundle;
+
+/**
+ * This is the test-case for {@link NlsResourceBundleStore}.
+ *
+ * @author Joerg Hohwiller (hohwille at users.sourceforge.net)
+ */
+public class NlsResourceBundleStoreTest extends Assertions {
+
+  private static final String BUNDLE_NAME = NlsBundleHelper.getInstance()
+      .getQualifiedLocation(NlsBundleUtilCoreTestRoot.class);
+
+  /**
+   * Tests {@link NlsResourceBundleStore#create(NlsBundleLocator, java.util.Collection)} together with
+   * {@link NlsResourceBundleStore#write(java.io.OutputStream)} and
+   * {@link NlsResourceBundleStore#read(java.io.InputStream)}.
+   *
+   * @throws IOException on error.
+   */
+  @Test
+  public void testCreateWriteRead() throws IOException {
+
+    // given
+    NlsBundleLocator locator = () -> Arrays.<Class<? extends NlsBundle>> asList(NlsBundleUtilCoreTestRoot.class);
+    NlsResourceBundleStore store = NlsResourceBundleStore.create(locator, Collections.singleton(Locale.GERMAN));
+
+    // when
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    store.write(out);
+    NlsResourceBundleStore copy = NlsResourceBundleStore.read(new ByteArrayInputStream(out.toByteArray()));
+
+    // then
+    for (NlsResourceBundleStore current : Arrays.asList(store, copy)) {
+      assertThat(current.getLocales()).containsExactlyInAnyOrder(Locale.GERMAN, AbstractNlsMessage.LOCALE_ROOT);
+      assertThat(current.getMessage(BUNDLE_NAME, "infoAnd", Locale.GERMAN)).isEqualTo("und");
+      assertThat(current.getMessage(BUNDLE_NAME, "infoAnd", AbstractNlsMessage.LOCALE_ROOT)).isEqualTo("and");
+      assertThat(current.getMessage(BUNDLE_NAME, "infoAnd", Locale.FRENCH)).isNull();
+      assertThat(current.getMessage(BUNDLE_NAME, "undefined", Locale.GERMAN)).isNull();
+      assertThat(current.getMessage("undefined", "infoAnd", Locale.GERMAN)).isNull();
+    }
+  }
+
+  /**
+   * Tests that {@link NlsResourceBundleStore#create(NlsBundleLocator, java.util.Collection)} does not fall back to the
+   * {@link Locale#getDefault() default locale} of the machine creating the store.
+   */
+  @Test
+  public void testCreateIgnoresDefaultLocale() {
+
+    // given
+    NlsBundleLocator locator = () -> Arrays.<Class<? extends NlsBundle>> asList(NlsBundleUtilCoreTestRoot.class);
+    Locale defaultLocale = Locale.getDefault();
+    NlsResourceBundleStore store;
+
+    // when
+    Locale.setDefault(Locale.GERMANY);
+    try {
+      store = NlsResourceBundleStore.create(locator, Collections.singleton(Locale.FRENCH));
+    } finally {
+      Locale.setDefault(defaultLocale);
+    }
+
+    // then
+    assertThat(store.getMessage(BUNDLE_NAME, "infoAnd", Locale.FRENCH)).isEqualTo("and");
+    assertThat(store.getMessage(BUNDLE_NAME, "infoAnd", AbstractNlsMessage.LOCALE_ROOT)).isEqualTo("and");
+  }
+
+  /**
+   * Tests that {@link NlsTemplateImpl#translate(Locale)} uses the
+   * {@link NlsBundleHelper#setResourceBundleStore(NlsResourceBundleStore) registered} {@link NlsResourceBundleStore}.
+   */
+  @Test
+  public void testTranslate() {
+
+    // given
+    Map<String, String> messages = new HashMap<>();
+    messages.put("infoAnd", "und (store)");
+    messages.put("infoStoreOnly", "nur im Store");
+    NlsResourceBundleStore store = new NlsResourceBundleStore(
+        Collections.singletonMap(Locale.GERMAN, Collections.singletonMap(BUNDLE_NAME, messages)));
+    NlsTemplateImpl template = new NlsTemplateImpl(BUNDLE_NAME, "infoAnd");
+    NlsTemplateImpl storeOnlyTemplate = new NlsTemplateImpl(BUNDLE_NAME, "infoStoreOnly");
+    NlsBundleHelper bundleHelper = NlsBundleHelper.getInstance();
+
+    // when
+    bundleHelper.setResourceBundleStore(store);
+    try {
+      // then
+      assertThat(template.translate(Locale.GERMAN)).isEqualTo("und (store)");
+      assertThat(storeOnlyTemplate.translate(Locale.GERMAN)).isEqualTo("nur im Store");
+      // locales not contained in the store are resolved via ResourceBundle
+      assertThat(template.translate(Locale.GERMANY)).isEqualTo("und");
+      assertThat(template.translate(AbstractNlsMessage.LOCALE_ROOT)).isEqualTo("and");
+    } finally {
+      bundleHelper.setResourceBundleStore(null);
+    }
+    assertThat(template.translate(Locale.GERMAN)).isEqualTo("und");
+  }
+
+}
@@ -0,0 +1,60 @@
+/* Copyright (c) The m-m-m Team, Licensed under the Apache License, Version 2.0
+ * http://www.apache.org/licenses/LICENSE-2.0 */
+package net.sf.mmm.util.nls.impl;
+
+import java.util.Collections;
+import java.util.Locale;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import net.sf.mmm.util.nls.api.NlsMessageFormatter;
+import net.sf.mmm.util.nls.base.AbstractNlsDependencies;
+
+/**
+ * This is the test-case for {@link NlsMessageFormatterFactoryImpl}.
+ *
+ * @author Joerg Hohwiller (hohwille at users.sourceforge.net)
+ */
+public class NlsMessageFormatterFactoryImplTest extends Assert {
+
+  /**
+   * Tests that {@link NlsMessageFormatter}s are cached.
+   *
+   * @throws Exception on error.
+   */
+  @Test
+  public void testCache() throws Exception {
+
+    // given
+    NlsMessageFormatterFactoryImpl factory = new NlsMessageFormatterFactoryImpl();
+    factory.setDependencies(AbstractNlsDependencies.getInstance());
+    factory.setCacheSize(2);
+    factory.initialize();
+
+    // when
+    NlsMessageFormatter formatter = factory.create("Hello {name}!");
+
+    // then
+    assertSame(formatter, factory.create("Hello {name}!"));
+    assertEquals(1, factory.getCacheHitCount());
+    assertEquals(1, factory.getCacheMissCount());
+    StringBuilder buffer = new StringBuilder();
+    formatter.format(null, Locale.ROOT, Collections.singletonMap("name", "World"), null, buffer);
+    assertEquals("Hello World!", buffer.toString());
+
+    // and when
+    factory.create("a");
+    factory.create("b");
+
+    // then
+    assertEquals(3, factory.getCacheMissCount());
+    assertEquals(1, factory.getCacheEvictionCount());
+    // recently used entry survives
+    assertSame(formatter, factory.create("Hello {name}!"));
+    factory.clearCache();
+    assertEquals(0, factory.getCacheHitCount());
+    assertNotSame(formatter, factory.create("Hello {name}!"));
+  }
+
+}
@@ -4,6 +4,8 @@ package net.sf.mmm.util.pattern.api;
 
 import java.util.regex.Pattern;
 
+import net.sf.mmm.util.pattern.base.SimplePatternMatcher;
+
 /**
  * This is the interface for a compiler that can {@link #compile(String) compile} an pattern-expression given as string
  * into a {@link Pattern}. <br>
@@ -25,4 +27,26 @@ public interface PatternCompiler {
    */
   Pattern compile(String pattern) throws IllegalArgumentException;
 
+  /**
+   * Compiles the given {@code pattern} to a {@link PatternMatcher}. For simple patterns such as literals, prefixes,
+   * suffixes or infixes the returned {@link PatternMatcher} uses plain string operations and only falls back to a
+   * {@link Pattern} for complex patterns. This is preferable if the pattern is matched very frequently.
+   *
+   * @see #compile(String)
+   *
+   * @param pattern is the expression to be compiled as pattern.
+   * @return the compiled {@link PatternMatcher} that behaves exactly like the {@link Pattern} {@link #compile(String)
+   *         compiled} from the same expression. May only return {@code null} if {@link #compile(String)} does.
+   * @throws IllegalArgumentException if the given {@code pattern} has illegal syntax for the underlying compiler.
+   * @since 8.7.1
+   */
+  default PatternMatcher compileMatcher(String pattern) throws IllegalArgumentException {
+
+    Pattern regex = compile(pattern);
+    if (regex == null) {
+      return null;
+    }
+    return SimplePatternMatcher.of(regex);
+  }
+
 }
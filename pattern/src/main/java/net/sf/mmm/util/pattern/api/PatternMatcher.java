@@ -0,0 +1,26 @@
+/* Copyright (c) The m-m-m Team, Licensed under the Apache License, Version 2.0
+ * http://www.apache.org/licenses/LICENSE-2.0 */
+package net.sf.mmm.util.pattern.api;
+
+/**
+ * This is the interface for a compiled pattern that can {@link #matches(CharSequence) match} strings. Unlike a
+ * {@link java.util.regex.Pattern} an implementation may be specialized for a simple pattern (e.g. a prefix, suffix or
+ * infix) so matching does not require a {@link java.util.regex.Matcher}.
+ *
+ * @see PatternCompiler#compileMatcher(String)
+ *
+ * @author Joerg Hohwiller (hohwille at users.sourceforge.net)
+ * @since 8.7.1
+ */
+@FunctionalInterface
+public interface PatternMatcher {
+
+  /**
+   * @see java.util.regex.Matcher#matches()
+   *
+   * @param input is the {@link CharSequence} to match.
+   * @return {@code true} if the entire {@code input} matches this pattern, {@code false} otherwise.
+   */
+  boolean matches(CharSequence input);
+
+}
@@ -6,6 +6,7 @@
  * {@link net.sf.mmm.util.pattern.api.PatternCompiler} instead of {@link java.util.regex.Pattern#compile(String)}. This
  * allows to exchange the implementation and e.g. support a different pattern syntax such as the common glob-patterns
  * while still providing a Java regex-{@link java.util.regex.Pattern} (and NOT some non-JDK object such as ORO or
- * whatever).
+ * whatever). For frequent matching {@link net.sf.mmm.util.pattern.api.PatternCompiler#compileMatcher(String)} provides
+ * a {@link net.sf.mmm.util.pattern.api.PatternMatcher} that avoids regular expressions for simple patterns.
  */
 package net.sf.mmm.util.pattern.api;
@@ -0,0 +1,52 @@
+/* Copyright (c) The m-m-m Team, Licensed under the Apache License, Version 2.0
+ * http://www.apache.org/licenses/LICENSE-2.0 */
+package net.sf.mmm.util.pattern.base;
+
+import java.util.regex.Pattern;
+
+import net.sf.mmm.util.pattern.api.PatternMatcher;
+
+/**
+ * This is the implementation of {@link PatternMatcher} that simply delegates to a regex {@link Pattern}.
+ *
+ * @see SimplePatternMatcher#of(Pattern)
+ *
+ * @author Joerg Hohwiller (hohwille at users.sourceforge.net)
+ * @since 8.7.1
+ */
+public class RegexPatternMatcher implements PatternMatcher {
+
+  private final Pattern pattern;
+
+  /**
+   * The constructor.
+   *
+   * @param pattern is the {@link Pattern} to delegate to.
+   */
+  public RegexPatternMatcher(Pattern pattern) {
+
+    super();
+    this.pattern = pattern;
+  }
+
+  /**
+   * @return the {@link Pattern} to delegate to.
+   */
+  public Pattern getPattern() {
+
+    return this.pattern;
+  }
+
+  @Override
+  public boolean matches(CharSequence input) {
+
+    return this.pattern.matcher(input).matches();
+  }
+
+  @Override
+  public String toString() {
+
+    return this.pattern.pattern();
+  }
+
+}
@@ -0,0 +1,152 @@
+/* Copyright (c) The m-m-m Team, Licensed under the Apache License, Version 2.0
+ * http://www.apache.org/licenses/LICENSE-2.0 */
+package net.sf.mmm.util.pattern.base;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+
+import net.sf.mmm.util.pattern.api.PatternMatcher;
+
+/**
+ * This is an implementation of {@link PatternMatcher} for simple patterns consisting of literals separated by
+ * {@code .*} such as a literal ({@code foo}), a prefix ({@code foo.*}), a suffix ({@code .*\.xml}), an infix
+ * ({@code .*foo.*}) or combinations of those ({@code foo.*bar.*\.xml}). These are matched via plain {@link String}
+ * operations without backtracking and without allocating a {@link java.util.regex.Matcher}. Use {@link #of(Pattern)}
+ * to create the most efficient {@link PatternMatcher} for a given {@link Pattern}.
+ *
+ * @author Joerg Hohwiller (hohwille at users.sourceforge.net)
+ * @since 8.7.1
+ */
+public class SimplePatternMatcher extends RegexPatternMatcher {
+
+  /** The regex meta-characters that are not supported by this implementation. */
+  private static final String META_CHARS = "[](){}*+?^$|.";
+
+  private final String[] literals;
+
+  private final String first;
+
+  private final String last;
+
+  private final int minLength;
+
+  /**
+   * The constructor.
+   *
+   * @param pattern is the {@link Pattern} that is used as fallback for inputs containing line terminators.
+   * @param literals are the literals separated by wildcards ({@code .*}).
+   */
+  private SimplePatternMatcher(Pattern pattern, String[] literals) {
+
+    super(pattern);
+    this.literals = literals;
+    this.first = literals[0];
+    this.last = literals[literals.length - 1];
+    int length = 0;
+    for (String literal : literals) {
+      length = length + literal.length();
+    }
+    this.minLength = length;
+  }
+
+  @Override
+  public boolean matches(CharSequence input) {
+
+    String string = input.toString();
+    if (this.literals.length == 1) {
+      return this.first.equals(string);
+    }
+    int length = string.length();
+    if ((length < this.minLength) || !string.startsWith(this.first) || !string.endsWith(this.last)) {
+      return false;
+    }
+    int start = this.first.length();
+    int end = length - this.last.length();
+    if (containsLineTerminator(string, start, end)) {
+      // '.' does not match line terminators, let the regex decide...
+      return super.matches(input);
+    }
+    for (int i = 1; i < this.literals.length - 1; i++) {
+      String literal = this.literals[i];
+      int index = string.indexOf(literal, start);
+      if ((index < 0) || ((index + literal.length()) > end)) {
+        return false;
+      }
+      start = index + literal.length();
+    }
+    return true;
+  }
+
+  private static boolean containsLineTerminator(String string, int start, int end) {
+
+    for (int i = start; i < end; i++) {
+      char c = string.charAt(i);
+      if ((c == '\n') || (c == '\r') || (c == '\u0085') || (c == '\u2028') || (c == '\u2029')) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * @param pattern is the {@link Pattern} to match.
+   * @return a {@link SimplePatternMatcher} if the given {@link Pattern} is simple enough or a
+   *         {@link RegexPatternMatcher} otherwise.
+   */
+  public static PatternMatcher of(Pattern pattern) {
+
+    if (pattern.flags() == 0) {
+      String[] literals = parseLiterals(pattern.pattern());
+      if (literals != null) {
+        return new SimplePatternMatcher(pattern, literals);
+      }
+    }
+    return new RegexPatternMatcher(pattern);
+  }
+
+  /**
+   * @param regex is the regular expression to parse.
+   * @return the literals separated by {@code .*} or {@code null} if the given {@code regex} is not simple.
+   */
+  private static String[] parseLiterals(String regex) {
+
+    List<String> literals = new ArrayList<>();
+    StringBuilder literal = new StringBuilder();
+    int length = regex.length();
+    int i = 0;
+    if (regex.startsWith("^")) {
+      i++;
+    }
+    while (i < length) {
+      char c = regex.charAt(i++);
+      if (c == '\\') {
+        if (i == length) {
+          return null;
+        }
+        c = regex.charAt(i++);
+        if (Character.isLetterOrDigit(c)) {
+          // character class, back reference or quotation
+          return null;
+        }
+        literal.append(c);
+      } else if ((c == '.') && (i < length) && (regex.charAt(i) == '*')) {
+        i++;
+        if ((literal.length() > 0) || literals.isEmpty()) {
+          literals.add(literal.toString());
+          literal.setLength(0);
+        }
+      } else if ((c == '$') && (i == length)) {
+        // trailing anchor is implied by matches()
+        break;
+      } else if (META_CHARS.indexOf(c) >= 0) {
+        return null;
+      } else {
+        literal.append(c);
+      }
+    }
+    literals.add(literal.toString());
+    return literals.toArray(new String[literals.size()]);
+  }
+
+}
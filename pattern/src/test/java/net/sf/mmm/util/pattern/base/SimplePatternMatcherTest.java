@@ -0,0 +1,88 @@
+/* Copyright (c) The m-m-m Team, Licensed under the Apache License, Version 2.0
+ * http://www.apache.org/licenses/LICENSE-2.0 */
+package net.sf.mmm.util.pattern.base;
+
+import java.util.regex.Pattern;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import net.sf.mmm.util.pattern.api.PatternCompiler;
+import net.sf.mmm.util.pattern.api.PatternMatcher;
+
+/**
+ * This is the test-case for {@link SimplePatternMatcher} and {@link PatternCompiler#compileMatcher(String)}.
+ *
+ * @author Joerg Hohwiller (hohwille at users.sourceforge.net)
+ */
+public class SimplePatternMatcherTest extends Assert {
+
+  private static final String[] INPUTS = { "", "a", "foo", "foo.xml", "bar.xml", "xfoox", "foo/bar.xml", "foo\nbar.xml",
+  "a.b", "axb", "foobarfoo", ".xml", "foo.xml.bak" };
+
+  /**
+   * Tests that simple patterns are matched without regex.
+   */
+  @Test
+  public void testSimple() {
+
+    assertSimple(GlobPatternCompiler.INSTANCE, "*.xml");
+    assertSimple(GlobPatternCompiler.INSTANCE, "foo*");
+    assertSimple(GlobPatternCompiler.INSTANCE, "*foo*");
+    assertSimple(GlobPatternCompiler.INSTANCE, "foo*bar*.xml");
+    assertSimple(GlobPatternCompiler.INSTANCE, "a.b");
+    assertSimple(GlobPatternCompiler.INSTANCE, "*");
+    assertSimple(PathPatternCompiler.INSTANCE, "**.xml");
+    assertSimple(RegexInfixPatternCompiler.INSTANCE, "\\.xml$");
+    assertSimple(RegexInfixPatternCompiler.INSTANCE, "^foo");
+    assertSimple(RegexInfixPatternCompiler.INSTANCE, "foo");
+    assertSimple(new RegexPatternCompiler(), "foo.*bar.*");
+  }
+
+  /**
+   * Tests that complex patterns fall back to regex.
+   */
+  @Test
+  public void testRegex() {
+
+    assertRegex(GlobPatternCompiler.INSTANCE, "a?b");
+    assertRegex(PathPatternCompiler.INSTANCE, "*.xml");
+    assertRegex(RegexInfixPatternCompiler.INSTANCE, "a.b");
+    assertRegex(RegexInfixPatternCompiler.INSTANCE, "\\w+\\.xml");
+    assertRegex(RegexInfixPatternCompiler.INSTANCE, "(foo|bar)");
+    assertRegex(new RegexPatternCompiler(Pattern.CASE_INSENSITIVE), "foo.*");
+  }
+
+  /**
+   * Tests that {@link WildcardGlobPatternCompiler} returns {@code null} for plain strings.
+   */
+  @Test
+  public void testWildcardRequired() {
+
+    assertNull(WildcardGlobPatternCompiler.INSTANCE.compileMatcher("foo"));
+    assertNotNull(WildcardGlobPatternCompiler.INSTANCE.compileMatcher("foo*"));
+  }
+
+  private static void assertSimple(PatternCompiler compiler, String expression) {
+
+    PatternMatcher matcher = compiler.compileMatcher(expression);
+    assertTrue(expression, matcher instanceof SimplePatternMatcher);
+    assertSameResults(compiler.compile(expression), matcher);
+  }
+
+  private static void assertRegex(PatternCompiler compiler, String expression) {
+
+    PatternMatcher matcher = compiler.compileMatcher(expression);
+    assertFalse(expression, matcher instanceof SimplePatternMatcher);
+    assertSameResults(compiler.compile(expression), matcher);
+  }
+
+  private static void assertSameResults(Pattern pattern, PatternMatcher matcher) {
+
+    for (String input : INPUTS) {
+      assertEquals(pattern.pattern() + " on '" + input + "'", Boolean.valueOf(pattern.matcher(input).matches()),
+          Boolean.valueOf(matcher.matches(input)));
+    }
+  }
+
+}
@@ -0,0 +1,29 @@
+/* Copyright (c) The m-m-m Team, Licensed under the Apache License, Version 2.0
+ * http://www.apache.org/licenses/LICENSE-2.0 */
+package net.sf.mmm.util.pojo.descriptor.api;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * This annotation marks a {@link net.sf.mmm.util.pojo.api.Pojo} for which the {@link PojoDescriptor} shall be generated
+ * at compile-time. If the {@code mmm-util-pojo} module is on the annotation processor path, the processor
+ * {@code net.sf.mmm.util.pojo.descriptor.impl.processor.GeneratePojoDescriptorProcessor} will create a class that
+ * registers the getters and setters of the annotated type via lambdas. The
+ * {@link net.sf.mmm.util.pojo.descriptor.impl.PojoDescriptorBuilderImpl} will then use this generated class instead of
+ * introspecting the type via reflection.
+ *
+ * @see net.sf.mmm.util.pojo.descriptor.base.GeneratedPojoDescriptor
+ *
+ * @author Joerg Hohwiller (hohwille at users.sourceforge.net)
+ * @since 8.7.1
+ */
+@Documented
+@Retention(RetentionPolicy.CLASS)
+@Target(ElementType.TYPE)
+public @interface GeneratePojoDescriptor {
+
+}
@@ -0,0 +1,158 @@
+/* Copyright (c) The m-m-m Team, Licensed under the Apache License, Version 2.0
+ * http://www.apache.org/licenses/LICENSE-2.0 */
+package net.sf.mmm.util.pojo.descriptor.base;
+
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+import net.sf.mmm.util.pojo.descriptor.api.accessor.PojoPropertyAccessorIndexedNonArgMode;
+import net.sf.mmm.util.pojo.descriptor.api.accessor.PojoPropertyAccessorIndexedOneArgMode;
+import net.sf.mmm.util.pojo.descriptor.api.accessor.PojoPropertyAccessorNonArgMode;
+import net.sf.mmm.util.pojo.descriptor.api.accessor.PojoPropertyAccessorOneArgMode;
+import net.sf.mmm.util.pojo.descriptor.api.accessor.PojoPropertyAccessorTwoArgMode;
+
+/**
+ * This is the callback interface for a {@link GeneratedPojoDescriptor} to register its accessors. Each accessor is
+ * backed by a public method of the POJO that is invoked via a lambda. The generic type of a property is given as
+ * {@link Class} together with an optional {@link String} representation of the full generic type (e.g.
+ * {@code java.util.List<java.lang.String>}) that is only given if it differs from the {@link Class}.
+ *
+ * @author Joerg Hohwiller (hohwille at users.sourceforge.net)
+ * @since 8.7.1
+ */
+public interface GeneratedPojoAccessorRegistry {
+
+  /**
+   * Registers an accessor for a method without arguments (e.g. {@code getName()} or {@code getItemCount()}).
+   *
+   * @param mode is the {@link PojoPropertyAccessorNonArgMode mode} of the accessor.
+   * @param propertyName is the name of the property.
+   * @param declaringClass is the {@link Class} declaring the method.
+   * @param methodName is the name of the method.
+   * @param propertyClass is the {@link Class} of the property (the raw return type of the method).
+   * @param propertyType is the generic type of the property as {@link String} or {@code null} if it is the same as
+   *        {@code propertyClass}.
+   * @param function is the {@link Function} invoking the method on the given POJO.
+   */
+  void registerNonArg(PojoPropertyAccessorNonArgMode mode, String propertyName, Class<?> declaringClass,
+      String methodName, Class<?> propertyClass, String propertyType, Function<Object, Object> function);
+
+  /**
+   * Registers an accessor for a method with one argument (e.g. {@code setName(String)} or {@code addItem(String)}).
+   *
+   * @param mode is the {@link PojoPropertyAccessorOneArgMode mode} of the accessor.
+   * @param propertyName is the name of the property.
+   * @param declaringClass is the {@link Class} declaring the method.
+   * @param methodName is the name of the method.
+   * @param propertyClass is the {@link Class} of the property.
+   * @param propertyType is the generic type of the property as {@link String} or {@code null} if it is the same as
+   *        {@code propertyClass}.
+   * @param returnClass is the {@link Class} returned by the method.
+   * @param parameterClass is the {@link Class} of the method parameter.
+   * @param function is the {@link BiFunction} invoking the method on the given POJO with the given argument and
+   *        returning its result ({@code null} for {@code void}).
+   */
+  void registerOneArg(PojoPropertyAccessorOneArgMode mode, String propertyName, Class<?> declaringClass,
+      String methodName, Class<?> propertyClass, String propertyType, Class<?> returnClass, Class<?> parameterClass,
+      BiFunction<Object, Object, Object> function);
+
+  /**
+   * Registers an accessor for an indexed getter (e.g. {@code getItem(int)}).
+   *
+   * @param mode is the {@link PojoPropertyAccessorIndexedNonArgMode mode} of the accessor.
+   * @param propertyName is the name of the property.
+   * @param declaringClass is the {@link Class} declaring the method.
+   * @param methodName is the name of the method.
+   * @param propertyClass is the {@link Class} of the property (the raw return type of the method).
+   * @param propertyType is the generic type of the property as {@link String} or {@code null} if it is the same as
+   *        {@code propertyClass}.
+   * @param indexClass is the {@link Class} of the index parameter ({@code int} or {@link Integer}).
+   * @param function is the {@link IndexedFunction} invoking the method on the given POJO with the given index.
+   */
+  void registerIndexedNonArg(PojoPropertyAccessorIndexedNonArgMode mode, String propertyName, Class<?> declaringClass,
+      String methodName, Class<?> propertyClass, String propertyType, Class<?> indexClass, IndexedFunction function);
+
+  /**
+   * Registers an accessor for an indexed setter (e.g. {@code setItem(int, String)}).
+   *
+   * @param mode is the {@link PojoPropertyAccessorIndexedOneArgMode mode} of the accessor.
+   * @param propertyName is the name of the property.
+   * @param declaringClass is the {@link Class} declaring the method.
+   * @param methodName is the name of the method.
+   * @param propertyClass is the {@link Class} of the property.
+   * @param propertyType is the generic type of the property as {@link String} or {@code null} if it is the same as
+   *        {@code propertyClass}.
+   * @param returnClass is the {@link Class} returned by the method.
+   * @param parameter1Class is the {@link Class} of the first method parameter.
+   * @param parameter2Class is the {@link Class} of the second method parameter.
+   * @param function is the {@link IndexedBiFunction} invoking the method on the given POJO with the given index and
+   *        item.
+   */
+  void registerIndexedOneArg(PojoPropertyAccessorIndexedOneArgMode mode, String propertyName, Class<?> declaringClass,
+      String methodName, Class<?> propertyClass, String propertyType, Class<?> returnClass, Class<?> parameter1Class,
+      Class<?> parameter2Class, IndexedBiFunction function);
+
+  /**
+   * Registers an accessor for a method with two arguments (e.g. {@code setValue(String, String)}).
+   *
+   * @param mode is the {@link PojoPropertyAccessorTwoArgMode mode} of the accessor.
+   * @param propertyName is the name of the property.
+   * @param declaringClass is the {@link Class} declaring the method.
+   * @param methodName is the name of the method.
+   * @param propertyClass is the {@link Class} of the property.
+   * @param propertyType is the generic type of the property as {@link String} or {@code null} if it is the same as
+   *        {@code propertyClass}.
+   * @param returnClass is the {@link Class} returned by the method.
+   * @param parameter1Class is the {@link Class} of the first method parameter.
+   * @param parameter2Class is the {@link Class} of the second method parameter.
+   * @param function is the {@link TriFunction} invoking the method on the given POJO with the given arguments.
+   */
+  void registerTwoArg(PojoPropertyAccessorTwoArgMode mode, String propertyName, Class<?> declaringClass,
+      String methodName, Class<?> propertyClass, String propertyType, Class<?> returnClass, Class<?> parameter1Class,
+      Class<?> parameter2Class, TriFunction function);
+
+  /**
+   * Function invoking an indexed method on a POJO.
+   */
+  @FunctionalInterface
+  interface IndexedFunction {
+
+    /**
+     * @param pojo is the POJO instance.
+     * @param index is the index.
+     * @return the result of the method.
+     */
+    Object apply(Object pojo, int index);
+  }
+
+  /**
+   * Function invoking an indexed method with an item on a POJO.
+   */
+  @FunctionalInterface
+  interface IndexedBiFunction {
+
+    /**
+     * @param pojo is the POJO instance.
+     * @param index is the index.
+     * @param item is the item.
+     * @return the result of the method or {@code null} for {@code void}.
+     */
+    Object apply(Object pojo, int index, Object item);
+  }
+
+  /**
+   * Function invoking a method with two arguments on a POJO.
+   */
+  @FunctionalInterface
+  interface TriFunction {
+
+    /**
+     * @param pojo is the POJO instance.
+     * @param argument1 is the first argument.
+     * @param argument2 is the second argument.
+     * @return the result of the method or {@code null} for {@code void}.
+     */
+    Object apply(Object pojo, Object argument1, Object argument2);
+  }
+
+}
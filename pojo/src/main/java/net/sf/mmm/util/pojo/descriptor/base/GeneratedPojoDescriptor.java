@@ -0,0 +1,54 @@
+/* Copyright (c) The m-m-m Team, Licensed under the Apache License, Version 2.0
+ * http://www.apache.org/licenses/LICENSE-2.0 */
+package net.sf.mmm.util.pojo.descriptor.base;
+
+/**
+ * This is the interface for a class generated at compile-time for a {@link net.sf.mmm.util.pojo.api.Pojo} annotated
+ * with {@link net.sf.mmm.util.pojo.descriptor.api.GeneratePojoDescriptor}. It registers the accessors of the
+ * {@link #getPojoClass() POJO} without any reflection. <br>
+ * The generated class resides in the same package as the POJO and is named after the {@link Class#getName() binary
+ * name} of the POJO without the package where {@code $} is replaced with {@code _} followed by {@link #CLASS_SUFFIX}.
+ *
+ * @author Joerg Hohwiller (hohwille at users.sourceforge.net)
+ * @since 8.7.1
+ */
+public interface GeneratedPojoDescriptor {
+
+  /** The suffix appended to the name of the POJO to get the name of the generated class. */
+  String CLASS_SUFFIX = "_PojoDescriptor";
+
+  /**
+   * @return the {@link Class} of the {@link net.sf.mmm.util.pojo.api.Pojo} this descriptor was generated for.
+   */
+  Class<?> getPojoClass();
+
+  /**
+   * Registers all accessors of the {@link #getPojoClass() POJO} (including inherited ones).
+   *
+   * @param registry is the {@link GeneratedPojoAccessorRegistry} where to register the accessors.
+   */
+  void registerAccessors(GeneratedPojoAccessorRegistry registry);
+
+  /**
+   * @param pojoClass is the {@link Class} of the {@link net.sf.mmm.util.pojo.api.Pojo}.
+   * @return the {@link Class#getName() qualified name} of the {@link GeneratedPojoDescriptor} for the given
+   *         {@code pojoClass}.
+   */
+  static String getGeneratedClassName(Class<?> pojoClass) {
+
+    return getGeneratedClassName(pojoClass.getName());
+  }
+
+  /**
+   * @param pojoClassName is the {@link Class#getName() binary name} of the {@link net.sf.mmm.util.pojo.api.Pojo}.
+   * @return the {@link Class#getName() qualified name} of the {@link GeneratedPojoDescriptor} for the given
+   *         {@code pojoClassName}.
+   */
+  static String getGeneratedClassName(String pojoClassName) {
+
+    int lastDot = pojoClassName.lastIndexOf('.');
+    String simpleName = pojoClassName.substring(lastDot + 1).replace('$', '_');
+    return pojoClassName.substring(0, lastDot + 1) + simpleName + CLASS_SUFFIX;
+  }
+
+}
@@ -7,12 +7,15 @@ import java.lang.reflect.Field;
 import java.lang.reflect.Member;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
+import java.lang.reflect.Type;
 import java.security.AccessController;
 import java.security.PrivilegedAction;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Iterator;
 import java.util.List;
+import java.util.function.BiFunction;
+import java.util.function.Function;
 
 import javax.inject.Inject;
 
@@ -23,14 +26,31 @@ import net.sf.mmm.util.collection.api.MapFactory;
 import net.sf.mmm.util.collection.base.ConcurrentHashMapFactory;
 import net.sf.mmm.util.exception.api.NlsIllegalArgumentException;
 import net.sf.mmm.util.pojo.descriptor.api.accessor.PojoPropertyAccessor;
+import net.sf.mmm.util.pojo.descriptor.api.accessor.PojoPropertyAccessorIndexedNonArgMode;
+import net.sf.mmm.util.pojo.descriptor.api.accessor.PojoPropertyAccessorIndexedOneArgMode;
+import net.sf.mmm.util.pojo.descriptor.api.accessor.PojoPropertyAccessorNonArgMode;
+import net.sf.mmm.util.pojo.descriptor.api.accessor.PojoPropertyAccessorOneArgMode;
+import net.sf.mmm.util.pojo.descriptor.api.accessor.PojoPropertyAccessorTwoArgMode;
 import net.sf.mmm.util.pojo.descriptor.base.AbstractPojoDescriptorBuilder;
 import net.sf.mmm.util.pojo.descriptor.base.ExtendedPojoDescriptorDependencies;
+import net.sf.mmm.util.pojo.descriptor.base.GeneratedPojoAccessorRegistry;
+import net.sf.mmm.util.pojo.descriptor.base.GeneratedPojoAccessorRegistry.IndexedBiFunction;
+import net.sf.mmm.util.pojo.descriptor.base.GeneratedPojoAccessorRegistry.IndexedFunction;
+import net.sf.mmm.util.pojo.descriptor.base.GeneratedPojoAccessorRegistry.TriFunction;
+import net.sf.mmm.util.pojo.descriptor.base.GeneratedPojoDescriptor;
 import net.sf.mmm.util.pojo.descriptor.base.NoPojoFieldIntrospector;
 import net.sf.mmm.util.pojo.descriptor.base.PojoFieldIntrospector;
 import net.sf.mmm.util.pojo.descriptor.base.PojoMethodIntrospector;
 import net.sf.mmm.util.pojo.descriptor.base.accessor.PojoPropertyAccessorBuilder;
+import net.sf.mmm.util.pojo.descriptor.impl.accessor.PojoPropertyAccessorHandleFactory;
+import net.sf.mmm.util.pojo.descriptor.impl.accessor.PojoPropertyAccessorIndexedNonArgGenerated;
+import net.sf.mmm.util.pojo.descriptor.impl.accessor.PojoPropertyAccessorIndexedOneArgGenerated;
+import net.sf.mmm.util.pojo.descriptor.impl.accessor.PojoPropertyAccessorNonArgGenerated;
+import net.sf.mmm.util.pojo.descriptor.impl.accessor.PojoPropertyAccessorOneArgGenerated;
+import net.sf.mmm.util.pojo.descriptor.impl.accessor.PojoPropertyAccessorTwoArgGenerated;
 import net.sf.mmm.util.reflect.api.GenericType;
 import net.sf.mmm.util.reflect.api.ReflectionUtilLimited;
+import net.sf.mmm.util.reflect.api.TypeNotFoundException;
 import net.sf.mmm.util.reflect.api.VisibilityModifier;
 
 /**
@@ -50,6 +70,12 @@ public class PojoDescriptorBuilderImpl extends AbstractPojoDescriptorBuilder {
 
   private PojoFieldIntrospector fieldIntrospector;
 
+  private PojoPropertyAccessorStrategy accessorStrategy;
+
+  private PojoPropertyAccessorHandleFactory accessorHandleFactory;
+
+  private Boolean generatedDescriptorsEnabled;
+
   /**
    * The constructor. By default it only introspects {@link Method methods} that are public and NOT static. <br>
    * <b>ATTENTION:</b><br>
@@ -81,12 +107,70 @@ public class PojoDescriptorBuilderImpl extends AbstractPojoDescriptorBuilder {
       // by default only introspect public and non-static methods
       this.methodIntrospector = new PojoMethodIntrospectorImpl(VisibilityModifier.PUBLIC, false);
       this.fieldIntrospector = new NoPojoFieldIntrospector();
+      if (this.generatedDescriptorsEnabled == null) {
+        this.generatedDescriptorsEnabled = Boolean.TRUE;
+      }
+    }
+    if (this.generatedDescriptorsEnabled == null) {
+      // generated descriptors only cover public non-static methods
+      this.generatedDescriptorsEnabled = Boolean.FALSE;
     }
     if (this.configuration == null) {
       ExtendedPojoDescriptorDependenciesImpl impl = new ExtendedPojoDescriptorDependenciesImpl();
       impl.initialize();
       this.configuration = impl;
     }
+    if (this.accessorStrategy == null) {
+      this.accessorStrategy = PojoPropertyAccessorStrategy.METHOD_HANDLE;
+    }
+    if (this.accessorStrategy == PojoPropertyAccessorStrategy.METHOD_HANDLE) {
+      this.accessorHandleFactory = new PojoPropertyAccessorHandleFactory();
+    }
+  }
+
+  /**
+   * @return the {@link PojoPropertyAccessorStrategy} used to access {@link Method}s and {@link Field}s.
+   * @since 8.7.1
+   */
+  public PojoPropertyAccessorStrategy getAccessorStrategy() {
+
+    return this.accessorStrategy;
+  }
+
+  /**
+   * @param accessorStrategy is the {@link PojoPropertyAccessorStrategy} to use. Default is
+   *        {@link PojoPropertyAccessorStrategy#METHOD_HANDLE}.
+   * @since 8.7.1
+   */
+  public void setAccessorStrategy(PojoPropertyAccessorStrategy accessorStrategy) {
+
+    getInitializationState().requireNotInitilized();
+    this.accessorStrategy = accessorStrategy;
+  }
+
+  /**
+   * @return {@code true} if {@link GeneratedPojoDescriptor}s generated at compile-time for POJOs annotated with
+   *         {@link net.sf.mmm.util.pojo.descriptor.api.GeneratePojoDescriptor} are used instead of reflective
+   *         introspection, {@code false} otherwise. Generic POJO classes are always introspected so their property
+   *         types get resolved against the actual {@link PojoDescriptorImpl#getPojoType() pojo type}.
+   * @since 8.7.1
+   */
+  public boolean isGeneratedDescriptorsEnabled() {
+
+    return Boolean.TRUE.equals(this.generatedDescriptorsEnabled);
+  }
+
+  /**
+   * @param generatedDescriptorsEnabled is the value of {@link #isGeneratedDescriptorsEnabled()}. Default is
+   *        {@code true} unless a custom {@link #setMethodIntrospector(PojoMethodIntrospector) method} or
+   *        {@link #setFieldIntrospector(PojoFieldIntrospector) field introspector} is configured, because generated
+   *        descriptors only cover public and non-static methods.
+   * @since 8.7.1
+   */
+  public void setGeneratedDescriptorsEnabled(boolean generatedDescriptorsEnabled) {
+
+    getInitializationState().requireNotInitilized();
+    this.generatedDescriptorsEnabled = Boolean.valueOf(generatedDescriptorsEnabled);
   }
 
   /**
@@ -221,6 +305,16 @@ public class PojoDescriptorBuilderImpl extends AbstractPojoDescriptorBuilder {
 
     PojoDescriptorImpl<P> descriptor = new PojoDescriptorImpl<>(pojoType, this);
 
+    // type variables of a generic POJO can only be resolved against the pojoType via reflection
+    if (this.generatedDescriptorsEnabled.booleanValue() && (pojoClass.getTypeParameters().length == 0)) {
+      GeneratedPojoDescriptor generatedDescriptor = findGeneratedDescriptor(pojoClass);
+      if (generatedDescriptor != null) {
+        generatedDescriptor.registerAccessors(new GeneratedAccessorRegistry(descriptor));
+        this.configuration.getDescriptorEnhancer().enhanceDescriptor(descriptor);
+        return descriptor;
+      }
+    }
+
     List<AccessibleObject> nonPublicAccessibleObjects = new ArrayList<>();
     // process methods...
     introspectMethods(pojoClass, descriptor, nonPublicAccessibleObjects);
@@ -230,6 +324,10 @@ public class PojoDescriptorBuilderImpl extends AbstractPojoDescriptorBuilder {
     // make non-public fields/methods accessible for us...
     makeAccessible(nonPublicAccessibleObjects);
 
+    if (this.accessorHandleFactory != null) {
+      optimizeAccessors(descriptor);
+    }
+
     this.configuration.getDescriptorEnhancer().enhanceDescriptor(descriptor);
 
     mergeDescriptorWithSuperClass(pojoClass, descriptor);
@@ -237,6 +335,35 @@ public class PojoDescriptorBuilderImpl extends AbstractPojoDescriptorBuilder {
     return descriptor;
   }
 
+  /**
+   * @param pojoClass is the {@link Class} of the {@link net.sf.mmm.util.pojo.api.Pojo}.
+   * @return the {@link GeneratedPojoDescriptor} generated at compile-time for the given {@code pojoClass} or
+   *         {@code null} if not available.
+   */
+  private GeneratedPojoDescriptor findGeneratedDescriptor(Class<?> pojoClass) {
+
+    ClassLoader classLoader = pojoClass.getClassLoader();
+    if ((classLoader == null) || pojoClass.isPrimitive()) {
+      return null;
+    }
+    String generatedClassName = GeneratedPojoDescriptor.getGeneratedClassName(pojoClass);
+    try {
+      Class<?> generatedClass = Class.forName(generatedClassName, true, classLoader);
+      GeneratedPojoDescriptor generatedDescriptor = generatedClass.asSubclass(GeneratedPojoDescriptor.class)
+          .newInstance();
+      if (generatedDescriptor.getPojoClass() == pojoClass) {
+        return generatedDescriptor;
+      }
+      LOG.warn("Ignoring {} that was generated for {} instead of {}", generatedClassName,
+          generatedDescriptor.getPojoClass(), pojoClass);
+    } catch (ClassNotFoundException e) {
+      LOG.trace("No generated descriptor for {}", pojoClass);
+    } catch (ReflectiveOperationException | RuntimeException | LinkageError e) {
+      LOG.warn("Failed to create generated descriptor {}", generatedClassName, e);
+    }
+    return null;
+  }
+
   /**
    * Makes all {@link AccessibleObject}s in the given {@link List} {@link AccessibleObject#setAccessible(boolean)
    * accessible}.
@@ -263,6 +390,25 @@ public class PojoDescriptorBuilderImpl extends AbstractPojoDescriptorBuilder {
     }
   }
 
+  /**
+   * Replaces the reflective {@link PojoPropertyAccessor}s of the given {@code descriptor} with faster ones according to
+   * {@link PojoPropertyAccessorStrategy#METHOD_HANDLE}.
+   *
+   * @param descriptor is the {@link PojoDescriptorImpl} with the introspected {@link PojoPropertyAccessor}s.
+   */
+  private void optimizeAccessors(PojoDescriptorImpl<?> descriptor) {
+
+    for (PojoPropertyDescriptorImpl propertyDescriptor : descriptor.getPropertyDescriptors()) {
+      List<PojoPropertyAccessor> accessors = new ArrayList<>(propertyDescriptor.getAccessors());
+      for (PojoPropertyAccessor accessor : accessors) {
+        PojoPropertyAccessor optimized = this.accessorHandleFactory.optimize(accessor, descriptor, getDependencies());
+        if (optimized != accessor) {
+          propertyDescriptor.putAccessor(optimized);
+        }
+      }
+    }
+  }
+
   /**
    * Introspects the {@link Field}s of the given {@link Class} and adds them to the given {@link PojoDescriptorImpl}.
    *
@@ -417,4 +563,99 @@ public class PojoDescriptorBuilderImpl extends AbstractPojoDescriptorBuilder {
     LOG.trace("accessor '{}' - is a duplicate of '{}'!", duplicate, accessor);
   }
 
+  /**
+   * Implementation of {@link GeneratedPojoAccessorRegistry} that {@link #registerAccessor(PojoDescriptorImpl,
+   * PojoPropertyAccessor) registers} the accessors of a {@link GeneratedPojoDescriptor} in a
+   * {@link PojoDescriptorImpl}.
+   */
+  private class GeneratedAccessorRegistry implements GeneratedPojoAccessorRegistry {
+
+    private final PojoDescriptorImpl<?> descriptor;
+
+    /**
+     * The constructor.
+     *
+     * @param descriptor is the {@link PojoDescriptorImpl} to build.
+     */
+    private GeneratedAccessorRegistry(PojoDescriptorImpl<?> descriptor) {
+
+      super();
+      this.descriptor = descriptor;
+    }
+
+    @Override
+    public void registerNonArg(PojoPropertyAccessorNonArgMode mode, String propertyName, Class<?> declaringClass,
+        String methodName, Class<?> propertyClass, String propertyType, Function<Object, Object> function) {
+
+      PojoPropertyAccessorNonArgGenerated accessor = new PojoPropertyAccessorNonArgGenerated(propertyName,
+          toType(propertyClass, propertyType), mode, this.descriptor, getDependencies(), declaringClass, methodName,
+          propertyClass, function);
+      registerAccessor(this.descriptor, accessor);
+    }
+
+    @Override
+    public void registerOneArg(PojoPropertyAccessorOneArgMode mode, String propertyName, Class<?> declaringClass,
+        String methodName, Class<?> propertyClass, String propertyType, Class<?> returnClass, Class<?> parameterClass,
+        BiFunction<Object, Object, Object> function) {
+
+      PojoPropertyAccessorOneArgGenerated accessor = new PojoPropertyAccessorOneArgGenerated(propertyName,
+          toType(propertyClass, propertyType), mode, this.descriptor, getDependencies(), declaringClass, methodName,
+          returnClass, parameterClass, function);
+      registerAccessor(this.descriptor, accessor);
+    }
+
+    @Override
+    public void registerIndexedNonArg(PojoPropertyAccessorIndexedNonArgMode mode, String propertyName,
+        Class<?> declaringClass, String methodName, Class<?> propertyClass, String propertyType, Class<?> indexClass,
+        IndexedFunction function) {
+
+      PojoPropertyAccessorIndexedNonArgGenerated accessor = new PojoPropertyAccessorIndexedNonArgGenerated(propertyName,
+          toType(propertyClass, propertyType), mode, this.descriptor, getDependencies(), declaringClass, methodName,
+          propertyClass, indexClass, function);
+      registerAccessor(this.descriptor, accessor);
+    }
+
+    @Override
+    public void registerIndexedOneArg(PojoPropertyAccessorIndexedOneArgMode mode, String propertyName,
+        Class<?> declaringClass, String methodName, Class<?> propertyClass, String propertyType, Class<?> returnClass,
+        Class<?> parameter1Class, Class<?> parameter2Class, IndexedBiFunction function) {
+
+      PojoPropertyAccessorIndexedOneArgGenerated accessor = new PojoPropertyAccessorIndexedOneArgGenerated(propertyName,
+          toType(propertyClass, propertyType), mode, this.descriptor, getDependencies(), declaringClass, methodName,
+          returnClass, parameter1Class, parameter2Class, function);
+      registerAccessor(this.descriptor, accessor);
+    }
+
+    @Override
+    public void registerTwoArg(PojoPropertyAccessorTwoArgMode mode, String propertyName, Class<?> declaringClass,
+        String methodName, Class<?> propertyClass, String propertyType, Class<?> returnClass, Class<?> parameter1Class,
+        Class<?> parameter2Class, TriFunction function) {
+
+      PojoPropertyAccessorTwoArgGenerated accessor = new PojoPropertyAccessorTwoArgGenerated(propertyName,
+          toType(propertyClass, propertyType), mode, this.descriptor, getDependencies(), declaringClass, methodName,
+          returnClass, parameter1Class, parameter2Class, function);
+      registerAccessor(this.descriptor, accessor);
+    }
+
+    private Type toType(Class<?> propertyClass, String propertyType) {
+
+      if (propertyType == null) {
+        return propertyClass;
+      }
+      ClassLoader classLoader = this.descriptor.getPojoClass().getClassLoader();
+      try {
+        return getDependencies().getReflectionUtil().toType(propertyType, name -> {
+          try {
+            return Class.forName(name, false, classLoader);
+          } catch (ClassNotFoundException e) {
+            throw new TypeNotFoundException(e, name);
+          }
+        });
+      } catch (RuntimeException e) {
+        LOG.debug("Falling back to raw type {} for {}: {}", propertyClass, propertyType, e.toString());
+        return propertyClass;
+      }
+    }
+  }
+
 }
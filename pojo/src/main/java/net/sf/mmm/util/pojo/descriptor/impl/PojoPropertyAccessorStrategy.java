@@ -0,0 +1,31 @@
+/* Copyright (c) The m-m-m Team, Licensed under the Apache License, Version 2.0
+ * http://www.apache.org/licenses/LICENSE-2.0 */
+package net.sf.mmm.util.pojo.descriptor.impl;
+
+/**
+ * This enum contains the available strategies how {@link PojoDescriptorBuilderImpl} creates the
+ * {@link net.sf.mmm.util.pojo.descriptor.api.accessor.PojoPropertyAccessor}s for {@link java.lang.reflect.Method}s and
+ * {@link java.lang.reflect.Field}s.
+ *
+ * @see PojoDescriptorBuilderImpl#setAccessorStrategy(PojoPropertyAccessorStrategy)
+ *
+ * @author Joerg Hohwiller (hohwille at users.sourceforge.net)
+ * @since 8.7.1
+ */
+public enum PojoPropertyAccessorStrategy {
+
+  /**
+   * Access via {@link java.lang.reflect.Method#invoke(Object, Object...)} and
+   * {@link java.lang.reflect.Field#get(Object)} or {@link java.lang.reflect.Field#set(Object, Object)}.
+   */
+  REFLECTION,
+
+  /**
+   * Access via functional objects spun by {@link java.lang.invoke.LambdaMetafactory} or via
+   * {@link java.lang.invoke.MethodHandle}s. Falls back to {@link #REFLECTION} for accessors where this is not possible.
+   *
+   * @see net.sf.mmm.util.pojo.descriptor.impl.accessor.PojoPropertyAccessorHandleFactory
+   */
+  METHOD_HANDLE
+
+}
@@ -0,0 +1,151 @@
+/* Copyright (c) The m-m-m Team, Licensed under the Apache License, Version 2.0
+ * http://www.apache.org/licenses/LICENSE-2.0 */
+package net.sf.mmm.util.pojo.descriptor.impl.accessor;
+
+import java.lang.reflect.AccessibleObject;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Type;
+
+import net.sf.mmm.util.exception.api.ObjectNotFoundException;
+import net.sf.mmm.util.pojo.descriptor.api.PojoDescriptor;
+import net.sf.mmm.util.pojo.descriptor.base.PojoDescriptorDependencies;
+import net.sf.mmm.util.pojo.descriptor.base.accessor.AbstractPojoPropertyAccessorBase;
+import net.sf.mmm.util.reflect.api.GenericType;
+
+/**
+ * This is the abstract base class for a {@link net.sf.mmm.util.pojo.descriptor.api.accessor.PojoPropertyAccessor}
+ * registered by a {@link net.sf.mmm.util.pojo.descriptor.base.GeneratedPojoDescriptor}. It accesses a public
+ * {@link Method} via a generated lambda. The {@link Method} itself is only looked up on demand if
+ * {@link #getAccessibleObject()} is called.
+ *
+ * @author Joerg Hohwiller (hohwille at users.sourceforge.net)
+ * @since 8.7.1
+ */
+public abstract class AbstractPojoPropertyAccessorGeneratedMethod extends AbstractPojoPropertyAccessorBase {
+
+  private final Class<?> declaringClass;
+
+  private final String methodName;
+
+  private final Class<?>[] parameterClasses;
+
+  private final GenericType<?> returnType;
+
+  private volatile Method method;
+
+  /**
+   * The constructor.
+   *
+   * @param propertyName is the {@link #getName() name} of the property.
+   * @param propertyType is the {@link #getPropertyType() generic type} of the property.
+   * @param descriptor is the descriptor this accessor is intended for.
+   * @param dependencies are the {@link PojoDescriptorDependencies} to use.
+   * @param declaringClass is the {@link #getDeclaringClass() declaring class} of the method.
+   * @param methodName is the {@link #getAccessibleObjectName() name} of the method.
+   * @param returnClass is the {@link Class} returned by the method.
+   * @param parameterClasses are the {@link Method#getParameterTypes() parameter types} of the method.
+   */
+  public AbstractPojoPropertyAccessorGeneratedMethod(String propertyName, Type propertyType,
+      PojoDescriptor<?> descriptor, PojoDescriptorDependencies dependencies, Class<?> declaringClass, String methodName,
+      Class<?> returnClass, Class<?>... parameterClasses) {
+
+    super(propertyName, propertyType, descriptor, dependencies);
+    this.declaringClass = declaringClass;
+    this.methodName = methodName;
+    this.parameterClasses = parameterClasses;
+    if (returnClass == propertyType) {
+      this.returnType = getPropertyType();
+    } else {
+      this.returnType = dependencies.getReflectionUtil().createGenericType(returnClass, descriptor.getPojoType());
+    }
+  }
+
+  /**
+   * @see #getAccessibleObject()
+   *
+   * @return the method to access. Will be looked up on the first call.
+   */
+  protected Method getMethod() {
+
+    if (this.method == null) {
+      try {
+        this.method = this.declaringClass.getMethod(this.methodName, this.parameterClasses);
+      } catch (NoSuchMethodException e) {
+        // parameter types may be resolved from type variables of the declaring class
+        this.method = findMethod();
+        if (this.method == null) {
+          throw new ObjectNotFoundException(e, this.declaringClass, this.methodName);
+        }
+      }
+    }
+    return this.method;
+  }
+
+  private Method findMethod() {
+
+    for (Method candidate : this.declaringClass.getMethods()) {
+      if (candidate.getName().equals(this.methodName) && !candidate.isBridge()) {
+        Class<?>[] candidateParameters = candidate.getParameterTypes();
+        if (candidateParameters.length == this.parameterClasses.length) {
+          boolean match = true;
+          for (int i = 0; i < candidateParameters.length; i++) {
+            if (!candidateParameters[i].isAssignableFrom(this.parameterClasses[i])) {
+              match = false;
+              break;
+            }
+          }
+          if (match) {
+            return candidate;
+          }
+        }
+      }
+    }
+    return null;
+  }
+
+  @Override
+  public int getModifiers() {
+
+    return Modifier.PUBLIC;
+  }
+
+  @Override
+  public AccessibleObject getAccessibleObject() {
+
+    return getMethod();
+  }
+
+  @Override
+  public String getAccessibleObjectName() {
+
+    return this.methodName;
+  }
+
+  @Override
+  public Class<?> getDeclaringClass() {
+
+    return this.declaringClass;
+  }
+
+  @Override
+  public GenericType<?> getReturnType() {
+
+    if (getMode().isReading()) {
+      return getPropertyType();
+    } else {
+      return this.returnType;
+    }
+  }
+
+  @Override
+  public Class<?> getReturnClass() {
+
+    if (getMode().isReading()) {
+      return getPropertyClass();
+    } else {
+      return this.returnType.getRetrievalClass();
+    }
+  }
+
+}
@@ -0,0 +1,48 @@
+/* Copyright (c) The m-m-m Team, Licensed under the Apache License, Version 2.0
+ * http://www.apache.org/licenses/LICENSE-2.0 */
+package net.sf.mmm.util.pojo.descriptor.impl.accessor;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.reflect.Field;
+
+import net.sf.mmm.util.pojo.descriptor.api.PojoDescriptor;
+import net.sf.mmm.util.pojo.descriptor.base.PojoDescriptorDependencies;
+import net.sf.mmm.util.reflect.api.AccessFailedException;
+
+/**
+ * This is an implementation of {@link net.sf.mmm.util.pojo.descriptor.api.accessor.PojoPropertyAccessorNonArg}
+ * for getting a {@link Field} via a {@link MethodHandle} instead of {@link Field#get(Object) reflection}.
+ *
+ * @author Joerg Hohwiller (hohwille at users.sourceforge.net)
+ * @since 8.7.1
+ */
+public class PojoPropertyAccessorGetFieldHandle extends PojoPropertyAccessorGetField {
+
+  private final MethodHandle getter;
+
+  /**
+   * The constructor.
+   *
+   * @param descriptor is the descriptor this accessor is intended for.
+   * @param dependencies are the {@link PojoDescriptorDependencies} to use.
+   * @param field is the {@link #getField() field} to access.
+   * @param getter is the {@link MethodHandle} of the type {@code (Object)Object} getting the {@code field}.
+   */
+  public PojoPropertyAccessorGetFieldHandle(PojoDescriptor<?> descriptor, PojoDescriptorDependencies dependencies,
+      Field field, MethodHandle getter) {
+
+    super(descriptor, dependencies, field);
+    this.getter = getter;
+  }
+
+  @Override
+  public Object invoke(Object pojoInstance) {
+
+    try {
+      return this.getter.invokeExact(pojoInstance);
+    } catch (Throwable e) {
+      throw new AccessFailedException(e, getField());
+    }
+  }
+
+}
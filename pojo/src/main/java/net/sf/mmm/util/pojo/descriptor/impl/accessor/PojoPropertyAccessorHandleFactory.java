@@ -0,0 +1,232 @@
+/* Copyright (c) The m-m-m Team, Licensed under the Apache License, Version 2.0
+ * http://www.apache.org/licenses/LICENSE-2.0 */
+package net.sf.mmm.util.pojo.descriptor.impl.accessor;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import net.sf.mmm.util.pojo.descriptor.api.PojoDescriptor;
+import net.sf.mmm.util.pojo.descriptor.api.accessor.PojoPropertyAccessor;
+import net.sf.mmm.util.pojo.descriptor.api.accessor.PojoPropertyAccessorNonArgMode;
+import net.sf.mmm.util.pojo.descriptor.api.accessor.PojoPropertyAccessorOneArgMode;
+import net.sf.mmm.util.pojo.descriptor.base.PojoDescriptorDependencies;
+
+/**
+ * This is a factory that replaces the reflective {@link PojoPropertyAccessor}s for {@link Method}s and {@link Field}s
+ * with equivalent accessors based on {@link java.lang.invoke}. For public methods of classes visible to this factory a
+ * {@link Function} or {@link BiFunction} is spun via {@link LambdaMetafactory} so the JIT can inline the invocation
+ * like a hand-written getter or setter. Otherwise a {@link MethodHandle} is used. If neither is possible, the
+ * reflective accessor is kept.
+ *
+ * @author Joerg Hohwiller (hohwille at users.sourceforge.net)
+ * @since 8.7.1
+ */
+public class PojoPropertyAccessorHandleFactory {
+
+  private static final Logger LOG = LoggerFactory.getLogger(PojoPropertyAccessorHandleFactory.class);
+
+  private static final MethodType TYPE_GETTER = MethodType.methodType(Object.class, Object.class);
+
+  private static final MethodType TYPE_FUNCTION = MethodType.methodType(Object.class, Object.class, Object.class);
+
+  private static final MethodType TYPE_SETTER = MethodType.methodType(void.class, Object.class, Object.class);
+
+  private final MethodHandles.Lookup lookup;
+
+  /**
+   * The constructor.
+   */
+  public PojoPropertyAccessorHandleFactory() {
+
+    super();
+    this.lookup = MethodHandles.lookup();
+  }
+
+  /**
+   * @param accessor is the {@link PojoPropertyAccessor} to optimize. The underlying {@link Method} or {@link Field} has
+   *        to be {@link java.lang.reflect.AccessibleObject#setAccessible(boolean) accessible} already.
+   * @param descriptor is the descriptor the {@code accessor} is intended for.
+   * @param dependencies are the {@link PojoDescriptorDependencies} to use.
+   * @return the optimized {@link PojoPropertyAccessor} or the given {@code accessor} if it could not be optimized.
+   */
+  public PojoPropertyAccessor optimize(PojoPropertyAccessor accessor, PojoDescriptor<?> descriptor,
+      PojoDescriptorDependencies dependencies) {
+
+    Class<?> accessorClass = accessor.getClass();
+    try {
+      if (accessorClass == PojoPropertyAccessorNonArgMethod.class) {
+        Method method = (Method) accessor.getAccessibleObject();
+        return new PojoPropertyAccessorNonArgMethodHandle(accessor.getName(), accessor.getPropertyType().getType(),
+            (PojoPropertyAccessorNonArgMode) accessor.getMode(), descriptor, dependencies, method,
+            createFunction(method));
+      } else if (accessorClass == PojoPropertyAccessorOneArgMethod.class) {
+        Method method = (Method) accessor.getAccessibleObject();
+        return new PojoPropertyAccessorOneArgMethodHandle(accessor.getName(), accessor.getPropertyType().getType(),
+            (PojoPropertyAccessorOneArgMode) accessor.getMode(), descriptor, dependencies, method,
+            createBiFunction(method));
+      } else if (accessorClass == PojoPropertyAccessorGetField.class) {
+        Field field = (Field) accessor.getAccessibleObject();
+        return new PojoPropertyAccessorGetFieldHandle(descriptor, dependencies, field, createGetter(field));
+      } else if (accessorClass == PojoPropertyAccessorSetField.class) {
+        Field field = (Field) accessor.getAccessibleObject();
+        return new PojoPropertyAccessorSetFieldHandle(descriptor, dependencies, field, createGetter(field),
+            this.lookup.unreflectSetter(field).asType(TYPE_SETTER));
+      }
+    } catch (IllegalAccessException | RuntimeException e) {
+      LOG.debug("Falling back to reflection for accessor {}: {}", accessor, e.toString());
+    }
+    return accessor;
+  }
+
+  private MethodHandle createGetter(Field field) throws IllegalAccessException {
+
+    return this.lookup.unreflectGetter(field).asType(TYPE_GETTER);
+  }
+
+  /**
+   * @param method the {@link Method} without arguments.
+   * @return a {@link Function} that invokes the given {@link Method} on the POJO given as argument.
+   * @throws IllegalAccessException if the {@link Method} is not accessible.
+   */
+  @SuppressWarnings("unchecked")
+  private Function<Object, Object> createFunction(Method method) throws IllegalAccessException {
+
+    MethodHandle handle = this.lookup.unreflect(method);
+    Class<?> returnType = method.getReturnType();
+    if (isLambdaCapable(method) && (returnType != void.class)) {
+      try {
+        Class<?> resultType = MethodType.methodType(returnType).wrap().returnType();
+        MethodType instantiatedType = MethodType.methodType(resultType, method.getDeclaringClass());
+        CallSite site = LambdaMetafactory.metafactory(this.lookup, "apply", MethodType.methodType(Function.class),
+            TYPE_GETTER, handle, instantiatedType);
+        return (Function<Object, Object>) site.getTarget().invokeExact();
+      } catch (Throwable e) {
+        LOG.debug("Falling back to method handle for {}: {}", method, e.toString());
+      }
+    }
+    return new MethodHandleFunction(handle.asType(TYPE_GETTER));
+  }
+
+  /**
+   * @param method the {@link Method} with a single argument.
+   * @return a {@link BiFunction} that invokes the given {@link Method} on the POJO given as first argument with the
+   *         second argument.
+   * @throws IllegalAccessException if the {@link Method} is not accessible.
+   */
+  @SuppressWarnings("unchecked")
+  private BiFunction<Object, Object, Object> createBiFunction(Method method) throws IllegalAccessException {
+
+    MethodHandle handle = this.lookup.unreflect(method);
+    if (isLambdaCapable(method)) {
+      try {
+        Class<?> returnType = method.getReturnType();
+        Class<?> argumentType = MethodType.methodType(method.getParameterTypes()[0]).wrap().returnType();
+        if (returnType == void.class) {
+          MethodType instantiatedType = MethodType.methodType(void.class, method.getDeclaringClass(), argumentType);
+          CallSite site = LambdaMetafactory.metafactory(this.lookup, "accept", MethodType.methodType(BiConsumer.class),
+              TYPE_SETTER, handle, instantiatedType);
+          BiConsumer<Object, Object> consumer = (BiConsumer<Object, Object>) site.getTarget().invokeExact();
+          return (pojo, argument) -> {
+            consumer.accept(pojo, argument);
+            return null;
+          };
+        } else {
+          Class<?> resultType = MethodType.methodType(returnType).wrap().returnType();
+          MethodType instantiatedType = MethodType.methodType(resultType, method.getDeclaringClass(), argumentType);
+          CallSite site = LambdaMetafactory.metafactory(this.lookup, "apply", MethodType.methodType(BiFunction.class),
+              TYPE_FUNCTION, handle, instantiatedType);
+          return (BiFunction<Object, Object, Object>) site.getTarget().invokeExact();
+        }
+      } catch (Throwable e) {
+        LOG.debug("Falling back to method handle for {}: {}", method, e.toString());
+      }
+    }
+    return new MethodHandleBiFunction(handle.asType(TYPE_FUNCTION));
+  }
+
+  /**
+   * @param method the {@link Method} to check.
+   * @return {@code true} if a lambda can be spun for the given {@link Method}, {@code false} otherwise (e.g. if it is
+   *         not public or its declaring class is not visible from the {@link ClassLoader} of this factory).
+   */
+  private static boolean isLambdaCapable(Method method) {
+
+    Class<?> declaringClass = method.getDeclaringClass();
+    int modifiers = method.getModifiers();
+    if (!Modifier.isPublic(modifiers) || Modifier.isStatic(modifiers)
+        || !Modifier.isPublic(declaringClass.getModifiers())) {
+      return false;
+    }
+    try {
+      ClassLoader classLoader = PojoPropertyAccessorHandleFactory.class.getClassLoader();
+      return (Class.forName(declaringClass.getName(), false, classLoader) == declaringClass);
+    } catch (ClassNotFoundException | LinkageError e) {
+      return false;
+    }
+  }
+
+  /**
+   * {@link Function} adapting a {@link MethodHandle} of the type {@code (Object)Object}.
+   */
+  private static final class MethodHandleFunction implements Function<Object, Object> {
+
+    private final MethodHandle handle;
+
+    private MethodHandleFunction(MethodHandle handle) {
+
+      super();
+      this.handle = handle;
+    }
+
+    @Override
+    public Object apply(Object pojo) {
+
+      try {
+        return this.handle.invokeExact(pojo);
+      } catch (RuntimeException | Error e) {
+        throw e;
+      } catch (Throwable e) {
+        throw new IllegalStateException(e);
+      }
+    }
+  }
+
+  /**
+   * {@link BiFunction} adapting a {@link MethodHandle} of the type {@code (Object,Object)Object}.
+   */
+  private static final class MethodHandleBiFunction implements BiFunction<Object, Object, Object> {
+
+    private final MethodHandle handle;
+
+    private MethodHandleBiFunction(MethodHandle handle) {
+
+      super();
+      this.handle = handle;
+    }
+
+    @Override
+    public Object apply(Object pojo, Object argument) {
+
+      try {
+        return this.handle.invokeExact(pojo, argument);
+      } catch (RuntimeException | Error e) {
+        throw e;
+      } catch (Throwable e) {
+        throw new IllegalStateException(e);
+      }
+    }
+  }
+
+}
@@ -0,0 +1,66 @@
+/* Copyright (c) The m-m-m Team, Licensed under the Apache License, Version 2.0
+ * http://www.apache.org/licenses/LICENSE-2.0 */
+package net.sf.mmm.util.pojo.descriptor.impl.accessor;
+
+import java.lang.reflect.Type;
+import java.util.function.Function;
+
+import net.sf.mmm.util.pojo.descriptor.api.PojoDescriptor;
+import net.sf.mmm.util.pojo.descriptor.api.accessor.PojoPropertyAccessorNonArg;
+import net.sf.mmm.util.pojo.descriptor.api.accessor.PojoPropertyAccessorNonArgMode;
+import net.sf.mmm.util.pojo.descriptor.base.PojoDescriptorDependencies;
+import net.sf.mmm.util.reflect.api.InvocationFailedException;
+
+/**
+ * This is the implementation of {@link PojoPropertyAccessorNonArg} for a method registered by a
+ * {@link net.sf.mmm.util.pojo.descriptor.base.GeneratedPojoDescriptor}.
+ *
+ * @author Joerg Hohwiller (hohwille at users.sourceforge.net)
+ * @since 8.7.1
+ */
+public class PojoPropertyAccessorNonArgGenerated extends AbstractPojoPropertyAccessorGeneratedMethod
+    implements PojoPropertyAccessorNonArg {
+
+  private final PojoPropertyAccessorNonArgMode mode;
+
+  private final Function<Object, Object> function;
+
+  /**
+   * The constructor.
+   *
+   * @param propertyName is the {@link #getName() name} of the property.
+   * @param propertyType is the {@link #getPropertyType() generic type} of the property.
+   * @param mode is the {@link #getMode() mode} of access.
+   * @param descriptor is the descriptor this accessor is intended for.
+   * @param dependencies are the {@link PojoDescriptorDependencies} to use.
+   * @param declaringClass is the {@link #getDeclaringClass() declaring class} of the method.
+   * @param methodName is the {@link #getAccessibleObjectName() name} of the method.
+   * @param returnClass is the {@link Class} returned by the method.
+   * @param function is the {@link Function} invoking the method on the given POJO.
+   */
+  public PojoPropertyAccessorNonArgGenerated(String propertyName, Type propertyType,
+      PojoPropertyAccessorNonArgMode mode, PojoDescriptor<?> descriptor, PojoDescriptorDependencies dependencies,
+      Class<?> declaringClass, String methodName, Class<?> returnClass, Function<Object, Object> function) {
+
+    super(propertyName, propertyType, descriptor, dependencies, declaringClass, methodName, returnClass);
+    this.mode = mode;
+    this.function = function;
+  }
+
+  @Override
+  public Object invoke(Object pojoInstance) {
+
+    try {
+      return this.function.apply(pojoInstance);
+    } catch (RuntimeException e) {
+      throw new InvocationFailedException(e, getMethod(), pojoInstance);
+    }
+  }
+
+  @Override
+  public PojoPropertyAccessorNonArgMode getMode() {
+
+    return this.mode;
+  }
+
+}
@@ -0,0 +1,61 @@
+/* Copyright (c) The m-m-m Team, Licensed under the Apache License, Version 2.0
+ * http://www.apache.org/licenses/LICENSE-2.0 */
+package net.sf.mmm.util.pojo.descriptor.impl.accessor;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Type;
+import java.util.function.Function;
+
+import net.sf.mmm.util.pojo.descriptor.api.PojoDescriptor;
+import net.sf.mmm.util.pojo.descriptor.api.accessor.PojoPropertyAccessorNonArgMode;
+import net.sf.mmm.util.pojo.descriptor.base.PojoDescriptorDependencies;
+import net.sf.mmm.util.reflect.api.InvocationFailedException;
+
+/**
+ * This is an implementation of {@link net.sf.mmm.util.pojo.descriptor.api.accessor.PojoPropertyAccessorNonArg}
+ * for accessing a {@link Method} via a {@link Function} created by {@link PojoPropertyAccessorHandleFactory} instead
+ * of {@link Method#invoke(Object, Object...) reflection}.
+ *
+ * @author Joerg Hohwiller (hohwille at users.sourceforge.net)
+ * @since 8.7.1
+ */
+public class PojoPropertyAccessorNonArgMethodHandle extends PojoPropertyAccessorNonArgMethod {
+
+  private final Function<Object, Object> function;
+
+  /**
+   * The constructor.
+   *
+   * @param propertyName is the {@link #getName() name} of the property.
+   * @param propertyType is the {@link #getPropertyType() generic type} of the property.
+   * @param mode is the {@link #getMode() mode} of access.
+   * @param descriptor is the descriptor this accessor is intended for.
+   * @param dependencies are the {@link PojoDescriptorDependencies} to use.
+   * @param method is the {@link #getMethod() method} to access.
+   * @param function is the {@link Function} invoking the {@code method} on the given POJO.
+   */
+  public PojoPropertyAccessorNonArgMethodHandle(String propertyName, Type propertyType,
+      PojoPropertyAccessorNonArgMode mode, PojoDescriptor<?> descriptor, PojoDescriptorDependencies dependencies,
+      Method method, Function<Object, Object> function) {
+
+    super(propertyName, propertyType, mode, descriptor, dependencies, method);
+    this.function = function;
+  }
+
+  @Override
+  public Object invoke(Object pojoInstance) {
+
+    try {
+      return this.function.apply(pojoInstance);
+    } catch (InvocationFailedException e) {
+      throw e;
+    } catch (RuntimeException e) {
+      if (!getMethod().getDeclaringClass().isInstance(pojoInstance)) {
+        // method has not been invoked - fail exactly as reflection does
+        return super.invoke(pojoInstance);
+      }
+      throw new InvocationFailedException(e, getMethod(), pojoInstance);
+    }
+  }
+
+}
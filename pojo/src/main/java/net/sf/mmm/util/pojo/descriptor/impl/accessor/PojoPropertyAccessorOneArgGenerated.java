@@ -0,0 +1,69 @@
+/* Copyright (c) The m-m-m Team, Licensed under the Apache License, Version 2.0
+ * http://www.apache.org/licenses/LICENSE-2.0 */
+package net.sf.mmm.util.pojo.descriptor.impl.accessor;
+
+import java.lang.reflect.Type;
+import java.util.function.BiFunction;
+
+import net.sf.mmm.util.pojo.descriptor.api.PojoDescriptor;
+import net.sf.mmm.util.pojo.descriptor.api.accessor.PojoPropertyAccessorOneArg;
+import net.sf.mmm.util.pojo.descriptor.api.accessor.PojoPropertyAccessorOneArgMode;
+import net.sf.mmm.util.pojo.descriptor.base.PojoDescriptorDependencies;
+import net.sf.mmm.util.reflect.api.InvocationFailedException;
+
+/**
+ * This is the implementation of {@link PojoPropertyAccessorOneArg} for a method registered by a
+ * {@link net.sf.mmm.util.pojo.descriptor.base.GeneratedPojoDescriptor}.
+ *
+ * @author Joerg Hohwiller (hohwille at users.sourceforge.net)
+ * @since 8.7.1
+ */
+public class PojoPropertyAccessorOneArgGenerated extends AbstractPojoPropertyAccessorGeneratedMethod
+    implements PojoPropertyAccessorOneArg {
+
+  private final PojoPropertyAccessorOneArgMode mode;
+
+  private final BiFunction<Object, Object, Object> function;
+
+  /**
+   * The constructor.
+   *
+   * @param propertyName is the {@link #getName() name} of the property.
+   * @param propertyType is the {@link #getPropertyType() generic type} of the property.
+   * @param mode is the {@link #getMode() mode} of access.
+   * @param descriptor is the descriptor this accessor is intended for.
+   * @param dependencies are the {@link PojoDescriptorDependencies} to use.
+   * @param declaringClass is the {@link #getDeclaringClass() declaring class} of the method.
+   * @param methodName is the {@link #getAccessibleObjectName() name} of the method.
+   * @param returnClass is the {@link Class} returned by the method.
+   * @param parameterClass is the {@link Class} of the single parameter of the method.
+   * @param function is the {@link BiFunction} invoking the method on the given POJO with the given argument.
+   */
+  public PojoPropertyAccessorOneArgGenerated(String propertyName, Type propertyType,
+      PojoPropertyAccessorOneArgMode mode, PojoDescriptor<?> descriptor, PojoDescriptorDependencies dependencies,
+      Class<?> declaringClass, String methodName, Class<?> returnClass, Class<?> parameterClass,
+      BiFunction<Object, Object, Object> function) {
+
+    super(propertyName, propertyType, descriptor, dependencies, declaringClass, methodName, returnClass,
+        parameterClass);
+    this.mode = mode;
+    this.function = function;
+  }
+
+  @Override
+  public Object invoke(Object pojoInstance, Object argument) {
+
+    try {
+      return this.function.apply(pojoInstance, argument);
+    } catch (RuntimeException e) {
+      throw new InvocationFailedException(e, getMethod(), pojoInstance);
+    }
+  }
+
+  @Override
+  public PojoPropertyAccessorOneArgMode getMode() {
+
+    return this.mode;
+  }
+
+}
@@ -0,0 +1,82 @@
+/* Copyright (c) The m-m-m Team, Licensed under the Apache License, Version 2.0
+ * http://www.apache.org/licenses/LICENSE-2.0 */
+package net.sf.mmm.util.pojo.descriptor.impl.accessor;
+
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Type;
+import java.util.function.BiFunction;
+
+import net.sf.mmm.util.pojo.descriptor.api.PojoDescriptor;
+import net.sf.mmm.util.pojo.descriptor.api.accessor.PojoPropertyAccessorOneArgMode;
+import net.sf.mmm.util.pojo.descriptor.base.PojoDescriptorDependencies;
+import net.sf.mmm.util.reflect.api.InvocationFailedException;
+
+/**
+ * This is an implementation of {@link net.sf.mmm.util.pojo.descriptor.api.accessor.PojoPropertyAccessorOneArg}
+ * for accessing a {@link Method} via a {@link BiFunction} created by {@link PojoPropertyAccessorHandleFactory}
+ * instead of {@link Method#invoke(Object, Object...) reflection}.
+ *
+ * @author Joerg Hohwiller (hohwille at users.sourceforge.net)
+ * @since 8.7.1
+ */
+public class PojoPropertyAccessorOneArgMethodHandle extends PojoPropertyAccessorOneArgMethod {
+
+  private final BiFunction<Object, Object, Object> function;
+
+  /**
+   * The constructor.
+   *
+   * @param propertyName is the {@link #getName() name} of the property.
+   * @param propertyType is the {@link #getPropertyType() generic type} of the property.
+   * @param mode is the {@link #getMode() mode} of access.
+   * @param descriptor is the descriptor this accessor is intended for.
+   * @param dependencies are the {@link PojoDescriptorDependencies} to use.
+   * @param method is the {@link #getMethod() method} to access.
+   * @param function is the {@link BiFunction} invoking the {@code method} on the given POJO with the given
+   *        argument.
+   */
+  public PojoPropertyAccessorOneArgMethodHandle(String propertyName, Type propertyType,
+      PojoPropertyAccessorOneArgMode mode, PojoDescriptor<?> descriptor, PojoDescriptorDependencies dependencies,
+      Method method, BiFunction<Object, Object, Object> function) {
+
+    super(propertyName, propertyType, mode, descriptor, dependencies, method);
+    this.function = function;
+  }
+
+  @Override
+  public Object invoke(Object pojoInstance, Object argument) {
+
+    try {
+      return this.function.apply(pojoInstance, argument);
+    } catch (InvocationFailedException e) {
+      throw e;
+    } catch (RuntimeException e) {
+      if (!isApplicable(pojoInstance, argument)) {
+        // method has not been invoked - behave exactly as reflection (widening conversion or IllegalArgumentException)
+        return super.invoke(pojoInstance, argument);
+      }
+      throw new InvocationFailedException(e, getMethod(), pojoInstance);
+    }
+  }
+
+  /**
+   * @param pojoInstance is the POJO to invoke the {@link #getMethod() method} on.
+   * @param argument is the argument for the {@link #getMethod() method}.
+   * @return {@code true} if the {@link #getMethod() method} can be invoked with the given parameters without any
+   *         conversion, {@code false} otherwise.
+   */
+  private boolean isApplicable(Object pojoInstance, Object argument) {
+
+    Method method = getMethod();
+    if (!method.getDeclaringClass().isInstance(pojoInstance)) {
+      return false;
+    }
+    Class<?> parameterType = method.getParameterTypes()[0];
+    if (argument == null) {
+      return !parameterType.isPrimitive();
+    }
+    return MethodType.methodType(parameterType).wrap().returnType().isInstance(argument);
+  }
+
+}
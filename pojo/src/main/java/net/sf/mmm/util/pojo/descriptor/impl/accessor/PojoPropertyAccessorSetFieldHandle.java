@@ -0,0 +1,54 @@
+/* Copyright (c) The m-m-m Team, Licensed under the Apache License, Version 2.0
+ * http://www.apache.org/licenses/LICENSE-2.0 */
+package net.sf.mmm.util.pojo.descriptor.impl.accessor;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.reflect.Field;
+
+import net.sf.mmm.util.pojo.descriptor.api.PojoDescriptor;
+import net.sf.mmm.util.pojo.descriptor.base.PojoDescriptorDependencies;
+import net.sf.mmm.util.reflect.api.AccessFailedException;
+
+/**
+ * This is an implementation of {@link net.sf.mmm.util.pojo.descriptor.api.accessor.PojoPropertyAccessorOneArg}
+ * for setting a {@link Field} via {@link MethodHandle}s instead of {@link Field#set(Object, Object) reflection}.
+ *
+ * @author Joerg Hohwiller (hohwille at users.sourceforge.net)
+ * @since 8.7.1
+ */
+public class PojoPropertyAccessorSetFieldHandle extends PojoPropertyAccessorSetField {
+
+  private final MethodHandle getter;
+
+  private final MethodHandle setter;
+
+  /**
+   * The constructor.
+   *
+   * @param descriptor is the descriptor this accessor is intended for.
+   * @param dependencies are the {@link PojoDescriptorDependencies} to use.
+   * @param field is the {@link #getField() field} to access.
+   * @param getter is the {@link MethodHandle} of the type {@code (Object)Object} getting the {@code field}.
+   * @param setter is the {@link MethodHandle} of the type {@code (Object,Object)void} setting the {@code field}.
+   */
+  public PojoPropertyAccessorSetFieldHandle(PojoDescriptor<?> descriptor, PojoDescriptorDependencies dependencies,
+      Field field, MethodHandle getter, MethodHandle setter) {
+
+    super(descriptor, dependencies, field);
+    this.getter = getter;
+    this.setter = setter;
+  }
+
+  @Override
+  public Object invoke(Object pojoInstance, Object argument) {
+
+    try {
+      Object old = this.getter.invokeExact(pojoInstance);
+      this.setter.invokeExact(pojoInstance, argument);
+      return old;
+    } catch (Throwable e) {
+      throw new AccessFailedException(e, getField());
+    }
+  }
+
+}
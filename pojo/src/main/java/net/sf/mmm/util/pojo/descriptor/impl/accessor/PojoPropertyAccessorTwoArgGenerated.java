@@ -0,0 +1,70 @@
+/* Copyright (c) The m-m-m Team, Licensed under the Apache License, Version 2.0
+ * http://www.apache.org/licenses/LICENSE-2.0 */
+package net.sf.mmm.util.pojo.descriptor.impl.accessor;
+
+import java.lang.reflect.Type;
+
+import net.sf.mmm.util.pojo.descriptor.api.PojoDescriptor;
+import net.sf.mmm.util.pojo.descriptor.api.accessor.PojoPropertyAccessorTwoArg;
+import net.sf.mmm.util.pojo.descriptor.api.accessor.PojoPropertyAccessorTwoArgMode;
+import net.sf.mmm.util.pojo.descriptor.base.GeneratedPojoAccessorRegistry.TriFunction;
+import net.sf.mmm.util.pojo.descriptor.base.PojoDescriptorDependencies;
+import net.sf.mmm.util.reflect.api.InvocationFailedException;
+
+/**
+ * This is the implementation of {@link PojoPropertyAccessorTwoArg} for a method registered by a
+ * {@link net.sf.mmm.util.pojo.descriptor.base.GeneratedPojoDescriptor}.
+ *
+ * @author Joerg Hohwiller (hohwille at users.sourceforge.net)
+ * @since 8.7.1
+ */
+public class PojoPropertyAccessorTwoArgGenerated extends AbstractPojoPropertyAccessorGeneratedMethod
+    implements PojoPropertyAccessorTwoArg {
+
+  private final PojoPropertyAccessorTwoArgMode mode;
+
+  private final TriFunction function;
+
+  /**
+   * The constructor.
+   *
+   * @param propertyName is the {@link #getName() name} of the property.
+   * @param propertyType is the {@link #getPropertyType() generic type} of the property.
+   * @param mode is the {@link #getMode() mode} of access.
+   * @param descriptor is the descriptor this accessor is intended for.
+   * @param dependencies are the {@link PojoDescriptorDependencies} to use.
+   * @param declaringClass is the {@link #getDeclaringClass() declaring class} of the method.
+   * @param methodName is the {@link #getAccessibleObjectName() name} of the method.
+   * @param returnClass is the {@link Class} returned by the method.
+   * @param parameter1Class is the {@link Class} of the first parameter of the method.
+   * @param parameter2Class is the {@link Class} of the second parameter of the method.
+   * @param function is the {@link TriFunction} invoking the method on the given POJO with the given arguments.
+   */
+  public PojoPropertyAccessorTwoArgGenerated(String propertyName, Type propertyType,
+      PojoPropertyAccessorTwoArgMode mode, PojoDescriptor<?> descriptor, PojoDescriptorDependencies dependencies,
+      Class<?> declaringClass, String methodName, Class<?> returnClass, Class<?> parameter1Class,
+      Class<?> parameter2Class, TriFunction function) {
+
+    super(propertyName, propertyType, descriptor, dependencies, declaringClass, methodName, returnClass,
+        parameter1Class, parameter2Class);
+    this.mode = mode;
+    this.function = function;
+  }
+
+  @Override
+  public Object invoke(Object pojoInstance, Object argument1, Object argument2) {
+
+    try {
+      return this.function.apply(pojoInstance, argument1, argument2);
+    } catch (RuntimeException e) {
+      throw new InvocationFailedException(e, getMethod(), pojoInstance);
+    }
+  }
+
+  @Override
+  public PojoPropertyAccessorTwoArgMode getMode() {
+
+    return this.mode;
+  }
+
+}
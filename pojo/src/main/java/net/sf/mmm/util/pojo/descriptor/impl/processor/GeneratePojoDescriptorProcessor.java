@@ -0,0 +1,495 @@
+/* Copyright (c) The m-m-m Team, Licensed under the Apache License, Version 2.0
+ * http://www.apache.org/licenses/LICENSE-2.0 */
+package net.sf.mmm.util.pojo.descriptor.impl.processor;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.List;
+import java.util.Set;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.ExecutableType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.type.WildcardType;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic.Kind;
+import javax.tools.JavaFileObject;
+
+import net.sf.mmm.util.pojo.descriptor.base.GeneratedPojoDescriptor;
+
+/**
+ * This is the annotation {@link javax.annotation.processing.Processor} that generates a {@link GeneratedPojoDescriptor}
+ * for each type annotated with {@link net.sf.mmm.util.pojo.descriptor.api.GeneratePojoDescriptor}. The generated class
+ * registers all public and non-static getters ({@code get*}, {@code is*} or {@code has*} for booleans) and setters
+ * ({@code set*}) of the type including inherited ones, just like the default reflective introspection does. The
+ * methods are invoked via lambdas so no reflection is required at runtime.
+ *
+ * @author Joerg Hohwiller (hohwille at users.sourceforge.net)
+ * @since 8.7.1
+ */
+@SupportedAnnotationTypes(GeneratePojoDescriptorProcessor.ANNOTATION_NAME)
+public class GeneratePojoDescriptorProcessor extends AbstractProcessor {
+
+  /** The {@link Class#getName() qualified name} of the annotation processed by this processor. */
+  static final String ANNOTATION_NAME = "net.sf.mmm.util.pojo.descriptor.api.GeneratePojoDescriptor";
+
+  private static final String ACCESSOR_API_PACKAGE = "net.sf.mmm.util.pojo.descriptor.api.accessor";
+
+  /** The {@code @Generated} annotations in the order of preference (it moved with Java 9). */
+  private static final String[] GENERATED_ANNOTATIONS = { "javax.annotation.processing.Generated",
+  "javax.annotation.Generated" };
+
+  private static final String METHOD_PREFIX_GET = "get";
+
+  private static final String METHOD_PREFIX_SET = "set";
+
+  private static final String METHOD_PREFIX_ADD = "add";
+
+  private static final String METHOD_PREFIX_REMOVE = "remove";
+
+  private static final String[] PREFIXES_GET = { METHOD_PREFIX_GET };
+
+  private static final String[] PREFIXES_BOOLEAN = { "is", "has" };
+
+  private static final String[] PREFIXES_GET_INDEXED = { METHOD_PREFIX_GET, "is", "has" };
+
+  private static final String[] PREFIXES_SET = { METHOD_PREFIX_SET };
+
+  private static final String[] PREFIXES_SET_MAPPED = { METHOD_PREFIX_SET, "put" };
+
+  private static final String[] NO_SUFFIXES = {};
+
+  private static final String[] SUFFIXES_SIZE = { "Size", "Count", "Length" };
+
+  private static final String[] SUFFIXES_INDEXED = { "", "At" };
+
+  /**
+   * The constructor.
+   */
+  public GeneratePojoDescriptorProcessor() {
+
+    super();
+  }
+
+  @Override
+  public SourceVersion getSupportedSourceVersion() {
+
+    return SourceVersion.latestSupported();
+  }
+
+  @Override
+  public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+
+    TypeElement annotation = this.processingEnv.getElementUtils().getTypeElement(ANNOTATION_NAME);
+    if (annotation == null) {
+      return false;
+    }
+    for (Element element : roundEnv.getElementsAnnotatedWith(annotation)) {
+      if (element instanceof TypeElement) {
+        TypeElement type = (TypeElement) element;
+        if (isSupported(type)) {
+          generate(type);
+        }
+      }
+    }
+    return true;
+  }
+
+  private boolean isSupported(TypeElement type) {
+
+    if (type.getKind() == ElementKind.ANNOTATION_TYPE) {
+      error("Annotation types are not supported", type);
+      return false;
+    }
+    Element current = type;
+    while (current instanceof TypeElement) {
+      if (current.getModifiers().contains(Modifier.PRIVATE)) {
+        error("Private types are not supported", type);
+        return false;
+      }
+      current = current.getEnclosingElement();
+    }
+    if (current.getKind() != ElementKind.PACKAGE) {
+      error("Local or anonymous types are not supported", type);
+      return false;
+    }
+    return true;
+  }
+
+  private void error(String message, Element element) {
+
+    this.processingEnv.getMessager().printMessage(Kind.ERROR, message + " for @GeneratePojoDescriptor", element);
+  }
+
+  private void generate(TypeElement type) {
+
+    PackageElement packageElement = this.processingEnv.getElementUtils().getPackageOf(type);
+    String pojoClassName = this.processingEnv.getElementUtils().getBinaryName(type).toString();
+    String generatedClassName = GeneratedPojoDescriptor.getGeneratedClassName(pojoClassName);
+    String generatedSimpleName = generatedClassName.substring(generatedClassName.lastIndexOf('.') + 1);
+    String pojoName = getRawName(type.asType());
+    StringBuilder code = new StringBuilder(1024);
+    if (!packageElement.isUnnamed()) {
+      code.append("package ").append(packageElement.getQualifiedName()).append(";\n\n");
+    }
+    code.append("/**\n");
+    code.append(" * Generated {@link ").append(GeneratedPojoDescriptor.class.getName()).append("} for {@link ")
+        .append(pojoName).append("}.\n");
+    code.append(" */\n");
+    String generatedAnnotation = getGeneratedAnnotation();
+    if (generatedAnnotation != null) {
+      code.append("@").append(generatedAnnotation).append("(\"").append(getClass().getName()).append("\")\n");
+    }
+    code.append("public final class ").append(generatedSimpleName).append(" implements ")
+        .append(GeneratedPojoDescriptor.class.getName()).append(" {\n\n");
+    code.append("  @Override\n");
+    code.append("  public Class<?> getPojoClass() {\n\n");
+    code.append("    return ").append(pojoName).append(".class;\n");
+    code.append("  }\n\n");
+    code.append("  @Override\n");
+    code.append("  @SuppressWarnings({ \"rawtypes\", \"unchecked\" })\n");
+    code.append("  public void registerAccessors(").append(GeneratedPojoDescriptor.class.getPackage().getName())
+        .append(".GeneratedPojoAccessorRegistry registry) {\n\n");
+    for (ExecutableElement method : ElementFilter.methodsIn(this.processingEnv.getElementUtils().getAllMembers(type))) {
+      generateAccessor(type, pojoName, method, code);
+    }
+    code.append("  }\n\n");
+    code.append("}\n");
+    try {
+      JavaFileObject file = this.processingEnv.getFiler().createSourceFile(generatedClassName, type);
+      try (Writer writer = file.openWriter()) {
+        writer.write(code.toString());
+      }
+    } catch (IOException e) {
+      this.processingEnv.getMessager().printMessage(Kind.ERROR, "Failed to generate " + generatedClassName + ": " + e,
+          type);
+    }
+  }
+
+  /**
+   * @return the qualified name of the {@code @Generated} annotation available in the current compilation or
+   *         {@code null} if none is available.
+   */
+  private String getGeneratedAnnotation() {
+
+    for (String annotation : GENERATED_ANNOTATIONS) {
+      if (this.processingEnv.getElementUtils().getTypeElement(annotation) != null) {
+        return annotation;
+      }
+    }
+    return null;
+  }
+
+  private void generateAccessor(TypeElement type, String pojoName, ExecutableElement method, StringBuilder code) {
+
+    Set<Modifier> modifiers = method.getModifiers();
+    if (!modifiers.contains(Modifier.PUBLIC) || modifiers.contains(Modifier.STATIC)) {
+      return;
+    }
+    TypeElement declaringType = (TypeElement) method.getEnclosingElement();
+    String declaringName = pojoName;
+    if (isAccessible(declaringType, type)) {
+      declaringName = getRawName(declaringType.asType());
+    }
+    String methodName = method.getSimpleName().toString();
+    // resolve type variables bound by the annotated type (e.g. inherited from a generic super-class)
+    ExecutableType methodType = (ExecutableType) this.processingEnv.getTypeUtils()
+        .asMemberOf((DeclaredType) type.asType(), method);
+    List<? extends TypeMirror> parameterTypes = methodType.getParameterTypes();
+    TypeMirror returnType = methodType.getReturnType();
+    boolean isVoid = (returnType.getKind() == TypeKind.VOID);
+    String target = "((" + pojoName + ") pojo)." + methodName + "(";
+    String head = declaringName + ".class, \"" + methodName + "\", ";
+    if (parameterTypes.isEmpty()) {
+      if (isVoid) {
+        return;
+      }
+      String lambda = "pojo -> " + target + ")";
+      String getName = getPropertyName(methodName, PREFIXES_GET, NO_SUFFIXES);
+      if ((getName == null) && isBoolean(returnType)) {
+        getName = getPropertyName(methodName, PREFIXES_BOOLEAN, NO_SUFFIXES);
+      }
+      if (getName != null) {
+        appendRegistration(code, "NonArg", "GET", getName, head, returnType, null, lambda);
+      }
+      if (isInteger(returnType)) {
+        String sizeName = getPropertyName(methodName, PREFIXES_GET, SUFFIXES_SIZE);
+        if (sizeName != null) {
+          appendRegistration(code, "NonArg", "GET_SIZE", sizeName, head, returnType, null, lambda);
+        }
+      }
+    } else if (parameterTypes.size() == 1) {
+      TypeMirror parameterType = parameterTypes.get(0);
+      String parameterClasses = getRawName(parameterType) + ".class";
+      String oneArgClasses = getRawName(returnType) + ".class, " + parameterClasses;
+      String lambda = "(pojo, argument) -> " + getInvocation(target + cast(parameterType, "argument") + ")", isVoid);
+      String[][] prefixModes = { { METHOD_PREFIX_SET, "SET" }, { METHOD_PREFIX_ADD, "ADD" },
+      { METHOD_PREFIX_REMOVE, "REMOVE" } };
+      for (String[] prefixMode : prefixModes) {
+        String propertyName = getPropertyName(methodName, new String[] { prefixMode[0] }, NO_SUFFIXES);
+        if (propertyName != null) {
+          appendRegistration(code, "OneArg", prefixMode[1], propertyName, head, parameterType, oneArgClasses, lambda);
+        }
+      }
+      if (!isVoid) {
+        if (isInteger(parameterType)) {
+          String indexedName = getPropertyName(methodName, PREFIXES_GET_INDEXED, SUFFIXES_INDEXED);
+          if (!isBoolean(returnType) && !methodName.startsWith(METHOD_PREFIX_GET)) {
+            // only boolean getters may use is* or has* ...
+            indexedName = null;
+          }
+          if (indexedName != null) {
+            appendRegistration(code, "IndexedNonArg", "GET_INDEXED", indexedName, head, returnType, parameterClasses,
+                "(pojo, index) -> " + target + "index)");
+          }
+        }
+        String mappedName = getPropertyName(methodName, PREFIXES_GET, NO_SUFFIXES);
+        if ((mappedName == null) && isBoolean(returnType)) {
+          mappedName = getPropertyName(methodName, PREFIXES_BOOLEAN, NO_SUFFIXES);
+        }
+        if (mappedName != null) {
+          appendRegistration(code, "OneArg", "GET_MAPPED", mappedName, head, returnType, oneArgClasses,
+              "(pojo, key) -> " + target + cast(parameterType, "key") + ")");
+        }
+      }
+    } else if (parameterTypes.size() == 2) {
+      TypeMirror parameter1Type = parameterTypes.get(0);
+      TypeMirror parameter2Type = parameterTypes.get(1);
+      String classes = getRawName(returnType) + ".class, " + getRawName(parameter1Type) + ".class, "
+          + getRawName(parameter2Type) + ".class";
+      String indexedName = getPropertyName(methodName, PREFIXES_SET, SUFFIXES_INDEXED);
+      if (indexedName != null) {
+        if (isInteger(parameter1Type)) {
+          String invocation = target + "index, " + cast(parameter2Type, "item") + ")";
+          appendRegistration(code, "IndexedOneArg", "SET_INDEXED", indexedName, head, getErasure(parameter2Type),
+              classes, "(pojo, index, item) -> " + getInvocation(invocation, isVoid));
+        } else if (isInteger(parameter2Type)) {
+          String invocation = target + cast(parameter1Type, "item") + ", index)";
+          appendRegistration(code, "IndexedOneArg", "SET_INDEXED", indexedName, head, getErasure(parameter1Type),
+              classes, "(pojo, index, item) -> " + getInvocation(invocation, isVoid));
+        }
+      }
+      String mappedName = getPropertyName(methodName, PREFIXES_SET_MAPPED, NO_SUFFIXES);
+      if (mappedName != null) {
+        String invocation = target + cast(parameter1Type, "key") + ", " + cast(parameter2Type, "value") + ")";
+        appendRegistration(code, "TwoArg", "SET_MAPPED", mappedName, head, parameter2Type, classes,
+            "(pojo, key, value) -> " + getInvocation(invocation, isVoid));
+      }
+    }
+  }
+
+  /**
+   * Appends the registration of an accessor to the generated code.
+   *
+   * @param code is where to append the generated code.
+   * @param kind is the kind of accessor (e.g. "NonArg").
+   * @param mode is the name of the mode constant (e.g. "GET").
+   * @param propertyName is the name of the property.
+   * @param head is the generated code for the declaring class and the method name.
+   * @param propertyType is the {@link TypeMirror} of the property.
+   * @param classes is the generated code for additional {@link Class} arguments or {@code null} for none.
+   * @param lambda is the generated code of the lambda invoking the method.
+   */
+  private void appendRegistration(StringBuilder code, String kind, String mode, String propertyName, String head,
+      TypeMirror propertyType, String classes, String lambda) {
+
+    code.append("    registry.register").append(kind).append("(").append(ACCESSOR_API_PACKAGE)
+        .append(".PojoPropertyAccessor").append(kind).append("Mode.").append(mode).append(", \"").append(propertyName)
+        .append("\", ");
+    code.append(head);
+    code.append(getRawName(propertyType)).append(".class, ").append(getGenericName(propertyType)).append(",");
+    if (classes != null) {
+      code.append(" ").append(classes).append(",");
+    }
+    code.append("\n        ").append(lambda).append(");\n");
+  }
+
+  private static String getInvocation(String invocation, boolean isVoid) {
+
+    if (isVoid) {
+      return "{\n          " + invocation + ";\n          return null;\n        }";
+    }
+    return invocation;
+  }
+
+  private String cast(TypeMirror type, String variable) {
+
+    return "(" + getRawName(type) + ") " + variable;
+  }
+
+  private TypeMirror getErasure(TypeMirror type) {
+
+    return this.processingEnv.getTypeUtils().erasure(type);
+  }
+
+  /**
+   * @param declaringType is the {@link TypeElement} declaring a method.
+   * @param type is the {@link TypeElement} for the generated descriptor.
+   * @return {@code true} if the {@code declaringType} can be referenced from the generated class (in the package of
+   *         {@code type}), {@code false} otherwise.
+   */
+  private boolean isAccessible(TypeElement declaringType, TypeElement type) {
+
+    Element current = declaringType;
+    boolean samePackage = this.processingEnv.getElementUtils().getPackageOf(declaringType)
+        .equals(this.processingEnv.getElementUtils().getPackageOf(type));
+    while (current instanceof TypeElement) {
+      Set<Modifier> modifiers = current.getModifiers();
+      if (modifiers.contains(Modifier.PRIVATE)) {
+        return false;
+      }
+      if (!samePackage && !modifiers.contains(Modifier.PUBLIC)) {
+        return false;
+      }
+      current = current.getEnclosingElement();
+    }
+    return true;
+  }
+
+  private static boolean isBoolean(TypeMirror type) {
+
+    if (type.getKind() == TypeKind.BOOLEAN) {
+      return true;
+    }
+    return (type.getKind() == TypeKind.DECLARED)
+        && ((TypeElement) ((DeclaredType) type).asElement()).getQualifiedName().contentEquals(Boolean.class.getName());
+  }
+
+  private static boolean isInteger(TypeMirror type) {
+
+    if (type.getKind() == TypeKind.INT) {
+      return true;
+    }
+    return (type.getKind() == TypeKind.DECLARED)
+        && ((TypeElement) ((DeclaredType) type).asElement()).getQualifiedName().contentEquals(Integer.class.getName());
+  }
+
+  /**
+   * Determines the property name exactly like the
+   * {@link net.sf.mmm.util.pojo.descriptor.base.accessor.PojoPropertyAccessorBuilder}s do at runtime.
+   *
+   * @see net.sf.mmm.util.pojo.descriptor.base.accessor.AbstractPojoPropertyAccessorBuilder#getPropertyName(String,
+   *      String[], String[])
+   *
+   * @param methodName is the name of the method.
+   * @param prefixes are the possible method prefixes.
+   * @param suffixes are the possible method suffixes.
+   * @return the property name or {@code null} if the {@code methodName} does not match.
+   */
+  private static String getPropertyName(String methodName, String[] prefixes, String[] suffixes) {
+
+    for (String prefix : prefixes) {
+      if (methodName.startsWith(prefix)) {
+        for (String suffix : suffixes) {
+          if (methodName.endsWith(suffix)) {
+            return getPropertyName(methodName, prefix.length(), suffix.length());
+          }
+        }
+        if (suffixes.length == 0) {
+          return getPropertyName(methodName, prefix.length(), 0);
+        }
+      }
+    }
+    return null;
+  }
+
+  private static String getPropertyName(String methodName, int prefixLength, int suffixLength) {
+
+    int end = methodName.length() - suffixLength;
+    if (prefixLength < end) {
+      return Character.toLowerCase(methodName.charAt(prefixLength)) + methodName.substring(prefixLength + 1, end);
+    }
+    return null;
+  }
+
+  /**
+   * @param type is the {@link TypeMirror}.
+   * @return the source code representation of the {@link javax.lang.model.util.Types#erasure(TypeMirror) erasure} of
+   *         the given {@code type}.
+   */
+  private String getRawName(TypeMirror type) {
+
+    return this.processingEnv.getTypeUtils().erasure(type).toString();
+  }
+
+  /**
+   * @param type is the {@link TypeMirror} of a property.
+   * @return the source code of a {@link String} literal with the generic type for
+   *         {@link net.sf.mmm.util.reflect.api.ReflectionUtil#toType(String)} or {@code "null"} if the type is not
+   *         generic or can not be represented.
+   */
+  private String getGenericName(TypeMirror type) {
+
+    if ((type.getKind() == TypeKind.DECLARED) && !((DeclaredType) type).getTypeArguments().isEmpty()) {
+      StringBuilder buffer = new StringBuilder();
+      if (appendGenericName(type, buffer)) {
+        return "\"" + buffer + "\"";
+      }
+    }
+    return "null";
+  }
+
+  private boolean appendGenericName(TypeMirror type, StringBuilder buffer) {
+
+    TypeKind kind = type.getKind();
+    if (kind == TypeKind.DECLARED) {
+      DeclaredType declaredType = (DeclaredType) type;
+      TypeMirror enclosingType = declaredType.getEnclosingType();
+      if ((enclosingType.getKind() == TypeKind.DECLARED)
+          && !((DeclaredType) enclosingType).getTypeArguments().isEmpty()) {
+        return false;
+      }
+      buffer.append(this.processingEnv.getElementUtils().getBinaryName((TypeElement) declaredType.asElement()));
+      List<? extends TypeMirror> typeArguments = declaredType.getTypeArguments();
+      if (!typeArguments.isEmpty()) {
+        buffer.append('<');
+        for (int i = 0; i < typeArguments.size(); i++) {
+          if (i > 0) {
+            buffer.append(", ");
+          }
+          if (!appendGenericName(typeArguments.get(i), buffer)) {
+            return false;
+          }
+        }
+        buffer.append('>');
+      }
+      return true;
+    } else if (kind == TypeKind.WILDCARD) {
+      WildcardType wildcardType = (WildcardType) type;
+      buffer.append('?');
+      if (wildcardType.getExtendsBound() != null) {
+        buffer.append(" extends ");
+        return appendGenericName(wildcardType.getExtendsBound(), buffer);
+      } else if (wildcardType.getSuperBound() != null) {
+        buffer.append(" super ");
+        return appendGenericName(wildcardType.getSuperBound(), buffer);
+      }
+      return true;
+    } else if (kind == TypeKind.ARRAY) {
+      TypeMirror componentType = ((ArrayType) type).getComponentType();
+      if (componentType.getKind() == TypeKind.DECLARED) {
+        // only one-dimensional arrays of non-generic classes are supported by ReflectionUtil.toType
+        if (((DeclaredType) componentType).getTypeArguments().isEmpty()) {
+          appendGenericName(componentType, buffer);
+          buffer.append("[]");
+          return true;
+        }
+      }
+    }
+    // type variables, primitive arrays, etc. fall back to the raw type
+    return false;
+  }
+
+}
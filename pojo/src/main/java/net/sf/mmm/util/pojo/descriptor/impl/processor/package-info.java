@@ -0,0 +1,12 @@
+/* Copyright (c) The m-m-m Team, Licensed under the Apache License, Version 2.0
+ * http://www.apache.org/licenses/LICENSE-2.0 */
+/**
+ * Contains the annotation processor for {@link net.sf.mmm.util.pojo.descriptor.api.GeneratePojoDescriptor}.
+ * <a name="documentation"></a>
+ * <h2>POJO Introspection - Annotation Processor</h2> This package provides the
+ * {@link net.sf.mmm.util.pojo.descriptor.impl.processor.GeneratePojoDescriptorProcessor} that generates a
+ * {@link net.sf.mmm.util.pojo.descriptor.base.GeneratedPojoDescriptor} at compile-time for each annotated type. The
+ * {@link net.sf.mmm.util.pojo.descriptor.impl.PojoDescriptorBuilderImpl} uses these generated descriptors instead of
+ * introspecting the type via reflection.
+ */
+package net.sf.mmm.util.pojo.descriptor.impl.processor;
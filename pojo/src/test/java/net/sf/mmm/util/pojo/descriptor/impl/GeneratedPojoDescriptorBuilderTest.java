@@ -0,0 +1,154 @@
+/* Copyright (c) The m-m-m Team, Licensed under the Apache License, Version 2.0
+ * http://www.apache.org/licenses/LICENSE-2.0 */
+package net.sf.mmm.util.pojo.descriptor.impl;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Type;
+
+import org.junit.Test;
+
+import net.sf.mmm.util.pojo.descriptor.api.GeneratePojoDescriptor;
+import net.sf.mmm.util.pojo.descriptor.api.PojoDescriptor;
+import net.sf.mmm.util.pojo.descriptor.api.PojoDescriptorBuilder;
+import net.sf.mmm.util.pojo.descriptor.api.accessor.PojoPropertyAccessor;
+import net.sf.mmm.util.pojo.descriptor.api.accessor.PojoPropertyAccessorIndexedNonArgMode;
+import net.sf.mmm.util.pojo.descriptor.api.accessor.PojoPropertyAccessorIndexedOneArgMode;
+import net.sf.mmm.util.pojo.descriptor.api.accessor.PojoPropertyAccessorNonArgMode;
+import net.sf.mmm.util.pojo.descriptor.api.accessor.PojoPropertyAccessorOneArgMode;
+import net.sf.mmm.util.pojo.descriptor.api.accessor.PojoPropertyAccessorTwoArgMode;
+import net.sf.mmm.util.pojo.descriptor.base.GeneratedPojoDescriptor;
+import net.sf.mmm.util.pojo.descriptor.impl.accessor.AbstractPojoPropertyAccessorGeneratedMethod;
+import net.sf.mmm.util.pojo.descriptor.impl.accessor.PojoPropertyAccessorNonArgMethodHandle;
+import net.sf.mmm.util.pojo.descriptor.impl.dummy.MyPojo;
+
+/**
+ * This is the test-case for {@link PojoDescriptorBuilder} using a {@link GeneratedPojoDescriptor} created by the
+ * annotation processor for a type annotated with {@link GeneratePojoDescriptor}.
+ *
+ * @author Joerg Hohwiller (hohwille at users.sourceforge.net)
+ */
+@SuppressWarnings("all")
+public class GeneratedPojoDescriptorBuilderTest extends AbstractMyPojoDescriptorBuilderTest {
+
+  @Override
+  protected PojoDescriptorBuilder getPojoDescriptorBuilder() {
+
+    PojoDescriptorBuilderImpl builder = new PojoDescriptorBuilderImpl();
+    builder.initialize();
+    return builder;
+  }
+
+  @Override
+  protected boolean isMethodIntrostection() {
+
+    return true;
+  }
+
+  /**
+   * Test of {@link PojoDescriptorBuilder} using {@link GeneratedPojo} with a {@link GeneratedPojoDescriptor}.
+   */
+  @Test
+  public void testGeneratedPojoDescriptor() throws Exception {
+
+    assertEquals(GeneratedPojoDescriptorBuilderTest.class.getName() + "_GeneratedPojo_PojoDescriptor",
+        GeneratedPojoDescriptor.getGeneratedClassName(GeneratedPojo.class));
+    GeneratedPojo pojoInstance = new GeneratedPojo();
+    PojoDescriptor<GeneratedPojo> pojoDescriptor = checkPojoDescriptor(pojoInstance, GeneratedPojo.class);
+    assertEquals("Foo", pojoDescriptor.getProperty(pojoInstance, "foo"));
+    checkGenerated(pojoDescriptor.getAccessor("foo", PojoPropertyAccessorNonArgMode.GET));
+    checkGenerated(pojoDescriptor.getAccessor("port", PojoPropertyAccessorOneArgMode.SET));
+    checkGenerated(pojoDescriptor.getAccessor("item", PojoPropertyAccessorOneArgMode.ADD));
+    checkGenerated(pojoDescriptor.getAccessor("item", PojoPropertyAccessorIndexedNonArgMode.GET_INDEXED));
+    checkGenerated(pojoDescriptor.getAccessor("item", PojoPropertyAccessorIndexedOneArgMode.SET_INDEXED));
+    checkGenerated(pojoDescriptor.getAccessor("item", PojoPropertyAccessorNonArgMode.GET_SIZE));
+    checkGenerated(pojoDescriptor.getAccessor("value", PojoPropertyAccessorOneArgMode.GET_MAPPED));
+    checkGenerated(pojoDescriptor.getAccessor("value", PojoPropertyAccessorTwoArgMode.SET_MAPPED));
+
+    PojoPropertyAccessor setter = pojoDescriptor.getAccessor("port", PojoPropertyAccessorOneArgMode.SET);
+    Method method = (Method) setter.getAccessibleObject();
+    assertEquals(MyPojo.class.getMethod("setPort", int.class), method);
+    assertSame(MyPojo.class, setter.getDeclaringClass());
+    // inherited generic property resolved at compile-time
+    assertEquals(Long.class, pojoDescriptor.getAccessor("id", PojoPropertyAccessorNonArgMode.GET).getPropertyClass());
+    Method idSetter = (Method) pojoDescriptor.getAccessor("id", PojoPropertyAccessorOneArgMode.SET)
+        .getAccessibleObject();
+    assertEquals("setId", idSetter.getName());
+  }
+
+  /**
+   * Test that a {@link PojoDescriptorBuilderImpl} with {@link PojoDescriptorBuilderImpl#isGeneratedDescriptorsEnabled()
+   * disabled generated descriptors} uses reflective introspection.
+   */
+  @Test
+  public void testGeneratedDescriptorsDisabled() {
+
+    PojoDescriptorBuilderImpl builder = new PojoDescriptorBuilderImpl();
+    builder.setGeneratedDescriptorsEnabled(false);
+    builder.initialize();
+    PojoDescriptor<GeneratedPojo> pojoDescriptor = builder.getDescriptor(GeneratedPojo.class);
+    assertSame(PojoPropertyAccessorNonArgMethodHandle.class,
+        pojoDescriptor.getAccessor("foo", PojoPropertyAccessorNonArgMode.GET).getClass());
+  }
+
+  /**
+   * Test that the property types of a generic POJO annotated with {@link GeneratePojoDescriptor} are resolved against
+   * the given pojo type.
+   */
+  @Test
+  public void testGenericPojo() {
+
+    PojoDescriptorBuilder builder = getPojoDescriptorBuilder();
+    Type pojoType = StringPojo.class.getGenericSuperclass();
+    PojoDescriptor<?> pojoDescriptor = builder.getDescriptor(pojoType);
+    assertEquals(String.class, pojoDescriptor.getAccessor("value", PojoPropertyAccessorNonArgMode.GET)
+        .getPropertyClass());
+    assertEquals(String.class, pojoDescriptor.getAccessor("value", PojoPropertyAccessorOneArgMode.SET)
+        .getPropertyClass());
+  }
+
+  private static void checkGenerated(PojoPropertyAccessor accessor) {
+
+    assertNotNull(accessor);
+    assertTrue(accessor.toString(), accessor instanceof AbstractPojoPropertyAccessorGeneratedMethod);
+  }
+
+  /**
+   * A {@link MyPojo} annotated with {@link GeneratePojoDescriptor}.
+   */
+  @GeneratePojoDescriptor
+  public static class GeneratedPojo extends MyPojo {
+
+    public String getFoo() {
+
+      return "Foo";
+    }
+  }
+
+  /**
+   * A generic POJO annotated with {@link GeneratePojoDescriptor}.
+   *
+   * @param <V> the type of the {@link #getValue() value}.
+   */
+  @GeneratePojoDescriptor
+  public static class GenericPojo<V> {
+
+    private V value;
+
+    public V getValue() {
+
+      return this.value;
+    }
+
+    public void setValue(V value) {
+
+      this.value = value;
+    }
+  }
+
+  /**
+   * A {@link GenericPojo} bound to {@link String}.
+   */
+  public static class StringPojo extends GenericPojo<String> {
+  }
+
+}
@@ -0,0 +1,86 @@
+/* Copyright (c) The m-m-m Team, Licensed under the Apache License, Version 2.0
+ * http://www.apache.org/licenses/LICENSE-2.0 */
+package net.sf.mmm.util.pojo.descriptor.impl;
+
+import org.junit.Test;
+
+import net.sf.mmm.util.pojo.descriptor.api.PojoDescriptor;
+import net.sf.mmm.util.pojo.descriptor.api.PojoDescriptorBuilder;
+import net.sf.mmm.util.pojo.descriptor.api.accessor.PojoPropertyAccessorNonArg;
+import net.sf.mmm.util.pojo.descriptor.api.accessor.PojoPropertyAccessorNonArgMode;
+import net.sf.mmm.util.pojo.descriptor.api.accessor.PojoPropertyAccessorOneArg;
+import net.sf.mmm.util.pojo.descriptor.api.accessor.PojoPropertyAccessorOneArgMode;
+import net.sf.mmm.util.pojo.descriptor.impl.accessor.PojoPropertyAccessorNonArgMethod;
+import net.sf.mmm.util.pojo.descriptor.impl.accessor.PojoPropertyAccessorNonArgMethodHandle;
+import net.sf.mmm.util.pojo.descriptor.impl.accessor.PojoPropertyAccessorOneArgMethod;
+import net.sf.mmm.util.pojo.descriptor.impl.accessor.PojoPropertyAccessorOneArgMethodHandle;
+import net.sf.mmm.util.pojo.descriptor.impl.dummy.MyPojo;
+
+/**
+ * This is the test-case for {@link PojoDescriptorBuilder} using public method introspection with
+ * {@link PojoPropertyAccessorStrategy#REFLECTION}.
+ *
+ * @author Joerg Hohwiller (hohwille at users.sourceforge.net)
+ */
+@SuppressWarnings("all")
+public class ReflectionPojoDescriptorBuilderTest extends AbstractMyPojoDescriptorBuilderTest {
+
+  @Override
+  protected PojoDescriptorBuilder getPojoDescriptorBuilder() {
+
+    return createBuilder(PojoPropertyAccessorStrategy.REFLECTION);
+  }
+
+  private static PojoDescriptorBuilderImpl createBuilder(PojoPropertyAccessorStrategy strategy) {
+
+    PojoDescriptorBuilderImpl builder = new PojoDescriptorBuilderImpl();
+    builder.setAccessorStrategy(strategy);
+    builder.initialize();
+    return builder;
+  }
+
+  @Override
+  protected boolean isMethodIntrostection() {
+
+    return true;
+  }
+
+  /**
+   * Test of {@link PojoPropertyAccessorStrategy} to ensure the proper accessors are created.
+   */
+  @Test
+  public void testAccessorStrategy() {
+
+    PojoDescriptor<MyPojo> reflectionDescriptor = createBuilder(PojoPropertyAccessorStrategy.REFLECTION)
+        .getDescriptor(MyPojo.class);
+    assertSame(PojoPropertyAccessorNonArgMethod.class,
+        reflectionDescriptor.getAccessor("port", PojoPropertyAccessorNonArgMode.GET).getClass());
+    assertSame(PojoPropertyAccessorOneArgMethod.class,
+        reflectionDescriptor.getAccessor("port", PojoPropertyAccessorOneArgMode.SET).getClass());
+
+    PojoDescriptor<MyPojo> handleDescriptor = createBuilder(PojoPropertyAccessorStrategy.METHOD_HANDLE)
+        .getDescriptor(MyPojo.class);
+    PojoPropertyAccessorNonArg getter = handleDescriptor.getAccessor("port", PojoPropertyAccessorNonArgMode.GET);
+    PojoPropertyAccessorOneArg setter = handleDescriptor.getAccessor("port", PojoPropertyAccessorOneArgMode.SET);
+    assertSame(PojoPropertyAccessorNonArgMethodHandle.class, getter.getClass());
+    assertSame(PojoPropertyAccessorOneArgMethodHandle.class, setter.getClass());
+    MyPojo pojo = new MyPojo();
+    assertNull(setter.invoke(pojo, Integer.valueOf(4711)));
+    assertEquals(Integer.valueOf(4711), getter.invoke(pojo));
+    try {
+      setter.invoke(pojo, "no-int");
+      fail("Exception expected");
+    } catch (IllegalArgumentException e) {
+      try {
+        reflectionDescriptor.getAccessor("port", PojoPropertyAccessorOneArgMode.SET).invoke(pojo, "no-int");
+        fail("Exception expected");
+      } catch (IllegalArgumentException reflectionError) {
+        assertEquals(reflectionError.getMessage(), e.getMessage());
+      }
+    }
+    // widening conversion as for reflection
+    assertNull(setter.invoke(pojo, Short.valueOf((short) 42)));
+    assertEquals(Integer.valueOf(42), getter.invoke(pojo));
+  }
+
+}
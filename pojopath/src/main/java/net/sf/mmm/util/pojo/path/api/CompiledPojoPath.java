@@ -0,0 +1,95 @@
+/* Copyright (c) The m-m-m Team, Licensed under the Apache License, Version 2.0
+ * http://www.apache.org/licenses/LICENSE-2.0 */
+package net.sf.mmm.util.pojo.path.api;
+
+import net.sf.mmm.util.reflect.api.GenericType;
+
+/**
+ * This is the interface for a {@link PojoPath} that has been {@link PojoPathNavigator#compile(String, Class)
+ * compiled} for a specific root type. All {@link PojoPath#getSegment() segments} are parsed once and the according
+ * {@link net.sf.mmm.util.pojo.descriptor.api.accessor.PojoPropertyAccessor accessors} and {@link PojoPathFunction
+ * functions} are resolved in advance so that {@link #get(Object, PojoPathMode, PojoPathContext) get} and
+ * {@link #set(Object, PojoPathMode, PojoPathContext, Object) set} only need to evaluate. <br>
+ * A {@link CompiledPojoPath} is immutable and thread-safe. It is intended to be created once and reused for many
+ * {@link net.sf.mmm.util.pojo.api.Pojo}s. Unlike
+ * {@link PojoPathNavigator#get(Object, String, PojoPathMode, PojoPathContext)} it does NOT use the
+ * {@link PojoPathContext#getCache() cache} of the {@link PojoPathContext} so it never returns stale results. <br>
+ * If an intermediate {@link net.sf.mmm.util.pojo.api.Pojo} is NOT an instance of the type determined at compile-time
+ * (e.g. for an <em>unsafe</em> {@link PojoPath}), the according segment is resolved dynamically from the actual
+ * {@link net.sf.mmm.util.pojo.api.Pojo}.
+ *
+ * @see PojoPathNavigator#compile(String, Class)
+ *
+ * @author Joerg Hohwiller (hohwille at users.sourceforge.net)
+ * @since 8.7.1
+ */
+public interface CompiledPojoPath extends PojoPath {
+
+  /**
+   * @return the {@link Class} of the initial {@link net.sf.mmm.util.pojo.api.Pojo} this path has been compiled for.
+   */
+  Class<?> getRootType();
+
+  /**
+   * @return the {@link GenericType} of the result of this path determined at compile-time or {@code null} if this
+   *         path is <em>unsafe</em> for the {@link #getRootType() root type}.
+   * @see PojoPathNavigator#getType(java.lang.reflect.Type, String, boolean, PojoPathContext)
+   */
+  GenericType<?> getPojoType();
+
+  /**
+   * This method evaluates this path for the given {@code pojo}.
+   *
+   * @see PojoPathNavigator#get(Object, String, PojoPathMode, PojoPathContext)
+   *
+   * @param pojo is the initial {@link net.sf.mmm.util.pojo.api.Pojo} to operate on.
+   * @param mode is the {@link PojoPathMode mode} that determines how to deal with {@code null} values.
+   * @param context is the {@link PojoPathContext} for this operation.
+   * @return the result of the evaluation. It may be {@code null} according to the given {@link PojoPathMode mode}.
+   * @throws PojoPathSegmentIsNullException if an intermediate {@link net.sf.mmm.util.pojo.api.Pojo} was
+   *         {@code null} and the given {@code mode} disallows this.
+   * @throws PojoPathException if the operation failed for arbitrary reasons.
+   */
+  Object get(Object pojo, PojoPathMode mode, PojoPathContext context)
+      throws PojoPathException, PojoPathSegmentIsNullException;
+
+  /**
+   * This method evaluates this path for the given {@code pojo} and converts the result to {@code targetClass}.
+   *
+   * @see PojoPathNavigator#get(Object, String, PojoPathMode, PojoPathContext, Class)
+   *
+   * @param <TYPE> is the generic type of the result.
+   * @param pojo is the initial {@link net.sf.mmm.util.pojo.api.Pojo} to operate on.
+   * @param mode is the {@link PojoPathMode mode} that determines how to deal with {@code null} values.
+   * @param context is the {@link PojoPathContext} for this operation.
+   * @param targetClass is the required result-type.
+   * @return the result of the evaluation. It may be {@code null} according to the given {@link PojoPathMode mode}.
+   * @throws PojoPathSegmentIsNullException if an intermediate {@link net.sf.mmm.util.pojo.api.Pojo} was
+   *         {@code null} and the given {@code mode} disallows this.
+   * @throws PojoPathException if the operation failed for arbitrary reasons.
+   * @throws PojoPathConversionException if the result is NOT compatible with the given {@code targetClass} and could
+   *         NOT be converted.
+   */
+  <TYPE> TYPE get(Object pojo, PojoPathMode mode, PojoPathContext context, Class<TYPE> targetClass)
+      throws PojoPathException, PojoPathSegmentIsNullException, PojoPathConversionException;
+
+  /**
+   * This method sets the given {@code value} for this path in the given {@code pojo}.
+   *
+   * @see PojoPathNavigator#set(Object, String, PojoPathMode, PojoPathContext, Object)
+   *
+   * @param pojo is the initial {@link net.sf.mmm.util.pojo.api.Pojo} to operate on.
+   * @param mode is the {@link PojoPathMode mode} that determines how to deal with {@code null} values.
+   * @param context is the {@link PojoPathContext} for this operation.
+   * @param value is the value to set. It may be {@code null}.
+   * @return the result of the {@code set} operation.
+   * @throws PojoPathSegmentIsNullException if an intermediate {@link net.sf.mmm.util.pojo.api.Pojo} was
+   *         {@code null} and the given {@code mode} disallows this.
+   * @throws PojoPathException if the operation failed for arbitrary reasons.
+   * @throws PojoPathConversionException if the given {@code value} is NOT compatible with the type required for this
+   *         path and could NOT be converted.
+   */
+  Object set(Object pojo, PojoPathMode mode, PojoPathContext context, Object value)
+      throws PojoPathException, PojoPathSegmentIsNullException, PojoPathConversionException;
+
+}
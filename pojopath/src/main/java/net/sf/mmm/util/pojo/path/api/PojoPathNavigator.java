@@ -180,6 +180,25 @@ public interface PojoPathNavigator {
   Object set(Object pojo, String pojoPath, PojoPathMode mode, PojoPathContext context, Object value)
       throws PojoPathException, IllegalPojoPathException, PojoPathSegmentIsNullException, InstantiationFailedException, PojoPathConversionException;
 
+  /**
+   * This method compiles the given {@code pojoPath} for the given {@code rootType}. The returned
+   * {@link CompiledPojoPath} has all {@link PojoPath#getSegment() segments} parsed and the according
+   * {@link net.sf.mmm.util.pojo.descriptor.api.PojoDescriptor descriptors}, accessors and {@link PojoPathFunction
+   * functions} pre-resolved. It is immutable and thread-safe and should be used instead of
+   * {@link #get(Object, String, PojoPathMode, PojoPathContext) get} or
+   * {@link #set(Object, String, PojoPathMode, PojoPathContext, Object) set} if the same {@link PojoPath} is evaluated
+   * repetitively for different {@link net.sf.mmm.util.pojo.api.Pojo}s.
+   *
+   * @since 8.7.1
+   *
+   * @param pojoPath is the {@link PojoPath} to compile.
+   * @param rootType is the {@link Class} of the initial {@link net.sf.mmm.util.pojo.api.Pojo}s the returned
+   *        {@link CompiledPojoPath} will operate on.
+   * @return the {@link CompiledPojoPath}.
+   * @throws IllegalPojoPathException if the given {@code pojoPath} is illegal.
+   */
+  CompiledPojoPath compile(String pojoPath, Class<?> rootType) throws IllegalPojoPathException;
+
   /**
    * This method creates a lazy, immutable {@link Map} reflecting the given
    * {@link net.sf.mmm.util.pojo.api.Pojo}. <br>
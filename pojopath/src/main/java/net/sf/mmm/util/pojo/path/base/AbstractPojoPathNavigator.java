@@ -19,7 +19,10 @@ import net.sf.mmm.util.exception.api.ObjectNotFoundException;
 import net.sf.mmm.util.lang.api.GenericBean;
 import net.sf.mmm.util.pojo.api.PojoFactory;
 import net.sf.mmm.util.pojo.base.GuessingPojoFactory;
+import net.sf.mmm.util.pojo.descriptor.api.PojoDescriptor;
+import net.sf.mmm.util.pojo.path.api.CompiledPojoPath;
 import net.sf.mmm.util.pojo.path.api.IllegalPojoPathException;
+import net.sf.mmm.util.pojo.path.api.PojoPath;
 import net.sf.mmm.util.pojo.path.api.PojoPathAccessException;
 import net.sf.mmm.util.pojo.path.api.PojoPathContext;
 import net.sf.mmm.util.pojo.path.api.PojoPathConversionException;
@@ -786,6 +789,25 @@ public abstract class AbstractPojoPathNavigator extends AbstractComponent implem
   protected Object convert(CachingPojoPath currentPath, PojoPathContext context, Object pojo, Class<?> targetClass, GenericType<?> targetType)
       throws PojoPathConversionException {
 
+    return convert((PojoPath) currentPath, context, pojo, targetClass, targetType);
+  }
+
+  /**
+   * This method converts the given {@code pojo} to the given {@code targetClass} (or even {@code targetType}) as
+   * necessary.
+   *
+   * @param currentPath is the current {@link PojoPath} that lead to {@code pojo}.
+   * @param context is the {@link PojoPathContext context} for this operation.
+   * @param pojo is the {@link net.sf.mmm.util.pojo.api.Pojo} to convert as necessary.
+   * @param targetClass is the expected {@link Class}.
+   * @param targetType is the expected {@link Type}.
+   * @return the {@code pojo} converted to the {@code targetType} as necessary.
+   * @throws PojoPathConversionException if the given {@code pojo} is NOT compatible and could NOT be converted.
+   * @since 8.7.1
+   */
+  protected Object convert(PojoPath currentPath, PojoPathContext context, Object pojo, Class<?> targetClass,
+      GenericType<?> targetType) throws PojoPathConversionException {
+
     Type type;
     if (targetType != null) {
       type = targetType;
@@ -912,6 +934,32 @@ public abstract class AbstractPojoPathNavigator extends AbstractComponent implem
     return result;
   }
 
+  @Override
+  public CompiledPojoPath compile(String pojoPath, Class<?> rootType) throws IllegalPojoPathException {
+
+    if (rootType == null) {
+      throw new NlsNullPointerException("rootType");
+    }
+    return new BasicCompiledPojoPath(this, pojoPath, getReflectionUtil().createGenericType(rootType));
+  }
+
+  /**
+   * This method gets the {@link PojoDescriptor} for the given {@code pojoType}. It is used to pre-resolve the
+   * accessors of the property segments of a {@link #compile(String, Class) compiled} path. <br>
+   * This default implementation returns {@code null} so property segments are evaluated dynamically via
+   * {@link #getFromPojo(CachingPojoPath, PojoPathContext, PojoPathState)} and
+   * {@link #setInPojo(CachingPojoPath, PojoPathContext, PojoPathState, Object, Object)}. Override to enable
+   * pre-resolution.
+   *
+   * @param pojoType is the {@link GenericType} of the {@link net.sf.mmm.util.pojo.api.Pojo}.
+   * @return the according {@link PojoDescriptor} or {@code null} if NOT supported.
+   * @since 8.7.1
+   */
+  protected PojoDescriptor<?> getDescriptor(GenericType<?> pojoType) {
+
+    return null;
+  }
+
   @Override
   public Map<String, Object> pojo2Map(Object pojo) {
 
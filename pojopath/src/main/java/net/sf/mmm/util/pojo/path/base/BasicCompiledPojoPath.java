@@ -0,0 +1,446 @@
+/* Copyright (c) The m-m-m Team, Licensed under the Apache License, Version 2.0
+ * http://www.apache.org/licenses/LICENSE-2.0 */
+package net.sf.mmm.util.pojo.path.base;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import net.sf.mmm.util.collection.base.CollectionList;
+import net.sf.mmm.util.exception.api.NlsNullPointerException;
+import net.sf.mmm.util.lang.api.GenericBean;
+import net.sf.mmm.util.pojo.api.PojoFactory;
+import net.sf.mmm.util.pojo.api.PojoPropertyPath;
+import net.sf.mmm.util.pojo.descriptor.api.PojoDescriptor;
+import net.sf.mmm.util.pojo.descriptor.api.accessor.PojoPropertyAccessorNonArg;
+import net.sf.mmm.util.pojo.descriptor.api.accessor.PojoPropertyAccessorNonArgMode;
+import net.sf.mmm.util.pojo.descriptor.api.accessor.PojoPropertyAccessorOneArg;
+import net.sf.mmm.util.pojo.descriptor.api.accessor.PojoPropertyAccessorOneArgMode;
+import net.sf.mmm.util.pojo.path.api.CompiledPojoPath;
+import net.sf.mmm.util.pojo.path.api.IllegalPojoPathException;
+import net.sf.mmm.util.pojo.path.api.PojoPathContext;
+import net.sf.mmm.util.pojo.path.api.PojoPathCreationException;
+import net.sf.mmm.util.pojo.path.api.PojoPathFunction;
+import net.sf.mmm.util.pojo.path.api.PojoPathFunctionManager;
+import net.sf.mmm.util.pojo.path.api.PojoPathMode;
+import net.sf.mmm.util.pojo.path.api.PojoPathRecognizer;
+import net.sf.mmm.util.pojo.path.api.PojoPathSegmentIsNullException;
+import net.sf.mmm.util.pojo.path.base.AbstractPojoPathNavigator.CachingPojoPath;
+import net.sf.mmm.util.pojo.path.base.AbstractPojoPathNavigator.PojoPathState;
+import net.sf.mmm.util.reflect.api.GenericType;
+import net.sf.mmm.util.reflect.impl.SimpleGenericTypeImpl;
+
+/**
+ * This is the implementation of {@link CompiledPojoPath} created by
+ * {@link AbstractPojoPathNavigator#compile(String, Class)}. It splits the {@link #getPojoPath() pojo-path} into its
+ * {@link #getSegment() segments} and resolves the {@link GenericType types}, {@link PojoPathFunction functions} and
+ * property accessors along the path from the {@link #getRootType() root type}. Evaluation only keeps state on the
+ * stack so a single instance can be shared between threads.
+ *
+ * @author Joerg Hohwiller (hohwille at users.sourceforge.net)
+ * @since 8.7.1
+ */
+public class BasicCompiledPojoPath extends BasicPojoPath implements CompiledPojoPath {
+
+  private final AbstractPojoPathNavigator navigator;
+
+  private final Class<?> rootType;
+
+  private final Segment[] segments;
+
+  /**
+   * The constructor.
+   *
+   * @param navigator is the {@link AbstractPojoPathNavigator} that compiled this path.
+   * @param pojoPath is the {@link #getPojoPath() path} to compile.
+   * @param rootType is the {@link GenericType} of the initial {@link net.sf.mmm.util.pojo.api.Pojo}.
+   */
+  protected BasicCompiledPojoPath(AbstractPojoPathNavigator navigator, String pojoPath, GenericType<?> rootType) {
+
+    super(pojoPath);
+    if (pojoPath.isEmpty()) {
+      throw new IllegalPojoPathException(pojoPath);
+    }
+    this.navigator = navigator;
+    this.rootType = rootType.getRetrievalClass();
+    List<Segment> segmentList = new ArrayList<>();
+    GenericType<?> parentType = rootType;
+    int end = pojoPath.indexOf(PojoPropertyPath.SEPARATOR);
+    while (end > 0) {
+      Segment segment = new Segment(pojoPath.substring(0, end), parentType, navigator);
+      segmentList.add(segment);
+      parentType = segment.type;
+      end = pojoPath.indexOf(PojoPropertyPath.SEPARATOR, end + 1);
+    }
+    segmentList.add(new Segment(pojoPath, parentType, navigator));
+    this.segments = segmentList.toArray(new Segment[segmentList.size()]);
+  }
+
+  @Override
+  public Class<?> getRootType() {
+
+    return this.rootType;
+  }
+
+  @Override
+  public GenericType<?> getPojoType() {
+
+    return this.segments[this.segments.length - 1].type;
+  }
+
+  @Override
+  public Object get(Object pojo, PojoPathMode mode, PojoPathContext context) {
+
+    int last = this.segments.length;
+    Object[] pojos = evaluate(pojo, last, mode, context);
+    if (pojos == null) {
+      return null;
+    }
+    return pojos[last];
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public <TYPE> TYPE get(Object pojo, PojoPathMode mode, PojoPathContext context, Class<TYPE> targetClass) {
+
+    Object result = get(pojo, mode, context);
+    return (TYPE) this.navigator.convert(this, context, result, targetClass, null);
+  }
+
+  @Override
+  public Object set(Object pojo, PojoPathMode mode, PojoPathContext context, Object value) {
+
+    int last = this.segments.length - 1;
+    Object[] pojos = evaluate(pojo, last, mode, context);
+    if (pojos == null) {
+      return null;
+    }
+    if (pojos[last] == null) {
+      if (mode == PojoPathMode.RETURN_IF_NULL) {
+        return null;
+      }
+      throw new PojoPathSegmentIsNullException(pojo, getPojoPath());
+    }
+    return set(last, pojos, mode, context, value);
+  }
+
+  /**
+   * Evaluates the first {@code count} segments.
+   *
+   * @param pojo is the initial {@link net.sf.mmm.util.pojo.api.Pojo}.
+   * @param count is the number of segments to evaluate.
+   * @param mode is the {@link PojoPathMode}.
+   * @param context is the {@link PojoPathContext}.
+   * @return the array with the initial {@link net.sf.mmm.util.pojo.api.Pojo} at index {@code 0} followed by the
+   *         results of the evaluated segments or {@code null} if evaluation stopped at a {@code null} value.
+   */
+  private Object[] evaluate(Object pojo, int count, PojoPathMode mode, PojoPathContext context) {
+
+    if (mode == null) {
+      throw new NlsNullPointerException("mode");
+    }
+    if (pojo == null) {
+      if (mode == PojoPathMode.RETURN_IF_NULL) {
+        return null;
+      }
+      throw new PojoPathSegmentIsNullException(null, getPojoPath());
+    }
+    Object[] pojos = new Object[this.segments.length + 1];
+    pojos[0] = pojo;
+    PojoPathRecognizer recognizer = context.getRecognizer();
+    int last = this.segments.length - 1;
+    for (int i = 0; i < count; i++) {
+      if (pojos[i] == null) {
+        // only reached for RETURN_IF_NULL
+        return null;
+      }
+      Segment segment = this.segments[i];
+      Object result = get(i, pojos, mode, context);
+      if (result == null) {
+        if ((mode != PojoPathMode.RETURN_IF_NULL) && (i < last)) {
+          throw new PojoPathSegmentIsNullException(pojo, segment.getPojoPath());
+        }
+      } else if (recognizer != null) {
+        recognizer.recognize(result, segment);
+      }
+      pojos[i + 1] = result;
+    }
+    return pojos;
+  }
+
+  @SuppressWarnings({ "rawtypes", "unchecked" })
+  private Object get(int i, Object[] pojos, PojoPathMode mode, PojoPathContext context) {
+
+    Segment segment = this.segments[i];
+    Object parentPojo = pojos[i];
+    Object result;
+    String functionName = segment.getFunction();
+    if (functionName != null) {
+      PojoPathFunction function = getFunction(segment, context);
+      result = function.get(parentPojo, functionName, context);
+      if ((result == null) && (mode == PojoPathMode.CREATE_IF_NULL)) {
+        result = function.create(parentPojo, functionName, context);
+        if (result == null) {
+          throw new PojoPathCreationException(pojos[0], segment.getPojoPath());
+        }
+      }
+    } else if (parentPojo instanceof Map) {
+      Map map = (Map) parentPojo;
+      result = map.get(segment.getSegment());
+      if ((result == null) && (mode == PojoPathMode.CREATE_IF_NULL)) {
+        result = create(segment, context, pojos[0], getComponentType(segment, parentPojo));
+        map.put(segment.getSegment(), result);
+      }
+    } else {
+      Integer index = segment.getIndex();
+      if (index != null) {
+        Object arrayOrList = convertList(parentPojo);
+        boolean ignoreIndexOverflow = (mode != PojoPathMode.FAIL_IF_NULL);
+        result = this.navigator.getCollectionReflectionUtil().get(arrayOrList, index.intValue(), ignoreIndexOverflow);
+        if ((result == null) && (mode == PojoPathMode.CREATE_IF_NULL)) {
+          result = create(segment, context, pojos[0], getComponentType(segment, parentPojo));
+          set(i, pojos, mode, context, result);
+        }
+      } else if ((segment.getter != null) && segment.isCompiledFor(parentPojo)) {
+        result = segment.getter.invoke(parentPojo);
+        if ((result == null) && (mode == PojoPathMode.CREATE_IF_NULL)) {
+          result = create(segment, context, pojos[0], segment.getter.getPropertyType());
+          set(i, pojos, mode, context, result);
+        }
+      } else {
+        result = this.navigator.getFromPojo(createDynamicPath(segment, parentPojo), context,
+            createDynamicState(pojos[0], mode));
+      }
+    }
+    return result;
+  }
+
+  @SuppressWarnings({ "rawtypes", "unchecked" })
+  private Object set(int i, Object[] pojos, PojoPathMode mode, PojoPathContext context, Object value) {
+
+    Segment segment = this.segments[i];
+    Object parentPojo = pojos[i];
+    String functionName = segment.getFunction();
+    if (functionName != null) {
+      PojoPathFunction function = getFunction(segment, context);
+      Object convertedValue = this.navigator.convert(segment, context, value, function.getValueClass(), null);
+      return function.set(parentPojo, functionName, convertedValue, context);
+    } else if (parentPojo instanceof Map) {
+      GenericType<?> valueType = getComponentType(segment, parentPojo);
+      Object convertedValue = this.navigator.convert(segment, context, value, valueType.getAssignmentClass(),
+          valueType);
+      GenericType<?> keyType = getKeyType(segment, parentPojo);
+      Object convertedKey = this.navigator.convert(segment, context, segment.getSegment(),
+          keyType.getAssignmentClass(), keyType);
+      return ((Map) parentPojo).put(convertedKey, convertedValue);
+    }
+    Integer index = segment.getIndex();
+    if (index != null) {
+      return setInList(i, pojos, mode, context, value, index.intValue());
+    } else if ((segment.setter != null) && segment.isCompiledFor(parentPojo)) {
+      PojoPropertyAccessorOneArg setter = segment.setter;
+      Object convertedValue = this.navigator.convert(segment, context, value, setter.getPropertyClass(),
+          setter.getPropertyType());
+      return setter.invoke(parentPojo, convertedValue);
+    } else {
+      return this.navigator.setInPojo(createDynamicPath(segment, parentPojo), context,
+          createDynamicState(pojos[0], mode), parentPojo, value);
+    }
+  }
+
+  private Object setInList(int i, Object[] pojos, PojoPathMode mode, PojoPathContext context, Object value, int index) {
+
+    Segment segment = this.segments[i];
+    Object parentPojo = pojos[i];
+    Object arrayOrList = convertList(parentPojo);
+    Object convertedValue = value;
+    GenericType<?> valueType = getComponentType(segment, parentPojo);
+    if (valueType != null) {
+      convertedValue = this.navigator.convert(segment, context, value, valueType.getAssignmentClass(), valueType);
+    }
+    GenericBean<Object> arrayReceiver = new GenericBean<>();
+    Object result = this.navigator.getCollectionReflectionUtil().set(arrayOrList, index, convertedValue, arrayReceiver);
+    Object newArray = arrayReceiver.getValue();
+    if (newArray != null) {
+      if (i == 0) {
+        throw new PojoPathCreationException(pojos[0], segment.getPojoPath());
+      }
+      pojos[i] = newArray;
+      set(i - 1, pojos, mode, context, newArray);
+    }
+    return result;
+  }
+
+  @SuppressWarnings({ "rawtypes", "unchecked" })
+  private static Object convertList(Object arrayOrCollection) {
+
+    if ((arrayOrCollection instanceof Collection) && !(arrayOrCollection instanceof List)) {
+      // non-list collection (e.g. Set) - adapt as list
+      return new CollectionList((Collection) arrayOrCollection);
+    }
+    return arrayOrCollection;
+  }
+
+  private Object create(Segment segment, PojoPathContext context, Object initialPojo, GenericType<?> pojoType) {
+
+    Class<?> pojoClass = null;
+    if (pojoType != null) {
+      pojoClass = pojoType.getAssignmentClass();
+    }
+    if ((pojoClass == null) || Object.class.equals(pojoClass)) {
+      throw new PojoPathCreationException(initialPojo, segment.getPojoPath());
+    }
+    Object result;
+    try {
+      PojoFactory factory = context.getPojoFactory();
+      if (factory == null) {
+        factory = this.navigator.getPojoFactory();
+      }
+      result = factory.newInstance(pojoClass);
+    } catch (RuntimeException e) {
+      throw new PojoPathCreationException(e, initialPojo, segment.getPojoPath());
+    }
+    if (result == null) {
+      throw new PojoPathCreationException(initialPojo, segment.getPojoPath());
+    }
+    return result;
+  }
+
+  @SuppressWarnings("rawtypes")
+  private PojoPathFunction getFunction(Segment segment, PojoPathContext context) {
+
+    // context overrides functions...
+    PojoPathFunctionManager manager = context.getAdditionalFunctionManager();
+    if (manager != null) {
+      PojoPathFunction function = manager.getFunction(segment.getFunction());
+      if (function != null) {
+        return function;
+      }
+    }
+    if (segment.function != null) {
+      return segment.function;
+    }
+    return this.navigator.getFunction(segment.getFunction(), context);
+  }
+
+  private GenericType<?> getComponentType(Segment segment, Object parentPojo) {
+
+    if ((segment.componentType != null) && segment.isCompiledFor(parentPojo)) {
+      return segment.componentType;
+    }
+    return this.navigator.getReflectionUtil().createGenericType(parentPojo.getClass()).getComponentType();
+  }
+
+  private GenericType<?> getKeyType(Segment segment, Object parentPojo) {
+
+    if ((segment.keyType != null) && segment.isCompiledFor(parentPojo)) {
+      return segment.keyType;
+    }
+    return this.navigator.getReflectionUtil().createGenericType(parentPojo.getClass()).getKeyType();
+  }
+
+  private static CachingPojoPath createDynamicPath(Segment segment, Object parentPojo) {
+
+    CachingPojoPath currentPath = new CachingPojoPath(segment.getPojoPath());
+    currentPath.setParent(new CachingPojoPath(parentPojo, parentPojo.getClass()));
+    return currentPath;
+  }
+
+  private PojoPathState createDynamicState(Object initialPojo, PojoPathMode mode) {
+
+    return new PojoPathState(new CachingPojoPath(initialPojo, initialPojo.getClass()), mode, getPojoPath());
+  }
+
+  /**
+   * A single compiled {@link #getSegment() segment} of a {@link BasicCompiledPojoPath}.
+   */
+  private static final class Segment extends BasicPojoPath {
+
+    /** The {@link Class} of the parent {@link net.sf.mmm.util.pojo.api.Pojo} this segment was compiled for. */
+    private final Class<?> parentClass;
+
+    /** The {@link GenericType} of the result or {@code null} if unknown. */
+    private final GenericType<?> type;
+
+    @SuppressWarnings("rawtypes")
+    private final PojoPathFunction function;
+
+    private final GenericType<?> componentType;
+
+    private final GenericType<?> keyType;
+
+    private final PojoPropertyAccessorNonArg getter;
+
+    private final PojoPropertyAccessorOneArg setter;
+
+    /**
+     * The constructor.
+     *
+     * @param pojoPath is the {@link #getPojoPath() path} up to this segment.
+     * @param parentType is the {@link GenericType} of the parent {@link net.sf.mmm.util.pojo.api.Pojo} or
+     *        {@code null} if unknown.
+     * @param navigator is the {@link AbstractPojoPathNavigator}.
+     */
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    private Segment(String pojoPath, GenericType<?> parentType, AbstractPojoPathNavigator navigator) {
+
+      super(pojoPath);
+      PojoPathFunction pathFunction = null;
+      GenericType<?> pathComponentType = null;
+      GenericType<?> pathKeyType = null;
+      PojoPropertyAccessorNonArg pathGetter = null;
+      PojoPropertyAccessorOneArg pathSetter = null;
+      GenericType<?> pathType = null;
+      Class<?> pathParentClass = null;
+      String functionName = getFunction();
+      if (functionName != null) {
+        PojoPathFunctionManager manager = navigator.getFunctionManager();
+        if (manager != null) {
+          pathFunction = manager.getFunction(functionName);
+        }
+        if (pathFunction != null) {
+          pathType = new SimpleGenericTypeImpl(pathFunction.getValueClass());
+        }
+      } else if (parentType != null) {
+        pathParentClass = parentType.getRetrievalClass();
+        boolean isMap = Map.class.isAssignableFrom(pathParentClass);
+        if (isMap || (getIndex() != null)) {
+          pathComponentType = parentType.getComponentType();
+          if (isMap) {
+            pathKeyType = parentType.getKeyType();
+          }
+          pathType = pathComponentType;
+        } else {
+          PojoDescriptor<?> descriptor = navigator.getDescriptor(parentType);
+          if (descriptor != null) {
+            pathGetter = descriptor.getAccessor(getSegment(), PojoPropertyAccessorNonArgMode.GET);
+            pathSetter = descriptor.getAccessor(getSegment(), PojoPropertyAccessorOneArgMode.SET);
+            if (pathGetter != null) {
+              pathType = pathGetter.getPropertyType();
+            }
+          }
+        }
+      }
+      this.parentClass = pathParentClass;
+      this.function = pathFunction;
+      this.componentType = pathComponentType;
+      this.keyType = pathKeyType;
+      this.getter = pathGetter;
+      this.setter = pathSetter;
+      this.type = pathType;
+    }
+
+    /**
+     * @param parentPojo is the actual parent {@link net.sf.mmm.util.pojo.api.Pojo}.
+     * @return {@code true} if the given {@code parentPojo} is compatible with the type this segment was compiled for,
+     *         {@code false} otherwise (resolve dynamically).
+     */
+    private boolean isCompiledFor(Object parentPojo) {
+
+      return (this.parentClass != null) && this.parentClass.isInstance(parentPojo);
+    }
+
+  }
+
+}
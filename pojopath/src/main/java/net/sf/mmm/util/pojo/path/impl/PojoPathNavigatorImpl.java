@@ -88,6 +88,12 @@ public class PojoPathNavigatorImpl extends AbstractPojoPathNavigator {
     }
   }
 
+  @Override
+  protected PojoDescriptor<?> getDescriptor(GenericType<?> pojoType) {
+
+    return getDescriptorBuilder().getDescriptor(pojoType);
+  }
+
   @Override
   @SuppressWarnings({ "rawtypes", "unchecked", "null" })
   protected Object getFromPojo(CachingPojoPath currentPath, PojoPathContext context, PojoPathState state) {
@@ -459,6 +459,93 @@ public abstract class PojoPathNavigatorTest {
     }
   }
 
+  @Test
+  public void testCompile() {
+
+    PojoPathNavigator navigator = createNavigator();
+    PojoPathContext context = new DefaultPojoPathContext();
+
+    // compile once, evaluate on different pojos
+    CompiledPojoPath compiled = navigator.compile("parent.parent.foo", MyPojo.class);
+    assertEquals("parent.parent.foo", compiled.getPojoPath());
+    assertEquals("foo", compiled.getSegment());
+    assertSame(MyPojo.class, compiled.getRootType());
+    assertEquals(Integer.class, compiled.getPojoType().getRetrievalClass());
+    for (int i = 0; i < 3; i++) {
+      MyPojo root = new MyPojo();
+      root.setFoo(i);
+      MyPojo parent = new MyPojo();
+      parent.setParent(root);
+      MyPojo pojo = new MyPojo();
+      pojo.setParent(parent);
+      assertEquals(Integer.valueOf(i), compiled.get(pojo, PojoPathMode.FAIL_IF_NULL, context));
+      assertEquals(Integer.toString(i), compiled.get(pojo, PojoPathMode.FAIL_IF_NULL, context, String.class));
+      // set with conversion
+      compiled.set(pojo, PojoPathMode.FAIL_IF_NULL, context, "4" + i);
+      assertEquals(Integer.valueOf(40 + i), root.getFoo());
+    }
+    MyPojo pojo = new MyPojo();
+    assertNull(compiled.get(pojo, PojoPathMode.RETURN_IF_NULL, context));
+    try {
+      compiled.get(pojo, PojoPathMode.FAIL_IF_NULL, context);
+      fail("Exception expected");
+    } catch (PojoPathSegmentIsNullException e) {
+    }
+    assertEquals("", navigator.compile("parent.parent.string", MyPojo.class).get(pojo, PojoPathMode.CREATE_IF_NULL,
+        context));
+    assertNotNull(pojo.getParent().getParent());
+
+    // collections, arrays and creation
+    CollectionPojo collectionPojo = new CollectionPojo();
+    compiled = navigator.compile("map.key.1.2", CollectionPojo.class);
+    assertEquals(String.class, compiled.getPojoType().getRetrievalClass());
+    assertEquals("", compiled.get(collectionPojo, PojoPathMode.CREATE_IF_NULL, context));
+    assertEquals(2, collectionPojo.getMap().get("key").size());
+    assertSame(collectionPojo.getMap().get("key").get(1)[2],
+        compiled.get(collectionPojo, PojoPathMode.FAIL_IF_NULL, context));
+    Set<String> set = new HashSet<String>();
+    set.add("foo");
+    collectionPojo.setSet(set);
+    assertEquals("foo", navigator.compile("set.0", CollectionPojo.class).get(collectionPojo, PojoPathMode.FAIL_IF_NULL,
+        context));
+
+    // array overflow
+    Map<String, String[]> map = new HashMap<String, String[]>();
+    map.put("foo", new String[] { "first" });
+    compiled = navigator.compile("foo.1", Map.class);
+    assertNull(compiled.set(map, PojoPathMode.FAIL_IF_NULL, context, "second"));
+    assertEquals(2, map.get("foo").length);
+    assertEquals("second", compiled.get(map, PojoPathMode.FAIL_IF_NULL, context));
+
+    // functions (global and from context) and unsafe paths
+    DefaultPojoPathFunctionManager functionManager = new DefaultPojoPathFunctionManager();
+    functionManager.registerFunction(new FooOrBarFunction(), "fooOrBar");
+    functionManager.initialize();
+    DefaultPojoPathContext defaultContext = new DefaultPojoPathContext();
+    defaultContext.setAdditionalFunctionManager(functionManager);
+    MyPojo myPojo = new MyPojo();
+    myPojo.setFoo(42);
+    assertEquals(Integer.valueOf(42), navigator.compile("@fooOrBar", MyPojo.class).get(myPojo,
+        PojoPathMode.FAIL_IF_NULL, defaultContext));
+    assertEquals("42", navigator.compile("foo.@toString", MyPojo.class).get(myPojo, PojoPathMode.FAIL_IF_NULL,
+        context));
+    List<Object> list = new ArrayList<Object>();
+    list.add(myPojo);
+    collectionPojo.setList(list);
+    compiled = navigator.compile("list.0.foo", CollectionPojo.class);
+    assertNull(compiled.getPojoType());
+    assertEquals(Integer.valueOf(42), compiled.get(collectionPojo, PojoPathMode.FAIL_IF_NULL, context));
+    compiled.set(collectionPojo, PojoPathMode.FAIL_IF_NULL, context, "43");
+    assertEquals(Integer.valueOf(43), myPojo.getFoo());
+
+    // illegal path
+    try {
+      navigator.compile("foo..bar", MyPojo.class);
+      fail("Exception expected");
+    } catch (IllegalPojoPathException e) {
+    }
+  }
+
   public static class MyPojo {
 
     private Integer foo;
@@ -2,6 +2,10 @@
  * http://www.apache.org/licenses/LICENSE-2.0 */
 package net.sf.mmm.util.resource.api;
 
+import java.lang.annotation.Annotation;
+import java.util.HashSet;
+import java.util.Set;
+
 import net.sf.mmm.util.filter.api.Filter;
 
 /**
@@ -66,6 +70,50 @@ public interface ClasspathScanner {
    */
   Iterable<Class<?>> getClasspathResourceClasses(Filter<String> classnameFilter, Filter<Class<?>> classFilter);
 
+  /**
+   * Finds all subtypes of the given {@code type} by reading the headers of the class files on the classpath.
+   * Unlike {@link #getClasspathResourceClasses(Filter, Filter)} this does not load any {@link Class}. Please
+   * note that the type hierarchy is only known for classes on the scanned classpath (e.g. a class extending
+   * {@link java.util.ArrayList} will not be found as subtype of {@link java.util.List}). <br>
+   * The default implementation falls back to {@link #getClasspathResourceClasses(Filter, Filter) loading all classes}
+   * and should be overridden by implementations that can read class files directly.
+   *
+   * @param type is the {@link Class} or interface to get the subtypes of.
+   * @return the {@link Set} with the {@link Class#getName() qualified names} of all classes and interfaces that
+   *         directly or indirectly extend or implement the given {@code type}.
+   * @since 8.7.1
+   */
+  default Set<String> getSubtypeNames(Class<?> type) {
+
+    Set<String> subtypeNames = new HashSet<>();
+    for (Class<?> subtype : getClasspathResourceClasses(name -> true, c -> (c != type) && type.isAssignableFrom(c))) {
+      subtypeNames.add(subtype.getName());
+    }
+    return subtypeNames;
+  }
+
+  /**
+   * Finds all classes annotated with the given {@code annotationType} by reading the headers of the class files
+   * on the classpath without loading any {@link Class}. If the annotation is {@link java.lang.annotation.Inherited}
+   * also the sub-classes of annotated classes are included. <br>
+   * The default implementation falls back to {@link #getClasspathResourceClasses(Filter, Filter) loading all classes}
+   * and should be overridden by implementations that can read class files directly.
+   *
+   * @param annotationType is the {@link Annotation} with {@link java.lang.annotation.RetentionPolicy#RUNTIME
+   *        runtime} retention.
+   * @return the {@link Set} with the {@link Class#getName() qualified names} of all classes annotated with the
+   *         given {@code annotationType}.
+   * @since 8.7.1
+   */
+  default Set<String> getAnnotatedClassNames(Class<? extends Annotation> annotationType) {
+
+    Set<String> classNames = new HashSet<>();
+    for (Class<?> type : getClasspathResourceClasses(name -> true, c -> c.isAnnotationPresent(annotationType))) {
+      classNames.add(type.getName());
+    }
+    return classNames;
+  }
+
   /**
    * @param classResource a {@link DataResource} that identifies a Java *.{@link Class class} file or a
    *        {@link Package} from your classpath. Should be retrieved from this {@link ClasspathScanner}.
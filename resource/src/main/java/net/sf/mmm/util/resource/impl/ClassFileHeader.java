@@ -0,0 +1,307 @@
+/* Copyright (c) The m-m-m Team, Licensed under the Apache License, Version 2.0
+ * http://www.apache.org/licenses/LICENSE-2.0 */
+package net.sf.mmm.util.resource.impl;
+
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * The header information of a class file (name, super-class, interfaces and runtime visible annotations) read directly
+ * from the bytecode without loading the {@link Class}.
+ *
+ * @see <a href="https://docs.oracle.com/javase/specs/jvms/se8/html/jvms-4.html">JVMS chapter 4</a>
+ *
+ * @author Joerg Hohwiller (hohwille at users.sourceforge.net)
+ * @since 8.7.1
+ */
+final class ClassFileHeader {
+
+  private static final int MAGIC = 0xCAFEBABE;
+
+  private static final int ACC_INTERFACE = 0x0200;
+
+  private static final int ACC_ANNOTATION = 0x2000;
+
+  private static final String ATTRIBUTE_RUNTIME_VISIBLE_ANNOTATIONS = "RuntimeVisibleAnnotations";
+
+  private static final String[] NO_NAMES = new String[0];
+
+  private static final int CONSTANT_UTF8 = 1;
+
+  private static final int CONSTANT_INTEGER = 3;
+
+  private static final int CONSTANT_FLOAT = 4;
+
+  private static final int CONSTANT_LONG = 5;
+
+  private static final int CONSTANT_DOUBLE = 6;
+
+  private static final int CONSTANT_CLASS = 7;
+
+  private static final int CONSTANT_STRING = 8;
+
+  private static final int CONSTANT_FIELDREF = 9;
+
+  private static final int CONSTANT_METHODREF = 10;
+
+  private static final int CONSTANT_INTERFACE_METHODREF = 11;
+
+  private static final int CONSTANT_NAME_AND_TYPE = 12;
+
+  private static final int CONSTANT_METHOD_HANDLE = 15;
+
+  private static final int CONSTANT_METHOD_TYPE = 16;
+
+  private static final int CONSTANT_DYNAMIC = 17;
+
+  private static final int CONSTANT_INVOKE_DYNAMIC = 18;
+
+  private static final int CONSTANT_MODULE = 19;
+
+  private static final int CONSTANT_PACKAGE = 20;
+
+  private final String name;
+
+  private final String superName;
+
+  private final String[] interfaceNames;
+
+  private final String[] annotationNames;
+
+  private final int accessFlags;
+
+  private ClassFileHeader(String name, String superName, String[] interfaceNames, String[] annotationNames,
+      int accessFlags) {
+
+    super();
+    this.name = name;
+    this.superName = superName;
+    this.interfaceNames = interfaceNames;
+    this.annotationNames = annotationNames;
+    this.accessFlags = accessFlags;
+  }
+
+  /**
+   * @return the {@link Class#getName() qualified name} of the class.
+   */
+  String getName() {
+
+    return this.name;
+  }
+
+  /**
+   * @return the {@link Class#getName() qualified name} of the {@link Class#getSuperclass() super-class} or
+   *         {@code null} for {@link Object} or a {@code module-info}.
+   */
+  String getSuperName() {
+
+    return this.superName;
+  }
+
+  /**
+   * @return the {@link Class#getName() qualified names} of the directly implemented {@link Class#getInterfaces()
+   *         interfaces}.
+   */
+  String[] getInterfaceNames() {
+
+    return this.interfaceNames;
+  }
+
+  /**
+   * @return the {@link Class#getName() qualified names} of the {@link java.lang.annotation.RetentionPolicy#RUNTIME
+   *         runtime visible} annotations declared on the class.
+   */
+  String[] getAnnotationNames() {
+
+    return this.annotationNames;
+  }
+
+  /**
+   * @return {@code true} if this is an interface (including annotations), {@code false} otherwise.
+   */
+  boolean isInterface() {
+
+    return (this.accessFlags & ACC_INTERFACE) != 0;
+  }
+
+  /**
+   * @return {@code true} if this is an annotation, {@code false} otherwise.
+   */
+  boolean isAnnotation() {
+
+    return (this.accessFlags & ACC_ANNOTATION) != 0;
+  }
+
+  @Override
+  public String toString() {
+
+    return this.name;
+  }
+
+  /**
+   * Reads the {@link ClassFileHeader} from the given class file. Only the constant pool and the class attributes are
+   * interpreted, the rest is skipped.
+   *
+   * @param inputStream the {@link InputStream} to the class file. Will NOT be closed.
+   * @return the parsed {@link ClassFileHeader}.
+   * @throws IOException on I/O error or if the data is not a valid class file.
+   */
+  static ClassFileHeader read(InputStream inputStream) throws IOException {
+
+    DataInputStream in = new DataInputStream(inputStream);
+    if (in.readInt() != MAGIC) {
+      throw new IOException("Not a class file.");
+    }
+    in.readUnsignedShort(); // minor version
+    in.readUnsignedShort(); // major version
+    int poolSize = in.readUnsignedShort();
+    String[] utf8 = new String[poolSize];
+    int[] classNameIndex = new int[poolSize];
+    for (int i = 1; i < poolSize; i++) {
+      int tag = in.readUnsignedByte();
+      switch (tag) {
+        case CONSTANT_UTF8:
+          utf8[i] = in.readUTF();
+          break;
+        case CONSTANT_CLASS:
+          classNameIndex[i] = in.readUnsignedShort();
+          break;
+        case CONSTANT_STRING:
+        case CONSTANT_METHOD_TYPE:
+        case CONSTANT_MODULE:
+        case CONSTANT_PACKAGE:
+          skip(in, 2);
+          break;
+        case CONSTANT_METHOD_HANDLE:
+          skip(in, 3);
+          break;
+        case CONSTANT_INTEGER:
+        case CONSTANT_FLOAT:
+        case CONSTANT_FIELDREF:
+        case CONSTANT_METHODREF:
+        case CONSTANT_INTERFACE_METHODREF:
+        case CONSTANT_NAME_AND_TYPE:
+        case CONSTANT_DYNAMIC:
+        case CONSTANT_INVOKE_DYNAMIC:
+          skip(in, 4);
+          break;
+        case CONSTANT_LONG:
+        case CONSTANT_DOUBLE:
+          skip(in, 8);
+          i++; // takes two entries
+          break;
+        default :
+          throw new IOException("Illegal constant pool tag " + tag + " at index " + i);
+      }
+    }
+    int accessFlags = in.readUnsignedShort();
+    String name = getClassName(in.readUnsignedShort(), utf8, classNameIndex);
+    String superName = getClassName(in.readUnsignedShort(), utf8, classNameIndex);
+    int interfaceCount = in.readUnsignedShort();
+    String[] interfaceNames = NO_NAMES;
+    if (interfaceCount > 0) {
+      interfaceNames = new String[interfaceCount];
+      for (int i = 0; i < interfaceCount; i++) {
+        interfaceNames[i] = getClassName(in.readUnsignedShort(), utf8, classNameIndex);
+      }
+    }
+    skipMembers(in); // fields
+    skipMembers(in); // methods
+    String[] annotationNames = NO_NAMES;
+    int attributeCount = in.readUnsignedShort();
+    for (int i = 0; i < attributeCount; i++) {
+      String attributeName = utf8[in.readUnsignedShort()];
+      int length = in.readInt();
+      if (ATTRIBUTE_RUNTIME_VISIBLE_ANNOTATIONS.equals(attributeName)) {
+        annotationNames = readAnnotationNames(in, utf8);
+      } else {
+        skip(in, length);
+      }
+    }
+    return new ClassFileHeader(name, superName, interfaceNames, annotationNames, accessFlags);
+  }
+
+  private static String getClassName(int index, String[] utf8, int[] classNameIndex) throws IOException {
+
+    if (index == 0) {
+      return null;
+    }
+    String internalName = utf8[classNameIndex[index]];
+    if (internalName == null) {
+      throw new IOException("Illegal class reference " + index);
+    }
+    return internalName.replace('/', '.');
+  }
+
+  private static String[] readAnnotationNames(DataInputStream in, String[] utf8) throws IOException {
+
+    int count = in.readUnsignedShort();
+    String[] names = new String[count];
+    for (int i = 0; i < count; i++) {
+      String descriptor = utf8[in.readUnsignedShort()];
+      // descriptor is "Lpackage/Name;"
+      names[i] = descriptor.substring(1, descriptor.length() - 1).replace('/', '.');
+      skipElementValuePairs(in);
+    }
+    return names;
+  }
+
+  private static void skipElementValuePairs(DataInputStream in) throws IOException {
+
+    int pairCount = in.readUnsignedShort();
+    for (int i = 0; i < pairCount; i++) {
+      skip(in, 2); // element name
+      skipElementValue(in);
+    }
+  }
+
+  private static void skipElementValue(DataInputStream in) throws IOException {
+
+    int tag = in.readUnsignedByte();
+    switch (tag) {
+      case 'e':
+        skip(in, 4);
+        break;
+      case '@':
+        skip(in, 2);
+        skipElementValuePairs(in);
+        break;
+      case '[':
+        int count = in.readUnsignedShort();
+        for (int i = 0; i < count; i++) {
+          skipElementValue(in);
+        }
+        break;
+      default :
+        // const_value_index or class_info_index
+        skip(in, 2);
+    }
+  }
+
+  private static void skipMembers(DataInputStream in) throws IOException {
+
+    int count = in.readUnsignedShort();
+    for (int i = 0; i < count; i++) {
+      skip(in, 6); // access flags, name and descriptor index
+      int attributeCount = in.readUnsignedShort();
+      for (int j = 0; j < attributeCount; j++) {
+        skip(in, 2);
+        skip(in, in.readInt());
+      }
+    }
+  }
+
+  private static void skip(DataInputStream in, int length) throws IOException {
+
+    int rest = length;
+    while (rest > 0) {
+      int skipped = in.skipBytes(rest);
+      if (skipped <= 0) {
+        throw new IOException("Unexpected end of class file.");
+      }
+      rest = rest - skipped;
+    }
+  }
+
+}
@@ -0,0 +1,172 @@
+/* Copyright (c) The m-m-m Team, Licensed under the Apache License, Version 2.0
+ * http://www.apache.org/licenses/LICENSE-2.0 */
+package net.sf.mmm.util.resource.impl;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * An index of the {@link ClassFileHeader}s of all classes on the classpath that allows to query subtypes and annotated
+ * classes without loading any {@link Class}.
+ *
+ * @author Joerg Hohwiller (hohwille at users.sourceforge.net)
+ * @since 8.7.1
+ */
+class ClassFileIndex {
+
+  private static final Logger LOG = LoggerFactory.getLogger(ClassFileIndex.class);
+
+  private final Map<String, ClassFileHeader> headerMap;
+
+  /** Maps a class name to the names of its direct sub-classes. */
+  private final Map<String, List<String>> subclassMap;
+
+  /** Maps an interface name to the names of the classes and interfaces directly implementing or extending it. */
+  private final Map<String, List<String>> implementorMap;
+
+  /** Maps an annotation name to the names of the classes directly annotated with it. */
+  private final Map<String, List<String>> annotatedMap;
+
+  /**
+   * The constructor.
+   *
+   * @param classpathFiles the {@link ClasspathFile}s to index. All files that are no class files are ignored. The class
+   *        files are read in parallel.
+   */
+  ClassFileIndex(Collection<ClasspathFile> classpathFiles) {
+
+    super();
+    // the context class-loader of the worker threads of the parallel stream may differ
+    ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+    List<ClassFileHeader> headers = classpathFiles.parallelStream().filter(file -> file.getQualifiedName() != null)
+        .map(file -> readHeader(file, classLoader)).filter(Objects::nonNull).collect(Collectors.toList());
+    this.headerMap = new HashMap<>(headers.size());
+    this.subclassMap = new HashMap<>();
+    this.implementorMap = new HashMap<>();
+    this.annotatedMap = new HashMap<>();
+    for (ClassFileHeader header : headers) {
+      String name = header.getName();
+      this.headerMap.put(name, header);
+      String superName = header.getSuperName();
+      if (superName != null) {
+        add(this.subclassMap, superName, name);
+      }
+      for (String interfaceName : header.getInterfaceNames()) {
+        add(this.implementorMap, interfaceName, name);
+      }
+      for (String annotationName : header.getAnnotationNames()) {
+        add(this.annotatedMap, annotationName, name);
+      }
+    }
+  }
+
+  private static void add(Map<String, List<String>> map, String key, String value) {
+
+    List<String> list = map.get(key);
+    if (list == null) {
+      list = new ArrayList<>();
+      map.put(key, list);
+    }
+    list.add(value);
+  }
+
+  private static ClassFileHeader readHeader(ClasspathFile file, ClassLoader classLoader) {
+
+    URL url = file.getUrl(classLoader);
+    if (url == null) {
+      LOG.warn("Class file {} not found by class-loader {}.", file.getPath(), classLoader);
+      return null;
+    }
+    try (InputStream inputStream = new BufferedInputStream(url.openStream())) {
+      return ClassFileHeader.read(inputStream);
+    } catch (IOException | RuntimeException e) {
+      LOG.warn("Failed to read class file {}: {}", url, e.toString());
+      return null;
+    }
+  }
+
+  /**
+   * @param typeName the {@link Class#getName() qualified name} of the class or interface.
+   * @return the {@link Class#getName() qualified names} of all classes and interfaces that directly or indirectly
+   *         extend or implement the given type.
+   */
+  Set<String> getSubtypeNames(String typeName) {
+
+    Set<String> result = new TreeSet<>();
+    Deque<String> queue = new ArrayDeque<>();
+    queue.add(typeName);
+    while (!queue.isEmpty()) {
+      String name = queue.poll();
+      collect(this.subclassMap.get(name), result, queue);
+      collect(this.implementorMap.get(name), result, queue);
+    }
+    return Collections.unmodifiableSet(result);
+  }
+
+  /**
+   * @param annotationName the {@link Class#getName() qualified name} of the annotation.
+   * @param inherited - {@code true} if the annotation is {@link java.lang.annotation.Inherited} so sub-classes of
+   *        annotated classes shall be included, {@code false} otherwise.
+   * @return the {@link Class#getName() qualified names} of all classes annotated with the given annotation.
+   */
+  Set<String> getAnnotatedClassNames(String annotationName, boolean inherited) {
+
+    List<String> annotated = this.annotatedMap.get(annotationName);
+    if (annotated == null) {
+      return Collections.emptySet();
+    }
+    Set<String> result = new TreeSet<>(annotated);
+    if (inherited) {
+      Deque<String> queue = new ArrayDeque<>();
+      for (String name : annotated) {
+        ClassFileHeader header = this.headerMap.get(name);
+        if ((header != null) && !header.isInterface()) {
+          queue.add(name);
+        }
+      }
+      Set<String> visited = new HashSet<>(queue);
+      while (!queue.isEmpty()) {
+        List<String> subclasses = this.subclassMap.get(queue.poll());
+        if (subclasses != null) {
+          for (String subclass : subclasses) {
+            if (visited.add(subclass)) {
+              result.add(subclass);
+              queue.add(subclass);
+            }
+          }
+        }
+      }
+    }
+    return Collections.unmodifiableSet(result);
+  }
+
+  private static void collect(List<String> names, Set<String> result, Deque<String> queue) {
+
+    if (names != null) {
+      for (String name : names) {
+        if (result.add(name)) {
+          queue.add(name);
+        }
+      }
+    }
+  }
+
+}
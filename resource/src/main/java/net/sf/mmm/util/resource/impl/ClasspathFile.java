@@ -60,8 +60,18 @@ class ClasspathFile extends AbstractBrowsableClasspathResource {
   @Override
   public URL getUrl() throws ResourceNotAvailableException {
 
+    return getUrl(Thread.currentThread().getContextClassLoader());
+  }
+
+  /**
+   * @param classLoader is the {@link ClassLoader} used to resolve the {@link URL} if not already available. Allows to
+   *        resolve the {@link URL} from a {@link Thread} that may have a different context {@link ClassLoader}.
+   * @return the {@link URL} of this file.
+   */
+  URL getUrl(ClassLoader classLoader) {
+
     if (this.url == null) {
-      this.url = Thread.currentThread().getContextClassLoader().getResource(getPath());
+      this.url = classLoader.getResource(getPath());
     }
     return this.url;
   }
@@ -2,7 +2,10 @@
  * http://www.apache.org/licenses/LICENSE-2.0 */
 package net.sf.mmm.util.resource.impl;
 
+import java.lang.annotation.Annotation;
+import java.lang.annotation.Inherited;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Set;
@@ -85,7 +88,7 @@ public class ClasspathScannerImpl extends AbstractClasspathScanner {
 
     if (this.cache == null) {
       ClasspathFolder rootFolder = new ClasspathFolder(null, "");
-      Set<String> resourceNames = this.reflectionUtil.findResourceNames("", true, ConstantFilter.getInstance(true));
+      Collection<String> resourceNames = scanResourceNames();
       List<ClasspathFile> fileList = new ArrayList<>(resourceNames.size());
       for (String resource : resourceNames) {
         ResourcePathNode<Void> path = ResourcePathNode.create(resource);
@@ -98,6 +101,19 @@ public class ClasspathScannerImpl extends AbstractClasspathScanner {
     }
   }
 
+  /**
+   * Scans the entire classpath for the names of all resources. Override to change the way the classpath is
+   * scanned (e.g. in parallel or from an index).
+   *
+   * @return the {@link Collection} with the qualified names of all resources (e.g.
+   *         "net/sf/mmm/util/resource/impl/ClasspathScannerImpl.class") on the classpath.
+   * @since 8.7.1
+   */
+  protected Collection<String> scanResourceNames() {
+
+    return this.reflectionUtil.findResourceNames("", true, ConstantFilter.getInstance(true));
+  }
+
   @Override
   public synchronized void clearCaches() {
 
@@ -154,6 +170,19 @@ public class ClasspathScannerImpl extends AbstractClasspathScanner {
     return new ClassIterable(getCache().getClasspathResourceFiles(), classnameFilter, classFilter);
   }
 
+  @Override
+  public Set<String> getSubtypeNames(Class<?> type) {
+
+    return getCache().getClassFileIndex().getSubtypeNames(type.getName());
+  }
+
+  @Override
+  public Set<String> getAnnotatedClassNames(Class<? extends Annotation> annotationType) {
+
+    return getCache().getClassFileIndex().getAnnotatedClassNames(annotationType.getName(),
+        annotationType.isAnnotationPresent(Inherited.class));
+  }
+
   @Override
   public String getQualifiedName(DataResource classResource) throws IllegalArgumentException {
 
@@ -185,6 +214,8 @@ public class ClasspathScannerImpl extends AbstractClasspathScanner {
 
     private final List<ClasspathFile> classpathResourceFiles;
 
+    private volatile ClassFileIndex classFileIndex;
+
     /**
      * The constructor.
      *
@@ -214,6 +245,25 @@ public class ClasspathScannerImpl extends AbstractClasspathScanner {
 
       return this.classpathResourceFiles;
     }
+
+    /**
+     * @return the {@link ClassFileIndex} of all {@link #getClasspathResourceFiles() class files}. Will be created
+     *         lazily.
+     */
+    ClassFileIndex getClassFileIndex() {
+
+      ClassFileIndex index = this.classFileIndex;
+      if (index == null) {
+        synchronized (this) {
+          index = this.classFileIndex;
+          if (index == null) {
+            index = new ClassFileIndex(this.classpathResourceFiles);
+            this.classFileIndex = index;
+          }
+        }
+      }
+      return index;
+    }
   }
 
 }
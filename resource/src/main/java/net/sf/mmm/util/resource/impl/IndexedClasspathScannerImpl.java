@@ -0,0 +1,484 @@
+/* Copyright (c) The m-m-m Team, Licensed under the Apache License, Version 2.0
+ * http://www.apache.org/licenses/LICENSE-2.0 */
+package net.sf.mmm.util.resource.impl;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import net.sf.mmm.util.lang.api.BasicHelper;
+
+/**
+ * This is an extension of {@link ClasspathScannerImpl} that scans the roots of the classpath (JAR files and
+ * directories) in parallel using a {@link ForkJoinPool}. The resource names of each JAR file are kept in an index that
+ * survives {@link #clearCaches()} and can be {@link #setIndexFile(Path) persisted} to a local file. A JAR file is only
+ * rescanned if its size or last modification time has changed. Directories are always rescanned as changes deep inside
+ * the tree are not reflected by the modification time of the directory itself.
+ *
+ * @author Joerg Hohwiller (hohwille at users.sourceforge.net)
+ * @since 8.7.1
+ */
+public class IndexedClasspathScannerImpl extends ClasspathScannerImpl {
+
+  private static final Logger LOG = LoggerFactory.getLogger(IndexedClasspathScannerImpl.class);
+
+  /** The magic number at the beginning of the {@link #getIndexFile() index file}. */
+  private static final int INDEX_MAGIC = 0x6D6D6D43;
+
+  /** The version of the format of the {@link #getIndexFile() index file}. */
+  private static final int INDEX_VERSION = 1;
+
+  private static final String FILE_EXTENSION_JAR = ".jar";
+
+  private static final String FILE_EXTENSION_ZIP = ".zip";
+
+  private static final String WEB_INF_CLASSES = "WEB-INF/classes/";
+
+  private static final String[] NO_NAMES = new String[0];
+
+  private final Map<Path, RootIndex> rootIndexMap;
+
+  private Path indexFile;
+
+  private ForkJoinPool forkJoinPool;
+
+  private ClassLoader classLoader;
+
+  private boolean indexLoaded;
+
+  /**
+   * The constructor.
+   */
+  public IndexedClasspathScannerImpl() {
+
+    super();
+    this.rootIndexMap = new HashMap<>();
+  }
+
+  /**
+   * @return the {@link Path} to the file where the index is persisted or {@code null} if the index is only kept in
+   *         memory.
+   */
+  public Path getIndexFile() {
+
+    return this.indexFile;
+  }
+
+  /**
+   * @param indexFile is the {@link Path} to the file where the index shall be persisted. It is read on the first scan
+   *        and rewritten whenever a JAR file has been added, changed or removed.
+   */
+  public void setIndexFile(Path indexFile) {
+
+    getInitializationState().requireNotInitilized();
+    this.indexFile = indexFile;
+  }
+
+  /**
+   * @return the {@link ForkJoinPool} used to scan the classpath.
+   */
+  public ForkJoinPool getForkJoinPool() {
+
+    return this.forkJoinPool;
+  }
+
+  /**
+   * @param forkJoinPool is the {@link ForkJoinPool} to use. Defaults to {@link ForkJoinPool#commonPool()}.
+   */
+  public void setForkJoinPool(ForkJoinPool forkJoinPool) {
+
+    getInitializationState().requireNotInitilized();
+    this.forkJoinPool = forkJoinPool;
+  }
+
+  /**
+   * @param classLoader is the {@link ClassLoader} whose classpath shall be scanned. Defaults to the
+   *        {@link Thread#getContextClassLoader() context class loader}.
+   */
+  public void setClassLoader(ClassLoader classLoader) {
+
+    getInitializationState().requireNotInitilized();
+    this.classLoader = classLoader;
+  }
+
+  @Override
+  protected void doInitialize() {
+
+    super.doInitialize();
+    if (this.forkJoinPool == null) {
+      this.forkJoinPool = ForkJoinPool.commonPool();
+    }
+    if (this.classLoader == null) {
+      this.classLoader = Thread.currentThread().getContextClassLoader();
+      if (this.classLoader == null) {
+        this.classLoader = IndexedClasspathScannerImpl.class.getClassLoader();
+      }
+    }
+  }
+
+  @Override
+  protected Collection<String> scanResourceNames() {
+
+    if (!this.indexLoaded) {
+      this.indexLoaded = true;
+      loadIndex();
+    }
+    Set<Path> roots = findRoots();
+    List<RootScanTask> tasks = new ArrayList<>(roots.size());
+    for (Path root : roots) {
+      RootScanTask task = new RootScanTask(root, this.rootIndexMap.get(root));
+      this.forkJoinPool.execute(task);
+      tasks.add(task);
+    }
+    boolean modified = this.rootIndexMap.keySet().retainAll(roots);
+    Set<String> resourceNames = new LinkedHashSet<>();
+    for (RootScanTask task : tasks) {
+      RootIndex rootIndex = task.join();
+      if ((rootIndex != task.previousIndex) && rootIndex.isJar()) {
+        modified = true;
+      }
+      this.rootIndexMap.put(rootIndex.root, rootIndex);
+      resourceNames.addAll(Arrays.asList(rootIndex.names));
+    }
+    if (modified && (this.indexFile != null)) {
+      saveIndex();
+    }
+    return resourceNames;
+  }
+
+  /**
+   * @return the {@link Set} with the {@link Path}s of the existing classpath roots (JAR files and directories).
+   */
+  protected Set<Path> findRoots() {
+
+    Set<Path> roots = new LinkedHashSet<>();
+    try {
+      Enumeration<URL> urls = this.classLoader.getResources("");
+      while (urls.hasMoreElements()) {
+        addRoot(urls.nextElement(), roots);
+      }
+    } catch (IOException e) {
+      throw new IllegalStateException("Error reading resources.", e);
+    }
+    ClassLoader loader = this.classLoader;
+    while (loader != null) {
+      if (loader instanceof URLClassLoader) {
+        for (URL url : ((URLClassLoader) loader).getURLs()) {
+          addRoot(url, roots);
+        }
+      }
+      loader = loader.getParent();
+    }
+    String classpath = System.getProperty("java.class.path");
+    if (classpath != null) {
+      for (String entry : classpath.split(System.getProperty("path.separator"))) {
+        if (!entry.isEmpty()) {
+          addRoot(Paths.get(entry), roots);
+        }
+      }
+    }
+    return roots;
+  }
+
+  private static void addRoot(URL url, Set<Path> roots) {
+
+    if ("file".equalsIgnoreCase(url.getProtocol())) {
+      try {
+        addRoot(Paths.get(url.toURI()), roots);
+      } catch (URISyntaxException | IllegalArgumentException e) {
+        LOG.debug("Ignoring classpath entry {}: {}", url, e.toString());
+      }
+    } else {
+      LOG.debug("Ignoring classpath entry {} with unsupported protocol.", url);
+    }
+  }
+
+  private static void addRoot(Path path, Set<Path> roots) {
+
+    Path root = path.toAbsolutePath().normalize();
+    if (Files.exists(root)) {
+      roots.add(root);
+    }
+  }
+
+  /**
+   * Loads the {@link #getIndexFile() index file} if it exists. A corrupt or incompatible index is ignored.
+   */
+  private void loadIndex() {
+
+    if ((this.indexFile == null) || !Files.isRegularFile(this.indexFile)) {
+      return;
+    }
+    try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(this.indexFile)))) {
+      if ((in.readInt() != INDEX_MAGIC) || (in.readInt() != INDEX_VERSION)) {
+        LOG.info("Ignoring classpath index {} with incompatible format.", this.indexFile);
+        return;
+      }
+      int rootCount = in.readInt();
+      for (int i = 0; i < rootCount; i++) {
+        RootIndex rootIndex = RootIndex.read(in);
+        this.rootIndexMap.put(rootIndex.root, rootIndex);
+      }
+      LOG.debug("Loaded classpath index {} with {} root(s).", this.indexFile, Integer.valueOf(rootCount));
+    } catch (IOException | RuntimeException e) {
+      LOG.warn("Ignoring corrupt classpath index {}: {}", this.indexFile, e.toString());
+      this.rootIndexMap.clear();
+    }
+  }
+
+  /**
+   * Writes the index of all JAR files to the {@link #getIndexFile() index file}.
+   */
+  private void saveIndex() {
+
+    List<RootIndex> jars = new ArrayList<>();
+    for (RootIndex rootIndex : this.rootIndexMap.values()) {
+      if (rootIndex.isJar()) {
+        jars.add(rootIndex);
+      }
+    }
+    try {
+      Path folder = this.indexFile.toAbsolutePath().getParent();
+      if (folder != null) {
+        Files.createDirectories(folder);
+      }
+      Path tempFile = this.indexFile.resolveSibling(this.indexFile.getFileName() + ".tmp");
+      try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tempFile)))) {
+        out.writeInt(INDEX_MAGIC);
+        out.writeInt(INDEX_VERSION);
+        out.writeInt(jars.size());
+        for (RootIndex rootIndex : jars) {
+          rootIndex.write(out);
+        }
+      }
+      Files.move(tempFile, this.indexFile, StandardCopyOption.REPLACE_EXISTING);
+    } catch (IOException e) {
+      LOG.warn("Failed to write classpath index {}: {}", this.indexFile, e.toString());
+    }
+  }
+
+  /**
+   * The index of a single classpath root (JAR file or directory).
+   */
+  private static final class RootIndex {
+
+    private final Path root;
+
+    /** The size of the JAR file or {@code -1} for a directory. */
+    private final long size;
+
+    private final long lastModified;
+
+    /** The sorted resource names. */
+    private final String[] names;
+
+    private RootIndex(Path root, long size, long lastModified, String[] names) {
+
+      super();
+      this.root = root;
+      this.size = size;
+      this.lastModified = lastModified;
+      this.names = names;
+    }
+
+    private boolean isJar() {
+
+      return (this.size >= 0);
+    }
+
+    /**
+     * Writes this index with the {@link #names} front-coded (length of the prefix shared with the previous name
+     * followed by the remaining suffix).
+     *
+     * @param out the {@link DataOutputStream} to write to.
+     * @throws IOException on I/O error.
+     */
+    private void write(DataOutputStream out) throws IOException {
+
+      out.writeUTF(this.root.toString());
+      out.writeLong(this.size);
+      out.writeLong(this.lastModified);
+      out.writeInt(this.names.length);
+      String previous = "";
+      for (String name : this.names) {
+        int max = Math.min(previous.length(), name.length());
+        int shared = 0;
+        while ((shared < max) && (previous.charAt(shared) == name.charAt(shared))) {
+          shared++;
+        }
+        out.writeShort(shared);
+        out.writeUTF(name.substring(shared));
+        previous = name;
+      }
+    }
+
+    private static RootIndex read(DataInputStream in) throws IOException {
+
+      Path root = Paths.get(in.readUTF());
+      long size = in.readLong();
+      long lastModified = in.readLong();
+      String[] names = new String[in.readInt()];
+      String previous = "";
+      for (int i = 0; i < names.length; i++) {
+        int shared = in.readUnsignedShort();
+        String name = previous.substring(0, shared) + in.readUTF();
+        names[i] = name;
+        previous = name;
+      }
+      return new RootIndex(root, size, lastModified, names);
+    }
+  }
+
+  /**
+   * {@link RecursiveTask} to get the {@link RootIndex} of a single classpath root.
+   */
+  private static final class RootScanTask extends RecursiveTask<RootIndex> {
+
+    private static final long serialVersionUID = 1L;
+
+    private final Path root;
+
+    private final RootIndex previousIndex;
+
+    private RootScanTask(Path root, RootIndex previousIndex) {
+
+      super();
+      this.root = root;
+      this.previousIndex = previousIndex;
+    }
+
+    @Override
+    protected RootIndex compute() {
+
+      try {
+        BasicFileAttributes attributes = Files.readAttributes(this.root, BasicFileAttributes.class);
+        long lastModified = attributes.lastModifiedTime().toMillis();
+        String[] names;
+        if (attributes.isDirectory()) {
+          List<String> nameList = new DirectoryScanTask(this.root, "").compute();
+          names = nameList.toArray(new String[nameList.size()]);
+          Arrays.sort(names);
+          return new RootIndex(this.root, -1, lastModified, names);
+        }
+        long size = attributes.size();
+        if ((this.previousIndex != null) && (this.previousIndex.size == size)
+            && (this.previousIndex.lastModified == lastModified)) {
+          return this.previousIndex;
+        }
+        if (isArchive(this.root)) {
+          names = scanArchive(this.root);
+        } else {
+          names = NO_NAMES;
+        }
+        return new RootIndex(this.root, size, lastModified, names);
+      } catch (IOException e) {
+        LOG.warn("Failed to scan classpath entry {}: {}", this.root, e.toString());
+        return new RootIndex(this.root, -1, 0, NO_NAMES);
+      }
+    }
+
+    private static boolean isArchive(Path file) {
+
+      String name = BasicHelper.toLowerCase(file.getFileName().toString());
+      return name.endsWith(FILE_EXTENSION_JAR) || name.endsWith(FILE_EXTENSION_ZIP);
+    }
+
+    private static String[] scanArchive(Path file) throws IOException {
+
+      List<String> nameList = new ArrayList<>();
+      try (ZipFile zipFile = new ZipFile(file.toFile())) {
+        Enumeration<? extends ZipEntry> entries = zipFile.entries();
+        while (entries.hasMoreElements()) {
+          ZipEntry entry = entries.nextElement();
+          if (!entry.isDirectory()) {
+            String name = entry.getName();
+            if (name.startsWith("/")) {
+              name = name.substring(1);
+            }
+            if (name.startsWith(WEB_INF_CLASSES)) {
+              name = name.substring(WEB_INF_CLASSES.length());
+            }
+            nameList.add(name);
+          }
+        }
+      }
+      String[] names = nameList.toArray(new String[nameList.size()]);
+      Arrays.sort(names);
+      return names;
+    }
+  }
+
+  /**
+   * {@link RecursiveTask} to collect the resource names of a directory. Sub-directories are scanned in parallel.
+   */
+  private static final class DirectoryScanTask extends RecursiveTask<List<String>> {
+
+    private static final long serialVersionUID = 1L;
+
+    private final Path directory;
+
+    private final String prefix;
+
+    private DirectoryScanTask(Path directory, String prefix) {
+
+      super();
+      this.directory = directory;
+      this.prefix = prefix;
+    }
+
+    @Override
+    protected List<String> compute() {
+
+      List<String> names = new ArrayList<>();
+      List<DirectoryScanTask> subTasks = new ArrayList<>();
+      try (DirectoryStream<Path> stream = Files.newDirectoryStream(this.directory)) {
+        for (Path child : stream) {
+          String childName = this.prefix + child.getFileName().toString();
+          if (Files.isDirectory(child)) {
+            subTasks.add(new DirectoryScanTask(child, childName + "/"));
+          } else {
+            names.add(childName);
+          }
+        }
+      } catch (IOException e) {
+        LOG.warn("Failed to scan classpath directory {}: {}", this.directory, e.toString());
+      }
+      if (!subTasks.isEmpty()) {
+        ForkJoinTask.invokeAll(subTasks);
+        for (DirectoryScanTask subTask : subTasks) {
+          names.addAll(subTask.join());
+        }
+      }
+      return names;
+    }
+  }
+
+}
@@ -10,6 +10,7 @@ import java.util.Set;
 
 import org.assertj.core.api.Assertions;
 import org.junit.Test;
+import org.springframework.context.annotation.Configuration;
 
 import net.sf.mmm.test.ExceptionHelper;
 import net.sf.mmm.util.filter.api.Filter;
@@ -22,6 +23,9 @@ import net.sf.mmm.util.resource.api.ResourcePathNode;
 import net.sf.mmm.util.resource.api.ResourceUriUndefinedException;
 import net.sf.mmm.util.resource.impl.AbstractClasspathScanner;
 import net.sf.mmm.util.resource.impl.ClasspathScannerImpl;
+import net.sf.mmm.util.resource.impl.IndexedClasspathScannerImpl;
+import net.sf.mmm.util.resource.impl.spring.UtilResourceSpringConfig;
+import net.sf.mmm.util.resource.impl.spring.UtilResourceSpringConfigBase;
 
 /**
  * Test-case for {@link ClasspathScanner}.
@@ -192,6 +196,36 @@ public class ClasspathScannerTest extends Assertions {
     assertThat(classes).containsExactlyInAnyOrder(ResourceNotAvailableException.class, ResourceNotWritableException.class, ResourceUriUndefinedException.class);
   }
 
+  /** Test of {@link ClasspathScanner#getSubtypeNames(Class)}. */
+  @Test
+  public void testGetSubtypeNames() {
+
+    // given
+    ClasspathScanner scanner = getClasspathScanner();
+    // when
+    Set<String> subtypeNames = scanner.getSubtypeNames(ClasspathScanner.class);
+    // then
+    assertThat(subtypeNames).contains(AbstractClasspathScanner.class.getName(), ClasspathScannerImpl.class.getName(),
+        IndexedClasspathScannerImpl.class.getName());
+    assertThat(subtypeNames).doesNotContain(ClasspathScanner.class.getName(), ClasspathScannerTest.class.getName());
+    assertThat(scanner.getSubtypeNames(IndexedClasspathScannerImpl.class)).isEmpty();
+  }
+
+  /** Test of {@link ClasspathScanner#getAnnotatedClassNames(Class)}. */
+  @Test
+  public void testGetAnnotatedClassNames() {
+
+    // given
+    ClasspathScanner scanner = getClasspathScanner();
+    // when
+    Set<String> annotatedClassNames = scanner.getAnnotatedClassNames(Configuration.class);
+    // then
+    assertThat(annotatedClassNames).contains(UtilResourceSpringConfig.class.getName(),
+        UtilResourceSpringConfigBase.class.getName());
+    assertThat(annotatedClassNames).doesNotContain(ClasspathScannerImpl.class.getName());
+    assertThat(scanner.getAnnotatedClassNames(Test.class)).isEmpty();
+  }
+
   /** Test of {@link ClasspathScanner#getClasspathResourceFiles(Filter)}. */
   @Test
   public void testGetClasspathResourceFiles() {
@@ -0,0 +1,98 @@
+/* Copyright (c) The m-m-m Team, Licensed under the Apache License, Version 2.0
+ * http://www.apache.org/licenses/LICENSE-2.0 */
+package net.sf.mmm.util.resource.impl;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.assertj.core.api.Assertions;
+import org.junit.Test;
+
+import net.sf.mmm.util.resource.api.BrowsableResource;
+
+/**
+ * This is the test-case for {@link IndexedClasspathScannerImpl}.
+ *
+ * @author Joerg Hohwiller (hohwille at users.sourceforge.net)
+ */
+public class IndexedClasspathScannerTest extends Assertions {
+
+  private static final String CLASSPATH_SCANNER_IMPL_CLASS = "net/sf/mmm/util/resource/impl/ClasspathScannerImpl.class";
+
+  private static final String CLASSPATH_LOGBACK_XML = "logback.xml";
+
+  private static IndexedClasspathScannerImpl createScanner(Path indexFile) {
+
+    IndexedClasspathScannerImpl scanner = new IndexedClasspathScannerImpl();
+    scanner.setIndexFile(indexFile);
+    scanner.initialize();
+    return scanner;
+  }
+
+  private static Set<String> getPaths(IndexedClasspathScannerImpl scanner) {
+
+    Set<String> paths = new HashSet<>();
+    for (BrowsableResource resource : scanner.getClasspathResourceFiles()) {
+      paths.add(resource.getPath());
+    }
+    return paths;
+  }
+
+  /** Test that the indexed scan finds the same resources as the regular {@link ClasspathScannerImpl}. */
+  @Test
+  public void testScanMatchesClasspathScannerImpl() {
+
+    // given
+    IndexedClasspathScannerImpl scanner = createScanner(null);
+    ClasspathScannerImpl regularScanner = new ClasspathScannerImpl();
+    regularScanner.initialize();
+    Set<String> expectedPaths = new HashSet<>();
+    for (BrowsableResource resource : regularScanner.getClasspathResourceFiles()) {
+      expectedPaths.add(resource.getPath());
+    }
+    // when
+    Set<String> paths = getPaths(scanner);
+    // then
+    assertThat(paths).contains(CLASSPATH_SCANNER_IMPL_CLASS, CLASSPATH_LOGBACK_XML);
+    assertThat(paths).containsAll(expectedPaths);
+    assertThat(scanner.getClasspathResource(CLASSPATH_SCANNER_IMPL_CLASS).isData()).isTrue();
+  }
+
+  /** Test that the index is persisted, reused and rewritten if corrupt. */
+  @Test
+  public void testPersistentIndex() throws Exception {
+
+    // given
+    Path indexFile = Files.createTempFile("mmm-classpath", ".idx");
+    Files.delete(indexFile);
+    try {
+      IndexedClasspathScannerImpl scanner = createScanner(indexFile);
+      // when
+      Set<String> paths = getPaths(scanner);
+      // then
+      assertThat(indexFile).exists();
+      FileTime indexTime = Files.getLastModifiedTime(indexFile);
+
+      // when (rescan with unchanged classpath)
+      scanner.clearCaches();
+      // then
+      assertThat(getPaths(scanner)).isEqualTo(paths);
+      assertThat(Files.getLastModifiedTime(indexFile)).isEqualTo(indexTime);
+
+      // when (cold start from persisted index)
+      // then
+      assertThat(getPaths(createScanner(indexFile))).isEqualTo(paths);
+
+      // when (corrupt index)
+      Files.write(indexFile, new byte[] { 1, 2, 3 });
+      // then
+      assertThat(getPaths(createScanner(indexFile))).isEqualTo(paths);
+    } finally {
+      Files.deleteIfExists(indexFile);
+    }
+  }
+
+}
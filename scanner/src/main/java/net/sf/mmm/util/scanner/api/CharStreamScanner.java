@@ -161,6 +161,25 @@ public interface CharStreamScanner {
    */
   boolean expect(String expected, boolean ignoreCase);
 
+  /**
+   * Like {@link #expect(String, boolean)} but for any {@link CharSequence} such as a {@link StringBuilder}. <br>
+   * <b>ATTENTION:</b><br>
+   * Do NOT pass a view returned by e.g. {@link #readWhileView(CharFilter)} directly. Such a view is only valid until
+   * the next read operation and this method may itself fill the buffer the view points to. Copy the view first (e.g.
+   * via {@link Object#toString()} or {@code new StringBuilder(view)}) to match a closing token against an opening
+   * token.
+   *
+   * @param expected is the expected {@link CharSequence}.
+   * @param ignoreCase - if {@code true} the case of the characters is ignored when compared.
+   * @return {@code true} if the {@code expected} characters were successfully consumed from this scanner,
+   *         {@code false} otherwise.
+   * @since 8.7.1
+   */
+  default boolean expect(CharSequence expected, boolean ignoreCase) {
+
+    return expect(expected.toString(), ignoreCase);
+  }
+
   /**
    * This method acts as {@link #expect(String, boolean)} but if the expected String is NOT completely
    * present, no character is {@link #next() consumed} and the state of the scanner remains unchanged.<br>
@@ -265,6 +284,24 @@ public interface CharStreamScanner {
    */
   String readUntil(char stop, boolean acceptEot);
 
+  /**
+   * Like {@link #readUntil(char, boolean)} but returns a view on the internal buffer instead of creating a new
+   * {@link String} whenever possible. <br>
+   * <b>ATTENTION:</b><br>
+   * The returned {@link CharSequence} is only valid until the next read operation on this scanner. Call
+   * {@link Object#toString() toString()} if you need to keep the result.
+   *
+   * @param stop is the character to read until.
+   * @param acceptEot if {@code true} {@link #isEot() EOT} will be treated as {@code stop}, too.
+   * @return the {@link CharSequence} with all read characters excluding the {@code stop} character or
+   *         {@code null} if there was no {@code stop} character and {@code acceptEot} is {@code false}.
+   * @since 8.7.1
+   */
+  default CharSequence readUntilView(char stop, boolean acceptEot) {
+
+    return readUntil(stop, acceptEot);
+  }
+
   /**
    * This method reads all {@link #next() next characters} until the first character
    * {@link CharFilter#accept(char) accepted} by the given {@code filter} or the end is reached. <br>
@@ -455,6 +492,42 @@ public interface CharStreamScanner {
    */
   String readWhile(CharFilter filter, int max);
 
+  /**
+   * Like {@link #readWhile(CharFilter)} but returns a view on the internal buffer instead of creating a new
+   * {@link String} whenever possible. <br>
+   * <b>ATTENTION:</b><br>
+   * The returned {@link CharSequence} is only valid until the next read operation on this scanner. Call
+   * {@link Object#toString() toString()} if you need to keep the result.
+   *
+   * @param filter is used to {@link CharFilter#accept(char) decide} which characters should be accepted.
+   * @return a {@link CharSequence} with all characters {@link CharFilter#accept(char) accepted} by the given
+   *         {@code filter}. Will be empty if no character was accepted.
+   * @since 8.7.1
+   */
+  default CharSequence readWhileView(CharFilter filter) {
+
+    return readWhile(filter);
+  }
+
+  /**
+   * Like {@link #readWhile(CharFilter, int)} but returns a view on the internal buffer instead of creating a
+   * new {@link String} whenever possible. <br>
+   * <b>ATTENTION:</b><br>
+   * The returned {@link CharSequence} is only valid until the next read operation on this scanner. Call
+   * {@link Object#toString() toString()} if you need to keep the result.
+   *
+   * @param filter is used to {@link CharFilter#accept(char) decide} which characters should be accepted.
+   * @param max is the maximum number of characters that should be read.
+   * @return a {@link CharSequence} with all characters {@link CharFilter#accept(char) accepted} by the given
+   *         {@code filter} limited to the length of {@code max} and the {@link #hasNext() end} of this scanner.
+   *         Will be empty if no character was accepted.
+   * @since 8.7.1
+   */
+  default CharSequence readWhileView(CharFilter filter, int max) {
+
+    return readWhile(filter, max);
+  }
+
   /**
    * This method skips the number of {@link #next() next characters} given by {@code count}.
    *
@@ -600,6 +673,25 @@ public interface CharStreamScanner {
    */
   String readLine(boolean trim);
 
+  /**
+   * Like {@link #readLine(boolean)} but returns a view on the internal buffer instead of creating a new
+   * {@link String} whenever possible. <br>
+   * <b>ATTENTION:</b><br>
+   * The returned {@link CharSequence} is only valid until the next read operation on this scanner. Call
+   * {@link Object#toString() toString()} if you need to keep the result.
+   *
+   * @param trim - {@code true} if the result should be {@link String#trim() trimmed}, {@code false}
+   *        otherwise.
+   * @return a {@link CharSequence} with the data until the end of the current line or {@link #isEot() EOT}.
+   *         Will be {@code null} if the EOT has already been reached and {@link #hasNext()} returns
+   *         {@code false}.
+   * @since 8.7.1
+   */
+  default CharSequence readLineView(boolean trim) {
+
+    return readLine(trim);
+  }
+
   /**
    * Reads and parses a Java {@link String} literal value according to JLS 3.10.6. <br>
    * As a complex example for the input "Hi \"\176\477\579\u2022\uuuuu2211\"\n" this scanner would return the
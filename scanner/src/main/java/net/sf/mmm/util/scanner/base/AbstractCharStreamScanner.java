@@ -73,6 +73,12 @@ public abstract class AbstractCharStreamScanner implements CharStreamScanner {
     return readWhile(filter, Integer.MAX_VALUE);
   }
 
+  @Override
+  public CharSequence readWhileView(CharFilter filter) {
+
+    return readWhileView(filter, Integer.MAX_VALUE);
+  }
+
   @Override
   public String readUntil(CharFilter filter, boolean acceptEof, String stop) {
 
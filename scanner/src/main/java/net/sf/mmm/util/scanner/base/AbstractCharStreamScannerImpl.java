@@ -143,6 +143,44 @@ public abstract class AbstractCharStreamScannerImpl extends AbstractCharStreamSc
     }
   }
 
+  /**
+   * @param builder the local {@link StringBuilder} instance where data may already have been appended to. May
+   *        be {@code null}.
+   * @param start the start index in the underlying buffer.
+   * @param end the limit index in the underlying buffer pointing to the next position after the last
+   *        character.
+   * @return a {@link CharArrayView} on the underlying buffer data from {@code start} to {@code end-1} or the
+   *         given {@link StringBuilder} with that data appended if not {@code null} (in case the data spans
+   *         multiple buffers).
+   */
+  protected CharSequence getView(StringBuilder builder, int start, int end) {
+
+    if (builder != null) {
+      return append(builder, start, end);
+    }
+    if (end <= start) {
+      return "";
+    }
+    return new CharArrayView(this.buffer, start, end);
+  }
+
+  /**
+   * @param builder the optional {@link StringBuilder} where data may have already been appended.
+   * @param acceptEot {@code true} to accept {@link #isEot() EOT}, {@code false} otherwise.
+   * @return {@code null} if {@code acceptEot} is {@code false}, otherwise the given {@link StringBuilder} or the
+   *         empty {@link String} in case the {@link StringBuilder} was {@code null}.
+   */
+  private static CharSequence eotView(StringBuilder builder, boolean acceptEot) {
+
+    if (acceptEot) {
+      if (builder == null) {
+        return "";
+      }
+      return builder;
+    }
+    return null;
+  }
+
   @Override
   public boolean hasNext() {
 
@@ -261,6 +299,31 @@ public abstract class AbstractCharStreamScannerImpl extends AbstractCharStreamSc
     }
   }
 
+  @Override
+  public CharSequence readUntilView(char stop, boolean acceptEot) {
+
+    StringBuilder builder = null;
+    while (true) {
+      int start = this.offset;
+      while (this.offset < this.limit) {
+        char c = this.buffer[this.offset++];
+        if (c == stop) {
+          return getView(builder, start, this.offset - 1);
+        }
+      }
+      if (isEob()) {
+        if (acceptEot) {
+          return getView(builder, start, this.limit);
+        }
+        return null;
+      }
+      builder = append(builder, start, this.limit);
+      if (!fill()) {
+        return eotView(builder, acceptEot);
+      }
+    }
+  }
+
   @Override
   public String readUntil(final char stop, boolean acceptEot, CharScannerSyntax syntax) {
 
@@ -495,7 +558,7 @@ public abstract class AbstractCharStreamScannerImpl extends AbstractCharStreamSc
   }
 
   @Override
-  public boolean expect(String expected, boolean ignoreCase) {
+  public boolean expect(CharSequence expected, boolean ignoreCase) {
 
     int len = expected.length();
     for (int i = 0; i < len; i++) {
@@ -517,6 +580,12 @@ public abstract class AbstractCharStreamScannerImpl extends AbstractCharStreamSc
     return true;
   }
 
+  @Override
+  public boolean expect(String expected, boolean ignoreCase) {
+
+    return expect((CharSequence) expected, ignoreCase);
+  }
+
   @Override
   public String readLine(boolean trim) {
 
@@ -565,6 +634,48 @@ public abstract class AbstractCharStreamScannerImpl extends AbstractCharStreamSc
     }
   }
 
+  @Override
+  public CharSequence readLineView(boolean trim) {
+
+    if (!hasNext()) {
+      return null;
+    }
+    if (trim) {
+      skipWhile(' ');
+    }
+    int end = this.offset;
+    while ((end < this.limit) && (this.buffer[end] != '\n') && (this.buffer[end] != '\r')) {
+      end++;
+    }
+    int next;
+    if (end < this.limit) {
+      next = end + 1;
+      if (this.buffer[end] == '\r') {
+        if (next < this.limit) {
+          if (this.buffer[next] == '\n') {
+            next++;
+          }
+        } else if (!isEob()) {
+          // need next buffer to check for CRLF
+          return readLine(trim);
+        }
+      }
+    } else if (isEob()) {
+      next = end;
+    } else {
+      // line spans multiple buffers
+      return readLine(trim);
+    }
+    int start = this.offset;
+    if (trim) {
+      while ((end > start) && (this.buffer[end - 1] == ' ')) {
+        end--;
+      }
+    }
+    this.offset = next;
+    return getView(null, start, end);
+  }
+
   @Override
   public String readJavaStringLiteral(boolean tolerant) {
 
@@ -1099,6 +1210,44 @@ public abstract class AbstractCharStreamScannerImpl extends AbstractCharStreamSc
     }
   }
 
+  @Override
+  public CharSequence readWhileView(CharFilter filter, int max) {
+
+    if (max < 0) {
+      throw new IllegalArgumentException("Max must NOT be negative: " + max);
+    }
+    StringBuilder builder = null;
+    if (this.offset >= this.limit) {
+      fill();
+    }
+    int remain = max;
+    while (true) {
+      int start = this.offset;
+      int end = start + remain;
+      if (end < 0) { // overflow?
+        end = remain;
+      }
+      if (end > this.limit) {
+        end = this.limit;
+      }
+      while (this.offset < end) {
+        if (!filter.accept(this.buffer[this.offset])) {
+          return getView(builder, start, this.offset);
+        }
+        this.offset++;
+      }
+      int len = this.offset - start;
+      remain -= len;
+      if ((remain == 0) || isEob()) {
+        return getView(builder, start, this.offset);
+      }
+      builder = append(builder, start, this.offset);
+      if (!fill()) {
+        return eotView(builder, true);
+      }
+    }
+  }
+
   @Override
   public String toString() {
 
@@ -0,0 +1,126 @@
+/* Copyright (c) The m-m-m Team, Licensed under the Apache License, Version 2.0
+ * http://www.apache.org/licenses/LICENSE-2.0 */
+package net.sf.mmm.util.scanner.base;
+
+/**
+ * This is a lightweight {@link CharSequence} that is a view on a range of a {@code char[]} without copying the
+ * data. It is returned by the {@code *View} methods of {@link AbstractCharStreamScannerImpl} such as
+ * {@link AbstractCharStreamScannerImpl#readWhileView(net.sf.mmm.util.filter.api.CharFilter, int)} and is only
+ * valid until the next read operation on the scanner as the underlying buffer may be reused. Use
+ * {@link #toString()} to get an independent {@link String}. <br>
+ * Like {@link StringBuilder} this class does NOT override {@link #equals(Object)} and {@link #hashCode()}. Use
+ * {@link #contentEquals(CharSequence, CharSequence, boolean)} or {@link #compare(CharSequence, CharSequence)} to
+ * compare views (or other {@link CharSequence}s) without creating {@link String}s.
+ *
+ * @author Joerg Hohwiller (hohwille at users.sourceforge.net)
+ * @since 8.7.1
+ */
+public class CharArrayView implements CharSequence {
+
+  private final char[] buffer;
+
+  private final int start;
+
+  private final int end;
+
+  /**
+   * The constructor.
+   *
+   * @param buffer is the underlying {@code char[]}.
+   * @param start is the start index in {@code buffer} (inclusive).
+   * @param end is the end index in {@code buffer} (exclusive).
+   */
+  public CharArrayView(char[] buffer, int start, int end) {
+
+    super();
+    if ((start < 0) || (end < start) || (end > buffer.length)) {
+      throw new IndexOutOfBoundsException("[" + start + "," + end + "[ of " + buffer.length);
+    }
+    this.buffer = buffer;
+    this.start = start;
+    this.end = end;
+  }
+
+  @Override
+  public int length() {
+
+    return this.end - this.start;
+  }
+
+  @Override
+  public char charAt(int index) {
+
+    if ((index < 0) || (index >= length())) {
+      throw new IndexOutOfBoundsException(Integer.toString(index));
+    }
+    return this.buffer[this.start + index];
+  }
+
+  @Override
+  public CharSequence subSequence(int startIndex, int endIndex) {
+
+    if ((startIndex < 0) || (endIndex < startIndex) || (endIndex > length())) {
+      throw new IndexOutOfBoundsException("[" + startIndex + "," + endIndex + "[ of " + length());
+    }
+    return new CharArrayView(this.buffer, this.start + startIndex, this.start + endIndex);
+  }
+
+  @Override
+  public String toString() {
+
+    return new String(this.buffer, this.start, this.end - this.start);
+  }
+
+  /**
+   * @param sequence1 is the first {@link CharSequence} (e.g. a {@link CharArrayView}).
+   * @param sequence2 is the second {@link CharSequence} (e.g. a {@link String} literal).
+   * @param ignoreCase - if {@code true} the case of the characters is ignored when compared.
+   * @return {@code true} if both given {@link CharSequence}s contain the same characters, {@code false}
+   *         otherwise.
+   */
+  public static boolean contentEquals(CharSequence sequence1, CharSequence sequence2, boolean ignoreCase) {
+
+    if (sequence1 == sequence2) {
+      return true;
+    }
+    if ((sequence1 == null) || (sequence2 == null)) {
+      return false;
+    }
+    int length = sequence1.length();
+    if (length != sequence2.length()) {
+      return false;
+    }
+    for (int i = 0; i < length; i++) {
+      char c1 = sequence1.charAt(i);
+      char c2 = sequence2.charAt(i);
+      if ((c1 != c2) && (!ignoreCase || (Character.toLowerCase(c1) != Character.toLowerCase(c2)))) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Compares the given {@link CharSequence}s lexicographically like {@link String#compareTo(String)}.
+   *
+   * @param sequence1 is the first {@link CharSequence} (e.g. a {@link CharArrayView}).
+   * @param sequence2 is the second {@link CharSequence} (e.g. a {@link String} literal).
+   * @return the comparison result that is negative if {@code sequence1} is less than {@code sequence2}, zero if
+   *         they are {@link #contentEquals(CharSequence, CharSequence, boolean) equal}, and positive otherwise.
+   */
+  public static int compare(CharSequence sequence1, CharSequence sequence2) {
+
+    int length1 = sequence1.length();
+    int length2 = sequence2.length();
+    int length = Math.min(length1, length2);
+    for (int i = 0; i < length; i++) {
+      char c1 = sequence1.charAt(i);
+      char c2 = sequence2.charAt(i);
+      if (c1 != c2) {
+        return c1 - c2;
+      }
+    }
+    return length1 - length2;
+  }
+
+}
@@ -576,6 +576,89 @@ public abstract class AbstractCharStreamScannerTest extends Assertions {
     assertThat(scanner.readLine(true)).isEqualTo("end");
   }
 
+  /**
+   * Tests {@link CharStreamScanner#readUntilView(char, boolean)}.
+   */
+  @Test
+  public void testReadUntilView() {
+
+    // given
+    String string = "string";
+    CharStreamScanner scanner;
+    // when
+    scanner = scanner(string);
+    // then
+    assertThat(scanner.readUntilView('n', false).toString()).isEqualTo("stri");
+    assertThat(scanner.next()).isEqualTo('g');
+    assertThat(scanner.hasNext()).isFalse();
+    // and when (no EOF)
+    scanner = scanner(string);
+    // then
+    assertThat(scanner.readUntilView('x', false)).isNull();
+    assertThat(scanner.hasNext()).isFalse();
+    // and when (EOF)
+    scanner = scanner(string);
+    // then
+    assertThat(scanner.readUntilView('x', true).toString()).isEqualTo(string);
+    assertThat(scanner.hasNext()).isFalse();
+  }
+
+  /**
+   * Tests {@link CharStreamScanner#readWhileView(CharFilter)} and
+   * {@link CharStreamScanner#expect(CharSequence, boolean)}.
+   */
+  @Test
+  public void testReadWhileView() {
+
+    // given
+    String string = "abc def  ghi <Tag>text</tag>";
+    CharFilter textFilter = CharFilter.ASCII_LETTER_FILTER;
+    CharFilter spaceFilter = CharFilter.WHITESPACE_FILTER;
+    // when
+    CharStreamScanner scanner = scanner(string);
+    // then
+    CharSequence view = scanner.readWhileView(textFilter);
+    assertThat(CharArrayView.contentEquals(view, "abc", false)).isTrue();
+    assertThat(CharArrayView.compare(view, "abd")).isNegative();
+    assertThat(scanner.readWhileView(textFilter)).isEmpty();
+    assertThat(scanner.readWhileView(textFilter, 0)).isEmpty();
+    assertThat(scanner.readWhileView(spaceFilter).toString()).isEqualTo(" ");
+    assertThat(scanner.readWhileView(textFilter).toString()).isEqualTo("def");
+    assertThat(scanner.readWhileView(spaceFilter).toString()).isEqualTo("  ");
+    assertThat(scanner.readWhileView(textFilter, 2).toString()).isEqualTo("gh");
+    assertThat(scanner.readWhileView(textFilter, 2).toString()).isEqualTo("i");
+    assertThat(scanner.expect(" <", false)).isTrue();
+    CharSequence tag = new StringBuilder(scanner.readWhileView(textFilter));
+    assertThat(scanner.expect('>')).isTrue();
+    assertThat(CharArrayView.contentEquals(scanner.readUntilView('<', false), "text", false)).isTrue();
+    assertThat(scanner.expect('/')).isTrue();
+    assertThat(scanner.expect(tag, true)).isTrue();
+    assertThat(scanner.expect('>')).isTrue();
+    assertThat(scanner.hasNext()).isFalse();
+  }
+
+  /**
+   * Tests {@link CharStreamScanner#readLineView(boolean)}.
+   */
+  @Test
+  public void testReadLineView() {
+
+    // given
+    String string = "  ab c \ndef\r ghi\r\nj k l\n \r \n  \r\n   end";
+    // when
+    CharStreamScanner scanner = scanner(string);
+    // then
+    assertThat(scanner.readLineView(false).toString()).isEqualTo("  ab c ");
+    assertThat(scanner.readLineView(true).toString()).isEqualTo("def");
+    assertThat(scanner.readLineView(true).toString()).isEqualTo("ghi");
+    assertThat(scanner.readLineView(true).toString()).isEqualTo("j k l");
+    assertThat(scanner.readLineView(false).toString()).isEqualTo(" ");
+    assertThat(scanner.readLineView(true)).isEmpty();
+    assertThat(scanner.readLineView(true)).isEmpty();
+    assertThat(scanner.readLineView(true).toString()).isEqualTo("end");
+    assertThat(scanner.readLineView(true)).isNull();
+  }
+
   @Test
   public void testReadDigit() {
 
@@ -2,6 +2,9 @@
  * http://www.apache.org/licenses/LICENSE-2.0 */
 package net.sf.mmm.util.value.api;
 
+import net.sf.mmm.util.exception.api.ValueNotSetException;
+import net.sf.mmm.util.exception.api.WrongValueTypeException;
+
 /**
  * This is a sub-interface of {@link GenericValueConverter} for the most common value type {@link String}. It
  * is typically used for dealing with values (e.g. when reading configurations).
@@ -13,4 +16,137 @@ package net.sf.mmm.util.value.api;
  */
 public interface StringValueConverter extends GenericValueConverter<String> {
 
+  /**
+   * This method converts the given {@code value} to {@code int}. It is a fast-path of
+   * {@link #convertValue(Object, Object, Class) convertValue}({@code value}, {@code valueSource},
+   * {@code int.class}) that neither boxes the result nor requires a {@link String}.
+   *
+   * @param value is the value to convert.
+   * @param valueSource describes the source of the value. This may be the filename where the value was read
+   *        from, an XPath where the value was located in an XML document, etc. It is used in exceptions
+   *        thrown if something goes wrong. This will help to find the problem easier.
+   * @return the {@code value} as {@code int}.
+   * @throws ValueNotSetException if the given {@code value} is {@code null}.
+   * @throws WrongValueTypeException if the given {@code value} is no valid {@code int}.
+   * @since 8.7.1
+   */
+  int convertToInt(CharSequence value, Object valueSource) throws ValueNotSetException, WrongValueTypeException;
+
+  /**
+   * This method converts the given range of {@code value} to {@code int}.
+   *
+   * @see #convertToInt(CharSequence, Object)
+   *
+   * @param value is the value to convert.
+   * @param start is the index of the first character to convert.
+   * @param end is the index after the last character to convert.
+   * @param valueSource describes the source of the value.
+   * @return the given range of {@code value} as {@code int}.
+   * @throws ValueNotSetException if the given {@code value} is {@code null}.
+   * @throws WrongValueTypeException if the given range of {@code value} is no valid {@code int}.
+   * @since 8.7.1
+   */
+  int convertToInt(CharSequence value, int start, int end, Object valueSource)
+      throws ValueNotSetException, WrongValueTypeException;
+
+  /**
+   * This method converts the given {@code value} to {@code long}. It is a fast-path of
+   * {@link #convertValue(Object, Object, Class) convertValue}({@code value}, {@code valueSource},
+   * {@code long.class}) that neither boxes the result nor requires a {@link String}.
+   *
+   * @param value is the value to convert.
+   * @param valueSource describes the source of the value. This may be the filename where the value was read
+   *        from, an XPath where the value was located in an XML document, etc. It is used in exceptions
+   *        thrown if something goes wrong. This will help to find the problem easier.
+   * @return the {@code value} as {@code long}.
+   * @throws ValueNotSetException if the given {@code value} is {@code null}.
+   * @throws WrongValueTypeException if the given {@code value} is no valid {@code long}.
+   * @since 8.7.1
+   */
+  long convertToLong(CharSequence value, Object valueSource) throws ValueNotSetException, WrongValueTypeException;
+
+  /**
+   * This method converts the given range of {@code value} to {@code long}.
+   *
+   * @see #convertToLong(CharSequence, Object)
+   *
+   * @param value is the value to convert.
+   * @param start is the index of the first character to convert.
+   * @param end is the index after the last character to convert.
+   * @param valueSource describes the source of the value.
+   * @return the given range of {@code value} as {@code long}.
+   * @throws ValueNotSetException if the given {@code value} is {@code null}.
+   * @throws WrongValueTypeException if the given range of {@code value} is no valid {@code long}.
+   * @since 8.7.1
+   */
+  long convertToLong(CharSequence value, int start, int end, Object valueSource)
+      throws ValueNotSetException, WrongValueTypeException;
+
+  /**
+   * This method converts the given {@code value} to {@code double}. It is a fast-path of
+   * {@link #convertValue(Object, Object, Class) convertValue}({@code value}, {@code valueSource},
+   * {@code double.class}) that neither boxes the result nor requires a {@link String}.
+   *
+   * @param value is the value to convert.
+   * @param valueSource describes the source of the value. This may be the filename where the value was read
+   *        from, an XPath where the value was located in an XML document, etc. It is used in exceptions
+   *        thrown if something goes wrong. This will help to find the problem easier.
+   * @return the {@code value} as {@code double}.
+   * @throws ValueNotSetException if the given {@code value} is {@code null}.
+   * @throws WrongValueTypeException if the given {@code value} is no valid {@code double}.
+   * @since 8.7.1
+   */
+  double convertToDouble(CharSequence value, Object valueSource) throws ValueNotSetException, WrongValueTypeException;
+
+  /**
+   * This method converts the given range of {@code value} to {@code double}.
+   *
+   * @see #convertToDouble(CharSequence, Object)
+   *
+   * @param value is the value to convert.
+   * @param start is the index of the first character to convert.
+   * @param end is the index after the last character to convert.
+   * @param valueSource describes the source of the value.
+   * @return the given range of {@code value} as {@code double}.
+   * @throws ValueNotSetException if the given {@code value} is {@code null}.
+   * @throws WrongValueTypeException if the given range of {@code value} is no valid {@code double}.
+   * @since 8.7.1
+   */
+  double convertToDouble(CharSequence value, int start, int end, Object valueSource)
+      throws ValueNotSetException, WrongValueTypeException;
+
+  /**
+   * This method converts the given {@code value} to {@code boolean}. It is a fast-path of
+   * {@link #convertValue(Object, Object, Class) convertValue}({@code value}, {@code valueSource},
+   * {@code boolean.class}) that neither boxes the result nor requires a {@link String}.
+   *
+   * @param value is the value to convert.
+   * @param valueSource describes the source of the value. This may be the filename where the value was read
+   *        from, an XPath where the value was located in an XML document, etc. It is used in exceptions
+   *        thrown if something goes wrong. This will help to find the problem easier.
+   * @return the {@code value} as {@code boolean}.
+   * @throws ValueNotSetException if the given {@code value} is {@code null}.
+   * @throws WrongValueTypeException if the given {@code value} is neither "true" nor "false" (ignoring the case).
+   * @since 8.7.1
+   */
+  boolean convertToBoolean(CharSequence value, Object valueSource) throws ValueNotSetException, WrongValueTypeException;
+
+  /**
+   * This method converts the given range of {@code value} to {@code boolean}.
+   *
+   * @see #convertToBoolean(CharSequence, Object)
+   *
+   * @param value is the value to convert.
+   * @param start is the index of the first character to convert.
+   * @param end is the index after the last character to convert.
+   * @param valueSource describes the source of the value.
+   * @return the given range of {@code value} as {@code boolean}.
+   * @throws ValueNotSetException if the given {@code value} is {@code null}.
+   * @throws WrongValueTypeException if the given range of {@code value} is neither "true" nor "false" (ignoring
+   *         the case).
+   * @since 8.7.1
+   */
+  boolean convertToBoolean(CharSequence value, int start, int end, Object valueSource)
+      throws ValueNotSetException, WrongValueTypeException;
+
 }
@@ -0,0 +1,248 @@
+/* Copyright (c) The m-m-m Team, Licensed under the Apache License, Version 2.0
+ * http://www.apache.org/licenses/LICENSE-2.0 */
+package net.sf.mmm.util.value.base;
+
+/**
+ * A simple helper to parse primitive values directly from a range of a {@link CharSequence} without creating an
+ * intermediate {@link String} or boxing the result. The syntax is the same as for {@link Integer#parseInt(String)},
+ * {@link Long#parseLong(String)} and {@link Double#parseDouble(String)}.
+ *
+ * @author Joerg Hohwiller (hohwille at users.sourceforge.net)
+ * @since 8.7.1
+ */
+public final class PrimitiveParseHelper {
+
+  /** The maximum mantissa that can be represented exactly as {@code double} (2^53). */
+  private static final long MAX_EXACT_MANTISSA = 1L << 53;
+
+  /** Powers of ten that can be represented exactly as {@code double}. */
+  private static final double[] EXACT_POWERS_OF_TEN = { 1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+  1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22 };
+
+  private PrimitiveParseHelper() {
+
+    super();
+  }
+
+  /**
+   * @param value the {@link CharSequence} to parse.
+   * @param start the index of the first character to parse.
+   * @param end the index after the last character to parse.
+   * @return the parsed {@code int} value.
+   * @throws NumberFormatException if the given range does not contain a parsable {@code int}.
+   */
+  public static int parseInt(CharSequence value, int start, int end) throws NumberFormatException {
+
+    long result = parseLong(value, start, end);
+    if ((result < Integer.MIN_VALUE) || (result > Integer.MAX_VALUE)) {
+      throw createException(value, start, end);
+    }
+    return (int) result;
+  }
+
+  /**
+   * @param value the {@link CharSequence} to parse.
+   * @param start the index of the first character to parse.
+   * @param end the index after the last character to parse.
+   * @return the parsed {@code long} value.
+   * @throws NumberFormatException if the given range does not contain a parsable {@code long}.
+   */
+  public static long parseLong(CharSequence value, int start, int end) throws NumberFormatException {
+
+    if (value == null) {
+      throw new NumberFormatException("null");
+    }
+    if (start >= end) {
+      throw createException(value, start, end);
+    }
+    int i = start;
+    boolean negative = false;
+    // accumulate negatively to cover Long.MIN_VALUE
+    long limit = -Long.MAX_VALUE;
+    char c = value.charAt(i);
+    if (c < '0') {
+      if (c == '-') {
+        negative = true;
+        limit = Long.MIN_VALUE;
+      } else if (c != '+') {
+        throw createException(value, start, end);
+      }
+      i++;
+      if (i == end) {
+        throw createException(value, start, end);
+      }
+    }
+    long limitBeforeMultiply = limit / 10;
+    long result = 0;
+    while (i < end) {
+      int digit = value.charAt(i++) - '0';
+      if ((digit < 0) || (digit > 9) || (result < limitBeforeMultiply)) {
+        throw createException(value, start, end);
+      }
+      result = result * 10;
+      if (result < limit + digit) {
+        throw createException(value, start, end);
+      }
+      result = result - digit;
+    }
+    if (negative) {
+      return result;
+    }
+    return -result;
+  }
+
+  /**
+   * Parses a {@code double} value. Plain decimal numbers with up to 15 significant digits and a small exponent are
+   * computed exactly without any allocation. Other syntax (e.g. {@code NaN}, {@code Infinity}, hexadecimal or a
+   * large number of digits) is delegated to {@link Double#parseDouble(String)}.
+   *
+   * @param value the {@link CharSequence} to parse.
+   * @param start the index of the first character to parse.
+   * @param end the index after the last character to parse.
+   * @return the parsed {@code double} value.
+   * @throws NumberFormatException if the given range does not contain a parsable {@code double}.
+   */
+  public static double parseDouble(CharSequence value, int start, int end) throws NumberFormatException {
+
+    if (value == null) {
+      throw new NullPointerException();
+    }
+    int i = start;
+    boolean negative = false;
+    if (i < end) {
+      char c = value.charAt(i);
+      if (c == '-') {
+        negative = true;
+        i++;
+      } else if (c == '+') {
+        i++;
+      }
+    }
+    long mantissa = 0;
+    int significantDigits = 0;
+    int exponent = 0;
+    boolean digitFound = false;
+    boolean fraction = false;
+    while (i < end) {
+      char c = value.charAt(i);
+      if ((c >= '0') && (c <= '9')) {
+        digitFound = true;
+        if ((mantissa != 0) || (c != '0')) {
+          if (significantDigits >= 15) {
+            return parseDoubleFallback(value, start, end);
+          }
+          mantissa = mantissa * 10 + (c - '0');
+          significantDigits++;
+        }
+        if (fraction) {
+          exponent--;
+        }
+      } else if ((c == '.') && !fraction) {
+        fraction = true;
+      } else {
+        break;
+      }
+      i++;
+    }
+    if (!digitFound) {
+      return parseDoubleFallback(value, start, end);
+    }
+    if ((i < end) && ((value.charAt(i) == 'e') || (value.charAt(i) == 'E'))) {
+      i++;
+      boolean negativeExponent = false;
+      if (i < end) {
+        char c = value.charAt(i);
+        if (c == '-') {
+          negativeExponent = true;
+          i++;
+        } else if (c == '+') {
+          i++;
+        }
+      }
+      int explicitExponent = 0;
+      int exponentStart = i;
+      while (i < end) {
+        int digit = value.charAt(i) - '0';
+        if ((digit < 0) || (digit > 9) || (explicitExponent > 1000)) {
+          break;
+        }
+        explicitExponent = explicitExponent * 10 + digit;
+        i++;
+      }
+      if (i == exponentStart) {
+        return parseDoubleFallback(value, start, end);
+      }
+      if (negativeExponent) {
+        exponent = exponent - explicitExponent;
+      } else {
+        exponent = exponent + explicitExponent;
+      }
+    }
+    if (i < end) {
+      // e.g. type suffix or trailing whitespace
+      return parseDoubleFallback(value, start, end);
+    }
+    double result;
+    if (mantissa == 0) {
+      result = 0;
+    } else if ((mantissa <= MAX_EXACT_MANTISSA) && (exponent >= -22) && (exponent <= 22)) {
+      result = mantissa;
+      if (exponent < 0) {
+        result = result / EXACT_POWERS_OF_TEN[-exponent];
+      } else {
+        result = result * EXACT_POWERS_OF_TEN[exponent];
+      }
+    } else {
+      return parseDoubleFallback(value, start, end);
+    }
+    if (negative) {
+      return -result;
+    }
+    return result;
+  }
+
+  private static double parseDoubleFallback(CharSequence value, int start, int end) {
+
+    return Double.parseDouble(value.subSequence(start, end).toString());
+  }
+
+  /**
+   * @param value the {@link CharSequence} to parse.
+   * @param start the index of the first character to parse.
+   * @param end the index after the last character to parse.
+   * @return {@code true} if the given range is "true" and {@code false} if it is "false" (both ignoring the case).
+   * @throws IllegalArgumentException if the given range contains neither "true" nor "false".
+   */
+  public static boolean parseBoolean(CharSequence value, int start, int end) throws IllegalArgumentException {
+
+    if (value == null) {
+      throw new IllegalArgumentException("null");
+    }
+    if (matchesIgnoreCase(value, start, end, "true")) {
+      return true;
+    } else if (matchesIgnoreCase(value, start, end, "false")) {
+      return false;
+    }
+    throw new IllegalArgumentException(value.subSequence(start, end).toString());
+  }
+
+  private static boolean matchesIgnoreCase(CharSequence value, int start, int end, String expected) {
+
+    int length = expected.length();
+    if ((end - start) != length) {
+      return false;
+    }
+    for (int i = 0; i < length; i++) {
+      if (Character.toLowerCase(value.charAt(start + i)) != expected.charAt(i)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static NumberFormatException createException(CharSequence value, int start, int end) {
+
+    return new NumberFormatException("For input string: \"" + value.subSequence(start, Math.max(start, end)) + "\"");
+  }
+
+}
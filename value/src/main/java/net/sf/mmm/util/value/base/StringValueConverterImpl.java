@@ -178,6 +178,94 @@ public class StringValueConverterImpl extends AbstractGenericValueConverter<Stri
     return (TARGET) result;
   }
 
+  @Override
+  public int convertToInt(CharSequence value, Object valueSource) {
+
+    if (value == null) {
+      throw new ValueNotSetException(valueSource);
+    }
+    return convertToInt(value, 0, value.length(), valueSource);
+  }
+
+  @Override
+  public int convertToInt(CharSequence value, int start, int end, Object valueSource) {
+
+    if (value == null) {
+      throw new ValueNotSetException(valueSource);
+    }
+    try {
+      return PrimitiveParseHelper.parseInt(value, start, end);
+    } catch (NumberFormatException e) {
+      throw new WrongValueTypeException(e, value.subSequence(start, end), valueSource, int.class);
+    }
+  }
+
+  @Override
+  public long convertToLong(CharSequence value, Object valueSource) {
+
+    if (value == null) {
+      throw new ValueNotSetException(valueSource);
+    }
+    return convertToLong(value, 0, value.length(), valueSource);
+  }
+
+  @Override
+  public long convertToLong(CharSequence value, int start, int end, Object valueSource) {
+
+    if (value == null) {
+      throw new ValueNotSetException(valueSource);
+    }
+    try {
+      return PrimitiveParseHelper.parseLong(value, start, end);
+    } catch (NumberFormatException e) {
+      throw new WrongValueTypeException(e, value.subSequence(start, end), valueSource, long.class);
+    }
+  }
+
+  @Override
+  public double convertToDouble(CharSequence value, Object valueSource) {
+
+    if (value == null) {
+      throw new ValueNotSetException(valueSource);
+    }
+    return convertToDouble(value, 0, value.length(), valueSource);
+  }
+
+  @Override
+  public double convertToDouble(CharSequence value, int start, int end, Object valueSource) {
+
+    if (value == null) {
+      throw new ValueNotSetException(valueSource);
+    }
+    try {
+      return PrimitiveParseHelper.parseDouble(value, start, end);
+    } catch (NumberFormatException e) {
+      throw new WrongValueTypeException(e, value.subSequence(start, end), valueSource, double.class);
+    }
+  }
+
+  @Override
+  public boolean convertToBoolean(CharSequence value, Object valueSource) {
+
+    if (value == null) {
+      throw new ValueNotSetException(valueSource);
+    }
+    return convertToBoolean(value, 0, value.length(), valueSource);
+  }
+
+  @Override
+  public boolean convertToBoolean(CharSequence value, int start, int end, Object valueSource) {
+
+    if (value == null) {
+      throw new ValueNotSetException(valueSource);
+    }
+    try {
+      return PrimitiveParseHelper.parseBoolean(value, start, end);
+    } catch (IllegalArgumentException e) {
+      throw new WrongValueTypeException(e, value.subSequence(start, end), valueSource, boolean.class);
+    }
+  }
+
   /**
    * This method converts the given {@link String}-{@code value} to the given {@code type}. It is called from
    * {@link #convertValue(String, Object, Class, Type)} if the given {@code type} is unknown. This default
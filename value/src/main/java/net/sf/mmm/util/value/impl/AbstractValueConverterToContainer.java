@@ -3,9 +3,8 @@
 package net.sf.mmm.util.value.impl;
 
 import java.lang.reflect.Array;
-import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
-import java.util.List;
 
 import javax.inject.Inject;
 import javax.inject.Named;
@@ -170,7 +169,9 @@ public abstract class AbstractValueConverterToContainer<CONTAINER> extends Abstr
    */
   protected <T extends CONTAINER> T convertFromString(String stringValue, Object valueSource, GenericType<T> targetType) {
 
-    List<String> stringList = new ArrayList<>();
+    // start and end index of each element
+    int[] bounds = new int[16];
+    int size = 0;
     int start = 0;
     int length = stringValue.length();
     while (start < length) {
@@ -192,8 +193,21 @@ public abstract class AbstractValueConverterToContainer<CONTAINER> extends Abstr
       if (end < 0) {
         end = length;
       }
-      String element = stringValue.substring(start, end).trim();
-      stringList.add(element);
+      int elementStart = start;
+      int elementEnd = end;
+      while ((elementStart < elementEnd) && (stringValue.charAt(elementStart) <= ' ')) {
+        elementStart++;
+      }
+      while ((elementEnd > elementStart) && (stringValue.charAt(elementEnd - 1) <= ' ')) {
+        elementEnd--;
+      }
+      int boundsIndex = size * 2;
+      if (boundsIndex == bounds.length) {
+        bounds = Arrays.copyOf(bounds, boundsIndex * 2);
+      }
+      bounds[boundsIndex] = elementStart;
+      bounds[boundsIndex + 1] = elementEnd;
+      size++;
       if (offset > 1) {
         end = stringValue.indexOf(ELEMENT_SEPARATOR, end + offset);
         if (end < 0) {
@@ -202,14 +216,34 @@ public abstract class AbstractValueConverterToContainer<CONTAINER> extends Abstr
       }
       start = end + 1;
     }
-    int size = stringList.size();
     T container = createContainer(targetType, size);
     for (int i = 0; i < size; i++) {
-      convertContainerEntry(stringList.get(i), i, container, valueSource, targetType, stringValue);
+      convertContainerEntry(stringValue, bounds[2 * i], bounds[(2 * i) + 1], i, container, valueSource, targetType);
     }
     return container;
   }
 
+  /**
+   * This method converts a single entry of a container given as range of the {@link String} value to convert. The
+   * default implementation delegates to
+   * {@link #convertContainerEntry(Object, int, Object, Object, GenericType, Object)} with the according
+   * {@link String#substring(int, int) substring}. Override to parse the entry directly (e.g. for primitive arrays).
+   *
+   * @param stringValue is the {@link String} value to convert.
+   * @param start is the index of the first character of the entry in {@code stringValue}.
+   * @param end is the index after the last character of the entry in {@code stringValue}.
+   * @param index is the index of the entry in the order of occurrence.
+   * @param container is the current container where to add the entry.
+   * @param valueSource describes the source of the value or {@code null} if NOT available.
+   * @param targetType is the {@link #getTargetType() target-type} to convert to.
+   * @since 8.7.1
+   */
+  protected void convertContainerEntry(String stringValue, int start, int end, int index, CONTAINER container,
+      Object valueSource, GenericType<? extends CONTAINER> targetType) {
+
+    convertContainerEntry(stringValue.substring(start, end), index, container, valueSource, targetType, stringValue);
+  }
+
   /**
    * This method performs the {@link #convert(Object, Object, GenericType) conversion} for array values.
    *
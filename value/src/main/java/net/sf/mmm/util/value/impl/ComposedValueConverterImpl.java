@@ -10,6 +10,7 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 
 import javax.inject.Inject;
 
@@ -41,6 +42,12 @@ public class ComposedValueConverterImpl extends AbstractComposedValueConverter {
 
   private List<ValueConverter<?, ?>> converters;
 
+  /**
+   * The cache of the {@link ValueConverter}s that have been resolved by {@link #convertRecursive(Object, Object,
+   * GenericType, Class, ValueConverter, TargetClass2ConverterMap) walking the class hierarchies}.
+   */
+  private final Map<ConversionKey, ValueConverter<?, ?>> resolutionCache;
+
   /**
    * The constructor.
    */
@@ -49,6 +56,7 @@ public class ComposedValueConverterImpl extends AbstractComposedValueConverter {
     super();
     this.targetClass2converterMap = new TargetClass2ConverterMap();
     this.targetArrayClass2converterMap = new TargetClass2ConverterMap();
+    this.resolutionCache = new ConcurrentHashMap<>();
   }
 
   @Override
@@ -75,6 +83,7 @@ public class ComposedValueConverterImpl extends AbstractComposedValueConverter {
       this.converters = new ArrayList<>();
     }
     this.converters.add(converter);
+    this.resolutionCache.clear();
   }
 
   /**
@@ -89,6 +98,7 @@ public class ComposedValueConverterImpl extends AbstractComposedValueConverter {
   private ValueConverter<?, ?> addConverterInternal(ValueConverter<?, ?> converter) {
 
     getInitializationState().requireNotInitilized();
+    this.resolutionCache.clear();
     Class<?> targetType = converter.getTargetType();
     TargetClass2ConverterMap map;
     if (targetType.isArray()) {
@@ -195,6 +205,24 @@ public class ComposedValueConverterImpl extends AbstractComposedValueConverter {
         return (T) value;
       }
     }
+    ConversionKey cacheKey = new ConversionKey(value.getClass(), targetType);
+    ValueConverter cachedConverter = this.resolutionCache.get(cacheKey);
+    if (cachedConverter != null) {
+      LOG.trace("using cached converter {}", cachedConverter);
+      Object result;
+      try {
+        result = cachedConverter.convert(value, valueSource, targetType);
+      } catch (ValueException e) {
+        throw e;
+      } catch (RuntimeException e) {
+        throw new NlsParseException(e, value, targetType, valueSource);
+      }
+      if (result != null) {
+        return (T) result;
+      }
+      // the resolution depends on the actual value - fall back to the full traversal
+      this.resolutionCache.remove(cacheKey);
+    }
     TargetClass2ConverterMap converterMap;
     if (targetClass.isArray()) {
       converterMap = this.targetArrayClass2converterMap;
@@ -205,7 +233,12 @@ public class ComposedValueConverterImpl extends AbstractComposedValueConverter {
         targetClass = getReflectionUtil().getNonPrimitiveType(targetClass);
       }
     }
-    return (T) convertRecursive(value, valueSource, targetType, targetClass, null, converterMap);
+    ConverterResolution resolution = new ConverterResolution();
+    Object result = convertRecursive(value, valueSource, targetType, targetClass, null, converterMap, resolution);
+    if (resolution.isCacheable()) {
+      this.resolutionCache.put(cacheKey, resolution.converter);
+    }
+    return (T) result;
   }
 
   /**
@@ -290,10 +323,19 @@ public class ComposedValueConverterImpl extends AbstractComposedValueConverter {
    * @return the converted {@code value} or {@code null} if the conversion is NOT possible. The returned value has to be
    *         an {@link Class#isInstance(Object) instance} of the given {@code targetType}.
    */
-  @SuppressWarnings({ "unchecked", "rawtypes" })
+  @SuppressWarnings("rawtypes")
   protected Object convertRecursive(Object value, Object valueSource, GenericType<?> targetType, Class<?> currentTargetClass, ValueConverter previousConverter,
       TargetClass2ConverterMap converterMap) {
 
+    return convertRecursive(value, valueSource, targetType, currentTargetClass, previousConverter, converterMap,
+        new ConverterResolution());
+  }
+
+  @SuppressWarnings({ "unchecked", "rawtypes" })
+  private Object convertRecursive(Object value, Object valueSource, GenericType<?> targetType,
+      Class<?> currentTargetClass, ValueConverter previousConverter, TargetClass2ConverterMap converterMap,
+      ConverterResolution resolution) {
+
     boolean traceEnabled = LOG.isTraceEnabled();
     ValueConverter lastConverter = previousConverter;
     Class<?> currentClass = currentTargetClass;
@@ -304,7 +346,7 @@ public class ComposedValueConverterImpl extends AbstractComposedValueConverter {
           if (traceEnabled) {
             LOG.trace("searching converter for target-type '" + currentClass + "'");
           }
-          ValueConverter converter = converterMap.get(currentClass);
+          ComposedTargetTypeConverter converter = converterMap.get(currentClass);
           if ((converter != null) && (converter != lastConverter) && (isApplicable(converter, targetType))) {
             if (traceEnabled) {
               StringWriter sw = new StringWriter(50);
@@ -318,7 +360,7 @@ public class ComposedValueConverterImpl extends AbstractComposedValueConverter {
               }
               LOG.trace(sw.toString());
             }
-            result = converter.convert(value, valueSource, targetType);
+            result = converter.convertRecursive(value, valueSource, targetType, value.getClass(), resolution);
             if (result != null) {
               return result;
             }
@@ -327,7 +369,8 @@ public class ComposedValueConverterImpl extends AbstractComposedValueConverter {
         }
         for (Class<?> superInterface : currentClass.getInterfaces()) {
           if (isAccepted(superInterface)) {
-            result = convertRecursive(value, valueSource, targetType, superInterface, lastConverter, converterMap);
+            result = convertRecursive(value, valueSource, targetType, superInterface, lastConverter, converterMap,
+                resolution);
             if (result != null) {
               return result;
             }
@@ -423,9 +466,15 @@ public class ComposedValueConverterImpl extends AbstractComposedValueConverter {
      * @return the converted {@code value} or {@code null} if the conversion is NOT possible. The returned value has to
      *         be an {@link Class#isInstance(Object) instance} of the given {@code targetType}.
      */
-    @SuppressWarnings("unchecked")
     protected <T extends TARGET> T convertRecursive(Object value, Object valueSource, GenericType<T> genericTargetType, Class<?> sourceClass) {
 
+      return convertRecursive(value, valueSource, genericTargetType, sourceClass, new ConverterResolution());
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T extends TARGET> T convertRecursive(Object value, Object valueSource, GenericType<T> genericTargetType,
+        Class<?> sourceClass, ConverterResolution resolution) {
+
       boolean traceEnabled = LOG.isTraceEnabled();
       Class<?> currentClass = sourceClass;
       while (currentClass != null) {
@@ -441,13 +490,15 @@ public class ComposedValueConverterImpl extends AbstractComposedValueConverter {
               if (traceEnabled) {
                 LOG.trace("conversion successful using '{}'", converter.getClass().getName());
               }
+              resolution.converter = converter;
               return result;
             }
+            resolution.fallThrough = true;
           }
         }
         for (Class<?> superInterface : currentClass.getInterfaces()) {
           if (isAccepted(superInterface)) {
-            T result = convertRecursive(value, valueSource, genericTargetType, superInterface);
+            T result = convertRecursive(value, valueSource, genericTargetType, superInterface, resolution);
             if (result != null) {
               return result;
             }
@@ -511,4 +562,60 @@ public class ComposedValueConverterImpl extends AbstractComposedValueConverter {
 
   }
 
+  /**
+   * The key for the {@link ComposedValueConverterImpl#resolutionCache resolution cache}.
+   */
+  private static final class ConversionKey {
+
+    private final Class<?> sourceClass;
+
+    private final GenericType<?> targetType;
+
+    private final int hash;
+
+    private ConversionKey(Class<?> sourceClass, GenericType<?> targetType) {
+
+      super();
+      this.sourceClass = sourceClass;
+      this.targetType = targetType;
+      this.hash = sourceClass.hashCode() * 31 + targetType.hashCode();
+    }
+
+    @Override
+    public int hashCode() {
+
+      return this.hash;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+
+      if (obj == this) {
+        return true;
+      }
+      if ((obj == null) || (obj.getClass() != ConversionKey.class)) {
+        return false;
+      }
+      ConversionKey other = (ConversionKey) obj;
+      return (this.sourceClass == other.sourceClass) && this.targetType.equals(other.targetType);
+    }
+  }
+
+  /**
+   * Records the {@link ValueConverter} that succeeded during a traversal of the class hierarchies. The result may only
+   * be cached if no other {@link ValueConverter} has been tried before as otherwise the resolution depends on the
+   * actual value.
+   */
+  private static final class ConverterResolution {
+
+    private ValueConverter<?, ?> converter;
+
+    private boolean fallThrough;
+
+    private boolean isCacheable() {
+
+      return (this.converter != null) && !this.fallThrough;
+    }
+  }
+
 }
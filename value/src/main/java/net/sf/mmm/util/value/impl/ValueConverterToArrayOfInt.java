@@ -5,6 +5,9 @@ package net.sf.mmm.util.value.impl;
 import javax.inject.Named;
 import javax.inject.Singleton;
 
+import net.sf.mmm.util.reflect.api.GenericType;
+import net.sf.mmm.util.value.base.PrimitiveParseHelper;
+
 /**
  * This is an implementation of the {@link net.sf.mmm.util.value.api.ValueConverter} interface that converts an
  * {@link Object} to {@code int[]}.
@@ -30,4 +33,16 @@ public class ValueConverterToArrayOfInt extends AbstractConverterToArray<int[]>
     return int[].class;
   }
 
+  @Override
+  protected void convertContainerEntry(String stringValue, int start, int end, int index, int[] container,
+      Object valueSource, GenericType<? extends int[]> targetType) {
+
+    try {
+      container[index] = PrimitiveParseHelper.parseInt(stringValue, start, end);
+    } catch (NumberFormatException e) {
+      // not in canonical syntax - use the generic conversion
+      super.convertContainerEntry(stringValue, start, end, index, container, valueSource, targetType);
+    }
+  }
+
 }
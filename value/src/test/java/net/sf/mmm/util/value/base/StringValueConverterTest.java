@@ -324,4 +324,54 @@ public class StringValueConverterTest extends Assert {
       // expected
     }
   }
+
+  @Test
+  public void testConvertToPrimitive() {
+
+    // given
+    String source = "test-case";
+    StringValueConverter converter = getStringValueConverter();
+
+    // then
+    assertEquals(42, converter.convertToInt("42", source));
+    assertEquals(-42, converter.convertToInt("x=-42;", 2, 5, source));
+    assertEquals(Integer.MIN_VALUE, converter.convertToInt(Integer.toString(Integer.MIN_VALUE), source));
+    assertEquals(Long.MAX_VALUE, converter.convertToLong(Long.toString(Long.MAX_VALUE), source));
+    assertEquals(Long.MIN_VALUE, converter.convertToLong(Long.toString(Long.MIN_VALUE), source));
+    assertEquals(0.1, converter.convertToDouble("0.1", source), 0);
+    assertEquals(-123.456e7, converter.convertToDouble("-123.456e7", source), 0);
+    assertEquals(1e-4, converter.convertToDouble("1e-4", source), 0);
+    assertEquals(1.2345678901234567890, converter.convertToDouble("1.2345678901234567890", source), 0);
+    assertEquals(Double.NaN, converter.convertToDouble("NaN", source), 0);
+    assertTrue(converter.convertToBoolean("TRUE", source));
+    assertFalse(converter.convertToBoolean("[false]", 1, 6, source));
+    for (String value : new String[] { "", "-", "+", "2147483648", "1.0", "twentyfive" }) {
+      try {
+        converter.convertToInt(value, source);
+        ExceptionHelper.failExceptionExpected();
+      } catch (WrongValueTypeException e) {
+        // expected
+        assertEquals(value, e.getNlsMessage().getArgument("value"));
+        assertEquals(int.class, e.getNlsMessage().getArgument("targetType"));
+      }
+    }
+    try {
+      converter.convertToLong("9223372036854775808", source);
+      ExceptionHelper.failExceptionExpected();
+    } catch (WrongValueTypeException e) {
+      // expected
+    }
+    try {
+      converter.convertToBoolean("yes", source);
+      ExceptionHelper.failExceptionExpected();
+    } catch (WrongValueTypeException e) {
+      // expected
+    }
+    try {
+      converter.convertToInt(null, source);
+      ExceptionHelper.failExceptionExpected();
+    } catch (ValueNotSetException e) {
+      // expected
+    }
+  }
 }
@@ -328,6 +328,34 @@ public class ComposedValueConverterTest extends Assertions {
     checkSelection(composedConverter);
   }
 
+  @Test
+  public void testResolutionCache() throws Exception {
+
+    ComposedValueConverterImpl composedConverter = new ComposedValueConverterImpl();
+    addConverter(composedConverter, new ValueConverterToInteger());
+    addConverter(composedConverter, new ValueConverterStringToInteger());
+    composedConverter.initialize();
+    String valueSource = "test-case";
+    // warm up and hit the cache
+    for (int i = 0; i < 3; i++) {
+      assertThat(composedConverter.convert("1", valueSource, Integer.class)).isEqualTo(Integer.valueOf(1));
+    }
+    // cached converter returns null - resolution depends on the value
+    assertThat(composedConverter.convert(ValueConverterStringToInteger.NONE, valueSource, Integer.class))
+        .isSameAs(ValueConverterToInteger.MAGIC);
+    assertThat(composedConverter.convert("2", valueSource, Integer.class)).isEqualTo(Integer.valueOf(2));
+    assertThat(composedConverter.convert(ValueConverterStringToInteger.NONE, valueSource, Integer.class))
+        .isSameAs(ValueConverterToInteger.MAGIC);
+    // repeated selection on a warm cache
+    composedConverter = new ComposedValueConverterImpl();
+    addConverter(composedConverter, new ValueConverterToNumber());
+    addConverter(composedConverter, new ValueConverterToInteger());
+    addConverter(composedConverter, new ValueConverterFooToObject());
+    composedConverter.initialize();
+    checkSelection(composedConverter);
+    checkSelection(composedConverter);
+  }
+
   protected void checkSelection(ComposedValueConverter converter) {
 
     String valueSource = "test-case";
@@ -364,6 +392,33 @@ public class ComposedValueConverterTest extends Assertions {
 
   }
 
+  private static class ValueConverterStringToInteger extends AbstractSimpleValueConverter<String, Integer> {
+
+    public static final String NONE = "none";
+
+    @Override
+    public Class<String> getSourceType() {
+
+      return String.class;
+    }
+
+    @Override
+    public Class<Integer> getTargetType() {
+
+      return Integer.class;
+    }
+
+    @Override
+    public <T extends Integer> T convert(String value, Object valueSource, Class<T> targetClass) {
+
+      if ((value == null) || NONE.equals(value)) {
+        return null;
+      }
+      return (T) Integer.valueOf(value);
+    }
+
+  }
+
   private static class Foo {
 
   }